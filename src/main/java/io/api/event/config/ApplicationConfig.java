@@ -2,20 +2,30 @@ package io.api.event.config;
 
 import io.api.event.domain.entity.account.Account;
 import io.api.event.domain.entity.account.AccountRole;
+import io.api.event.repository.id.BlockIdGenerator;
 import io.api.event.service.account.AccountService;
+import io.api.event.service.geo.Geocoder;
+import io.api.event.service.geo.TableGeocoder;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 @Configuration
+@EnableScheduling // 만료된 Idempotency-Key 삭제 등 주기적 작업 실행
 @Slf4j
 public class ApplicationConfig {
 
@@ -28,8 +38,34 @@ public class ApplicationConfig {
     public PasswordEncoder passwordEncoder(){
         return PasswordEncoderFactories.createDelegatingPasswordEncoder();
     }
+
+    // Bulk 유효성 검사 전용 ForkJoinPool : common pool을 사용하는 다른 처리와 자원을 공유하지 않도록 분리
+    @Bean(destroyMethod = "shutdown")
+    @Lazy
+    public ForkJoinPool eventBatchForkJoinPool(EventProperties eventProperties){
+        return new ForkJoinPool(eventProperties.getBatchParallelism());
+    }
     
+    // Event 장소 좌표 변환 : 다른 Geocoder 구현체를 Bean으로 등록한 경우 등록하지 않음
+    @Bean
+    @ConditionalOnMissingBean(Geocoder.class)
+    public Geocoder geocoder(EventProperties eventProperties, ResourceLoader resourceLoader){
+        return TableGeocoder.load(resourceLoader.getResource(eventProperties.getGeocodingTable()));
+    }
+
+    // Entity ID 생성 설정(my-app.id.*)을 Hibernate 설정으로 전달 : BlockIdGenerator가 구동 시 조회
+    @Bean
+    public HibernatePropertiesCustomizer idGenerationCustomizer(IdGenerationProperties idGenerationProperties){
+        return hibernateProperties -> {
+            hibernateProperties.put(BlockIdGenerator.MODE_SETTING, idGenerationProperties.getMode().name());
+            hibernateProperties.put(BlockIdGenerator.BLOCK_SIZE_SETTING, String.valueOf(idGenerationProperties.getBlockSize()));
+            hibernateProperties.put(BlockIdGenerator.NODE_ID_SETTING, String.valueOf(idGenerationProperties.getNodeId()));
+            hibernateProperties.put(BlockIdGenerator.NODE_BITS_SETTING, String.valueOf(idGenerationProperties.getNodeBits()));
+        };
+    }
+
     // Application 구동 시 ApplicationRunner를 이용한 Test용 Account를 생성
+    //  - 이미 존재하는 Account는 password 암호화(bcrypt) 및 저장을 생략하여, 재구동 시 중복 저장 오류 및 구동 지연이 없도록 한다.
     @Bean
     public ApplicationRunner applicationRunner(){
         return new ApplicationRunner() {
@@ -48,14 +84,14 @@ public class ApplicationConfig {
                         .password(applicationProperties.getAdminPassword())
                         .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
                         .build();
-                accountService.saveAccount(admin);
+                accountService.saveAccountIfAbsent(admin);
 
                 Account user = Account.builder()
                         .email(applicationProperties.getUserUserName())
                         .password(applicationProperties.getUserPassword())
                         .roles(Set.of(AccountRole.USER))
                         .build();
-                accountService.saveAccount(user);
+                accountService.saveAccountIfAbsent(user);
             }
         };
     }
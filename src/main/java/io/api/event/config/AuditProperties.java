@@ -0,0 +1,38 @@
+package io.api.event.config;
+
+import io.api.event.service.audit.AuditBackpressure;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Event 생성/수정 이력(Audit) 기록 설정 정보
+ */
+@Component
+@ConfigurationProperties(prefix = "my-app.audit")
+@Getter
+@Setter
+public class AuditProperties {
+
+    // 이력 기록 여부
+    private boolean enabled = true;
+
+    // 요청 thread가 기록한 이력을 DB에 저장하기 전까지 보관하는 ring buffer 크기 (2의 제곱수로 올림)
+    private int bufferSize = 8192;
+
+    // background thread에서 한번에 저장하는 최대 이력 수
+    private int batchSize = 512;
+
+    // ring buffer가 가득 찬 경우 처리 방식
+    private AuditBackpressure backpressure = AuditBackpressure.DROP;
+
+    // BLOCK 방식에서 ring buffer에 빈 공간이 생길 때까지 기다리는 최대 시간 (초과 시 DROP)
+    private Duration blockTimeout = Duration.ofMillis(50);
+
+    // 저장할 이력이 없는 경우 background thread가 다음 확인까지 대기하는 시간
+    private Duration idleWait = Duration.ofMillis(5);
+
+}
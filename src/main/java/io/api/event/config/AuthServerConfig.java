@@ -1,6 +1,7 @@
 package io.api.event.config;
 
 import io.api.event.service.account.AccountService;
+import io.api.event.util.jfr.TokenIssueRecordingGranter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -55,5 +56,7 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
         endpoints.authenticationManager(authenticationManager) // Account 인증 정보를 소유한 Bean
                 .userDetailsService(accountService) // Account 인증 처리 Service Bean
                 .tokenStore(tokenStore);    // token 저장 Store
+        // token 발급 시간 JFR event 기록 : 위 설정으로 생성한 기본 TokenGranter를 감싸서 사용
+        endpoints.tokenGranter(new TokenIssueRecordingGranter(endpoints.getTokenGranter()));
     }
 }
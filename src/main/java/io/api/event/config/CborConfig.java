@@ -0,0 +1,27 @@
+package io.api.event.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.mediatype.hal.HalMediaTypeConfiguration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * CBOR(application/cbor) 요청/응답 설정
+ *  - JSON 응답과 같은 의미(항목명, 날짜 형식, Errors 변환, HAL _links/_embedded 구조)를 갖도록
+ *    Spring Boot의 Jackson 설정(Jackson2ObjectMapperBuilder)에 CBORFactory를 지정하고 HAL 설정을 적용한 ObjectMapper를 사용한다.
+ *  - ObjectMapper Bean으로 등록하면 Spring Boot의 기본 ObjectMapper 자동 설정이 적용되지 않으므로 Converter만 Bean으로 등록하며,
+ *    Spring Boot는 같은 type의 기본 CBOR Converter를 이 Converter로 대체한다.
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder,
+                                                                            HalMediaTypeConfiguration halMediaTypeConfiguration) {
+        ObjectMapper cborObjectMapper = jackson2ObjectMapperBuilder.factory(new CBORFactory()).build();
+        return new MappingJackson2CborHttpMessageConverter(halMediaTypeConfiguration.configureObjectMapper(cborObjectMapper));
+    }
+}
@@ -0,0 +1,73 @@
+package io.api.event.config;
+
+import io.api.event.service.event.EventCountMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Event API 처리 관련 설정 정보
+ */
+@Component // Bean으로 등록
+@ConfigurationProperties(prefix = "my-app.event")
+@Getter
+@Setter
+public class EventProperties {
+
+    // Bulk 유효성 검사에 사용할 ForkJoinPool의 병렬 처리 수준
+    private int batchParallelism = Runtime.getRuntime().availableProcessors();
+
+    // Bulk 유효성 검사 시 한번에 병렬 처리 후 응답으로 내보내는 요청 수 (메모리에 유지되는 Errors 객체의 최대 수)
+    private int batchChunkSize = 1024;
+
+    // Event 목록 저장(ingestion) 시 한 transaction에서 저장하는 기본 요청 수 및 최대 요청 수
+    private int ingestChunkSize = 500;
+    private int ingestMaxChunkSize = 5000;
+
+    // Event 다건 조회(ids) 시 한번에 요청할 수 있는 최대 ID 수
+    private int multiGetMaxIds = 100;
+
+    // Event 목록 조회 시 전체 수(totalElements) 조회 방식 및 CACHED 방식의 캐시 유효 시간
+    private EventCountMode countMode = EventCountMode.EXACT;
+    private Duration countCacheTtl = Duration.ofSeconds(30);
+
+    // Event 조회/목록 조회 시 같은 요청의 동시 조회 병합 여부 및 병합된 요청의 최대 대기 시간 (초과 시 직접 조회)
+    private boolean coalescingEnabled = true;
+    private Duration coalescingTimeout = Duration.ofSeconds(1);
+
+    // Event 생성 요청의 Idempotency-Key 보관 기간 (만료된 key는 my-app.event.idempotency-key-sweep-interval 주기로 삭제)
+    private Duration idempotencyKeyTtl = Duration.ofHours(24);
+
+    // manager의 Event 목록(/api/events/mine) 조회 시 기본 조회 수 및 최대 조회 수
+    private int mineDefaultSize = 20;
+    private int mineMaxSize = 100;
+
+    // 참가 신청/취소 처리 시 Event별 lock을 나누어 할당할 lock(stripe) 수 및 한번에 승격하는 최대 대기자 수
+    //  - 대기자 승격 주기 : my-app.event.enrollment-promotion-interval
+    private int enrollmentLockStripes = 256;
+    private int enrollmentPromotionBatchSize = 100;
+
+    // Event 통계의 basePrice 구간 상한 값 (마지막 구간은 마지막 상한 값 초과)
+    //  - 통계 저장(checkpoint) 및 전체 재집계 주기 : my-app.event.statistics-checkpoint-interval, my-app.event.statistics-reconcile-interval
+    private List<Integer> statisticsPriceBounds = List.of(0, 10000, 50000, 100000);
+
+    // Event 기간 겹침 조회 시 최대 조회 수 및 메모리 interval index 사용 여부, index 대상 기간(현재부터 지정한 기간 이후까지)
+    //  - index 재생성 주기 : my-app.event.window-index-refresh-interval
+    private int windowMaxResults = 500;
+    private boolean windowIndexEnabled = true;
+    private Duration windowIndexRange = Duration.ofDays(30);
+
+    // Event 위치 검색 시 기본 반경 및 최대 반경(미터), 거리 계산 대상 최대 수(넘는 경우 400 Bad Request), 검색 영역을 덮는 최대 geohash cell 수
+    private int nearbyDefaultRadius = 5_000;
+    private int nearbyMaxRadius = 50_000;
+    private int nearbyMaxCandidates = 5_000;
+    private int nearbyMaxCells = 16;
+
+    // 기본 Geocoder(TableGeocoder)의 장소명/좌표 목록 (CSV : 장소명,위도,경도)
+    private String geocodingTable = "classpath:geocoding/locations.csv";
+
+}
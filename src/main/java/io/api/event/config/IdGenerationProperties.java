@@ -0,0 +1,31 @@
+package io.api.event.config;
+
+import io.api.event.repository.id.BlockIdGenerator;
+import io.api.event.repository.id.IdGenerationMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Event, Account ID 생성 설정 정보 ({@link BlockIdGenerator})
+ *  - Hibernate 설정으로 전달되므로 구동 시에만 적용된다.
+ */
+@Component
+@ConfigurationProperties(prefix = "my-app.id")
+@Getter
+@Setter
+public class IdGenerationProperties {
+
+    // ID 생성 방식
+    private IdGenerationMode mode = IdGenerationMode.POOLED_LO;
+
+    // 한번에 예약하는 ID 수 : POOLED_LO 방식은 hibernate_sequence의 increment와 같아야 한다. (db/migration V9)
+    private int blockSize = 50;
+
+    // NODE 방식의 node 번호 (0 ~ 2^nodeBits - 1) : Application instance마다 다른 번호를 지정
+    private int nodeId = 0;
+
+    // NODE 방식에서 ID 하위에 node 번호를 저장하는 bit 수
+    private int nodeBits = 5;
+}
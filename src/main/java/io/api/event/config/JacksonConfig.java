@@ -0,0 +1,30 @@
+package io.api.event.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import io.api.event.util.common.serializer.EventSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JSON 변환 성능 설정 (my-app.serialization.optimized=false 인 경우 적용하지 않음)
+ *  - Module Bean은 Spring Boot의 Jackson 설정(Jackson2ObjectMapperBuilder)에 등록되므로,
+ *    기본 ObjectMapper를 복사하여 사용하는 HAL JSON Converter와 CBOR Converter({@link CborConfig})에 함께 적용된다.
+ *  - Event : 항목을 직접 변환하는 {@link EventSerializer} (EntityModel, PagedModel 등 HAL 응답의 content 포함)
+ *  - 그 외 Bean(PageMetadata, 요청 DTO 등) : Afterburner가 생성한 bytecode로 getter/setter를 reflection 없이 호출
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "my-app.serialization", name = "optimized", havingValue = "true", matchIfMissing = true)
+public class JacksonConfig {
+
+    @Bean
+    public Module eventSerializerModule() {
+        return EventSerializer.module();
+    }
+
+    @Bean
+    public Module afterburnerModule() {
+        return new AfterburnerModule();
+    }
+}
@@ -0,0 +1,21 @@
+package io.api.event.config;
+
+import io.api.event.util.jfr.EventApiRecordingInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Event API 요청의 JFR event 기록 설정
+ *  - EventController 요청 1건 및 처리 구간(유효성 검사, 변환, Repository 호출, link 생성, 응답 변환)을 JFR event로 기록한다.
+ *  - 실행 중인 JFR recording이 없는 경우 event는 기록되지 않는다. (recording 시작 : {@link io.api.event.controller.JfrRecordingController})
+ */
+@Configuration
+public class JfrConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EventApiRecordingInterceptor())
+                .addPathPatterns("/api/events", "/api/events/**");
+    }
+}
@@ -0,0 +1,43 @@
+package io.api.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JFR(Java Flight Recorder) recording 설정 정보 ({@link io.api.event.service.jfr.JfrRecordingService})
+ */
+@Component
+@ConfigurationProperties(prefix = "my-app.jfr")
+@Getter
+@Setter
+public class JfrProperties {
+
+    // recording 파일(.jfr) 저장 directory
+    private String directory = "jfr";
+
+    // 사용할 수 있는 JFR 설정 template (default : 상시 사용 가능한 낮은 부하, profile : method sampling 등 상세 기록)
+    private List<String> templates = List.of("default", "profile");
+
+    // 요청 시 recording 시간을 지정하지 않은 경우의 recording 시간
+    private Duration defaultDuration = Duration.ofMinutes(1);
+
+    // 요청할 수 있는 최대 recording 시간 (종료 요청이 없어도 이 시간이 지나면 종료 후 파일로 저장)
+    private Duration maxDuration = Duration.ofMinutes(10);
+
+    // recording 1건이 보관하는 최대 크기 (초과 시 오래된 기록부터 삭제) : 저장 파일의 최대 크기
+    private long maxSize = 100L * 1024 * 1024;
+
+    // recording 1건이 보관하는 기록의 최대 기간
+    private Duration maxAge = Duration.ofMinutes(10);
+
+    // directory에 보관하는 recording 파일의 전체 최대 크기 (recording 시작 시 오래된 파일부터 삭제)
+    private long maxTotalSize = 1024L * 1024 * 1024;
+
+    // 동시에 실행할 수 있는 최대 recording 수
+    private int maxActive = 1;
+}
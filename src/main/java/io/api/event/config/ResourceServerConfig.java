@@ -1,5 +1,6 @@
 package io.api.event.config;
 
+import io.api.event.domain.entity.account.AccountRole;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -25,9 +26,23 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
                 .and()
             // 인증 허용 요청 정의
             .authorizeRequests()
+                // Event 생성/수정 이력 조회는 ADMIN 권한 필요
+                .mvcMatchers("/api/audit/**")
+                    .hasRole(AccountRole.ADMIN.name())
+                // 운영 관리 요청(JFR recording 등)은 ADMIN 권한 필요
+                .mvcMatchers("/api/admin/**")
+                    .hasRole(AccountRole.ADMIN.name())
+                // manager의 Event 목록 조회는 인증 필요
+                .mvcMatchers(HttpMethod.GET, "/api/events/mine")
+                    .authenticated()
                 // /api/** 이하의 GET 요청을 인증 없이 허용
                 .mvcMatchers(HttpMethod.GET, "/api/**")
                     .permitAll()
+                // 상태 확인(health) 이외의 actuator 요청은 ADMIN 권한 필요
+                .antMatchers(HttpMethod.GET, "/actuator/health/**")
+                    .permitAll()
+                .antMatchers("/actuator/**")
+                    .hasRole(AccountRole.ADMIN.name())
                 // 이외에 다른 요청은 인증 처리
                 .anyRequest()
                     .authenticated()
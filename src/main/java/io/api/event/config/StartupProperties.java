@@ -0,0 +1,26 @@
+package io.api.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Application 구동(startup) 관련 설정 정보
+ */
+@Component
+@ConfigurationProperties(prefix = "my-app.startup")
+@Getter
+@Setter
+public class StartupProperties {
+
+    // readiness 상태 전환 전 주요 API 요청을 반복 실행하여 JIT compile을 유도할지 여부
+    private boolean warmUpEnabled = false;
+
+    // warm-up 요청 반복 횟수
+    private int warmUpIterations = 500;
+
+    // 구동 완료(ApplicationReadyEvent) 후 바로 종료할지 여부 : AppCDS 학습 실행(cds profile)에서 사용
+    private boolean exitAfterReady = false;
+
+}
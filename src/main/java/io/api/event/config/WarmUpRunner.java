@@ -0,0 +1,110 @@
+package io.api.event.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.util.event.EventValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+
+/**
+ * JIT warm-up
+ *  - ApplicationRunner는 readiness 상태가 ACCEPTING_TRAFFIC으로 전환(ApplicationReadyEvent)되기 전에 실행되므로,
+ *    주요 Event 조회 API를 실제 HTTP 요청으로 반복 실행하여 요청 처리 경로(Security filter, HATEOAS, Jackson, JPA)를 compile 한 뒤 트래픽을 받는다.
+ *  - 데이터 변경이 없도록 조회 API만 요청하고, 생성/수정 요청 처리 경로는 요청 본문 변환 및 EventValidator 검사를 직접 실행한다.
+ *  - 내장 Web Server가 없는 환경(MockMvc Test 등)에서는 실행하지 않는다.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE) // Account 생성 등 다른 ApplicationRunner 실행 후 warm-up
+@Slf4j
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final String WARM_UP_EVENT =
+            "{\"name\":\"warm-up\",\"description\":\"warm-up event\"," +
+            "\"beginEnrollmentDateTime\":\"2020-10-19T09:00:00\",\"closeEnrollmentDateTime\":\"2020-10-20T09:00:00\"," +
+            "\"beginEventDateTime\":\"2020-10-21T09:00:00\",\"endEventDateTime\":\"2020-10-21T18:00:00\"," +
+            "\"location\":\"Seoul\",\"basePrice\":100,\"maxPrice\":200,\"limitOfEnrollment\":100}";
+
+    private final ApplicationContext applicationContext;
+    private final StartupProperties startupProperties;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final ObjectMapper objectMapper;
+    private final EventValidator eventValidator;
+
+    public WarmUpRunner(ApplicationContext applicationContext,
+                        StartupProperties startupProperties,
+                        RestTemplateBuilder restTemplateBuilder,
+                        ObjectMapper objectMapper,
+                        EventValidator eventValidator) {
+        this.applicationContext = applicationContext;
+        this.startupProperties = startupProperties;
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.objectMapper = objectMapper;
+        this.eventValidator = eventValidator;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!startupProperties.isWarmUpEnabled() || !(applicationContext instanceof WebServerApplicationContext)) {
+            return;
+        }
+
+        int port = ((WebServerApplicationContext) applicationContext).getWebServer().getPort();
+        RestTemplate restTemplate = restTemplateBuilder
+                .rootUri("http://localhost:" + port)
+                .defaultHeader(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE) // EventController의 consumes 조건
+                .build();
+
+        long startedAt = System.nanoTime();
+        try {
+            warmUp(restTemplate);
+        } catch (RestClientException e) {
+            // warm-up 실패로 Application 구동이 중단되지 않도록 처리
+            log.warn("warm-up failed : {}", e.getMessage());
+            return;
+        }
+        log.info("warm-up {} iterations completed in {} ms",
+                startupProperties.getWarmUpIterations(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void warmUp(RestTemplate restTemplate) throws IOException {
+        for (int iteration = 0; iteration < startupProperties.getWarmUpIterations(); iteration++) {
+            restTemplate.getForObject("/api", JsonNode.class);
+            JsonNode eventList = restTemplate.getForObject("/api/events?page=0&size=10&sort=id,DESC", JsonNode.class);
+            JsonNode firstEvent = eventList == null ? null : eventList.at("/_embedded/eventList/0/id");
+            if (firstEvent != null && !firstEvent.isMissingNode()) {
+                restTemplate.getForObject("/api/events/{id}", JsonNode.class, firstEvent.asInt());
+            }
+
+            EventDto eventDto = objectMapper.readValue(WARM_UP_EVENT, EventDto.class);
+            eventValidator.validate(eventDto, new BeanPropertyBindingResult(eventDto, "eventDto"));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exitAfterReady(ApplicationReadyEvent event) {
+        if (startupProperties.isExitAfterReady()) {
+            log.info("exit after ready (my-app.startup.exit-after-ready=true)");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.api.event.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only transaction의 Replica 라우팅 설정 (my-app.datasource.routing.enabled=true 인 경우에만 적용)
+ *  - DataSource Bean을 직접 등록하므로 Spring Boot의 DataSource 자동 설정은 적용되지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "my-app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableScheduling
+public class DataSourceRoutingConfig {
+
+    // transaction의 read-only 여부가 설정된 이후 첫 쿼리 실행 시점에 라우팅 되도록 Connection 획득을 지연
+    @Bean
+    @Primary
+    public RoutingDataSourceProxy dataSource(DataSourceProperties dataSourceProperties,
+                                             DataSourceRoutingProperties routingProperties) {
+        DataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        List<DataSource> replicas = routingProperties.getReplicas().stream()
+                .map(replica -> DataSourceBuilder.create()
+                        .type(HikariDataSource.class)
+                        .url(replica.getUrl())
+                        .username(replica.getUsername())
+                        .password(replica.getPassword())
+                        .driverClassName(replica.getDriverClassName())
+                        .build())
+                .collect(Collectors.toList());
+        return new RoutingDataSourceProxy(new ReplicaRoutingDataSource(primary, replicas));
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(RoutingDataSourceProxy dataSource,
+                                               DataSourceRoutingProperties routingProperties) {
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(dataSource.getRoutingDataSource(),
+                routingProperties.getLagQuery(), routingProperties.getMaxLag());
+        replicaLagMonitor.checkReplicas();
+        return replicaLagMonitor;
+    }
+
+    /**
+     * {@link ReplicaRoutingDataSource}를 감싼 DataSource
+     *  - DataSource Bean이 여러개인 경우 DataSource 초기화 설정과 순환 참조가 발생하므로 ReplicaRoutingDataSource는 Bean으로 등록하지 않고,
+     *    Application 종료 시 함께 종료(Connection Pool 반환)한다.
+     */
+    public static class RoutingDataSourceProxy extends LazyConnectionDataSourceProxy implements Closeable {
+
+        public RoutingDataSourceProxy(ReplicaRoutingDataSource routingDataSource) {
+            super(routingDataSource);
+        }
+
+        public ReplicaRoutingDataSource getRoutingDataSource() {
+            return (ReplicaRoutingDataSource) getTargetDataSource();
+        }
+
+        @Override
+        public void close() throws IOException {
+            getRoutingDataSource().close();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.api.event.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only transaction의 Replica DataSource 라우팅 설정 정보
+ *  - Primary DataSource는 spring.datasource.* 설정을 그대로 사용한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "my-app.datasource.routing")
+@Getter
+@Setter
+public class DataSourceRoutingProperties {
+
+    // Replica 라우팅 사용 여부 (false인 경우 모든 요청을 spring.datasource의 Primary DataSource로 처리)
+    private boolean enabled = false;
+
+    // Read-only transaction을 처리할 Replica 목록
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replica 복제 지연 확인 쿼리 : 지연 시간(초)을 반환해야 하며, 기본값은 PostgreSQL streaming replication 기준
+    private String lagQuery = "SELECT COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0)";
+
+    // 허용 가능한 최대 복제 지연 시간 : 초과한 Replica는 다음 확인 시점까지 라우팅 대상에서 제외
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
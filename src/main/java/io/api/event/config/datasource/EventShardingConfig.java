@@ -0,0 +1,46 @@
+package io.api.event.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.repository.shard.ShardedEventRepository;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Event sharding 설정 (my-app.datasource.sharding.enabled=true 인 경우에만 적용)
+ *  - shard DataSource는 Bean으로 등록하지 않고 {@link ShardedEventRepository}가 보관하여, Spring Boot의 DataSource 자동 설정(Primary)에 영향을 주지 않는다.
+ *  - shard에는 Event shard Schema(db/shard)만 migration 하며, Primary DataSource의 Schema 관리(Flyway, ddl-auto)와는 별도로 적용한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "my-app.datasource.sharding", name = "enabled", havingValue = "true")
+public class EventShardingConfig {
+
+    @Bean
+    public ShardedEventRepository shardedEventRepository(EventShardingProperties shardingProperties,
+                                                         AccountRepository accountRepository) {
+        List<DataSource> shards = shardingProperties.getShards().stream()
+                .map(shard -> DataSourceBuilder.create()
+                        .type(HikariDataSource.class)
+                        .url(shard.getUrl())
+                        .username(shard.getUsername())
+                        .password(shard.getPassword())
+                        .driverClassName(shard.getDriverClassName())
+                        .build())
+                .collect(Collectors.toList());
+        if (shardingProperties.isMigrate()) {
+            shards.forEach(shard -> Flyway.configure()
+                    .dataSource(shard)
+                    .locations(shardingProperties.getMigrationLocation())
+                    .load()
+                    .migrate());
+        }
+        return new ShardedEventRepository(shards, accountRepository);
+    }
+}
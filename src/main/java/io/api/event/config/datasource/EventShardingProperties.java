@@ -0,0 +1,42 @@
+package io.api.event.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event shard DataSource 설정 정보
+ *  - Account 및 그 외 Entity는 spring.datasource.*의 Primary DataSource에 저장하고, Event만 shard에 저장한다.
+ *  - shard 목록의 순서가 shard 번호이므로, Event가 저장된 이후에는 순서를 바꾸지 않고 뒤에만 추가해야 한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "my-app.datasource.sharding")
+@Getter
+@Setter
+public class EventShardingProperties {
+
+    // Event sharding 사용 여부 (false인 경우 Event를 Primary DataSource에 저장)
+    private boolean enabled = false;
+
+    // Event를 저장할 shard 목록
+    private List<Shard> shards = new ArrayList<>();
+
+    // 구동 시 각 shard에 Event shard Schema migration 적용 여부
+    private boolean migrate = true;
+
+    // Event shard Schema migration 위치
+    private String migrationLocation = "classpath:db/shard";
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
@@ -0,0 +1,60 @@
+package io.api.event.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replica 복제 지연 확인
+ *  - 주기적으로 각 Replica의 복제 지연 시간을 조회하여, 허용 지연 시간 이하인 Replica만 라우팅 대상으로 등록한다.
+ *  - 지연 시간 조회에 실패한 Replica(장애, 접속 불가)도 라우팅 대상에서 제외되며, 모든 Replica가 제외된 경우 Primary로 처리된다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, String lagQuery, Duration maxLag) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    @Scheduled(fixedDelayString = "${my-app.datasource.routing.lag-check-interval:PT5S}")
+    public void checkReplicas() {
+        List<String> available = new ArrayList<>();
+        for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            if (isAvailable(replica.getKey(), replica.getValue())) {
+                available.add(replica.getKey());
+            }
+        }
+
+        if (!available.equals(routingDataSource.getAvailableReplicas())) {
+            log.info("available replicas changed : {} -> {}", routingDataSource.getAvailableReplicas(), available);
+        }
+        routingDataSource.setAvailableReplicas(available);
+    }
+
+    private boolean isAvailable(String key, DataSource dataSource) {
+        try {
+            Double lagSeconds = new JdbcTemplate(dataSource).queryForObject(lagQuery, Double.class);
+            if (lagSeconds == null || lagSeconds > maxLagSeconds) {
+                log.warn("replica {} lag {}s exceeds {}s", key, lagSeconds, maxLagSeconds);
+                return false;
+            }
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("replica {} lag check failed : {}", key, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.api.event.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only transaction은 사용 가능한 Replica로, 그 외 요청은 Primary로 라우팅하는 DataSource
+ *  - Replica는 round-robin으로 선택하며, 사용 가능한 Replica가 없는 경우 Primary로 처리한다.
+ *  - transaction의 read-only 여부는 transaction 시작 후에 설정되므로, 실제 Connection 획득 시점을
+ *    첫 쿼리 실행 시점으로 늦추는 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas = new LinkedHashMap<>();
+    private final AtomicInteger counter = new AtomicInteger();
+    private volatile List<String> availableReplicas = Collections.emptyList();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        for (int index = 0; index < replicas.size(); index++) {
+            this.replicas.put(REPLICA_PREFIX + index, replicas.get(index));
+        }
+
+        Map<Object, Object> targetDataSources = new HashMap<>(this.replicas);
+        targetDataSources.put(PRIMARY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<String> available = this.availableReplicas;
+        if (available.isEmpty()) {
+            return PRIMARY;
+        }
+        return available.get(Math.floorMod(counter.getAndIncrement(), available.size()));
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return Collections.unmodifiableMap(replicas);
+    }
+
+    public List<String> getAvailableReplicas() {
+        return availableReplicas;
+    }
+
+    /**
+     * 라우팅 대상 Replica 갱신 : 등록 순서를 유지하여 round-robin 순서가 바뀌지 않도록 한다.
+     * @param available 라우팅 대상으로 사용할 Replica key 목록
+     */
+    public void setAvailableReplicas(Collection<String> available) {
+        this.availableReplicas = replicas.keySet().stream()
+                .filter(available::contains)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof Closeable) {
+                ((Closeable) dataSource).close();
+            }
+        }
+        if (primary instanceof Closeable) {
+            ((Closeable) primary).close();
+        }
+    }
+}
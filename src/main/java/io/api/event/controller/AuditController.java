@@ -0,0 +1,63 @@
+package io.api.event.controller;
+
+import io.api.event.domain.entity.audit.AuditAction;
+import io.api.event.domain.entity.audit.AuditEntry;
+import io.api.event.domain.entity.audit.AuditOutcome;
+import io.api.event.service.audit.AuditService;
+import io.api.event.util.common.constant.CustomMediaTypes;
+import io.api.event.util.common.constant.DocsInfo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Event 생성/수정 이력 조회 API (ADMIN 권한 필요)
+ */
+@RequestMapping(value = "/api/audit", produces = CustomMediaTypes.HAL_JSON_UTF8_VALUE)
+@RestController
+public class AuditController {
+
+    private final AuditService auditService;
+
+    public AuditController(AuditService auditService) {
+        this.auditService = auditService;
+    }
+
+    /**
+     * 이력 목록 조회 : 최근 이력부터 조회하며, 요청한 조건(생략 시 전체)에 모두 해당하는 이력만 조회
+     * @param eventId 대상 Event ID
+     * @param accountId 요청한 Account ID
+     * @param action 요청 종류 (CREATE_EVENT, UPDATE_EVENT, PATCH_EVENT)
+     * @param outcome 처리 결과 (SUCCESS, DENIED)
+     * @return 200 Ok
+     */
+    @GetMapping
+    public ResponseEntity getAuditEntries(@RequestParam(required = false) Integer eventId,
+                                          @RequestParam(required = false) Integer accountId,
+                                          @RequestParam(required = false) AuditAction action,
+                                          @RequestParam(required = false) AuditOutcome outcome,
+                                          @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+                                          PagedResourcesAssembler<AuditEntry> pagedResourcesAssembler) {
+        AuditEntry probe = AuditEntry.builder()
+                .eventId(eventId)
+                .accountId(accountId)
+                .action(action)
+                .outcome(outcome)
+                .build();
+        Page<AuditEntry> page = this.auditService.getAuditEntries(probe, pageable);
+
+        PagedModel<EntityModel<AuditEntry>> pagedResources = pagedResourcesAssembler.toModel(page);
+        pagedResources.add(new Link(DocsInfo.GET_AUDIT_ENTRIES_DOCS_PATH).withRel(DocsInfo.PROFILE));
+        return ResponseEntity.ok(pagedResources);
+    }
+}
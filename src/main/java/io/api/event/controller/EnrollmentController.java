@@ -0,0 +1,88 @@
+package io.api.event.controller;
+
+import io.api.event.domain.dto.account.CurrentUser;
+import io.api.event.domain.dto.enrollment.EnrollmentModel;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.enrollment.Enrollment;
+import io.api.event.service.enrollment.EnrollmentService;
+import io.api.event.util.common.constant.CustomMediaTypes;
+import io.api.event.util.common.constant.DocsInfo;
+import io.api.event.util.event.exception.EnrollmentNotFoundException;
+import io.api.event.util.event.exception.EventNotFoundException;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Event 참가 신청 API (인증 필요)
+ *  - 정원이 찬 Event의 신청은 대기(WAITLISTED)로 저장되며, 자리가 생기면 신청 순서대로 참가 확정(CONFIRMED)된다.
+ */
+@RequestMapping(value = "/api/events/{eventId}/enrollments", produces = CustomMediaTypes.HAL_JSON_UTF8_VALUE)
+@RestController
+public class EnrollmentController {
+
+    private final EnrollmentService enrollmentService;
+
+    public EnrollmentController(EnrollmentService enrollmentService) {
+        this.enrollmentService = enrollmentService;
+    }
+
+    /**
+     * 참가 신청 : 이미 신청한 경우 기존 신청을 응답
+     * @return 201 Created : 신청 상태(status) 및 대기 중인 경우 대기 순번(position)
+     */
+    @PostMapping
+    public ResponseEntity enroll(@PathVariable Integer eventId, @CurrentUser Account currentUser) {
+        Enrollment enrollment = this.enrollmentService.enroll(eventId, currentUser);
+        WebMvcLinkBuilder selfLinkBuilder = linkTo(methodOn(EnrollmentController.class).getEnrollment(eventId, null));
+        return ResponseEntity.created(selfLinkBuilder.toUri())
+                .body(this.enrollmentModel(enrollment, selfLinkBuilder, DocsInfo.ENROLL_EVENT_DOCS_PATH));
+    }
+
+    /**
+     * 요청한 Account의 참가 신청 조회
+     * @return 200 Ok, 신청하지 않은 경우 404 Not Found
+     */
+    @GetMapping
+    public ResponseEntity getEnrollment(@PathVariable Integer eventId, @CurrentUser Account currentUser) {
+        if (currentUser == null) {
+            return new ResponseEntity(HttpStatus.UNAUTHORIZED);
+        }
+        Optional<Enrollment> enrollment = this.enrollmentService.getEnrollment(eventId, currentUser);
+        if (enrollment.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        WebMvcLinkBuilder selfLinkBuilder = linkTo(methodOn(EnrollmentController.class).getEnrollment(eventId, null));
+        return ResponseEntity.ok(this.enrollmentModel(enrollment.get(), selfLinkBuilder, DocsInfo.GET_ENROLLMENT_DOCS_PATH));
+    }
+
+    /**
+     * 참가 신청 취소 : 참가 확정 신청을 취소한 경우 생긴 자리는 대기 순서대로 승격
+     * @return 204 No Content, 신청하지 않은 경우 404 Not Found
+     */
+    @DeleteMapping
+    public ResponseEntity cancel(@PathVariable Integer eventId, @CurrentUser Account currentUser) {
+        this.enrollmentService.cancel(eventId, currentUser);
+        return ResponseEntity.noContent().build();
+    }
+
+    private EnrollmentModel enrollmentModel(Enrollment enrollment, WebMvcLinkBuilder selfLinkBuilder, String profilePath) {
+        EnrollmentModel enrollmentModel = new EnrollmentModel(enrollment, this.enrollmentService.getWaitlistPosition(enrollment).orElse(null));
+        enrollmentModel.add(selfLinkBuilder.withSelfRel());
+        enrollmentModel.add(linkTo(EventController.class).slash(enrollment.getEventId()).withRel(DocsInfo.GET_AN_EVENT));
+        enrollmentModel.add(new Link(profilePath).withRel(DocsInfo.PROFILE));
+        return enrollmentModel;
+    }
+
+    @ExceptionHandler({EventNotFoundException.class, EnrollmentNotFoundException.class})
+    public ResponseEntity handleNotFound(RuntimeException exception) {
+        return ResponseEntity.notFound().build();
+    }
+}
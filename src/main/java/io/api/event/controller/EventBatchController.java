@@ -0,0 +1,99 @@
+package io.api.event.controller;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.api.event.config.EventProperties;
+import io.api.event.domain.dto.account.CurrentUser;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.domain.dto.event.EventIngestionSummary;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.service.event.EventBatchValidationService;
+import io.api.event.service.event.EventIngestionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.List;
+
+@RequestMapping(value = "/api/events/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+@RestController
+@Slf4j
+@Lazy // 대량 요청 처리 API : 관련 Service, ForkJoinPool과 함께 Application 구동 시점이 아닌 첫 요청 시점에 생성
+public class EventBatchController {
+
+    private final EventBatchValidationService eventBatchValidationService;
+    private final EventIngestionService eventIngestionService;
+    private final ObjectMapper objectMapper;
+    private final EventProperties eventProperties;
+
+    public EventBatchController(EventBatchValidationService eventBatchValidationService,
+                                EventIngestionService eventIngestionService,
+                                ObjectMapper objectMapper,
+                                EventProperties eventProperties) {
+        this.eventBatchValidationService = eventBatchValidationService;
+        this.eventIngestionService = eventIngestionService;
+        this.objectMapper = objectMapper;
+        this.eventProperties = eventProperties;
+    }
+
+    /**
+     * Event 목록 저장 API
+     *  - 요청 본문을 한번에 객체로 변환하지 않고 JsonParser로 읽으면서 chunk 단위로 검사/저장한다.
+     * @param request Event 생성 요청 목록(JSON 배열)을 본문으로 가진 요청
+     * @param resumeFrom 이전 요청에서 저장 완료된 offset (응답의 nextOffset)
+     * @param chunkSize 한 transaction에서 저장할 요청 수
+     * @return 200 Ok : 모두 저장 / 400 Bad Request : 유효하지 못한 요청 포함 / 500 Internal Server Error : 저장 실패
+     *  - 응답 본문의 nextOffset 을 resumeFrom으로 전달하여 저장 완료된 요청을 건너 뛰고 다시 요청할 수 있다.
+     */
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EventIngestionSummary> ingestEvents(HttpServletRequest request,
+                                                              @RequestParam(defaultValue = "0") int resumeFrom,
+                                                              @RequestParam(required = false) Integer chunkSize,
+                                                              @CurrentUser Account currentUser) throws IOException {
+        int size = chunkSize == null ? eventProperties.getIngestChunkSize()
+                : Math.max(1, Math.min(chunkSize, eventProperties.getIngestMaxChunkSize()));
+        EventIngestionSummary summary = eventIngestionService.ingest(request.getInputStream(), currentUser, Math.max(0, resumeFrom), size);
+
+        if (summary.isCompleted()) {
+            return ResponseEntity.ok(summary);
+        }
+        HttpStatus status = summary.isFailed() ? HttpStatus.INTERNAL_SERVER_ERROR : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(summary);
+    }
+
+    /**
+     * Event 목록 유효성 검사 API (dry-run : 검사만 수행하고 저장하지 않는다.)
+     * @param eventDtos 유효성 검사 요청 Event 목록
+     * @return 200 Ok : 유효하지 못한 요청의 index별 Error(Field/Global) 목록 (ErrorsSerializer 형식)
+     *  - { "results" : [ { "index" : 0, "errors" : [ ... ] } ], "total" : 1, "invalid" : 1 }
+     *  - 검사가 끝난 결과부터 응답으로 내보내므로 요청 목록 전체의 Errors 객체를 메모리에 유지하지 않는다.
+     */
+    @PostMapping(value = "/validation", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> validateEvents(@RequestBody List<EventDto> eventDtos){
+        StreamingResponseBody responseBody = outputStream -> {
+            try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+                jsonGenerator.writeStartObject();
+                jsonGenerator.writeArrayFieldStart("results");
+                int invalidCount = eventBatchValidationService.validate(eventDtos, (index, errors) -> {
+                    jsonGenerator.writeStartObject();
+                    jsonGenerator.writeNumberField("index", index);
+                    jsonGenerator.writeFieldName("errors");
+                    jsonGenerator.writeObject(errors);
+                    jsonGenerator.writeEndObject();
+                });
+                jsonGenerator.writeEndArray();
+                jsonGenerator.writeNumberField("total", eventDtos.size());
+                jsonGenerator.writeNumberField("invalid", invalidCount);
+                jsonGenerator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(responseBody);
+    }
+}
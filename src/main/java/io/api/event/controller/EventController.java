@@ -1,30 +1,67 @@
 package io.api.event.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.api.event.domain.dto.account.CurrentUser;
+import io.api.event.domain.dto.event.EventCursor;
 import io.api.event.domain.dto.event.EventDto;
 import io.api.event.domain.dto.event.EventEntityModel;
+import io.api.event.domain.dto.event.EventFieldsModel;
+import io.api.event.domain.dto.event.EventMultiGetModel;
+import io.api.event.domain.dto.event.EventNearbyModel;
+import io.api.event.domain.dto.event.EventPageMetadata;
+import io.api.event.domain.dto.event.EventPagedModel;
+import io.api.event.domain.dto.event.EventSummary;
+import io.api.event.domain.dto.event.EventSummaryListModel;
+import io.api.event.domain.dto.event.EventWindowModel;
 import io.api.event.domain.entity.account.Account;
 import io.api.event.domain.entity.event.Event;
-import io.api.event.repository.EventRepository;
+import io.api.event.domain.entity.event.EventWindowBasis;
+import io.api.event.service.event.CreatedEvent;
+import io.api.event.service.event.EventCountMode;
+import io.api.event.service.event.EventCountService;
+import io.api.event.service.event.EventService;
+import io.api.event.service.geo.EventLocationService;
+import io.api.event.service.geo.NearbyEvent;
+import io.api.event.service.idempotency.IdempotencyKeyService;
+import io.api.event.util.common.constant.CustomHttpHeaders;
 import io.api.event.util.common.constant.CustomMediaTypes;
 import io.api.event.util.common.constant.DocsInfo;
 import io.api.event.util.common.entitymodel.ErrorEntityModel;
 import io.api.event.util.event.EventValidator;
+import io.api.event.util.event.exception.EventAccessDeniedException;
+import io.api.event.util.event.exception.EventNotFoundException;
+import io.api.event.util.event.exception.EventValidationException;
+import io.api.event.util.event.exception.IdempotencyKeyConflictException;
+import io.api.event.util.event.exception.IdempotencyKeyMismatchException;
+import io.api.event.util.jfr.EventApiPhase;
+import io.api.event.util.jfr.EventApiRecording;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.validation.Valid;
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static io.api.event.util.common.constant.DocsInfo.CREATE_EVENT;
@@ -32,102 +69,340 @@ import static io.api.event.util.common.constant.DocsInfo.UPDATE_EVENT;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
-@RequestMapping(value = "/api/events", produces = CustomMediaTypes.HAL_JSON_UTF8_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(value = "/api/events",
+        produces = {CustomMediaTypes.HAL_JSON_UTF8_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+        consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
 @RestController
 @Slf4j
 public class EventController {
 
-    private final EventRepository eventRepository;
-    private final ModelMapper modelMapper;
+    private static final String LINKS_NONE = "none";
+    private static final String PAGE = "page";
+
     private final EventValidator eventValidator;
+    private final EventService eventService;
+    private final EventCountService eventCountService;
+    private final IdempotencyKeyService idempotencyKeyService;
+    private final EventLocationService eventLocationService;
 
-    public EventController(EventRepository eventRepository, ModelMapper modelMapper, EventValidator eventValidator){
-        this.eventRepository = eventRepository;
-        this.modelMapper = modelMapper;
+    public EventController(EventValidator eventValidator,
+                           EventService eventService,
+                           EventCountService eventCountService,
+                           IdempotencyKeyService idempotencyKeyService,
+                           EventLocationService eventLocationService){
         this.eventValidator = eventValidator;
+        this.eventService = eventService;
+        this.eventCountService = eventCountService;
+        this.idempotencyKeyService = idempotencyKeyService;
+        this.eventLocationService = eventLocationService;
     }
 
     /**
      * Event 생성 API
      * @param eventDto Event 생성 요청 객체
      * @param errors JSR303을 이용한 객체 유효성 검사 시 발생한 Error(Field/Global) 반환 객체
+     * @param idempotencyKey (optional) 재시도 요청 식별 key : 같은 key로 이미 생성한 Event가 있는 경우 생성하지 않고 처음 생성 시의 응답을 반환
      * @return 201 Created
      * @apiNote events-create Document : {@link }
      */
     @PostMapping
     public ResponseEntity createEvent(@RequestBody @Valid EventDto eventDto,
                                       Errors errors,
+                                      @RequestHeader(value = CustomHttpHeaders.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
                                       @CurrentUser Account currentUser){
         if(errors.hasErrors()){
             return badRequest(errors);
         }
 
-        eventValidator.validate(eventDto, errors);
+        EventApiRecording.record(EventApiPhase.VALIDATION, "EventValidator", () -> eventValidator.validate(eventDto, errors));
         if(errors.hasErrors()){
             return badRequest(errors);
         }
 
-        Event event = modelMapper.map(eventDto, Event.class);
-        event.update();
-        event.setManager(currentUser);
-        Event createdEvent = eventRepository.save(event);
+        if(idempotencyKey == null){
+            return this.created(this.eventService.createEvent(eventDto, currentUser), false);
+        }
+        CreatedEvent createdEvent = this.eventService.createEvent(eventDto, currentUser,
+                this.idempotencyKeyService.newKey(idempotencyKey, currentUser, eventDto));
+        return this.created(createdEvent.getEvent(), createdEvent.isReplayed());
+    }
 
-        WebMvcLinkBuilder selfLinkBuilder = linkTo(methodOn(EventController.class).createEvent(eventDto, errors, currentUser));
+    /**
+     * Event 생성 응답 : Idempotency-Key 재요청 시에도 처음 생성 시와 같은 Location, 본문으로 응답
+     * @param replayed 이미 생성한 Event의 응답인 경우 true (Idempotent-Replayed 응답 헤더 추가)
+     */
+    private ResponseEntity created(Event createdEvent, boolean replayed) {
+        WebMvcLinkBuilder selfLinkBuilder = linkTo(EventController.class);
         URI createdUri = selfLinkBuilder.toUri();
 
-        EventEntityModel eventEntityModel = new EventEntityModel(event);
-        eventEntityModel.add(selfLinkBuilder.withRel(DocsInfo.GET_EVENT_LIST));
-        eventEntityModel.add(selfLinkBuilder.slash(createdEvent.getId()).withRel(UPDATE_EVENT));
-        eventEntityModel.add(new Link(DocsInfo.CREATE_EVENT_DOCS_PATH).withRel(DocsInfo.PROFILE));
+        EventEntityModel eventEntityModel = EventApiRecording.record(EventApiPhase.LINK_BUILDING, "EventEntityModel", () -> {
+            EventEntityModel entityModel = new EventEntityModel(createdEvent, selfLinkBuilder);
+            entityModel.add(selfLinkBuilder.withRel(DocsInfo.GET_EVENT_LIST));
+            entityModel.add(selfLinkBuilder.slash(createdEvent.getId()).withRel(UPDATE_EVENT));
+            entityModel.add(new Link(DocsInfo.CREATE_EVENT_DOCS_PATH).withRel(DocsInfo.PROFILE));
+            return entityModel;
+        });
 
-        return ResponseEntity.created(createdUri).body(eventEntityModel);
+        ResponseEntity.BodyBuilder response = ResponseEntity.created(createdUri);
+        if(replayed){
+            response.header(CustomHttpHeaders.IDEMPOTENT_REPLAYED, Boolean.TRUE.toString());
+        }
+        return response.body(eventEntityModel);
     }
 
     /**
      * Event 조회 API
      * @param id 조회 요청 Event의 ID
+     * @param fields 조회할 항목 (쉼표로 구분, 생략 시 전체 항목) : 요청 항목의 column만 조회한다.
+     * @param links none인 경우 응답에 link를 포함하지 않음
      * @return 200 Ok
      * @apiNote events-get Document : {@link }
      */
     @GetMapping("/{id}")
     public ResponseEntity getEvent(@PathVariable Integer id,
+                                   @RequestParam(required = false) String fields,
+                                   @RequestParam(required = false) String links,
                                    @CurrentUser Account currentUser){
-        Optional<Event> optionalEvent = this.eventRepository.findById(id);
+        boolean withLinks = !LINKS_NONE.equals(links);
+        if(fields != null){
+            Optional<Map<String, Object>> optionalFields = this.eventService.getEventFields(id, this.eventService.parseFields(fields));
+            if(optionalFields.isEmpty()){
+                return this.notFound();
+            }
+            return ResponseEntity.ok(this.eventFieldsModel(optionalFields.get(), withLinks, DocsInfo.GET_EVENT_DOCS_PATH));
+        }
+
+        Optional<Event> optionalEvent = this.eventService.getEvent(id);
         if(optionalEvent.isEmpty()){
             return this.notFound();
         }
         Event event = optionalEvent.get();
-        EventEntityModel eventEntityModel = new EventEntityModel(event);
-        eventEntityModel.add(new Link(DocsInfo.GET_EVENT_DOCS_PATH).withRel(DocsInfo.PROFILE));
-        if(event.getManager() != null &&!event.getManager().equals(currentUser)){
-            eventEntityModel.add(linkTo(EventController.class).slash(event.getId()).withRel(UPDATE_EVENT));
+        if(!withLinks){
+            return ResponseEntity.ok(EntityModel.of(event));
         }
+        EventEntityModel eventEntityModel = EventApiRecording.record(EventApiPhase.LINK_BUILDING, "EventEntityModel", () -> {
+            EventEntityModel entityModel = new EventEntityModel(event);
+            entityModel.add(new Link(DocsInfo.GET_EVENT_DOCS_PATH).withRel(DocsInfo.PROFILE));
+            if(event.getManager() != null &&!event.getManager().equals(currentUser)){
+                entityModel.add(linkTo(EventController.class).slash(event.getId()).withRel(UPDATE_EVENT));
+            }
+            return entityModel;
+        });
         return ResponseEntity.ok(eventEntityModel);
     }
 
     /**
      * Event 목록 조회 API
+     *  - 전체 수(totalElements)는 설정한 조회 방식(my-app.event.count-mode)으로 구하며, 응답의 page.countMode 항목에 조회 방식을 포함한다.
      * @param pageable Event 목록 조회 페이지 요청 정보
      * @param pagedResourcesAssembler 조회한 목록 정보를 Resource로 변환
+     * @param fields 조회할 항목 (쉼표로 구분, 생략 시 전체 항목) : 요청 항목의 column만 조회한다.
+     * @param links none인 경우 응답에 link(페이지 link 포함)를 포함하지 않음
      * @apiNote events-list Document : {@link }
      * @return 200 Ok
      */
     @GetMapping
     public ResponseEntity getEventList(Pageable pageable,
                                        PagedResourcesAssembler pagedResourcesAssembler,
+                                       @RequestParam(required = false) String fields,
+                                       @RequestParam(required = false) String links,
                                        @CurrentUser Account currentUser){
-        Page<Event> page = this.eventRepository.findAll(pageable);
+        boolean withLinks = !LINKS_NONE.equals(links);
+        EventCountService.Total total = this.eventCountService.newTotal();
+        Slice<? extends RepresentationModel<?>> slice;
+        if(fields != null){
+            slice = this.eventService.getEventFieldsList(this.eventService.parseFields(fields), pageable, total)
+                    .map(eventFields -> this.eventFieldsModel(eventFields, withLinks, null));
+        } else {
+            Slice<Event> events = this.eventService.getEventList(pageable, total);
+            slice = EventApiRecording.record(EventApiPhase.LINK_BUILDING, "EventEntityModel", () -> {
+                WebMvcLinkBuilder eventsLinkBuilder = linkTo(EventController.class);
+                return events.map(event -> withLinks ? new EventEntityModel(event, eventsLinkBuilder) : EntityModel.of(event));
+            });
+        }
+
+        EventPageMetadata pageMetadata = EventPageMetadata.of(slice, total == null ? EventCountMode.NONE : total.getCountMode());
+        if(!withLinks){
+            return ResponseEntity.ok(new EventPagedModel<>(slice.getContent(), pageMetadata));
+        }
+
+        return ResponseEntity.ok(EventApiRecording.record(EventApiPhase.LINK_BUILDING, "EventPagedModel",
+                () -> this.eventPagedModel(slice, pageMetadata, pagedResourcesAssembler, currentUser)));
+    }
 
-        var pagedResources = pagedResourcesAssembler.toModel(page, entity -> new EventEntityModel((Event) entity));
+    /**
+     * Event 목록 조회 응답 객체 생성 : 페이지 link 및 profile, (인증한 경우) Event 생성 link 포함
+     */
+    private EventPagedModel<?> eventPagedModel(Slice<? extends RepresentationModel<?>> slice,
+                                               EventPageMetadata pageMetadata,
+                                               PagedResourcesAssembler pagedResourcesAssembler,
+                                               Account currentUser) {
+        EventPagedModel<?> pagedResources;
+        if(slice instanceof Page){
+            var pagedModel = pagedResourcesAssembler.toModel((Page<?>) slice, model -> (RepresentationModel<?>) model);
+            pagedResources = new EventPagedModel<>(pagedModel.getContent(), pageMetadata, pagedModel.getLinks());
+        } else {
+            pagedResources = new EventPagedModel<>(slice.getContent(), pageMetadata, this.sliceLinks(slice));
+        }
         pagedResources.add(new Link(DocsInfo.GET_EVENT_LIST_DOCS_PATH).withRel(DocsInfo.PROFILE));
 
         if (currentUser != null){
             pagedResources.add(linkTo(EventController.class).withRel(CREATE_EVENT));
         }
+        return pagedResources;
+    }
+
+    /**
+     * 전체 수를 조회하지 않은 목록(NONE)의 페이지 link 생성 : 전체 페이지 수를 알 수 없으므로 first, last link는 포함하지 않음
+     */
+    private List<Link> sliceLinks(Slice<?> slice) {
+        UriComponentsBuilder requestUri = ServletUriComponentsBuilder.fromCurrentRequest();
+        List<Link> sliceLinks = new ArrayList<>();
+        if(slice.hasPrevious()){
+            sliceLinks.add(new Link(requestUri.replaceQueryParam(PAGE, slice.getNumber() - 1).toUriString(), IanaLinkRelations.PREV));
+        }
+        sliceLinks.add(new Link(requestUri.replaceQueryParam(PAGE, slice.getNumber()).toUriString()));
+        if(slice.hasNext()){
+            sliceLinks.add(new Link(requestUri.replaceQueryParam(PAGE, slice.getNumber() + 1).toUriString(), IanaLinkRelations.NEXT));
+        }
+        return sliceLinks;
+    }
+
+    /**
+     * Event 다건 조회 API
+     * @param ids 조회 요청 Event의 ID 목록 (중복 ID는 한번만 조회하며, 최대 요청 수를 넘는 경우 400 Bad Request)
+     * @return 200 Ok : 요청한 ID 순서대로 조회한 Event 목록 및 존재하지 않는 ID 목록(missingIds)
+     * @apiNote events-multi-get Document : {@link }
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity getEventsByIds(@RequestParam List<Integer> ids){
+        List<Integer> distinctIds = this.eventService.parseIds(ids);
+        List<Event> events = this.eventService.getEventsByIds(distinctIds);
+
+        // Controller mapping 정보 조회 후 생성한 LinkBuilder를 모든 Event의 link 생성에 사용
+        WebMvcLinkBuilder eventsLinkBuilder = linkTo(EventController.class);
+        List<EventEntityModel> content = new ArrayList<>(events.size());
+        List<Integer> missingIds = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i++) {
+            Event event = events.get(i);
+            if (event == null) {
+                missingIds.add(distinctIds.get(i));
+            } else {
+                content.add(new EventEntityModel(event, eventsLinkBuilder));
+            }
+        }
+
+        EventMultiGetModel eventMultiGetModel = new EventMultiGetModel(content, missingIds);
+        eventMultiGetModel.add(new Link(eventsLinkBuilder.toUriComponentsBuilder()
+                .queryParam("ids", distinctIds.toArray())
+                .build().toUriString()).withSelfRel());
+        eventMultiGetModel.add(new Link(DocsInfo.GET_EVENTS_BY_IDS_DOCS_PATH).withRel(DocsInfo.PROFILE));
+        return ResponseEntity.ok(eventMultiGetModel);
+    }
+
+    /**
+     * Event 기간 겹침 조회 API (달력 조회 등)
+     * @param from 조회 기간 시작 일시 (ISO-8601, 포함)
+     * @param to 조회 기간 종료 일시 (ISO-8601, 포함, from보다 이른 경우 400 Bad Request)
+     * @param basis 겹침 여부를 확인할 Event 기간 (EVENT : 진행 기간, ENROLLMENT : 등록 기간)
+     * @return 200 Ok : 기준 기간의 시작 순서대로 최대 조회 수(my-app.event.window-max-results)만큼 조회한 Event 목록
+     * @apiNote events-window Document : {@link }
+     */
+    @GetMapping(params = {"from", "to"})
+    public ResponseEntity getEventsInWindow(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                            @RequestParam(defaultValue = "EVENT") EventWindowBasis basis){
+        List<Event> events = this.eventService.getEventsInWindow(basis, from, to);
+
+        WebMvcLinkBuilder eventsLinkBuilder = linkTo(EventController.class);
+        List<EventEntityModel> content = new ArrayList<>(events.size());
+        for (Event event : events) {
+            content.add(new EventEntityModel(event, eventsLinkBuilder));
+        }
+
+        EventWindowModel eventWindowModel = new EventWindowModel(content, basis, from, to);
+        eventWindowModel.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        eventWindowModel.add(new Link(DocsInfo.GET_EVENTS_IN_WINDOW_DOCS_PATH).withRel(DocsInfo.PROFILE));
+        return ResponseEntity.ok(eventWindowModel);
+    }
+
+    /**
+     * Event 위치 검색 API : 반경 또는 영역 안의 오프라인 Event를 검색 위치로부터 가까운 순서로 조회
+     * @param lat 검색 위치 위도
+     * @param lon 검색 위치 경도
+     * @param radius 검색 반경 (미터, 생략 시 my-app.event.nearby-default-radius, 최대 my-app.event.nearby-max-radius)
+     * @param bbox 검색 영역 (minLongitude,minLatitude,maxLongitude,maxLatitude) : 요청한 경우 radius 대신 사용
+     * @param pageable 페이지 요청 정보 (정렬 조건은 사용하지 않음)
+     * @return 200 Ok : 거리(distance, 미터)를 포함한 Event 목록
+     * @apiNote events-nearby Document : {@link }
+     */
+    @GetMapping(params = {"lat", "lon"})
+    public ResponseEntity getNearbyEvents(@RequestParam double lat,
+                                          @RequestParam double lon,
+                                          @RequestParam(required = false) Integer radius,
+                                          @RequestParam(required = false) String bbox,
+                                          Pageable pageable,
+                                          PagedResourcesAssembler<NearbyEvent> pagedResourcesAssembler){
+        Page<NearbyEvent> page = this.eventLocationService.searchNearby(lat, lon, radius, bbox, pageable);
 
+        WebMvcLinkBuilder eventsLinkBuilder = linkTo(EventController.class);
+        PagedModel<EventNearbyModel> pagedResources = pagedResourcesAssembler.toModel(page,
+                nearbyEvent -> new EventNearbyModel(nearbyEvent.getEvent(), nearbyEvent.getDistance(), eventsLinkBuilder));
+        pagedResources.add(new Link(DocsInfo.GET_NEARBY_EVENTS_DOCS_PATH).withRel(DocsInfo.PROFILE));
         return ResponseEntity.ok(pagedResources);
     }
 
+    /**
+     * manager의 Event 목록 조회 API : 요청한 Account가 manager인 Event를 진행 시작 순서대로 조회 (인증 필요)
+     *  - 페이지 번호 대신 이전 응답의 nextCursor를 cursor 파라미터로 전달하는 keyset pagination으로 조회한다.
+     *  - manager 정보를 포함하지 않은 요약 항목({@link EventSummary})만 응답한다.
+     * @param cursor (optional) 이전 응답의 nextCursor (생략 시 첫 페이지)
+     * @param size (optional) 조회 수 (생략 시 my-app.event.mine-default-size, 최대 my-app.event.mine-max-size)
+     * @return 200 Ok : 다음 페이지가 있는 경우 nextCursor 항목 및 next link 포함
+     * @apiNote events-mine Document : {@link }
+     */
+    @GetMapping("/mine")
+    public ResponseEntity getMyEvents(@RequestParam(required = false) String cursor,
+                                      @RequestParam(required = false) Integer size,
+                                      @CurrentUser Account currentUser){
+        if(currentUser == null){
+            return new ResponseEntity(HttpStatus.UNAUTHORIZED);
+        }
+        int pageSize = this.eventService.parseSize(size);
+        Slice<EventSummary> slice = this.eventService.getManagedEvents(currentUser, this.eventService.parseCursor(cursor), pageSize);
+
+        WebMvcLinkBuilder eventsLinkBuilder = linkTo(EventController.class);
+        List<EntityModel<EventSummary>> content = new ArrayList<>(slice.getNumberOfElements());
+        for (EventSummary eventSummary : slice) {
+            content.add(EntityModel.of(eventSummary, eventsLinkBuilder.slash(eventSummary.getId()).withSelfRel()));
+        }
+
+        String nextCursor = slice.hasNext() ? EventCursor.after(slice.getContent().get(slice.getNumberOfElements() - 1)).encode() : null;
+        EventSummaryListModel eventSummaryListModel = new EventSummaryListModel(content, pageSize, nextCursor);
+        UriComponentsBuilder requestUri = ServletUriComponentsBuilder.fromCurrentRequest();
+        eventSummaryListModel.add(new Link(requestUri.toUriString()).withSelfRel());
+        if(nextCursor != null){
+            eventSummaryListModel.add(new Link(requestUri.replaceQueryParam("cursor", nextCursor).toUriString(), IanaLinkRelations.NEXT));
+        }
+        eventSummaryListModel.add(new Link(DocsInfo.GET_MY_EVENTS_DOCS_PATH).withRel(DocsInfo.PROFILE));
+        return ResponseEntity.ok(eventSummaryListModel);
+    }
+
+    /**
+     * Event 부분 조회 응답 객체 생성
+     * @param profilePath profile link 경로 (null인 경우 profile link를 포함하지 않음)
+     */
+    private EventFieldsModel eventFieldsModel(Map<String, Object> eventFields, boolean withLinks, String profilePath) {
+        EventFieldsModel eventFieldsModel = new EventFieldsModel(eventFields);
+        if(withLinks){
+            eventFieldsModel.add(linkTo(EventController.class).slash(eventFields.get("id")).withSelfRel());
+            if(profilePath != null){
+                eventFieldsModel.add(new Link(profilePath).withRel(DocsInfo.PROFILE));
+            }
+        }
+        return eventFieldsModel;
+    }
+
     /**
      * Event 수정 API
      * @param id 수정 요청 Event의 ID
@@ -141,34 +416,66 @@ public class EventController {
                                       @RequestBody @Valid EventDto eventDto,
                                       Errors errors,
                                       @CurrentUser Account currentUser){
-        Optional<Event> optionalEvent = this.eventRepository.findById(id);
-        if(optionalEvent.isEmpty()){
-            return this.notFound();
-        }
-
         if(errors.hasErrors()){
             return this.badRequest(errors);
         }
 
-        eventValidator.validate(eventDto, errors);
+        EventApiRecording.record(EventApiPhase.VALIDATION, "EventValidator", () -> eventValidator.validate(eventDto, errors));
         if(errors.hasErrors()){
             return this.badRequest(errors);
         }
 
-        Event existingEvent = optionalEvent.get();
-        if(!existingEvent.getManager().equals(currentUser)){
-            return new ResponseEntity(HttpStatus.UNAUTHORIZED);
-        }
-        this.modelMapper.map(eventDto, existingEvent);
-        Event event = this.modelMapper.map(eventDto, Event.class);
-        Event updatedEvent = this.eventRepository.save(event);
+        Event updatedEvent = this.eventService.updateEvent(id, eventDto, currentUser);
+        return ResponseEntity.ok(this.updatedEventEntityModel(updatedEvent, DocsInfo.UPDATE_EVENT_DOCS_PATH));
+    }
 
-        WebMvcLinkBuilder selfLinkBuilder = linkTo(methodOn(EventController.class).createEvent(eventDto, errors, currentUser));
-        EventEntityModel eventEntityModel = new EventEntityModel(updatedEvent);
-        eventEntityModel.add(selfLinkBuilder.slash(updatedEvent.getId()).withRel(DocsInfo.GET_AN_EVENT));
-        eventEntityModel.add(new Link(DocsInfo.UPDATE_EVENT_DOCS_PATH).withRel(DocsInfo.PROFILE));
+    /**
+     * Event 부분 수정 API
+     * @param id 수정 요청 Event의 ID
+     * @param patch 수정할 항목만 담은 요청 객체 (JSON Merge Patch)
+     * @return 200 Ok
+     * @apiNote events-patch Document : {@link }
+     */
+    @PatchMapping(value = "{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, CustomMediaTypes.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity patchEvent(@PathVariable Integer id,
+                                     @RequestBody JsonNode patch,
+                                     @CurrentUser Account currentUser){
+        Event patchedEvent = this.eventService.patchEvent(id, patch, currentUser);
+        return ResponseEntity.ok(this.updatedEventEntityModel(patchedEvent, DocsInfo.PATCH_EVENT_DOCS_PATH));
+    }
 
-        return ResponseEntity.ok(eventEntityModel);
+    private EventEntityModel updatedEventEntityModel(Event event, String profilePath) {
+        return EventApiRecording.record(EventApiPhase.LINK_BUILDING, "EventEntityModel", () -> {
+            EventEntityModel eventEntityModel = new EventEntityModel(event);
+            eventEntityModel.add(linkTo(EventController.class).slash(event.getId()).withRel(DocsInfo.GET_AN_EVENT));
+            eventEntityModel.add(new Link(profilePath).withRel(DocsInfo.PROFILE));
+            return eventEntityModel;
+        });
+    }
+
+    @ExceptionHandler(EventNotFoundException.class)
+    public ResponseEntity handleEventNotFound(EventNotFoundException exception) {
+        return this.notFound();
+    }
+
+    @ExceptionHandler(EventAccessDeniedException.class)
+    public ResponseEntity handleEventAccessDenied(EventAccessDeniedException exception) {
+        return new ResponseEntity(HttpStatus.UNAUTHORIZED);
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException exception) {
+        return ResponseEntity.unprocessableEntity().build();
+    }
+
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity handleIdempotencyKeyConflict(IdempotencyKeyConflictException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
+    @ExceptionHandler(EventValidationException.class)
+    public ResponseEntity handleEventValidation(EventValidationException exception) {
+        return this.badRequest(exception.getErrors());
     }
 
     /**
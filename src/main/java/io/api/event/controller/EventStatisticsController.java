@@ -0,0 +1,40 @@
+package io.api.event.controller;
+
+import io.api.event.domain.dto.event.EventStatisticsModel;
+import io.api.event.service.statistics.EventStatisticsService;
+import io.api.event.util.common.constant.CustomMediaTypes;
+import io.api.event.util.common.constant.DocsInfo;
+import org.springframework.hateoas.Link;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Event 통계 조회 API
+ */
+@RequestMapping(value = "/api/events/statistics", produces = CustomMediaTypes.HAL_JSON_UTF8_VALUE)
+@RestController
+public class EventStatisticsController {
+
+    private final EventStatisticsService eventStatisticsService;
+
+    public EventStatisticsController(EventStatisticsService eventStatisticsService) {
+        this.eventStatisticsService = eventStatisticsService;
+    }
+
+    /**
+     * 통계 조회 : 항목별로 유지 중인 값을 응답하며 집계 쿼리를 실행하지 않는다.
+     * @return 200 Ok
+     */
+    @GetMapping
+    public ResponseEntity getEventStatistics() {
+        EventStatisticsModel eventStatisticsModel = this.eventStatisticsService.getStatistics();
+        eventStatisticsModel.add(linkTo(methodOn(EventStatisticsController.class).getEventStatistics()).withSelfRel());
+        eventStatisticsModel.add(new Link(DocsInfo.GET_EVENT_STATISTICS_DOCS_PATH).withRel(DocsInfo.PROFILE));
+        return ResponseEntity.ok(eventStatisticsModel);
+    }
+}
@@ -0,0 +1,127 @@
+package io.api.event.controller;
+
+import io.api.event.config.JfrProperties;
+import io.api.event.service.jfr.JfrRecordingInfo;
+import io.api.event.service.jfr.JfrRecordingService;
+import io.api.event.util.common.constant.CustomMediaTypes;
+import io.api.event.util.common.entitymodel.ErrorEntityModel;
+import io.api.event.util.jfr.exception.JfrRecordingLimitException;
+import io.api.event.util.jfr.exception.JfrRecordingNotFoundException;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * JFR(Java Flight Recorder) recording 시작/종료 API (ADMIN 권한 필요)
+ *  - 운영 중 응답 지연 원인 확인용 : recording에는 Event API 요청 처리 구간 및 token 발급 JFR event가 함께 기록된다. ({@link io.api.event.util.jfr.EventApiRecording})
+ */
+@RequestMapping(value = "/api/admin/jfr/recordings", produces = CustomMediaTypes.HAL_JSON_UTF8_VALUE)
+@RestController
+public class JfrRecordingController {
+
+    private static final String TEMPLATE = "template";
+    private static final String DURATION = "duration";
+    private static final String STOP = "stop";
+
+    private final JfrRecordingService jfrRecordingService;
+    private final JfrProperties jfrProperties;
+
+    public JfrRecordingController(JfrRecordingService jfrRecordingService, JfrProperties jfrProperties) {
+        this.jfrRecordingService = jfrRecordingService;
+        this.jfrProperties = jfrProperties;
+    }
+
+    /**
+     * recording 시작
+     * @param template JFR 설정 template (default, profile)
+     * @param duration recording 시간 (ISO-8601, ex: PT5M, 생략 시 my-app.jfr.default-duration, 최대 my-app.jfr.max-duration)
+     * @return 201 Created
+     */
+    @PostMapping
+    public ResponseEntity startRecording(@RequestParam(defaultValue = "default") String template,
+                                         @RequestParam(required = false) Duration duration) {
+        Map<String, Object> params = new HashMap<>();
+        params.put(TEMPLATE, template);
+        params.put(DURATION, duration);
+        Errors errors = new MapBindingResult(params, "jfrRecording");
+        if (!this.jfrProperties.getTemplates().contains(template)) {
+            errors.rejectValue(TEMPLATE, "wrongValue", "template must be one of " + this.jfrProperties.getTemplates());
+        }
+        if (duration != null && (duration.isNegative() || duration.isZero() || duration.compareTo(this.jfrProperties.getMaxDuration()) > 0)) {
+            errors.rejectValue(DURATION, "wrongValue", "duration must be between 0 and " + this.jfrProperties.getMaxDuration());
+        }
+        if (errors.hasErrors()) {
+            return ResponseEntity.badRequest().body(new ErrorEntityModel(errors));
+        }
+
+        EntityModel<JfrRecordingInfo> recordingModel = this.recordingModel(this.jfrRecordingService.start(template, duration));
+        return ResponseEntity.created(recordingModel.getRequiredLink("self").toUri()).body(recordingModel);
+    }
+
+    /**
+     * recording 종료 : 파일로 저장 후 저장 경로(destination) 및 파일 크기 반환
+     * @return 200 Ok
+     */
+    @PostMapping("/{id}/stop")
+    public ResponseEntity stopRecording(@PathVariable long id) {
+        return ResponseEntity.ok(this.recordingModel(this.jfrRecordingService.stop(id)));
+    }
+
+    /**
+     * recording 목록 조회
+     * @return 200 Ok
+     */
+    @GetMapping
+    public ResponseEntity getRecordings() {
+        List<EntityModel<JfrRecordingInfo>> recordingModels = this.jfrRecordingService.getRecordings().stream()
+                .map(this::recordingModel)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(CollectionModel.of(recordingModels,
+                linkTo(methodOn(JfrRecordingController.class).getRecordings()).withSelfRel()));
+    }
+
+    /**
+     * recording 조회
+     * @return 200 Ok
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity getRecording(@PathVariable long id) {
+        return ResponseEntity.ok(this.recordingModel(this.jfrRecordingService.getRecording(id)));
+    }
+
+    @ExceptionHandler(JfrRecordingNotFoundException.class)
+    public ResponseEntity handleRecordingNotFound(JfrRecordingNotFoundException exception) {
+        return ResponseEntity.notFound().build();
+    }
+
+    @ExceptionHandler(JfrRecordingLimitException.class)
+    public ResponseEntity handleRecordingLimit(JfrRecordingLimitException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    private EntityModel<JfrRecordingInfo> recordingModel(JfrRecordingInfo recordingInfo) {
+        EntityModel<JfrRecordingInfo> recordingModel = EntityModel.of(recordingInfo);
+        recordingModel.add(linkTo(JfrRecordingController.class).slash(recordingInfo.getId()).withSelfRel());
+        recordingModel.add(linkTo(JfrRecordingController.class).slash(recordingInfo.getId()).slash(STOP).withRel(STOP));
+        return recordingModel;
+    }
+}
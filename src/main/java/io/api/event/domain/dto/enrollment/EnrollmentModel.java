@@ -0,0 +1,23 @@
+package io.api.event.domain.dto.enrollment;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.api.event.domain.entity.enrollment.Enrollment;
+import org.springframework.hateoas.EntityModel;
+
+/**
+ * Event 참가 신청 응답 Model : 대기 중인 신청은 대기 순번(position, 1부터 시작)을 추가
+ */
+public class EnrollmentModel extends EntityModel<Enrollment> {
+
+    private final Long position;
+
+    public EnrollmentModel(Enrollment enrollment, Long position) {
+        super(enrollment);
+        this.position = position;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,59 @@
+package io.api.event.domain.dto.event;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * manager의 Event 목록 keyset 페이지 위치 : 이전 페이지 마지막 Event의 (beginEventDateTime, id)
+ *  - 응답에는 URL에 그대로 사용할 수 있는 문자열(base64url)로 담고, 다음 페이지 요청의 cursor 파라미터로 전달받는다.
+ */
+@Getter
+@EqualsAndHashCode
+public class EventCursor {
+
+    private static final String SEPARATOR = ",";
+
+    private final LocalDateTime beginEventDateTime;
+    private final int id;
+
+    public EventCursor(LocalDateTime beginEventDateTime, int id) {
+        this.beginEventDateTime = beginEventDateTime;
+        this.id = id;
+    }
+
+    public static EventCursor after(EventSummary eventSummary) {
+        return new EventCursor(eventSummary.getBeginEventDateTime(), eventSummary.getId());
+    }
+
+    /**
+     * @return 형식이 잘못된 경우 empty
+     */
+    public static Optional<EventCursor> parse(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(SEPARATOR, 2);
+            if (values.length != 2) {
+                return Optional.empty();
+            }
+            return Optional.of(new EventCursor(LocalDateTime.parse(values[0]), Integer.parseInt(values[1])));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String encode() {
+        String value = this.beginEventDateTime + SEPARATOR + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
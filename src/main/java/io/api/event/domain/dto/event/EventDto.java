@@ -45,4 +45,8 @@ public class EventDto {
 
     @Min(0)
     private int limitOfEnrollment;
+
+    // (optional) 오프라인 Event의 좌표 : 위도/경도를 함께 입력하며, 입력하지 않은 경우 location으로 변환한 좌표를 사용
+    private Double latitude;
+    private Double longitude;
 }
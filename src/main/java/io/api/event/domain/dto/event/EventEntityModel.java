@@ -4,6 +4,7 @@ import io.api.event.controller.EventController;
 import io.api.event.domain.entity.event.Event;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 
 //import static org.springframework.hateoas.server.mvc.ControllerLinkBuilder.linkTo;
 //import static org.springframework.hateoas.server.mvc.ControllerLinkBuilder.methodOn;
@@ -32,6 +33,14 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 public class EventEntityModel extends EntityModel<Event> {
 
     public EventEntityModel(Event event, Link... links) {
+        this(event, linkTo(EventController.class), links);
+    }
+
+    /**
+     * 목록 응답 생성 시 Event마다 Controller mapping 정보를 다시 조회하지 않도록 미리 생성한 LinkBuilder를 사용
+     * @param eventsLinkBuilder /api/events LinkBuilder (linkTo(EventController.class))
+     */
+    public EventEntityModel(Event event, WebMvcLinkBuilder eventsLinkBuilder, Link... links) {
         super(event, links);
 
         /**
@@ -40,6 +49,6 @@ public class EventEntityModel extends EntityModel<Event> {
          * */
 //        add(new Link("http://localhost:8080/api/event/" + event.getId()).withSelfRel();
 //        add(linkTo(methodOn(EventController.class)).withSelfRel());
-        add(linkTo(EventController.class).slash(event.getId()).withSelfRel());
+        add(eventsLinkBuilder.slash(event.getId()).withSelfRel());
     }
 }
@@ -0,0 +1,26 @@
+package io.api.event.domain.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.util.Map;
+
+/**
+ * Event 부분 조회(fields= 요청 파라미터) 응답 Model
+ *  - 조회한 항목만 JSON 항목으로 변환하며, 목록 조회 시 전체 조회와 같은 이름(_embedded.eventList)으로 응답한다.
+ */
+@Relation(collectionRelation = "eventList")
+public class EventFieldsModel extends RepresentationModel<EventFieldsModel> {
+
+    private final Map<String, Object> fields;
+
+    public EventFieldsModel(Map<String, Object> fields) {
+        this.fields = fields;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getFields() {
+        return fields;
+    }
+}
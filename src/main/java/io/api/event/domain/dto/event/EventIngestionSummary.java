@@ -0,0 +1,87 @@
+package io.api.event.domain.dto.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Event 목록 저장(ingestion) 결과
+ *  - chunks : chunk 단위 저장 결과 목록
+ *  - nextOffset : 다음 요청 시 resumeFrom으로 전달할 offset (저장 완료된 요청 수)
+ */
+@Getter
+@ToString
+public class EventIngestionSummary {
+
+    public enum ChunkStatus {
+        COMMITTED, REJECTED, FAILED
+    }
+
+    private final int resumedFrom;
+    private int nextOffset;
+    private boolean completed;
+    private String message;
+    private final List<ChunkResult> chunks = new ArrayList<>();
+
+    public EventIngestionSummary(int resumedFrom) {
+        this.resumedFrom = resumedFrom;
+        this.nextOffset = resumedFrom;
+    }
+
+    public void addChunk(ChunkResult chunkResult) {
+        this.chunks.add(chunkResult);
+        if (chunkResult.getStatus() == ChunkStatus.COMMITTED) {
+            this.nextOffset = chunkResult.getToOffset();
+        }
+    }
+
+    public void complete() {
+        this.completed = true;
+    }
+
+    public void stop(String message) {
+        this.completed = false;
+        this.message = message;
+    }
+
+    // 저장 과정의 오류로 처리가 중단 되었는지 여부 (유효하지 못한 요청, 잘못된 JSON 형식으로 인한 중단과 구분)
+    public boolean isFailed() {
+        return !chunks.isEmpty() && chunks.get(chunks.size() - 1).getStatus() == ChunkStatus.FAILED;
+    }
+
+    @Getter
+    @ToString
+    public static class ChunkResult {
+
+        private final int chunk;
+        private final int fromOffset;
+        private final int toOffset;
+        private final ChunkStatus status;
+        private final int saved;
+        private final List<Integer> invalidIndexes;
+
+        private ChunkResult(int chunk, int fromOffset, int toOffset, ChunkStatus status, int saved, List<Integer> invalidIndexes) {
+            this.chunk = chunk;
+            this.fromOffset = fromOffset;
+            this.toOffset = toOffset;
+            this.status = status;
+            this.saved = saved;
+            this.invalidIndexes = invalidIndexes;
+        }
+
+        public static ChunkResult committed(int chunk, int fromOffset, int toOffset) {
+            return new ChunkResult(chunk, fromOffset, toOffset, ChunkStatus.COMMITTED, toOffset - fromOffset, Collections.emptyList());
+        }
+
+        public static ChunkResult rejected(int chunk, int fromOffset, int toOffset, List<Integer> invalidIndexes) {
+            return new ChunkResult(chunk, fromOffset, toOffset, ChunkStatus.REJECTED, 0, invalidIndexes);
+        }
+
+        public static ChunkResult failed(int chunk, int fromOffset, int toOffset) {
+            return new ChunkResult(chunk, fromOffset, toOffset, ChunkStatus.FAILED, 0, Collections.emptyList());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.api.event.domain.dto.event;
+
+import org.springframework.hateoas.CollectionModel;
+
+import java.util.List;
+
+/**
+ * Event 다건 조회(ids= 요청 파라미터) 응답 Model
+ *  - 조회된 Event는 요청한 ID 순서대로 _embedded.eventList에 담고, 존재하지 않는 ID는 missingIds 항목으로 응답한다.
+ */
+public class EventMultiGetModel extends CollectionModel<EventEntityModel> {
+
+    private final List<Integer> missingIds;
+
+    public EventMultiGetModel(List<EventEntityModel> content, List<Integer> missingIds) {
+        super(content);
+        this.missingIds = missingIds;
+    }
+
+    public List<Integer> getMissingIds() {
+        return missingIds;
+    }
+}
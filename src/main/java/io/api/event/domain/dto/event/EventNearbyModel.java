@@ -0,0 +1,21 @@
+package io.api.event.domain.dto.event;
+
+import io.api.event.domain.entity.event.Event;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+
+/**
+ * Event 위치 검색(lat=, lon= 요청 파라미터) 응답 Model : Event 항목에 검색 위치로부터의 거리(distance, 미터)를 추가
+ */
+public class EventNearbyModel extends EventEntityModel {
+
+    private final long distance;
+
+    public EventNearbyModel(Event event, double distance, WebMvcLinkBuilder eventsLinkBuilder) {
+        super(event, eventsLinkBuilder);
+        this.distance = Math.round(distance);
+    }
+
+    public long getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,38 @@
+package io.api.event.domain.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.api.event.service.event.EventCountMode;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Event 목록 조회 응답의 페이지 정보 (HAL page 항목)
+ *  - countMode : totalElements를 구한 방식 (NONE인 경우 totalElements, totalPages를 응답하지 않음)
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventPageMetadata {
+
+    private final long size;
+    private final Long totalElements;
+    private final Long totalPages;
+    private final long number;
+    private final EventCountMode countMode;
+
+    private EventPageMetadata(long size, Long totalElements, Long totalPages, long number, EventCountMode countMode) {
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+        this.number = number;
+        this.countMode = countMode;
+    }
+
+    public static EventPageMetadata of(Slice<?> slice, EventCountMode countMode) {
+        if (slice instanceof Page) {
+            Page<?> page = (Page<?>) slice;
+            return new EventPageMetadata(page.getSize(), page.getTotalElements(), (long) page.getTotalPages(), page.getNumber(), countMode);
+        }
+        return new EventPageMetadata(slice.getSize(), null, null, slice.getNumber(), EventCountMode.NONE);
+    }
+}
@@ -0,0 +1,31 @@
+package io.api.event.domain.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Event 목록 조회 응답 Model
+ *  - PagedModel과 같은 구조로 응답하며, page 항목에 전체 수 조회 방식(countMode)을 포함한다. ({@link EventPageMetadata})
+ */
+public class EventPagedModel<T> extends CollectionModel<T> {
+
+    private final EventPageMetadata page;
+
+    public EventPagedModel(Collection<T> content, EventPageMetadata page) {
+        this(content, page, List.of());
+    }
+
+    public EventPagedModel(Collection<T> content, EventPageMetadata page, Iterable<Link> links) {
+        super(content, links);
+        this.page = page;
+    }
+
+    @JsonProperty("page")
+    public EventPageMetadata getPage() {
+        return page;
+    }
+}
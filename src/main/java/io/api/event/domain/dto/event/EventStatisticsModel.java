@@ -0,0 +1,55 @@
+package io.api.event.domain.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Event 통계 응답 Model
+ *  - 통계 값은 생성/수정 요청 commit 이후 반영되며, 주기적인 전체 재집계 시각(reconciledAt)과 저장 시각(checkpointedAt)을 함께 응답한다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventStatisticsModel extends RepresentationModel<EventStatisticsModel> {
+
+    private final long total;
+    private final Map<String, Long> byStatus;
+    private final long free;
+    private final long paid;
+    private final long offline;
+    private final long online;
+    private final List<PriceRange> priceHistogram;
+    private final LocalDateTime checkpointedAt;
+    private final LocalDateTime reconciledAt;
+
+    public EventStatisticsModel(long total, Map<String, Long> byStatus, long free, long offline, List<PriceRange> priceHistogram,
+                                LocalDateTime checkpointedAt, LocalDateTime reconciledAt) {
+        this.total = total;
+        this.byStatus = byStatus;
+        this.free = free;
+        this.paid = total - free;
+        this.offline = offline;
+        this.online = total - offline;
+        this.priceHistogram = priceHistogram;
+        this.checkpointedAt = checkpointedAt;
+        this.reconciledAt = reconciledAt;
+    }
+
+    /**
+     * basePrice 구간별 Event 수 : minExclusive < basePrice <= maxInclusive (첫 구간은 하한, 마지막 구간은 상한 없음)
+     */
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class PriceRange {
+
+        private final Integer minExclusive;
+        private final Integer maxInclusive;
+        private final long count;
+    }
+}
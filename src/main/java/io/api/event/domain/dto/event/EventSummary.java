@@ -0,0 +1,32 @@
+package io.api.event.domain.dto.event;
+
+import io.api.event.domain.entity.event.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * manager의 Event 목록(/api/events/mine) 조회 항목
+ *  - Event Entity가 아닌 column만 조회(projection)하여 생성하므로, manager(Account) 및 roles를 조회하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+@ToString
+public class EventSummary {
+
+    private final Integer id;
+    private final String name;
+    private final EventStatus eventStatus;
+    private final LocalDateTime beginEnrollmentDateTime;
+    private final LocalDateTime closeEnrollmentDateTime;
+    private final LocalDateTime beginEventDateTime;
+    private final LocalDateTime endEventDateTime;
+    private final String location;
+    private final boolean offline;
+    private final boolean free;
+    private final int limitOfEnrollment;
+}
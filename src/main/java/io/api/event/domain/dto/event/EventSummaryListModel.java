@@ -0,0 +1,33 @@
+package io.api.event.domain.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+
+import java.util.List;
+
+/**
+ * manager의 Event 목록(/api/events/mine) 응답 Model
+ *  - 조회된 Event는 진행 시작 순서(같은 경우 ID 순서)대로 _embedded.eventSummaryList에 담고,
+ *    다음 페이지가 있는 경우 다음 페이지 요청에 사용할 nextCursor 항목 및 next link를 함께 응답한다.
+ */
+public class EventSummaryListModel extends CollectionModel<EntityModel<EventSummary>> {
+
+    private final int size;
+    private final String nextCursor;
+
+    public EventSummaryListModel(List<EntityModel<EventSummary>> content, int size, String nextCursor) {
+        super(content);
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
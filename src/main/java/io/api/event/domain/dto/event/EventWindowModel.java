@@ -0,0 +1,37 @@
+package io.api.event.domain.dto.event;
+
+import io.api.event.domain.entity.event.EventWindowBasis;
+import org.springframework.hateoas.CollectionModel;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Event 기간 겹침 조회(from=, to= 요청 파라미터) 응답 Model
+ *  - 조회된 Event는 기준 기간의 시작 순서대로 _embedded.eventList에 담고, 조회 조건(basis, from, to)을 함께 응답한다.
+ */
+public class EventWindowModel extends CollectionModel<EventEntityModel> {
+
+    private final EventWindowBasis basis;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    public EventWindowModel(List<EventEntityModel> content, EventWindowBasis basis, LocalDateTime from, LocalDateTime to) {
+        super(content);
+        this.basis = basis;
+        this.from = from;
+        this.to = to;
+    }
+
+    public EventWindowBasis getBasis() {
+        return basis;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+}
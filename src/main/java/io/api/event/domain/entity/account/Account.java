@@ -1,6 +1,10 @@
 package io.api.event.domain.entity.account;
 
+import io.api.event.repository.id.BlockIdGenerator;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.Set;
@@ -12,9 +16,14 @@ import java.util.Set;
 @AllArgsConstructor
 @Builder
 @EqualsAndHashCode(of = "id")
+// 변경이 거의 없는 Account와 roles를 2차 캐시에 보관하여 Event 조회 시 Account 관련 테이블 조회 제거
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Account {
 
-    @Id @GeneratedValue
+    // ID는 block 단위로 예약하여 INSERT 마다 sequence를 조회하지 않음 (BlockIdGenerator, my-app.id.*)
+    @Id @GeneratedValue(generator = "account_id")
+    @GenericGenerator(name = "account_id", strategy = BlockIdGenerator.STRATEGY)
     private Integer id;
 
     @Column(unique = true)
@@ -24,6 +33,7 @@ public class Account {
 
     @ElementCollection(fetch = FetchType.EAGER)
     @Enumerated(EnumType.STRING)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private Set<AccountRole> roles;
 
 }
@@ -0,0 +1,5 @@
+package io.api.event.domain.entity.audit;
+
+public enum AuditAction {
+    CREATE_EVENT, UPDATE_EVENT, PATCH_EVENT;
+}
@@ -0,0 +1,37 @@
+package io.api.event.domain.entity.audit;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Event 생성/수정 이력
+ *  - 추가만 하고 수정하지 않으며, 저장은 {@link io.api.event.service.audit.AuditLog}의 background thread에서 JDBC batch로 처리한다.
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@EqualsAndHashCode(of = "id")
+@ToString
+@Entity
+public class AuditEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private AuditAction action;
+
+    @Enumerated(EnumType.STRING)
+    private AuditOutcome outcome;
+
+    private Integer eventId;
+
+    // 요청한 Account(@CurrentUser)의 ID
+    private Integer accountId;
+
+    private LocalDateTime occurredAt;
+}
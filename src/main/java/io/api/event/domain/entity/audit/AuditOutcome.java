@@ -0,0 +1,8 @@
+package io.api.event.domain.entity.audit;
+
+public enum AuditOutcome {
+    // 요청 처리 완료 (transaction commit 이후 기록)
+    SUCCESS,
+    // 요청한 Account가 Event의 manager가 아니어서 거부
+    DENIED;
+}
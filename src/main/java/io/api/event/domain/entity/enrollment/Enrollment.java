@@ -0,0 +1,62 @@
+package io.api.event.domain.entity.enrollment;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.api.event.domain.entity.account.Account;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Event 참가 신청
+ *  - id는 신청 순서를 나타내는 전용 sequence(enrollment_seq)로 생성하며, 대기자 승격은 id 순서(FIFO)로 처리한다.
+ *    모든 Application이 같은 순서를 사용하도록 sequence 값을 미리 할당(allocationSize)하지 않는다.
+ *  - Event는 shard에 저장될 수 있으므로 연관 관계 대신 Event ID만 저장한다.
+ *  - 취소 후 다시 신청하는 경우 기존 신청을 삭제하고 새로 생성하여 대기 순서의 마지막이 된다.
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@ToString(exclude = "account")
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_enrollment_event_account", columnNames = {"event_id", "account_id"}))
+public class Enrollment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollment_seq")
+    @SequenceGenerator(name = "enrollment_seq", sequenceName = "enrollment_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Integer eventId;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Enumerated(EnumType.STRING)
+    private EnrollmentStatus status;
+
+    private LocalDateTime enrolledAt;
+    private LocalDateTime promotedAt;
+    private LocalDateTime cancelledAt;
+
+    @JsonIgnore
+    public boolean isActive() {
+        return this.status != EnrollmentStatus.CANCELLED;
+    }
+
+    public void promote(LocalDateTime now) {
+        this.status = EnrollmentStatus.CONFIRMED;
+        this.promotedAt = now;
+    }
+
+    public void cancel(LocalDateTime now) {
+        this.status = EnrollmentStatus.CANCELLED;
+        this.cancelledAt = now;
+    }
+}
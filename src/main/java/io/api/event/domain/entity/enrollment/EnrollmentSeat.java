@@ -0,0 +1,34 @@
+package io.api.event.domain.entity.enrollment;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * Event별 참가 확정/대기 인원
+ *  - 참가 확정 및 대기자 승격은 이 row의 조건부 UPDATE(정원 이내인 경우에만 증가)로 처리하므로,
+ *    여러 Application이 동시에 처리해도 정원을 넘지 않고, DB lock은 해당 Event의 row에만 걸린다.
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@EqualsAndHashCode(of = "eventId")
+@ToString
+@Entity
+public class EnrollmentSeat {
+
+    @Id
+    private Integer eventId;
+
+    // 참가 정원 : 신청 시 Event의 limitOfEnrollment로 갱신
+    private int seatLimit;
+
+    private int confirmed;
+    private int waitlisted;
+
+    public int getAvailable() {
+        return Math.max(0, this.seatLimit - this.confirmed);
+    }
+}
@@ -0,0 +1,11 @@
+package io.api.event.domain.entity.enrollment;
+
+/**
+ * Event 참가 신청 상태
+ *  - CONFIRMED : 참가 확정 (limitOfEnrollment 이내)
+ *  - WAITLISTED : 대기 (참가 확정 인원이 가득 찬 경우, 자리가 생기면 신청 순서대로 CONFIRMED로 변경)
+ *  - CANCELLED : 신청 취소
+ */
+public enum EnrollmentStatus {
+    CONFIRMED, WAITLISTED, CANCELLED
+}
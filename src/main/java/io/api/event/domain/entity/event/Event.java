@@ -1,7 +1,16 @@
 package io.api.event.domain.entity.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.api.event.domain.entity.account.Account;
+import io.api.event.repository.id.BlockIdGenerator;
+import io.api.event.util.common.serializer.AccountSerializer;
+import io.api.event.util.geo.GeoHash;
+import io.api.event.util.geo.GeoPoint;
 import lombok.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -23,7 +32,9 @@ public class Event {
     // Enum에 선언된 값의 순서가 변경 될 경우, 설정된 값이 일치 하지 않으므로,
     // 순서 변경과 상관없이 값을 보장 할수 있도록 EnumType.String으로 설정한다.
     @Id
-    @GeneratedValue
+    // ID는 block 단위로 예약하여 INSERT 마다 sequence를 조회하지 않음 (BlockIdGenerator, my-app.id.*)
+    @GeneratedValue(generator = "event_id")
+    @GenericGenerator(name = "event_id", strategy = BlockIdGenerator.STRATEGY)
     private Integer id;
 
     private String name;
@@ -39,11 +50,23 @@ public class Event {
     private boolean offline;
     private boolean free;
 
+    // (optional) 오프라인 Event의 좌표 : 요청에 없는 경우 location으로 변환한 좌표 ({@link io.api.event.service.geo.Geocoder})
+    private Double latitude;
+    private Double longitude;
+
+    // 좌표의 geohash : 위치 검색 시 B-tree index의 prefix 범위 조회에 사용
+    @JsonIgnore
+    @Column(length = GeoHash.MAX_PRECISION)
+    private String geohash;
+
     //default value로 DRAFT를 지정
     @Enumerated(EnumType.STRING)
     private EventStatus eventStatus = EventStatus.DRAFT;
 
+    // manager를 join으로 함께 조회하지 않고 id로 조회하여 2차 캐시에 보관된 Account를 사용
     @ManyToOne
+    @Fetch(FetchMode.SELECT)
+    @JsonSerialize(using = AccountSerializer.class)
     private Account manager;
 
     public void update() {
@@ -65,5 +88,30 @@ public class Event {
         }else{
             this.offline = true;
         }
+
+        // 온라인 Event는 좌표를 저장하지 않음
+        if(!this.offline){
+            this.latitude = null;
+            this.longitude = null;
+        }
+        this.geohash = this.latitude != null && this.longitude != null
+                ? GeoHash.encode(this.latitude, this.longitude, GeoHash.MAX_PRECISION) : null;
+    }
+
+    /**
+     * 좌표 설정 : 오프라인 Event에만 설정
+     */
+    public void locate(GeoPoint point) {
+        if(!this.offline){
+            return;
+        }
+        this.latitude = point.getLatitude();
+        this.longitude = point.getLongitude();
+        this.geohash = GeoHash.encode(this.latitude, this.longitude, GeoHash.MAX_PRECISION);
+    }
+
+    @JsonIgnore
+    public boolean isLocated() {
+        return this.latitude != null && this.longitude != null;
     }
 }
@@ -0,0 +1,42 @@
+package io.api.event.domain.entity.event;
+
+/**
+ * 기간 겹침 조회 시 기준이 되는 Event 기간
+ *  - PostgreSQL에서는 기간을 range column(tsrange, GiST index)으로 함께 저장하며, 겹침 조회 시 range column을 사용한다.
+ */
+public enum EventWindowBasis {
+
+    // Event 진행 기간 (beginEventDateTime ~ endEventDateTime)
+    EVENT("beginEventDateTime", "endEventDateTime", "begin_event_date_time", "event_period"),
+
+    // Event 등록 기간 (beginEnrollmentDateTime ~ closeEnrollmentDateTime)
+    ENROLLMENT("beginEnrollmentDateTime", "closeEnrollmentDateTime", "begin_enrollment_date_time", "enrollment_period");
+
+    private final String beginAttribute;
+    private final String endAttribute;
+    private final String beginColumn;
+    private final String rangeColumn;
+
+    EventWindowBasis(String beginAttribute, String endAttribute, String beginColumn, String rangeColumn) {
+        this.beginAttribute = beginAttribute;
+        this.endAttribute = endAttribute;
+        this.beginColumn = beginColumn;
+        this.rangeColumn = rangeColumn;
+    }
+
+    public String getBeginAttribute() {
+        return beginAttribute;
+    }
+
+    public String getEndAttribute() {
+        return endAttribute;
+    }
+
+    public String getBeginColumn() {
+        return beginColumn;
+    }
+
+    public String getRangeColumn() {
+        return rangeColumn;
+    }
+}
@@ -0,0 +1,75 @@
+package io.api.event.domain.entity.idempotency;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 요청 헤더로 처리한 Event 생성 요청 정보
+ *  - 응답 본문 대신 생성한 Event의 ID만 저장하고, 같은 key의 요청 시 저장한 ID의 Event로 생성 응답을 다시 생성한다.
+ *  - id는 요청한 Account ID와 key를 조합한 값으로, 다른 Account의 같은 key와 구분한다.
+ *  - 항상 새로 저장(INSERT)하도록 {@link Persistable}을 구현하여, 같은 key의 동시 요청은 primary key 제약 조건으로 하나만 저장된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "id")
+@ToString
+public class IdempotencyKey implements Persistable<String> {
+
+    @Id
+    private String id;
+
+    // 요청 본문의 SHA-256 hash : 같은 key로 다른 내용을 요청한 경우 확인
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private Integer eventId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public IdempotencyKey(String id, String requestHash, LocalDateTime expiresAt) {
+        this.id = id;
+        this.requestHash = requestHash;
+        this.expiresAt = expiresAt;
+    }
+
+    public IdempotencyKey completedWith(Integer eventId) {
+        this.eventId = eventId;
+        return this;
+    }
+
+    /**
+     * 요청한 Idempotency-Key (Account ID를 제외한 값)
+     */
+    public String getRequestedKey() {
+        return id.substring(id.indexOf(':') + 1);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,27 @@
+package io.api.event.domain.entity.statistics;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+/**
+ * Event 통계 항목별 값 저장(checkpoint)
+ *  - Application 구동 시 전체 재집계 없이 통계 값을 복원하는 데 사용한다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@EqualsAndHashCode(of = "name")
+@ToString
+@Entity
+public class EventStatisticsCheckpoint {
+
+    @Id
+    private String name;
+
+    private long counterValue;
+
+    private LocalDateTime checkpointedAt;
+}
@@ -1,7 +1,22 @@
 package io.api.event.repository;
 
 import io.api.event.domain.entity.event.Event;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface EventRepository extends JpaRepository<Event, Integer> {
+import javax.persistence.QueryHint;
+
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface EventRepository extends JpaRepository<Event, Integer>, EventRepositoryCustom {
+
+    /**
+     * Event 목록 조회는 수정 대상이 아니므로 조회한 Entity를 read-only로 영속성 컨텍스트에 적재
+     *  - dirty checking을 위한 snapshot을 보관하지 않고, flush 대상에서 제외된다.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Page<Event> findAll(Pageable pageable);
 }
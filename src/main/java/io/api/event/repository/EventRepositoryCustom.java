@@ -0,0 +1,82 @@
+package io.api.event.repository;
+
+import io.api.event.domain.dto.event.EventCursor;
+import io.api.event.domain.dto.event.EventSummary;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventWindowBasis;
+import io.api.event.util.common.IntervalIndex;
+import io.api.event.util.geo.GeoBoundingBox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * Event 부분 조회(sparse fieldset), 다건 조회, 기간 겹침 조회, 위치 검색, manager별 목록 조회 및 전체 수 조회 방식을 지정한 목록 조회 Repository
+ *  - 부분 조회는 요청한 항목의 column만 조회(projection)하여 Entity를 생성하지 않고 항목명/값 Map으로 반환한다.
+ */
+public interface EventRepositoryCustom {
+
+    /**
+     * ID 목록에 해당하는 Event를 하나의 IN 쿼리로 조회
+     *  - 영속성 컨텍스트 및 2차 캐시에 있는 Event는 조회 대상에서 제외한다.
+     * @return 요청한 ID 순서와 같은 순서의 목록 (존재하지 않는 ID의 위치는 null)
+     */
+    List<Event> findAllByIdInOrder(List<Integer> ids);
+
+    /**
+     * Event 목록 조회 : 전체 수(total)는 전달받은 total을 통해 구하며, total이 null인 경우 전체 수를 구하지 않는다.
+     * @param total 전체 수 조회 (null인 경우 pageSize + 1건을 조회하여 다음 페이지 존재 여부만 확인한 {@link Slice} 반환)
+     */
+    Slice<Event> findPage(Pageable pageable, @Nullable LongSupplier total);
+
+    /**
+     * PostgreSQL planner 통계(pg_class.reltuples)를 이용한 Event 전체 수 추정
+     * @return 추정 값 (PostgreSQL이 아니거나 통계가 수집되지 않은 경우 empty)
+     */
+    OptionalLong estimateCount();
+
+    /**
+     * 조회 가능한 항목명 (Event Entity의 단일 값 속성)
+     */
+    Set<String> getSelectableFields();
+
+    Optional<Map<String, Object>> findFieldsById(Integer id, Set<String> fields);
+
+    /**
+     * @param total 전체 수 조회 (null인 경우 전체 수를 구하지 않은 {@link Slice} 반환)
+     */
+    Slice<Map<String, Object>> findAllFields(Set<String> fields, Pageable pageable, @Nullable LongSupplier total);
+
+    /**
+     * 기간 겹침 조회 : 기준 기간(basis)이 조회 기간(from ~ to, 양 끝 포함)과 겹치는 Event를 기간 시작 순서(같은 경우 ID 순서)로 조회
+     *  - PostgreSQL : range column의 겹침 연산(&&)으로 GiST index를 사용하여 조회
+     *  - 그 외 : 시작 <= to and 종료 >= from 조건으로 조회
+     *  - 시작/종료 일시가 없거나 시작이 종료보다 늦은 Event는 조회하지 않는다.
+     */
+    List<Event> findOverlapping(EventWindowBasis basis, LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * 기준 기간이 조회 기간과 겹치는 Event의 ID 및 기간(epoch second)만 조회하여 {@link IntervalIndex} 생성
+     */
+    IntervalIndex findIntervalIndex(EventWindowBasis basis, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 위치 검색 : 좌표가 영역 안에 있는 오프라인 Event 조회
+     *  - 영역을 덮는 geohash cell의 prefix 범위 조건으로 geohash index를 사용하고, 위도/경도 범위 조건으로 cell 중 영역 밖의 좌표를 제외한다.
+     * @param geohashPrefixes 영역을 덮는 geohash cell 목록 ({@link io.api.event.util.geo.GeoHash#covering})
+     * @param maxCandidates 최대 조회 수 : 넘는 경우 확인할 수 있도록 maxCandidates + 1건까지 조회 (조회 순서는 정하지 않음)
+     */
+    List<Event> findLocatedIn(GeoBoundingBox box, List<String> geohashPrefixes, int maxCandidates);
+
+    /**
+     * manager의 Event 목록 keyset 조회 : 진행 시작 일시(같은 경우 ID) 순서로 cursor 이후의 Event를 조회
+     *  - (manager_id, begin_event_date_time, id) index 순서대로 조회하므로 페이지 위치와 상관없이 limit 건만 읽는다.
+     *  - Event Entity 대신 {@link EventSummary}로 조회하여 manager(Account)를 조회하지 않으며, 진행 시작 일시가 없는 Event는 조회하지 않는다.
+     * @param after 이전 페이지 마지막 Event의 위치 (null인 경우 첫 페이지)
+     */
+    List<EventSummary> findSummariesByManager(Integer managerId, @Nullable EventCursor after, int limit);
+}
@@ -0,0 +1,298 @@
+package io.api.event.repository;
+
+import io.api.event.domain.dto.event.EventCursor;
+import io.api.event.domain.dto.event.EventSummary;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventWindowBasis;
+import io.api.event.util.common.IntervalIndex;
+import io.api.event.util.geo.GeoBoundingBox;
+import io.api.event.util.geo.GeoHash;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.*;
+import javax.persistence.metamodel.Attribute;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * {@link EventRepositoryCustom} 구현체 : JPA Criteria Tuple 조회, Hibernate multiLoad 조회 및 PostgreSQL range 조회
+ *  - manager는 Account를 join 하지 않고 Event의 manager_id column만 조회하여 {"id": manager_id} 형태로 반환한다.
+ */
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    private static final String ID = "id";
+    private static final String MANAGER = "manager";
+    private static final String GEOHASH = "geohash";
+    private static final String LATITUDE = "latitude";
+    private static final String LONGITUDE = "longitude";
+    private static final String OFFLINE = "offline";
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final String EVENT_TABLE = "event";
+    private static final String ESTIMATE_COUNT_SQL = "SELECT reltuples FROM pg_class WHERE oid = to_regclass(?)";
+    private static final String RANGE_COLUMN_SQL = "SELECT count(*) FROM information_schema.columns WHERE table_name = ? AND column_name = ?";
+    private static final String OVERLAPPING_SQL = "SELECT * FROM event WHERE %s && tsrange(:from, :to, '[]') ORDER BY %s, id LIMIT :limit";
+    private static final String OVERLAPPING_JPQL = "select e from Event e where e.%1$s <= :to and e.%2$s >= :from and e.%1$s <= e.%2$s order by e.%1$s, e.id";
+    private static final String SUMMARIES_JPQL = "select new io.api.event.domain.dto.event.EventSummary(e.id, e.name, e.eventStatus, "
+            + "e.beginEnrollmentDateTime, e.closeEnrollmentDateTime, e.beginEventDateTime, e.endEventDateTime, e.location, e.offline, e.free, "
+            + "e.limitOfEnrollment) from Event e where e.manager.id = :managerId and e.beginEventDateTime is not null %s "
+            + "order by e.beginEventDateTime, e.id";
+    // (begin, id) > (:begin, :id) : index 탐색 시작 위치를 지정할 수 있도록 begin >= :begin 조건을 함께 사용
+    private static final String AFTER_CURSOR_JPQL = "and e.beginEventDateTime >= :begin and (e.beginEventDateTime > :begin or e.id > :id)";
+    private static final String INTERVALS_JPQL = "select e.id, e.%1$s, e.%2$s from Event e where e.%1$s <= :to and e.%2$s >= :from and e.%1$s <= e.%2$s";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Set<String> selectableFields;
+
+    private volatile Boolean postgreSql;
+
+    private final Map<EventWindowBasis, Boolean> rangeColumns = new EnumMap<>(EventWindowBasis.class);
+
+    @Override
+    public Set<String> getSelectableFields() {
+        if (selectableFields == null) {
+            selectableFields = entityManager.getMetamodel().entity(Event.class).getSingularAttributes().stream()
+                    .map(Attribute::getName)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+        return selectableFields;
+    }
+
+    @Override
+    public List<Event> findAllByIdInOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Event.class)
+                .enableOrderedReturn(true)
+                .enableSessionCheck(true)
+                .with(CacheMode.NORMAL)
+                .withBatchSize(ids.size()) // 요청 ID 전체를 하나의 IN 쿼리로 조회
+                .multiLoad(ids);
+    }
+
+    @Override
+    public Slice<Event> findPage(Pageable pageable, @Nullable LongSupplier total) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = builder.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        TypedQuery<Event> typedQuery = entityManager.createQuery(query).setHint(HINT_READONLY, true);
+        return toSlice(paged(typedQuery, pageable, total).getResultList(), pageable, total);
+    }
+
+    @Override
+    public OptionalLong estimateCount() {
+        if (!isPostgreSql()) {
+            return OptionalLong.empty();
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(ESTIMATE_COUNT_SQL)) {
+                statement.setString(1, EVENT_TABLE);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    // 통계가 수집되지 않은 table의 reltuples는 -1(PostgreSQL 14 이상) 또는 0
+                    if (resultSet.next() && resultSet.getLong(1) > 0) {
+                        return OptionalLong.of(resultSet.getLong(1));
+                    }
+                    return OptionalLong.empty();
+                }
+            }
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Event> findOverlapping(EventWindowBasis basis, LocalDateTime from, LocalDateTime to, int limit) {
+        if (hasRangeColumn(basis)) {
+            return entityManager.createNativeQuery(String.format(OVERLAPPING_SQL, basis.getRangeColumn(), basis.getBeginColumn()), Event.class)
+                    .setParameter("from", from)
+                    .setParameter("to", to)
+                    .setParameter("limit", limit)
+                    .setHint(HINT_READONLY, true)
+                    .getResultList();
+        }
+        return entityManager.createQuery(String.format(OVERLAPPING_JPQL, basis.getBeginAttribute(), basis.getEndAttribute()), Event.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setMaxResults(limit)
+                .setHint(HINT_READONLY, true)
+                .getResultList();
+    }
+
+    @Override
+    public IntervalIndex findIntervalIndex(EventWindowBasis basis, LocalDateTime from, LocalDateTime to) {
+        IntervalIndex.Builder builder = IntervalIndex.builder(1024);
+        entityManager.createQuery(String.format(INTERVALS_JPQL, basis.getBeginAttribute(), basis.getEndAttribute()), Object[].class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultStream()
+                .forEach(row -> builder.add((Integer) row[0], toEpochSecond((LocalDateTime) row[1]), toEpochSecond((LocalDateTime) row[2])));
+        return builder.build();
+    }
+
+    @Override
+    public List<Event> findLocatedIn(GeoBoundingBox box, List<String> geohashPrefixes, int maxCandidates) {
+        if (geohashPrefixes.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = builder.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        Path<String> geohash = root.get(GEOHASH);
+        Predicate[] cells = geohashPrefixes.stream()
+                .map(prefix -> {
+                    String nextPrefix = GeoHash.nextPrefix(prefix);
+                    return nextPrefix == null
+                            ? builder.greaterThanOrEqualTo(geohash, prefix)
+                            : builder.and(builder.greaterThanOrEqualTo(geohash, prefix), builder.lessThan(geohash, nextPrefix));
+                })
+                .toArray(Predicate[]::new);
+        query.select(root).where(
+                builder.or(cells),
+                builder.between(root.get(LATITUDE), box.getMinLatitude(), box.getMaxLatitude()),
+                builder.between(root.get(LONGITUDE), box.getMinLongitude(), box.getMaxLongitude()),
+                builder.isTrue(root.get(OFFLINE)));
+
+        // 최대 조회 수를 넘는지 확인할 수 있도록 한 건 더 조회
+        return entityManager.createQuery(query)
+                .setMaxResults(maxCandidates + 1)
+                .setHint(HINT_READONLY, true)
+                .getResultList();
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByManager(Integer managerId, @Nullable EventCursor after, int limit) {
+        TypedQuery<EventSummary> query = entityManager.createQuery(
+                String.format(SUMMARIES_JPQL, after == null ? "" : AFTER_CURSOR_JPQL), EventSummary.class)
+                .setParameter("managerId", managerId)
+                .setMaxResults(limit);
+        if (after != null) {
+            query.setParameter("begin", after.getBeginEventDateTime())
+                    .setParameter("id", after.getId());
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * {@link IntervalIndex}에 저장하는 일시 값 : 비교에만 사용하므로 UTC 기준 epoch second로 변환
+     */
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private boolean isPostgreSql() {
+        if (postgreSql == null) {
+            postgreSql = entityManager.unwrap(Session.class).doReturningWork(connection ->
+                    POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgreSql;
+    }
+
+    /**
+     * range column 존재 여부 : migration(prod profile)으로 생성한 PostgreSQL Schema에만 존재 (ddl-auto로 생성한 Schema에는 없음)
+     */
+    private boolean hasRangeColumn(EventWindowBasis basis) {
+        if (!isPostgreSql()) {
+            return false;
+        }
+        synchronized (rangeColumns) {
+            return rangeColumns.computeIfAbsent(basis, key -> entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(RANGE_COLUMN_SQL)) {
+                    statement.setString(1, EVENT_TABLE);
+                    statement.setString(2, key.getRangeColumn());
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        return resultSet.next() && resultSet.getLong(1) > 0;
+                    }
+                }
+            }));
+        }
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Integer id, Set<String> fields) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        query.multiselect(selections(root, fields)).where(builder.equal(root.get(ID), id));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .findFirst()
+                .map(tuple -> toMap(tuple, fields));
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findAllFields(Set<String> fields, Pageable pageable, @Nullable LongSupplier total) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        query.multiselect(selections(root, fields)).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        List<Map<String, Object>> content = paged(entityManager.createQuery(query), pageable, total).getResultList().stream()
+                .map(tuple -> toMap(tuple, fields))
+                .collect(Collectors.toList());
+
+        return toSlice(content, pageable, total);
+    }
+
+    /**
+     * 조회 범위 지정 : 전체 수를 구하지 않는 경우 다음 페이지 존재 여부 확인을 위해 한 건을 더 조회
+     */
+    private <T> TypedQuery<T> paged(TypedQuery<T> typedQuery, Pageable pageable, @Nullable LongSupplier total) {
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(total == null ? pageable.getPageSize() + 1 : pageable.getPageSize());
+        }
+        return typedQuery;
+    }
+
+    /**
+     * 조회 결과를 Page 또는 Slice로 변환
+     *  - Page : 첫 페이지의 조회 건수가 페이지 크기보다 작은 경우 등 전체 수를 알 수 있는 경우 total을 호출하지 않는다.
+     */
+    private <T> Slice<T> toSlice(List<T> content, Pageable pageable, @Nullable LongSupplier total) {
+        if (total != null) {
+            return PageableExecutionUtils.getPage(content, pageable, total);
+        }
+        boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private List<Selection<?>> selections(Root<Event> root, Set<String> fields) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            Path<?> path = MANAGER.equals(field) ? root.get(MANAGER).get(ID) : root.get(field);
+            selections.add(path.alias(field));
+        }
+        return selections;
+    }
+
+    private Map<String, Object> toMap(Tuple tuple, Set<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            Object value = tuple.get(field);
+            values.put(field, MANAGER.equals(field) && value != null ? Map.of(ID, value) : value);
+        }
+        return values;
+    }
+}
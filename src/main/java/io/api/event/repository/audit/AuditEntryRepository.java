@@ -0,0 +1,7 @@
+package io.api.event.repository.audit;
+
+import io.api.event.domain.entity.audit.AuditEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuditEntryRepository extends JpaRepository<AuditEntry, Long> {
+}
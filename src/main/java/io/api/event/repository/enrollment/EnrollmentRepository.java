@@ -0,0 +1,27 @@
+package io.api.event.repository.enrollment;
+
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.enrollment.Enrollment;
+import io.api.event.domain.entity.enrollment.EnrollmentStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    Optional<Enrollment> findByEventIdAndAccount(Integer eventId, Account account);
+
+    /**
+     * 대기 순서(id) 조회 : (event_id, status, id) index 순서로 앞에서부터 pageable 크기만큼 조회
+     */
+    List<Enrollment> findByEventIdAndStatusOrderByIdAsc(Integer eventId, EnrollmentStatus status, Pageable pageable);
+
+    /**
+     * 대기 순번 계산 : 같은 Event에서 먼저 대기한 신청 수
+     */
+    long countByEventIdAndStatusAndIdLessThan(Integer eventId, EnrollmentStatus status, Long id);
+
+    long countByEventIdAndStatus(Integer eventId, EnrollmentStatus status);
+}
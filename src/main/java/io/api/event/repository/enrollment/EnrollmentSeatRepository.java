@@ -0,0 +1,55 @@
+package io.api.event.repository.enrollment;
+
+import io.api.event.domain.entity.enrollment.EnrollmentSeat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Event별 참가 확정/대기 인원의 조건부 UPDATE
+ *  - 모든 변경은 하나의 UPDATE 쿼리로 조건 확인과 변경을 함께 처리하며, 변경된 row 수(0 또는 1)로 성공 여부를 반환한다.
+ */
+public interface EnrollmentSeatRepository extends JpaRepository<EnrollmentSeat, Integer> {
+
+    @Modifying
+    @Query("update EnrollmentSeat s set s.seatLimit = :seatLimit where s.eventId = :eventId and s.seatLimit <> :seatLimit")
+    int updateSeatLimit(@Param("eventId") Integer eventId, @Param("seatLimit") int seatLimit);
+
+    /**
+     * 참가 확정 : 정원 이내이고 대기자가 없는 경우에만 확정 인원 증가 (대기자가 있는 경우 먼저 대기한 신청을 앞지르지 않음)
+     */
+    @Modifying
+    @Query("update EnrollmentSeat s set s.confirmed = s.confirmed + 1 "
+            + "where s.eventId = :eventId and s.confirmed < s.seatLimit and s.waitlisted = 0")
+    int tryConfirm(@Param("eventId") Integer eventId);
+
+    @Modifying
+    @Query("update EnrollmentSeat s set s.waitlisted = s.waitlisted + 1 where s.eventId = :eventId")
+    int addWaitlisted(@Param("eventId") Integer eventId);
+
+    @Modifying
+    @Query("update EnrollmentSeat s set s.confirmed = s.confirmed - 1 where s.eventId = :eventId and s.confirmed > 0")
+    int releaseConfirmed(@Param("eventId") Integer eventId);
+
+    @Modifying
+    @Query("update EnrollmentSeat s set s.waitlisted = s.waitlisted - 1 where s.eventId = :eventId and s.waitlisted > 0")
+    int removeWaitlisted(@Param("eventId") Integer eventId);
+
+    /**
+     * 승격 대상 Event 조회 : 남은 자리와 대기자가 함께 있는 Event (db/migration V10 index)
+     */
+    @Query("select s.eventId from EnrollmentSeat s where s.waitlisted > 0 and s.confirmed < s.seatLimit order by s.eventId")
+    List<Integer> findPromotableEventIds(Pageable pageable);
+
+    /**
+     * 대기자 승격 : 승격 후에도 정원 이내이고 대기자가 count명 이상인 경우에만 count명을 대기에서 확정으로 이동
+     */
+    @Modifying
+    @Query("update EnrollmentSeat s set s.confirmed = s.confirmed + :count, s.waitlisted = s.waitlisted - :count "
+            + "where s.eventId = :eventId and s.confirmed + :count <= s.seatLimit and s.waitlisted >= :count")
+    int promote(@Param("eventId") Integer eventId, @Param("count") int count);
+}
@@ -0,0 +1,216 @@
+package io.api.event.repository.id;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.ExportableProducer;
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.ExportableColumn;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.jdbc.AbstractReturningWork;
+import org.hibernate.mapping.PrimaryKey;
+import org.hibernate.mapping.Table;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.LongType;
+import org.hibernate.type.StringType;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Block 단위 Entity ID 생성기
+ *  - ID를 block 크기만큼 한번에 예약하여 block을 다 사용할 때까지 DB 조회 없이 ID를 할당하므로,
+ *    INSERT 마다 sequence를 조회하지 않고 여러 INSERT를 JDBC batch로 실행할 수 있다.
+ *  - 생성 방식 및 block 크기는 Hibernate 설정({@link #MODE_SETTING} 등, my-app.id.*)으로 지정한다. ({@link IdGenerationMode})
+ *  - block 예약은 Entity 저장 transaction과 별도의 transaction에서 commit 하므로, 저장 transaction이 rollback 되어도 같은 ID를 다시 할당하지 않는다.
+ *    (rollback 및 Application 종료 시 사용하지 않은 ID는 버려진다.)
+ *  - sequence 및 block 예약 table은 {@link #registerExportables}로 Hibernate schema 생성 대상에 등록한다. (prod profile은 Flyway migration으로 생성)
+ */
+public class BlockIdGenerator implements IdentifierGenerator, ExportableProducer, Configurable {
+
+    public static final String STRATEGY = "io.api.event.repository.id.BlockIdGenerator";
+
+    public static final String MODE_SETTING = "my_app.id.mode";
+    public static final String BLOCK_SIZE_SETTING = "my_app.id.block_size";
+    public static final String NODE_ID_SETTING = "my_app.id.node_id";
+    public static final String NODE_BITS_SETTING = "my_app.id.node_bits";
+
+    public static final String SEQUENCE_NAME = "hibernate_sequence";
+    public static final String BLOCK_TABLE = "id_block";
+    private static final String SEGMENT_COLUMN = "segment";
+    private static final String NEXT_VALUE_COLUMN = "next_val";
+
+    private static final String UPDATE_BLOCK = "update " + BLOCK_TABLE + " set " + NEXT_VALUE_COLUMN + " = " + NEXT_VALUE_COLUMN + " + ? where " + SEGMENT_COLUMN + " = ?";
+    private static final String SELECT_BLOCK = "select " + NEXT_VALUE_COLUMN + " from " + BLOCK_TABLE + " where " + SEGMENT_COLUMN + " = ?";
+    private static final String INSERT_BLOCK = "insert into " + BLOCK_TABLE + " (" + SEGMENT_COLUMN + ", " + NEXT_VALUE_COLUMN + ") values (?, ?)";
+
+    private IdGenerationMode mode;
+    private int blockSize;
+    private Class<?> idType;
+
+    // POOLED_LO
+    private SequenceStyleGenerator sequenceGenerator;
+
+    // NODE
+    private int nodeId;
+    private int nodeBits;
+    private long maxValue;
+    private String segment;
+    private String targetTable;
+    private String targetColumn;
+    private long nextValue;
+    private long blockLimit;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        Map<?, ?> settings = serviceRegistry.getService(ConfigurationService.class).getSettings();
+        this.mode = IdGenerationMode.valueOf(setting(settings, MODE_SETTING, IdGenerationMode.POOLED_LO.name()));
+        this.blockSize = Integer.parseInt(setting(settings, BLOCK_SIZE_SETTING, "50"));
+        this.idType = type.getReturnedClass();
+        if (this.blockSize < 1) {
+            throw new MappingException("id block size must be positive : " + this.blockSize);
+        }
+
+        if (this.mode == IdGenerationMode.POOLED_LO) {
+            // DB sequence의 increment가 block 크기와 다른 경우 구동 시 MappingException (hibernate.id.sequence.increment_size_mismatch_strategy)
+            Properties sequenceParams = new Properties();
+            sequenceParams.putAll(params);
+            sequenceParams.setProperty(SequenceStyleGenerator.SEQUENCE_PARAM, SEQUENCE_NAME);
+            sequenceParams.setProperty(SequenceStyleGenerator.INCREMENT_PARAM, String.valueOf(this.blockSize));
+            sequenceParams.setProperty(SequenceStyleGenerator.OPT_PARAM, "pooled-lo");
+            this.sequenceGenerator = new SequenceStyleGenerator();
+            this.sequenceGenerator.configure(type, sequenceParams, serviceRegistry);
+            return;
+        }
+
+        this.nodeId = Integer.parseInt(setting(settings, NODE_ID_SETTING, "0"));
+        this.nodeBits = Integer.parseInt(setting(settings, NODE_BITS_SETTING, "5"));
+        if (this.nodeBits < 1 || this.nodeBits > 16) {
+            throw new MappingException("id node bits must be between 1 and 16 : " + this.nodeBits);
+        }
+        if (this.nodeId < 0 || this.nodeId >= 1 << this.nodeBits) {
+            throw new MappingException("id node id must be between 0 and " + ((1 << this.nodeBits) - 1) + " : " + this.nodeId);
+        }
+        this.maxValue = (this.idType == Integer.class ? Integer.MAX_VALUE : Long.MAX_VALUE) >>> this.nodeBits;
+        this.targetTable = params.getProperty(PersistentIdentifierGenerator.TABLE);
+        this.targetColumn = params.getProperty(PersistentIdentifierGenerator.PK);
+        this.segment = this.targetTable + "@" + this.nodeId;
+    }
+
+    @Override
+    public void registerExportables(Database database) {
+        if (this.sequenceGenerator != null) {
+            this.sequenceGenerator.registerExportables(database);
+        }
+
+        Namespace namespace = database.getDefaultNamespace();
+        Identifier tableName = Identifier.toIdentifier(BLOCK_TABLE);
+        if (namespace.locateTable(tableName) != null) {
+            return;
+        }
+        Table table = namespace.createTable(tableName, false);
+        ExportableColumn segmentColumn = new ExportableColumn(database, table, SEGMENT_COLUMN, StringType.INSTANCE, "varchar(255)");
+        segmentColumn.setNullable(false);
+        table.addColumn(segmentColumn);
+        PrimaryKey primaryKey = new PrimaryKey(table);
+        primaryKey.addColumn(segmentColumn);
+        table.setPrimaryKey(primaryKey);
+        ExportableColumn nextValueColumn = new ExportableColumn(database, table, NEXT_VALUE_COLUMN, LongType.INSTANCE);
+        nextValueColumn.setNullable(false);
+        table.addColumn(nextValueColumn);
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        if (this.mode == IdGenerationMode.POOLED_LO) {
+            return this.sequenceGenerator.generate(session, object);
+        }
+        long value = this.nextNodeValue(session);
+        long id = value << this.nodeBits | this.nodeId;
+        return this.idType == Integer.class ? (Serializable) (int) id : (Serializable) id;
+    }
+
+    /**
+     * NODE : 예약한 block의 다음 값, block을 다 사용한 경우 다음 block 예약
+     */
+    private synchronized long nextNodeValue(SharedSessionContractImplementor session) {
+        if (this.nextValue >= this.blockLimit) {
+            long blockStart = session.getTransactionCoordinator().createIsolationDelegate()
+                    .delegateWork(new AbstractReturningWork<Long>() {
+                        @Override
+                        public Long execute(Connection connection) throws SQLException {
+                            return reserveBlock(connection);
+                        }
+                    }, true);
+            this.nextValue = blockStart;
+            this.blockLimit = blockStart + this.blockSize;
+        }
+        if (this.nextValue > this.maxValue) {
+            throw new IdentifierGenerationException("id values of " + this.segment + " exhausted : " + this.nextValue);
+        }
+        return this.nextValue++;
+    }
+
+    /**
+     * node의 block 예약 row를 block 크기만큼 증가하고 예약한 block의 첫 값을 반환
+     *  - row가 없는 경우 대상 table의 최대 ID 이후의 값부터 시작하여, 다른 방식으로 생성한 기존 ID와 겹치지 않도록 한다.
+     *  - 같은 node 번호를 사용하는 Application이 동시에 row를 생성한 경우 먼저 생성한 row를 증가한다.
+     */
+    private long reserveBlock(Connection connection) throws SQLException {
+        for (int attempt = 0; ; attempt++) {
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_BLOCK)) {
+                update.setLong(1, this.blockSize);
+                update.setString(2, this.segment);
+                if (update.executeUpdate() > 0) {
+                    try (PreparedStatement select = connection.prepareStatement(SELECT_BLOCK)) {
+                        select.setString(1, this.segment);
+                        try (ResultSet resultSet = select.executeQuery()) {
+                            resultSet.next();
+                            return resultSet.getLong(1) - this.blockSize;
+                        }
+                    }
+                }
+            }
+
+            long initialValue = this.initialValue(connection);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_BLOCK)) {
+                insert.setString(1, this.segment);
+                insert.setLong(2, initialValue + this.blockSize);
+                insert.executeUpdate();
+                return initialValue;
+            } catch (SQLException e) {
+                if (attempt > 0) {
+                    throw e;
+                }
+                connection.rollback();
+            }
+        }
+    }
+
+    private long initialValue(Connection connection) throws SQLException {
+        String sql = "select coalesce(max(" + this.targetColumn + "), 0) from " + this.targetTable;
+        try (PreparedStatement select = connection.prepareStatement(sql);
+             ResultSet resultSet = select.executeQuery()) {
+            resultSet.next();
+            return (resultSet.getLong(1) >>> this.nodeBits) + 1;
+        }
+    }
+
+    private static String setting(Map<?, ?> settings, String name, String defaultValue) {
+        Object value = settings.get(name);
+        return value == null ? defaultValue : value.toString();
+    }
+}
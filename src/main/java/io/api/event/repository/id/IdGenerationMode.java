@@ -0,0 +1,15 @@
+package io.api.event.repository.id;
+
+/**
+ * Entity ID 생성 방식 ({@link BlockIdGenerator})
+ */
+public enum IdGenerationMode {
+
+    // 공용 sequence(hibernate_sequence)에서 block 크기만큼 증가한 값을 조회하여 block의 첫 ID부터 차례대로 사용 (pooled-lo)
+    //  - sequence의 increment가 block 크기와 같아야 한다.
+    POOLED_LO,
+
+    // node별 block 예약 table(id_block)에서 block을 예약하고, ID 하위 bit에 node 번호를 저장
+    //  - node마다 다른 row를 사용하므로 node 간 lock 경합이 없고, sequence를 지원하지 않는 DB에서도 사용할 수 있다.
+    NODE
+}
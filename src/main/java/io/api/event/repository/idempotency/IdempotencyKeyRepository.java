@@ -0,0 +1,19 @@
+package io.api.event.repository.idempotency;
+
+import io.api.event.domain.entity.idempotency.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * 만료된 key를 하나의 DELETE 쿼리로 삭제 (Entity를 조회하지 않음)
+     */
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
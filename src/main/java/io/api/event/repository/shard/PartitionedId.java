@@ -0,0 +1,39 @@
+package io.api.event.repository.shard;
+
+/**
+ * Shard 번호를 포함한 Event ID
+ *  - 하위 {@link #SHARD_BITS} bit에 shard 번호를, 나머지 bit에 shard별 sequence 값을 저장한다.
+ *  - ID만으로 저장된 shard를 알 수 있으므로 단건 조회/수정은 해당 shard에서만 실행하며,
+ *    shard 수가 변경되어도 기존 Event의 shard는 바뀌지 않는다.
+ */
+public final class PartitionedId {
+
+    public static final int SHARD_BITS = 5;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+    public static final long MAX_SEQUENCE = Integer.MAX_VALUE >>> SHARD_BITS;
+
+    private PartitionedId() {
+    }
+
+    /**
+     * @param shard shard 번호 (0 ~ {@link #MAX_SHARDS} - 1)
+     * @param sequence shard별 sequence 값 (1 ~ {@link #MAX_SEQUENCE})
+     */
+    public static int of(int shard, long sequence) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("shard must be between 0 and " + (MAX_SHARDS - 1) + " : " + shard);
+        }
+        if (sequence < 1 || sequence > MAX_SEQUENCE) {
+            throw new IllegalStateException("shard " + shard + " sequence exhausted : " + sequence);
+        }
+        return (int) (sequence << SHARD_BITS) | shard;
+    }
+
+    public static int shardOf(int id) {
+        return id & (MAX_SHARDS - 1);
+    }
+
+    public static long sequenceOf(int id) {
+        return id >>> SHARD_BITS;
+    }
+}
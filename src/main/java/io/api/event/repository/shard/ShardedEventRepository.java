@@ -0,0 +1,657 @@
+package io.api.event.repository.shard;
+
+import io.api.event.domain.dto.event.EventCursor;
+import io.api.event.domain.dto.event.EventSummary;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventStatus;
+import io.api.event.domain.entity.event.EventWindowBasis;
+import io.api.event.repository.EventRepositoryImpl;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.util.common.IntervalIndex;
+import io.api.event.util.geo.GeoBoundingBox;
+import io.api.event.util.geo.GeoHash;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.PostgresSequenceMaxValueIncrementer;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * manager(Account) ID의 hash로 Event를 여러 shard DataSource에 나누어 저장하는 Repository
+ *  - Event ID는 shard별 sequence와 shard 번호로 생성하며({@link PartitionedId}), 단건 조회/수정은 ID의 shard에서만 실행한다.
+ *  - 목록 조회는 모든 shard에 병렬로 (offset + size)건을 정렬 조회한 뒤 병합 정렬(k-way merge)하여 요청 페이지를 반환한다.
+ *    병합 시 shard의 정렬 순서와 같은 순서로 비교해야 하므로 DB collation에 따라 순서가 달라지는 문자열 항목은 정렬 항목으로 사용할 수 없다.
+ *  - manager는 Primary DataSource에서 조회한다. (Account 2차 캐시 사용)
+ *  - 부분 조회(fields), 기간 겹침 조회 및 위치 검색도 모든 shard에서 조회하여 병합하며, 부분 조회는 조회한 Event에서 요청 항목만 반환한다.
+ *  - shard 저장은 Primary DataSource의 transaction에 포함되지 않으므로, 요청의 transaction이 rollback 된 경우 생성한 Event는 삭제하고
+ *    수정한 Event는 수정 전 값으로 되돌린다.
+ */
+public class ShardedEventRepository implements Closeable {
+
+    private static final String COLUMNS = "id, name, description, begin_enrollment_date_time, close_enrollment_date_time, "
+            + "begin_event_date_time, end_event_date_time, location, base_price, max_price, limit_of_enrollment, "
+            + "offline, free, event_status, manager_id, latitude, longitude, geohash";
+    private static final String INSERT_SQL = "insert into event (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "update event set name = ?, description = ?, begin_enrollment_date_time = ?, "
+            + "close_enrollment_date_time = ?, begin_event_date_time = ?, end_event_date_time = ?, location = ?, base_price = ?, "
+            + "max_price = ?, limit_of_enrollment = ?, offline = ?, free = ?, event_status = ?, manager_id = ?, latitude = ?, "
+            + "longitude = ?, geohash = ? where id = ?";
+    private static final String DELETE_SQL = "delete from event where id = ?";
+    private static final String FIND_BY_ID_SQL = "select " + COLUMNS + " from event where id = ?";
+    private static final String FIND_BY_IDS_SQL = "select " + COLUMNS + " from event where id in (%s)";
+    private static final String OVERLAPPING_SQL = "select " + COLUMNS + " from event where %1$s <= ? and %2$s >= ? and %1$s <= %2$s "
+            + "order by %1$s, id limit ?";
+    private static final String INTERVALS_SQL = "select id, %1$s, %2$s from event where %1$s <= ? and %2$s >= ? and %1$s <= %2$s";
+    private static final String LOCATED_IN_SQL = "select " + COLUMNS + " from event where (%s) and latitude between ? and ? "
+            + "and longitude between ? and ? and offline = true limit ?";
+    private static final String FIND_PAGE_SQL = "select " + COLUMNS + " from event order by %s limit ?";
+    private static final String COUNT_SQL = "select count(*) from event";
+    private static final String SUMMARIES_SQL = "select id, name, event_status, begin_enrollment_date_time, close_enrollment_date_time, "
+            + "begin_event_date_time, end_event_date_time, location, offline, free, limit_of_enrollment from event "
+            + "where manager_id = ? and begin_event_date_time is not null %s order by begin_event_date_time, id limit ?";
+    private static final String AFTER_CURSOR_SQL = "and begin_event_date_time >= ? and (begin_event_date_time > ? or id > ?)";
+    private static final Comparator<EventSummary> SUMMARY_ORDER =
+            Comparator.comparing(EventSummary::getBeginEventDateTime).thenComparing(EventSummary::getId);
+    private static final String SEQUENCE = "event_shard_seq";
+    private static final String ID = "id";
+    private static final String MANAGER = "manager";
+
+    // 정렬 가능한 항목 : 항목명 -> (column, 병합 시 비교 값)
+    private static final Map<String, SortColumn> SORT_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        SORT_COLUMNS.put("id", new SortColumn("id", Event::getId));
+        SORT_COLUMNS.put("beginEnrollmentDateTime", new SortColumn("begin_enrollment_date_time", Event::getBeginEnrollmentDateTime));
+        SORT_COLUMNS.put("closeEnrollmentDateTime", new SortColumn("close_enrollment_date_time", Event::getCloseEnrollmentDateTime));
+        SORT_COLUMNS.put("beginEventDateTime", new SortColumn("begin_event_date_time", Event::getBeginEventDateTime));
+        SORT_COLUMNS.put("endEventDateTime", new SortColumn("end_event_date_time", Event::getEndEventDateTime));
+        SORT_COLUMNS.put("basePrice", new SortColumn("base_price", Event::getBasePrice));
+        SORT_COLUMNS.put("maxPrice", new SortColumn("max_price", Event::getMaxPrice));
+        SORT_COLUMNS.put("limitOfEnrollment", new SortColumn("limit_of_enrollment", Event::getLimitOfEnrollment));
+    }
+
+    private final List<Shard> shards;
+    private final AccountRepository accountRepository;
+    private final ExecutorService executor;
+
+    /**
+     * @param dataSources shard DataSource 목록 : 목록의 순서가 shard 번호이므로 저장된 Event가 있는 경우 순서를 바꾸지 않고 뒤에만 추가해야 한다.
+     */
+    public ShardedEventRepository(List<DataSource> dataSources, AccountRepository accountRepository) {
+        if (dataSources.isEmpty() || dataSources.size() > PartitionedId.MAX_SHARDS) {
+            throw new IllegalArgumentException("shard count must be between 1 and " + PartitionedId.MAX_SHARDS + " : " + dataSources.size());
+        }
+        this.shards = new ArrayList<>();
+        for (int index = 0; index < dataSources.size(); index++) {
+            this.shards.add(new Shard(index, dataSources.get(index)));
+        }
+        this.accountRepository = accountRepository;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(dataSources.size(), runnable -> {
+            Thread thread = new Thread(runnable, "event-shard-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getShardCount() {
+        return this.shards.size();
+    }
+
+    public DataSource getDataSource(int shard) {
+        return this.shards.get(shard).dataSource;
+    }
+
+    /**
+     * manager의 shard 번호 : 연속된 Account ID가 고르게 나뉘도록 ID를 섞은 뒤 shard 수로 나눈 나머지 (manager가 없는 경우 0번 ID로 계산)
+     */
+    public int shardOf(@Nullable Account manager) {
+        int managerId = manager == null || manager.getId() == null ? 0 : manager.getId();
+        return Math.floorMod(mix(managerId), this.shards.size());
+    }
+
+    /**
+     * Event 저장 : ID가 없는 경우 manager의 shard에 생성하고, ID가 있는 경우 ID의 shard에서 수정
+     *  - 수정 시 수정 전 값을 조회하여, 요청의 transaction이 rollback 된 경우 수정 전 값으로 되돌린다.
+     *    (수정 이후 rollback 전까지 다른 요청이 같은 Event를 수정한 경우 그 수정 내용도 되돌려진다.)
+     */
+    public Event save(Event event) {
+        if (event.getId() == null) {
+            Shard shard = this.shards.get(shardOf(event.getManager()));
+            event.setId(PartitionedId.of(shard.index, shard.sequence.nextLongValue()));
+            shard.jdbcTemplate.update(INSERT_SQL, insertValues(event));
+            deleteAfterRollback(shard, event.getId());
+        } else {
+            Shard shard = findShard(event.getId())
+                    .orElseThrow(() -> new IllegalStateException("event " + event.getId() + " does not exist in shards"));
+            Event previous = shard.jdbcTemplate.query(FIND_BY_ID_SQL, EVENT_ROW_MAPPER, event.getId()).stream().findFirst()
+                    .orElseThrow(() -> new IllegalStateException("event " + event.getId() + " does not exist in shards"));
+            shard.jdbcTemplate.update(UPDATE_SQL, updateValues(event));
+            restoreAfterRollback(shard, previous);
+        }
+        return event;
+    }
+
+    public Optional<Event> findById(Integer id) {
+        return findShard(id)
+                .flatMap(shard -> shard.jdbcTemplate.query(FIND_BY_ID_SQL, EVENT_ROW_MAPPER, id).stream().findFirst())
+                .map(event -> {
+                    withManagers(List.of(event));
+                    return event;
+                });
+    }
+
+    /**
+     * Event 다건 조회 : 요청 ID를 shard별로 나누어 shard마다 하나의 IN 쿼리로 병렬 조회
+     * @return 요청한 ID 순서와 같은 순서의 목록 (존재하지 않는 ID의 위치는 null)
+     */
+    public List<Event> findAllByIdInOrder(List<Integer> ids) {
+        Map<Shard, List<Integer>> idsByShard = new LinkedHashMap<>();
+        for (Integer id : ids) {
+            findShard(id).ifPresent(shard -> idsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(id));
+        }
+        List<CompletableFuture<List<Event>>> rows = idsByShard.entrySet().stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> entry.getKey().jdbcTemplate.query(
+                        String.format(FIND_BY_IDS_SQL, String.join(", ", Collections.nCopies(entry.getValue().size(), "?"))),
+                        EVENT_ROW_MAPPER, entry.getValue().toArray()), this.executor))
+                .collect(Collectors.toList());
+        Map<Integer, Event> found = rows.stream()
+                .flatMap(row -> row.join().stream())
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        withManagers(new ArrayList<>(found.values()));
+        return ids.stream().map(found::get).collect(Collectors.toList());
+    }
+
+    /**
+     * 모든 shard에서 같은 쿼리를 병렬로 실행한 결과 (shard 순서로 연결)
+     *  - 집계 쿼리는 shard별 결과를 합산하여 사용한다.
+     */
+    public <T> List<T> queryAll(String sql, RowMapper<T> rowMapper, Object... args) {
+        return this.shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.jdbcTemplate.query(sql, rowMapper, args), this.executor))
+                .collect(Collectors.toList()).stream()
+                .flatMap(rows -> rows.join().stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Event 부분 조회 ({@link io.api.event.repository.EventRepositoryCustom#findFieldsById})
+     */
+    public Optional<Map<String, Object>> findFieldsById(Integer id, Set<String> fields) {
+        return findById(id).map(event -> toFields(event, fields));
+    }
+
+    /**
+     * Event 목록 부분 조회 ({@link io.api.event.repository.EventRepositoryCustom#findAllFields})
+     * @param counted true인 경우 전체 수를 함께 조회한 Page, false인 경우 다음 페이지 여부만 확인한 Slice 반환
+     */
+    public Slice<Map<String, Object>> findAllFields(Set<String> fields, Pageable pageable, boolean counted) {
+        return findPage(pageable, counted).map(event -> toFields(event, fields));
+    }
+
+    /**
+     * 기간 겹침 조회 ({@link io.api.event.repository.EventRepositoryCustom#findOverlapping}) : shard별로 limit건을 조회하여 병합
+     */
+    public List<Event> findOverlapping(EventWindowBasis basis, LocalDateTime from, LocalDateTime to, int limit) {
+        String sql = String.format(OVERLAPPING_SQL, sortColumn(basis.getBeginAttribute()).column, sortColumn(basis.getEndAttribute()).column);
+        List<CompletableFuture<List<Event>>> rows = this.shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.jdbcTemplate.query(sql, EVENT_ROW_MAPPER, to, from, limit), this.executor))
+                .collect(Collectors.toList());
+        Comparator<Event> comparator = comparator(Sort.by(basis.getBeginAttribute()));
+        List<Event> merged = merge(rows.stream().map(CompletableFuture::join).collect(Collectors.toList()), comparator, 0, limit);
+        withManagers(merged);
+        return merged;
+    }
+
+    /**
+     * 기간 겹침 조회 index 생성 ({@link io.api.event.repository.EventRepositoryCustom#findIntervalIndex})
+     */
+    public IntervalIndex findIntervalIndex(EventWindowBasis basis, LocalDateTime from, LocalDateTime to) {
+        String sql = String.format(INTERVALS_SQL, sortColumn(basis.getBeginAttribute()).column, sortColumn(basis.getEndAttribute()).column);
+        // shard별 조회는 병렬로 실행되므로 조회한 기간을 모은 뒤 index 생성
+        List<long[]> intervals = queryAll(sql, (resultSet, rowNum) -> new long[]{resultSet.getInt(1),
+                EventRepositoryImpl.toEpochSecond(resultSet.getObject(2, LocalDateTime.class)),
+                EventRepositoryImpl.toEpochSecond(resultSet.getObject(3, LocalDateTime.class))}, to, from);
+        IntervalIndex.Builder builder = IntervalIndex.builder(Math.max(1024, intervals.size()));
+        intervals.forEach(interval -> builder.add((int) interval[0], interval[1], interval[2]));
+        return builder.build();
+    }
+
+    /**
+     * 위치 검색 후보 조회 ({@link io.api.event.repository.EventRepositoryCustom#findLocatedIn})
+     *  - 최대 조회 수를 넘는지 확인할 수 있도록 shard별로 한 건 더 조회하며, 전체 결과가 최대 조회 수를 넘는 경우 호출한 곳에서 거부한다.
+     */
+    public List<Event> findLocatedIn(GeoBoundingBox box, List<String> geohashPrefixes, int maxCandidates) {
+        if (geohashPrefixes.isEmpty()) {
+            return List.of();
+        }
+        List<String> cells = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        for (String prefix : geohashPrefixes) {
+            String nextPrefix = GeoHash.nextPrefix(prefix);
+            cells.add(nextPrefix == null ? "geohash >= ?" : "geohash >= ? and geohash < ?");
+            args.add(prefix);
+            if (nextPrefix != null) {
+                args.add(nextPrefix);
+            }
+        }
+        args.addAll(List.of(box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude(), maxCandidates + 1));
+        String sql = String.format(LOCATED_IN_SQL, cells.stream().map(cell -> "(" + cell + ")").collect(Collectors.joining(" or ")));
+        List<Event> events = queryAll(sql, EVENT_ROW_MAPPER, args.toArray());
+        withManagers(events);
+        return events;
+    }
+
+    /**
+     * 모든 shard의 Event 수 합계
+     */
+    public long count() {
+        return this.shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.jdbcTemplate.queryForObject(COUNT_SQL, Long.class), this.executor))
+                .collect(Collectors.toList()).stream()
+                .mapToLong(CompletableFuture::join)
+                .sum();
+    }
+
+    /**
+     * Event 목록 조회 (scatter-gather)
+     *  - 각 shard에서 요청 페이지까지의 Event를 정렬 조회한 뒤 병합 정렬하므로, 조회 건수는 shard 수 x (offset + size) 이다.
+     * @param counted true인 경우 전체 수를 함께 조회한 Page, false인 경우 다음 페이지 여부만 확인한 Slice 반환
+     */
+    public Slice<Event> findPage(Pageable pageable, boolean counted) {
+        Comparator<Event> comparator = comparator(pageable.getSort());
+        String sql = String.format(FIND_PAGE_SQL, orderBy(pageable.getSort()));
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        long limit = pageable.isPaged() ? offset + pageable.getPageSize() + (counted ? 0 : 1) : Integer.MAX_VALUE;
+
+        List<CompletableFuture<List<Event>>> rows = new ArrayList<>();
+        List<CompletableFuture<Long>> counts = new ArrayList<>();
+        for (Shard shard : this.shards) {
+            rows.add(CompletableFuture.supplyAsync(() -> shard.jdbcTemplate.query(sql, EVENT_ROW_MAPPER, limit), this.executor));
+            if (counted) {
+                counts.add(CompletableFuture.supplyAsync(() -> shard.jdbcTemplate.queryForObject(COUNT_SQL, Long.class), this.executor));
+            }
+        }
+
+        List<Event> merged = merge(rows.stream().map(CompletableFuture::join).collect(Collectors.toList()), comparator, offset, limit);
+        if (!pageable.isPaged()) {
+            withManagers(merged);
+            return new PageImpl<>(merged);
+        }
+        boolean hasNext = merged.size() > pageable.getPageSize();
+        List<Event> content = hasNext ? merged.subList(0, pageable.getPageSize()) : merged;
+        withManagers(content);
+        if (!counted) {
+            return new SliceImpl<>(content, pageable, hasNext);
+        }
+        return new PageImpl<>(content, pageable, counts.stream().mapToLong(CompletableFuture::join).sum());
+    }
+
+    /**
+     * manager의 Event 목록 keyset 조회 ({@link io.api.event.repository.EventRepositoryCustom#findSummariesByManager})
+     *  - manager의 Event는 manager의 shard에 저장되지만, shard가 추가된 경우 이전 shard에 남아 있는 Event가 있으므로 모든 shard에서 조회하여 병합한다.
+     */
+    public List<EventSummary> findSummariesByManager(Integer managerId, @Nullable EventCursor after, int limit) {
+        String sql = String.format(SUMMARIES_SQL, after == null ? "" : AFTER_CURSOR_SQL);
+        Object[] args = after == null
+                ? new Object[]{managerId, limit}
+                : new Object[]{managerId, after.getBeginEventDateTime(), after.getBeginEventDateTime(), after.getId(), limit};
+        List<CompletableFuture<List<EventSummary>>> rows = this.shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.jdbcTemplate.query(sql, SUMMARY_ROW_MAPPER, args), this.executor))
+                .collect(Collectors.toList());
+        return merge(rows.stream().map(CompletableFuture::join).collect(Collectors.toList()), SUMMARY_ORDER, 0, limit);
+    }
+
+    public Page<Event> findAll(Pageable pageable) {
+        return (Page<Event>) findPage(pageable, true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.executor.shutdownNow();
+        for (Shard shard : this.shards) {
+            if (shard.dataSource instanceof Closeable) {
+                ((Closeable) shard.dataSource).close();
+            }
+        }
+    }
+
+    /**
+     * 정렬된 shard별 목록의 병합 : offset 이후 (limit - offset)건 반환
+     */
+    private static <T> List<T> merge(List<List<T>> sortedLists, Comparator<T> comparator, long offset, long limit) {
+        PriorityQueue<PeekingIterator<T>> queue = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (left, right) -> comparator.compare(left.peek(), right.peek()));
+        for (List<T> sortedList : sortedLists) {
+            if (!sortedList.isEmpty()) {
+                queue.add(new PeekingIterator<>(sortedList.iterator()));
+            }
+        }
+
+        List<T> merged = new ArrayList<>();
+        for (long position = 0; position < limit && !queue.isEmpty(); position++) {
+            PeekingIterator<T> iterator = queue.poll();
+            T event = iterator.next();
+            if (position >= offset) {
+                merged.add(event);
+            }
+            if (iterator.hasNext()) {
+                queue.add(iterator);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * shard별 정렬 순서 : 요청 정렬 항목 뒤에 id를 추가하여 병합 순서를 고정하고, null은 오름차순의 마지막(내림차순의 처음)에 둔다.
+     */
+    private static String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = sortColumn(order.getProperty()).column;
+            orders.add(order.isAscending() ? column + " asc nulls last" : column + " desc nulls first");
+        }
+        if (sort.getOrderFor("id") == null) {
+            orders.add("id asc");
+        }
+        return String.join(", ", orders);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Event> comparator(Sort sort) {
+        Comparator<Event> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Function<Event, Comparable> value = sortColumn(order.getProperty()).value;
+            Comparator<Comparable> nullsLast = Comparator.nullsLast(Comparator.naturalOrder());
+            comparator = comparator.thenComparing(value, order.isAscending() ? nullsLast : nullsLast.reversed());
+        }
+        if (sort.getOrderFor("id") == null) {
+            comparator = comparator.thenComparing(Event::getId);
+        }
+        return comparator;
+    }
+
+    private static SortColumn sortColumn(String property) {
+        SortColumn sortColumn = SORT_COLUMNS.get(property);
+        if (sortColumn == null) {
+            throw new PropertyReferenceException(property, ClassTypeInformation.from(Event.class), List.of());
+        }
+        return sortColumn;
+    }
+
+    private Optional<Shard> findShard(@Nullable Integer id) {
+        if (id == null || id <= 0) {
+            return Optional.empty();
+        }
+        int shard = PartitionedId.shardOf(id);
+        return shard < this.shards.size() ? Optional.of(this.shards.get(shard)) : Optional.empty();
+    }
+
+    /**
+     * 부분 조회 응답 : 요청 항목명/값 Map (manager는 Primary Repository와 같이 {"id": manager ID} 형태)
+     */
+    private static Map<String, Object> toFields(Event event, Set<String> fields) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(event);
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            Object value = wrapper.getPropertyValue(field);
+            values.put(field, MANAGER.equals(field) && value != null ? Map.of(ID, ((Account) value).getId()) : value);
+        }
+        return values;
+    }
+
+    /**
+     * manager 설정 : 조회한 Event의 manager를 Primary DataSource에서 한번에 조회
+     */
+    private void withManagers(List<Event> events) {
+        Set<Integer> managerIds = events.stream()
+                .map(Event::getManager)
+                .filter(manager -> manager != null)
+                .map(Account::getId)
+                .collect(Collectors.toSet());
+        if (managerIds.isEmpty()) {
+            return;
+        }
+        Map<Integer, Account> managers = this.accountRepository.findAllById(managerIds).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+        for (Event event : events) {
+            if (event.getManager() != null) {
+                event.setManager(managers.get(event.getManager().getId()));
+            }
+        }
+    }
+
+    private static void deleteAfterRollback(Shard shard, Integer id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    shard.jdbcTemplate.update(DELETE_SQL, id);
+                }
+            }
+        });
+    }
+
+    private static void restoreAfterRollback(Shard shard, Event previous) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    shard.jdbcTemplate.update(UPDATE_SQL, updateValues(previous));
+                }
+            }
+        });
+    }
+
+    private static Object[] insertValues(Event event) {
+        Object[] values = updateValues(event);
+        Object[] insertValues = new Object[values.length];
+        insertValues[0] = event.getId();
+        System.arraycopy(values, 0, insertValues, 1, values.length - 1);
+        return insertValues;
+    }
+
+    // UPDATE_SQL의 parameter 순서 (마지막이 id)
+    private static Object[] updateValues(Event event) {
+        return new Object[]{
+                event.getName(),
+                event.getDescription(),
+                event.getBeginEnrollmentDateTime(),
+                event.getCloseEnrollmentDateTime(),
+                event.getBeginEventDateTime(),
+                event.getEndEventDateTime(),
+                event.getLocation(),
+                event.getBasePrice(),
+                event.getMaxPrice(),
+                event.getLimitOfEnrollment(),
+                event.isOffline(),
+                event.isFree(),
+                event.getEventStatus() == null ? null : event.getEventStatus().name(),
+                event.getManager() == null ? null : event.getManager().getId(),
+                event.getLatitude(),
+                event.getLongitude(),
+                event.getGeohash(),
+                event.getId()
+        };
+    }
+
+    private static final RowMapper<Event> EVENT_ROW_MAPPER = (resultSet, rowNum) -> {
+        String eventStatus = resultSet.getString("event_status");
+        int managerId = resultSet.getInt("manager_id");
+        boolean managed = !resultSet.wasNull();
+        return Event.builder()
+                .id(resultSet.getInt("id"))
+                .name(resultSet.getString("name"))
+                .description(resultSet.getString("description"))
+                .beginEnrollmentDateTime(resultSet.getObject("begin_enrollment_date_time", LocalDateTime.class))
+                .closeEnrollmentDateTime(resultSet.getObject("close_enrollment_date_time", LocalDateTime.class))
+                .beginEventDateTime(resultSet.getObject("begin_event_date_time", LocalDateTime.class))
+                .endEventDateTime(resultSet.getObject("end_event_date_time", LocalDateTime.class))
+                .location(resultSet.getString("location"))
+                .basePrice(resultSet.getInt("base_price"))
+                .maxPrice(resultSet.getInt("max_price"))
+                .limitOfEnrollment(resultSet.getInt("limit_of_enrollment"))
+                .offline(resultSet.getBoolean("offline"))
+                .free(resultSet.getBoolean("free"))
+                .eventStatus(eventStatus == null ? null : EventStatus.valueOf(eventStatus))
+                .manager(managed ? Account.builder().id(managerId).build() : null)
+                .latitude(getDouble(resultSet, "latitude"))
+                .longitude(getDouble(resultSet, "longitude"))
+                .geohash(resultSet.getString("geohash"))
+                .build();
+    };
+
+    private static final RowMapper<EventSummary> SUMMARY_ROW_MAPPER = (resultSet, rowNum) -> {
+        String eventStatus = resultSet.getString("event_status");
+        return new EventSummary(
+                resultSet.getInt("id"),
+                resultSet.getString("name"),
+                eventStatus == null ? null : EventStatus.valueOf(eventStatus),
+                resultSet.getObject("begin_enrollment_date_time", LocalDateTime.class),
+                resultSet.getObject("close_enrollment_date_time", LocalDateTime.class),
+                resultSet.getObject("begin_event_date_time", LocalDateTime.class),
+                resultSet.getObject("end_event_date_time", LocalDateTime.class),
+                resultSet.getString("location"),
+                resultSet.getBoolean("offline"),
+                resultSet.getBoolean("free"),
+                resultSet.getInt("limit_of_enrollment"));
+    };
+
+    @Nullable
+    private static Double getDouble(ResultSet resultSet, String column) throws SQLException {
+        double value = resultSet.getDouble(column);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    /**
+     * murmur3 finalizer : 연속된 값의 하위 bit가 고르게 분포되도록 섞음
+     */
+    private static int mix(int value) {
+        int hash = value;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static class Shard {
+
+        private final int index;
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final DataFieldMaxValueIncrementer sequence;
+
+        private Shard(int index, DataSource dataSource) {
+            this.index = index;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.sequence = sequence(dataSource);
+        }
+
+        private static DataFieldMaxValueIncrementer sequence(DataSource dataSource) {
+            String url;
+            try {
+                url = (String) JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getURL);
+            } catch (MetaDataAccessException e) {
+                throw new IllegalStateException("shard database is not available", e);
+            }
+            switch (DatabaseDriver.fromJdbcUrl(url)) {
+                case POSTGRESQL:
+                    return new PostgresSequenceMaxValueIncrementer(dataSource, SEQUENCE);
+                case H2:
+                    return new H2SequenceMaxValueIncrementer(dataSource, SEQUENCE);
+                default:
+                    throw new IllegalStateException("unsupported shard database : " + url);
+            }
+        }
+    }
+
+    private static class SortColumn {
+
+        private final String column;
+        @SuppressWarnings("rawtypes")
+        private final Function<Event, Comparable> value;
+
+        @SuppressWarnings("rawtypes")
+        private SortColumn(String column, Function<Event, Comparable> value) {
+            this.column = column;
+            this.value = value;
+        }
+    }
+
+    private static class PeekingIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> iterator;
+        private T next;
+
+        private PeekingIterator(Iterator<T> iterator) {
+            this.iterator = iterator;
+            this.next = iterator.next();
+        }
+
+        private T peek() {
+            return this.next;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public T next() {
+            T current = this.next;
+            this.next = this.iterator.hasNext() ? this.iterator.next() : null;
+            return current;
+        }
+    }
+}
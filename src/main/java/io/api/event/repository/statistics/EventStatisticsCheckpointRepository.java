@@ -0,0 +1,21 @@
+package io.api.event.repository.statistics;
+
+import io.api.event.domain.entity.statistics.EventStatisticsCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface EventStatisticsCheckpointRepository extends JpaRepository<EventStatisticsCheckpoint, String> {
+
+    /**
+     * 저장된 값에 증감 값 반영 : 여러 instance가 함께 저장해도 서로의 증감 값을 덮어쓰지 않도록 하나의 UPDATE 쿼리로 더한다.
+     * @return 변경된 row 수 (항목이 저장되어 있지 않은 경우 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update EventStatisticsCheckpoint c set c.counterValue = c.counterValue + :delta, c.checkpointedAt = :checkpointedAt "
+            + "where c.name = :name")
+    int addCounterValue(@Param("name") String name, @Param("delta") long delta, @Param("checkpointedAt") LocalDateTime checkpointedAt);
+}
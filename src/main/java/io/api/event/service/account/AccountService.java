@@ -24,6 +24,15 @@ public class AccountService implements UserDetailsService {
         return this.accountRepository.save(account);
     }
 
+    /**
+     * 같은 email의 Account가 없는 경우에만 저장
+     * @return 저장한 Account 또는 이미 존재하는 Account
+     */
+    public Account saveAccountIfAbsent(Account account){
+        return this.accountRepository.findByEmail(account.getEmail())
+                .orElseGet(() -> this.saveAccount(account));
+    }
+
     /**
      * Application에서 정의한 Account domain을 Spring security에서 정의한 UsertDetail Interface로 변환
      * @param userName
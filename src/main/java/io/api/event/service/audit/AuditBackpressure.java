@@ -0,0 +1,16 @@
+package io.api.event.service.audit;
+
+/**
+ * Audit ring buffer가 가득 찬 경우 처리 방식
+ */
+public enum AuditBackpressure {
+
+    // 기록하지 않고 버림 (audit.entries{result=dropped} 지표로 확인)
+    DROP,
+
+    // blockTimeout 동안 빈 공간이 생길 때까지 기다린 뒤, 그래도 가득 찬 경우 버림
+    BLOCK,
+
+    // 요청 thread에서 직접 저장 (이력은 유지하지만 요청 처리 시간이 늘어남)
+    CALLER_WRITES
+}
@@ -0,0 +1,217 @@
+package io.api.event.service.audit;
+
+import io.api.event.config.AuditProperties;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.audit.AuditAction;
+import io.api.event.domain.entity.audit.AuditOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Event 생성/수정 이력(Audit) 비동기 기록
+ *  - 요청 thread는 {@link AuditRingBuffer}에 기록만 하고, background thread(audit-writer)가 batchSize 단위로 모아 JDBC batch INSERT로 저장한다.
+ *  - ring buffer가 가득 찬 경우 설정한 처리 방식({@link AuditBackpressure})을 따른다.
+ *  - Application 종료 시 ring buffer에 남은 이력을 모두 저장한 뒤 종료한다.
+ *    web server 종료(진행 중인 요청 처리 완료) 이후에 종료하며, 종료 이후(또는 시작 전)의 기록은 요청 thread에서 바로 저장한다.
+ *
+ * 지표
+ *  - audit.entries{result=published|dropped|caller-written|written|failed}
+ *  - audit.backlog : 저장 대기 중인 이력 수
+ */
+@Component
+@Slf4j
+public class AuditLog implements SmartLifecycle {
+
+    // web server(WebServerStartStopLifecycle : Integer.MAX_VALUE - 1)보다 먼저 시작하고 나중에 종료
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 1024;
+
+    private static final String INSERT_SQL =
+            "insert into audit_entry (action, outcome, event_id, account_id, occurred_at) values (?, ?, ?, ?, ?)";
+
+    private final AuditProperties auditProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditRingBuffer ringBuffer;
+
+    private final Counter publishedEntries;
+    private final Counter droppedEntries;
+    private final Counter callerWrittenEntries;
+    private final Counter writtenEntries;
+    private final Counter failedEntries;
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    public AuditLog(AuditProperties auditProperties, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.auditProperties = auditProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ringBuffer = new AuditRingBuffer(auditProperties.getBufferSize());
+        this.publishedEntries = entries("published", meterRegistry);
+        this.droppedEntries = entries("dropped", meterRegistry);
+        this.callerWrittenEntries = entries("caller-written", meterRegistry);
+        this.writtenEntries = entries("written", meterRegistry);
+        this.failedEntries = entries("failed", meterRegistry);
+        Gauge.builder("audit.backlog", ringBuffer, AuditRingBuffer::size).register(meterRegistry);
+    }
+
+    /**
+     * 이력 기록 : transaction 안에서 호출된 경우 commit 이후에 기록 (rollback 된 경우 기록하지 않음)
+     */
+    public void recordAfterCommit(AuditAction action, Integer eventId, Account account) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(action, AuditOutcome.SUCCESS, eventId, account);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(action, AuditOutcome.SUCCESS, eventId, account);
+            }
+        });
+    }
+
+    /**
+     * 이력 기록 : transaction 결과와 상관 없이 바로 기록 (요청 거부 등)
+     */
+    public void record(AuditAction action, AuditOutcome outcome, Integer eventId, Account account) {
+        if (!auditProperties.isEnabled()) {
+            return;
+        }
+        Integer accountId = account == null ? null : account.getId();
+        long occurredAt = System.currentTimeMillis();
+        if (!running) {
+            write(List.of(new AuditRingBuffer.Entry(action, outcome, eventId, accountId, occurredAt)));
+            callerWrittenEntries.increment();
+            return;
+        }
+        if (ringBuffer.offer(action, outcome, eventId, accountId, occurredAt) || offerOnFull(action, outcome, eventId, accountId, occurredAt)) {
+            publishedEntries.increment();
+            // 기록 중에 종료된 경우 background thread가 저장하지 못한 이력을 저장
+            if (!running) {
+                drainStopped();
+            }
+        }
+    }
+
+    private boolean offerOnFull(AuditAction action, AuditOutcome outcome, Integer eventId, Integer accountId, long occurredAt) {
+        switch (auditProperties.getBackpressure()) {
+            case BLOCK:
+                long deadline = System.nanoTime() + auditProperties.getBlockTimeout().toNanos();
+                while (System.nanoTime() - deadline < 0) {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                    if (ringBuffer.offer(action, outcome, eventId, accountId, occurredAt)) {
+                        return true;
+                    }
+                }
+                droppedEntries.increment();
+                return false;
+            case CALLER_WRITES:
+                write(List.of(new AuditRingBuffer.Entry(action, outcome, eventId, accountId, occurredAt)));
+                callerWrittenEntries.increment();
+                return false;
+            default:
+                droppedEntries.increment();
+                return false;
+        }
+    }
+
+    private void runWriter() {
+        int batchSize = auditProperties.getBatchSize();
+        long idleWaitNanos = auditProperties.getIdleWait().toNanos();
+        List<AuditRingBuffer.Entry> batch = new ArrayList<>(batchSize);
+        while (true) {
+            int drained = ringBuffer.drain(batch, batchSize);
+            if (drained == 0) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(idleWaitNanos);
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditRingBuffer.Entry> entries) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (statement, entry) -> {
+                statement.setString(1, entry.action.name());
+                statement.setString(2, entry.outcome.name());
+                statement.setObject(3, entry.eventId);
+                statement.setObject(4, entry.accountId);
+                statement.setTimestamp(5, new Timestamp(entry.occurredAt));
+            });
+            writtenEntries.increment(entries.size());
+        } catch (DataAccessException e) {
+            failedEntries.increment(entries.size());
+            log.warn("failed to write {} audit entries", entries.size(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * background thread 종료 이후 ring buffer에 남은 이력 저장 (background thread가 아직 실행 중인 경우 background thread가 저장)
+     */
+    private synchronized void drainStopped() {
+        Thread writer = writerThread;
+        if (writer != null && writer.isAlive()) {
+            return;
+        }
+        int batchSize = auditProperties.getBatchSize();
+        List<AuditRingBuffer.Entry> batch = new ArrayList<>(batchSize);
+        while (ringBuffer.drain(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread writer = writerThread;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drainStopped();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private static Counter entries(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("audit.entries").tag("result", result).register(meterRegistry);
+    }
+}
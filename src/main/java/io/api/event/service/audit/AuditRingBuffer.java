@@ -0,0 +1,143 @@
+package io.api.event.service.audit;
+
+import io.api.event.domain.entity.audit.AuditAction;
+import io.api.event.domain.entity.audit.AuditOutcome;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 다수의 요청 thread(producer)가 기록하고 하나의 background thread(consumer)가 읽는 고정 크기 lock-free ring buffer
+ *  - 생성 시 모든 slot을 할당하고 재사용하므로 기록 시 slot 객체를 생성하지 않는다.
+ *  - slot별 sequence로 기록/읽기 가능 여부를 확인한다. (Vyukov bounded queue)
+ *    - producer : tail 위치를 CAS로 선점한 뒤 slot에 기록하고 sequence를 position + 1로 변경하여 consumer에게 공개
+ *    - consumer : sequence가 position + 1인 slot만 읽고, sequence를 position + capacity로 변경하여 다음 바퀴의 producer에게 반환
+ */
+public class AuditRingBuffer {
+
+    private final Slot[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    // consumer thread에서만 변경
+    private volatile long head;
+
+    public AuditRingBuffer(int requestedCapacity) {
+        int capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.slots = new Slot[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 이력 기록 (producer)
+     * @return ring buffer가 가득 차서 기록하지 못한 경우 false
+     */
+    public boolean offer(AuditAction action, AuditOutcome outcome, Integer eventId, Integer accountId, long occurredAt) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            // difference > 0 : 다른 producer가 먼저 선점한 위치이므로 tail을 다시 확인
+        }
+
+        Slot slot = slots[index];
+        slot.action = action;
+        slot.outcome = outcome;
+        slot.eventId = eventId;
+        slot.accountId = accountId;
+        slot.occurredAt = occurredAt;
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * 기록된 이력을 순서대로 최대 maxEntries건 읽어 target에 추가 (consumer)
+     * @return 읽은 이력 수
+     */
+    public int drain(List<Entry> target, int maxEntries) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxEntries) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            Slot slot = slots[index];
+            target.add(new Entry(slot.action, slot.outcome, slot.eventId, slot.accountId, slot.occurredAt));
+            slot.eventId = null;
+            slot.accountId = null;
+            sequences.set(index, position + slots.length);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * 저장 대기 중인 이력 수 (근사값)
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    private static final class Slot {
+        private AuditAction action;
+        private AuditOutcome outcome;
+        private Integer eventId;
+        private Integer accountId;
+        private long occurredAt;
+    }
+
+    /**
+     * ring buffer에서 읽은 이력 (slot은 재사용되므로 값을 복사)
+     */
+    public static final class Entry {
+
+        final AuditAction action;
+        final AuditOutcome outcome;
+        final Integer eventId;
+        final Integer accountId;
+        final long occurredAt;
+
+        Entry(AuditAction action, AuditOutcome outcome, Integer eventId, Integer accountId, long occurredAt) {
+            this.action = action;
+            this.outcome = outcome;
+            this.eventId = eventId;
+            this.accountId = accountId;
+            this.occurredAt = occurredAt;
+        }
+
+        public AuditAction getAction() {
+            return action;
+        }
+
+        public Integer getEventId() {
+            return eventId;
+        }
+
+        public Integer getAccountId() {
+            return accountId;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.api.event.service.audit;
+
+import io.api.event.domain.entity.audit.AuditEntry;
+import io.api.event.repository.audit.AuditEntryRepository;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Event 생성/수정 이력 조회 Service (기록은 {@link AuditLog})
+ */
+@Service
+public class AuditService {
+
+    private final AuditEntryRepository auditEntryRepository;
+
+    public AuditService(AuditEntryRepository auditEntryRepository) {
+        this.auditEntryRepository = auditEntryRepository;
+    }
+
+    /**
+     * 이력 목록 조회
+     * @param probe 조회 조건 : 값이 있는 항목이 모두 일치하는 이력만 조회 (null인 항목은 조건에서 제외)
+     */
+    @Transactional(readOnly = true)
+    public Page<AuditEntry> getAuditEntries(AuditEntry probe, Pageable pageable) {
+        return this.auditEntryRepository.findAll(Example.of(probe), pageable);
+    }
+}
@@ -0,0 +1,200 @@
+package io.api.event.service.enrollment;
+
+import io.api.event.config.EventProperties;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.enrollment.Enrollment;
+import io.api.event.domain.entity.enrollment.EnrollmentSeat;
+import io.api.event.domain.entity.enrollment.EnrollmentStatus;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.enrollment.EnrollmentRepository;
+import io.api.event.repository.enrollment.EnrollmentSeatRepository;
+import io.api.event.service.event.EventService;
+import io.api.event.util.common.StripedLock;
+import io.api.event.util.event.exception.EnrollmentNotFoundException;
+import io.api.event.util.event.exception.EventNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Event 참가 신청 및 대기자 승격 Service
+ *  - 정원(limitOfEnrollment)이 찬 Event의 신청은 대기(WAITLISTED)로 저장하고, 자리가 생기면 신청 순서(id)대로 참가 확정(CONFIRMED)으로 승격한다.
+ *  - 같은 Event의 신청/취소/승격은 Event ID의 stripe lock 안에서 transaction을 commit 한 뒤 lock을 반환하므로 순서대로 처리되고,
+ *    다른 Event는 다른 stripe에 할당된 경우 동시에 처리된다. ({@link StripedLock})
+ *  - 여러 Application이 동시에 처리하는 경우에도 정원 및 대기 순서가 지켜지도록 인원 변경은 {@link EnrollmentSeat}의 조건부 UPDATE로 처리한다.
+ *  - 취소로 생긴 자리는 바로 승격하지 않고, 주기적으로 남은 자리와 대기자가 함께 있는 Event를 {@link EnrollmentSeat}에서 조회하여 Event별로 한번에 승격한다.
+ *    승격 대상은 DB에서 조회하므로 Application 재시작 또는 다른 Application에서 처리한 취소로 생긴 자리도 승격한다.
+ *    대기자가 있는 동안 새로운 신청은 남은 자리가 있어도 대기 순서의 마지막에 추가된다.
+ */
+@Service
+@Slf4j
+public class EnrollmentService {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentSeatRepository enrollmentSeatRepository;
+    private final EventService eventService;
+    private final EventProperties eventProperties;
+    private final StripedLock eventLocks;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate newTransaction;
+
+    public EnrollmentService(EnrollmentRepository enrollmentRepository,
+                             EnrollmentSeatRepository enrollmentSeatRepository,
+                             EventService eventService,
+                             EventProperties eventProperties,
+                             PlatformTransactionManager transactionManager) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentSeatRepository = enrollmentSeatRepository;
+        this.eventService = eventService;
+        this.eventProperties = eventProperties;
+        this.eventLocks = new StripedLock(eventProperties.getEnrollmentLockStripes());
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 참가 신청 : 정원 이내이고 대기자가 없는 경우 참가 확정, 그 외에는 대기
+     *  - 이미 신청한 경우 기존 신청을 반환하며, 취소한 신청은 삭제 후 새로 신청하여 대기 순서의 마지막이 된다.
+     * @throws EventNotFoundException 신청할 Event가 없는 경우
+     */
+    public Enrollment enroll(Integer eventId, Account account) {
+        Event event = this.eventService.getEvent(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        return this.eventLocks.execute(eventId, () -> {
+            this.createSeatIfAbsent(eventId, event.getLimitOfEnrollment());
+            return this.transaction.execute(status -> {
+                Optional<Enrollment> enrollment = this.enrollmentRepository.findByEventIdAndAccount(eventId, account);
+                if (enrollment.isPresent() && enrollment.get().isActive()) {
+                    return enrollment.get();
+                }
+                enrollment.ifPresent(cancelled -> {
+                    this.enrollmentRepository.delete(cancelled);
+                    this.enrollmentRepository.flush();
+                });
+
+                // 정원이 늘어난 경우 늘어난 자리는 대기자부터 승격 (대기자가 있는 동안 tryConfirm은 확정하지 않음)
+                this.enrollmentSeatRepository.updateSeatLimit(eventId, event.getLimitOfEnrollment());
+                boolean confirmed = this.enrollmentSeatRepository.tryConfirm(eventId) > 0;
+                if (!confirmed) {
+                    this.enrollmentSeatRepository.addWaitlisted(eventId);
+                }
+                return this.enrollmentRepository.save(Enrollment.builder()
+                        .eventId(eventId)
+                        .account(account)
+                        .status(confirmed ? EnrollmentStatus.CONFIRMED : EnrollmentStatus.WAITLISTED)
+                        .enrolledAt(LocalDateTime.now())
+                        .build());
+            });
+        });
+    }
+
+    /**
+     * 참가 신청 취소 : 참가 확정 신청을 취소한 경우 생긴 자리는 다음 승격 주기에 대기자를 승격
+     * @throws EnrollmentNotFoundException 취소할 신청이 없는 경우
+     */
+    public Enrollment cancel(Integer eventId, Account account) {
+        return this.eventLocks.execute(eventId, () -> this.transaction.execute(status -> {
+            Enrollment enrollment = this.enrollmentRepository.findByEventIdAndAccount(eventId, account)
+                    .filter(Enrollment::isActive)
+                    .orElseThrow(() -> new EnrollmentNotFoundException(eventId));
+            if (enrollment.getStatus() == EnrollmentStatus.CONFIRMED) {
+                this.enrollmentSeatRepository.releaseConfirmed(eventId);
+            } else {
+                this.enrollmentSeatRepository.removeWaitlisted(eventId);
+            }
+            enrollment.cancel(LocalDateTime.now());
+            return enrollment;
+        }));
+    }
+
+    /**
+     * 요청한 Account의 참가 신청 조회 (취소한 신청 제외)
+     */
+    public Optional<Enrollment> getEnrollment(Integer eventId, Account account) {
+        return this.enrollmentRepository.findByEventIdAndAccount(eventId, account)
+                .filter(Enrollment::isActive);
+    }
+
+    /**
+     * 대기 순번 (1부터 시작)
+     * @return 대기 중이 아닌 경우 empty
+     */
+    public Optional<Long> getWaitlistPosition(Enrollment enrollment) {
+        if (enrollment.getStatus() != EnrollmentStatus.WAITLISTED) {
+            return Optional.empty();
+        }
+        return Optional.of(this.enrollmentRepository.countByEventIdAndStatusAndIdLessThan(
+                enrollment.getEventId(), EnrollmentStatus.WAITLISTED, enrollment.getId()) + 1);
+    }
+
+    /**
+     * 자리가 생긴 Event의 대기자 승격 : 남은 자리와 대기자가 함께 있는 Event를 조회하여 Event별로 한번에 승격
+     *  - 한번에 승격할 수 있는 수를 넘는 자리 및 조회 수를 넘는 Event는 다음 주기에 다시 조회되어 이어서 승격한다.
+     * @return 승격한 신청 수
+     */
+    @Scheduled(fixedDelayString = "${my-app.event.enrollment-promotion-interval:PT1S}")
+    public int promoteReleased() {
+        int promoted = 0;
+        List<Integer> eventIds = this.enrollmentSeatRepository.findPromotableEventIds(
+                PageRequest.of(0, this.eventProperties.getEnrollmentPromotionBatchSize()));
+        for (Integer eventId : eventIds) {
+            promoted += this.promote(eventId);
+        }
+        return promoted;
+    }
+
+    /**
+     * 대기자 승격 : 남은 자리만큼 대기 순서(id)가 빠른 신청부터 승격 (최대 my-app.event.enrollment-promotion-batch-size건)
+     *  - 인원 변경(조건부 UPDATE)으로 Event의 인원 row를 먼저 lock 한 뒤 대기자를 조회하므로,
+     *    다른 Application이 같은 Event를 동시에 승격하는 경우에도 같은 대기자를 중복 승격하지 않는다.
+     * @return 승격한 신청 수
+     */
+    public int promote(Integer eventId) {
+        int batchSize = this.eventProperties.getEnrollmentPromotionBatchSize();
+        return this.eventLocks.execute(eventId, () -> this.transaction.execute(status -> {
+            Optional<EnrollmentSeat> seat = this.enrollmentSeatRepository.findById(eventId);
+            int count = seat.map(current -> Math.min(batchSize, Math.min(current.getAvailable(), current.getWaitlisted()))).orElse(0);
+            if (count == 0 || this.enrollmentSeatRepository.promote(eventId, count) == 0) {
+                return 0;
+            }
+
+            List<Enrollment> waitlisted = this.enrollmentRepository.findByEventIdAndStatusOrderByIdAsc(
+                    eventId, EnrollmentStatus.WAITLISTED, PageRequest.of(0, count));
+            if (waitlisted.size() != count) {
+                log.warn("event {} waitlist count mismatch : expected {}, found {}", eventId, count, waitlisted.size());
+                status.setRollbackOnly();
+                return 0;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            waitlisted.forEach(enrollment -> enrollment.promote(now));
+            return count;
+        }));
+    }
+
+    /**
+     * Event별 인원 row 생성 : 여러 Application이 동시에 생성하는 경우 먼저 생성한 row를 사용
+     */
+    private void createSeatIfAbsent(Integer eventId, int seatLimit) {
+        if (this.enrollmentSeatRepository.existsById(eventId)) {
+            return;
+        }
+        try {
+            this.newTransaction.executeWithoutResult(status -> this.enrollmentSeatRepository.save(EnrollmentSeat.builder()
+                    .eventId(eventId)
+                    .seatLimit(seatLimit)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("enrollment seat of event {} already created", eventId);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.api.event.service.event;
+
+import io.api.event.domain.entity.event.Event;
+import lombok.Getter;
+
+/**
+ * Idempotency-Key Event 생성 결과
+ *  - replayed : 같은 key로 이미 생성한 Event를 반환한 경우 true
+ */
+@Getter
+public class CreatedEvent {
+
+    private final Event event;
+    private final boolean replayed;
+
+    private CreatedEvent(Event event, boolean replayed) {
+        this.event = event;
+        this.replayed = replayed;
+    }
+
+    public static CreatedEvent created(Event event) {
+        return new CreatedEvent(event, false);
+    }
+
+    public static CreatedEvent replayed(Event event) {
+        return new CreatedEvent(event, true);
+    }
+}
@@ -0,0 +1,99 @@
+package io.api.event.service.event;
+
+import io.api.event.config.EventProperties;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.util.event.EventValidator;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 다수의 EventDto에 대한 유효성 검사 Service
+ *  - JSR303 Annotation 검사 후 EventValidator 규칙 검사 (EventController와 동일한 순서)
+ *  - 요청 목록을 chunk 단위로 나누어 ForkJoinPool에서 병렬로 검사하고,
+ *    검사가 끝난 chunk의 결과를 index 순서대로 전달한 뒤 버리므로 전체 Errors 객체를 메모리에 유지하지 않는다.
+ */
+@Service
+@Lazy
+public class EventBatchValidationService {
+
+    public static final String OBJECT_NAME = "eventDto";
+
+    private final SpringValidatorAdapter validator;
+    private final EventValidator eventValidator;
+    private final ForkJoinPool eventBatchForkJoinPool;
+    private final int chunkSize;
+
+    public EventBatchValidationService(Validator validator,
+                                       EventValidator eventValidator,
+                                       ForkJoinPool eventBatchForkJoinPool,
+                                       EventProperties eventProperties) {
+        this.validator = new SpringValidatorAdapter(validator);
+        this.eventValidator = eventValidator;
+        this.eventBatchForkJoinPool = eventBatchForkJoinPool;
+        this.chunkSize = eventProperties.getBatchChunkSize();
+    }
+
+    /**
+     * EventDto 하나의 유효성 검사
+     * @return 오류가 없는 경우 null, 오류가 있는 경우 Error(Field/Global) 정보를 담은 Errors 객체
+     */
+    public Errors validate(EventDto eventDto) {
+        Errors errors = new BeanPropertyBindingResult(eventDto, OBJECT_NAME);
+        validator.validate(eventDto, errors);
+        if (!errors.hasErrors()) {
+            eventValidator.validate(eventDto, errors);
+        }
+        return errors.hasErrors() ? errors : null;
+    }
+
+    /**
+     * EventDto 목록의 병렬 유효성 검사
+     * @param eventDtos 검사 요청 목록
+     * @param listener 유효하지 못한 요청의 index와 오류 정보를 index 순서대로 전달 받는 listener
+     * @return 유효하지 못한 요청 수
+     */
+    public int validate(List<EventDto> eventDtos, InvalidEventListener listener) throws IOException {
+        int invalidCount = 0;
+        for (int from = 0; from < eventDtos.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, eventDtos.size());
+            Errors[] chunkErrors = validateChunk(eventDtos, from, to);
+            for (int i = 0; i < chunkErrors.length; i++) {
+                if (chunkErrors[i] != null) {
+                    invalidCount++;
+                    listener.onInvalid(from + i, chunkErrors[i]);
+                }
+            }
+        }
+        return invalidCount;
+    }
+
+    private Errors[] validateChunk(List<EventDto> eventDtos, int from, int to) {
+        try {
+            return eventBatchForkJoinPool.submit(() -> IntStream.range(from, to)
+                    .parallel()
+                    .mapToObj(index -> validate(eventDtos.get(index)))
+                    .toArray(Errors[]::new))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("event batch validation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("event batch validation failed", e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    public interface InvalidEventListener {
+        void onInvalid(int index, Errors errors) throws IOException;
+    }
+}
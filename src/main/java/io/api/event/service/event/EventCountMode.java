@@ -0,0 +1,19 @@
+package io.api.event.service.event;
+
+/**
+ * Event 목록 조회 시 전체 수(totalElements) 조회 방식
+ */
+public enum EventCountMode {
+
+    // 목록 조회 시마다 count 쿼리 실행
+    EXACT,
+
+    // count 쿼리 결과를 캐시하여 사용 (유효 시간 경과 시 background에서 갱신, Event 저장 시 commit 후 갱신)
+    CACHED,
+
+    // PostgreSQL planner 통계(pg_class.reltuples)의 추정 값 사용 (통계가 없거나 PostgreSQL이 아닌 경우 EXACT로 조회)
+    ESTIMATED,
+
+    // 전체 수를 조회하지 않고 다음 페이지 존재 여부만 확인 (Slice)
+    NONE
+}
@@ -0,0 +1,163 @@
+package io.api.event.service.event;
+
+import io.api.event.config.EventProperties;
+import io.api.event.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Event 전체 수 조회 Service
+ *  - 설정한 조회 방식({@link EventProperties#getCountMode()})에 따라 목록 조회 시 사용할 전체 수 조회 객체를 생성한다.
+ *  - CACHED 방식의 캐시 값은 유효 시간이 지난 경우 기존 값을 반환하고 background에서 갱신하며,
+ *    Event 저장 시 transaction commit 이후 갱신한다.
+ */
+@Service
+@Slf4j
+public class EventCountService {
+
+    private final EventRepository eventRepository;
+    private final EventProperties eventProperties;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile CachedCount cachedCount;
+
+    public EventCountService(EventRepository eventRepository, EventProperties eventProperties) {
+        this.eventRepository = eventRepository;
+        this.eventProperties = eventProperties;
+    }
+
+    /**
+     * 목록 조회 시 사용할 전체 수 조회 객체 생성
+     * @return 설정한 조회 방식의 전체 수 조회 객체 (NONE인 경우 null)
+     */
+    @Nullable
+    public Total newTotal() {
+        EventCountMode countMode = this.eventProperties.getCountMode();
+        return countMode == EventCountMode.NONE ? null : new Total(countMode);
+    }
+
+    /**
+     * Event 저장 transaction commit 이후 캐시 값 갱신 (CACHED 방식을 사용하지 않거나 캐시 값이 없는 경우 무시)
+     */
+    public void refreshAfterCommit() {
+        if (this.cachedCount == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.refreshAsync();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshAsync();
+            }
+        });
+    }
+
+    private long cachedCount() {
+        CachedCount current = this.cachedCount;
+        if (current == null) {
+            return this.refresh();
+        }
+        if (current.isExpired()) {
+            this.refreshAsync();
+        }
+        return current.value;
+    }
+
+    private void refreshAsync() {
+        if (this.refreshing.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::refresh)
+                    .whenComplete((result, throwable) -> {
+                        this.refreshing.set(false);
+                        if (throwable != null) {
+                            log.warn("Event count cache refresh failed", throwable);
+                        }
+                    });
+        }
+    }
+
+    private long refresh() {
+        long count = this.eventRepository.count();
+        this.cachedCount = new CachedCount(count, System.nanoTime() + this.eventProperties.getCountCacheTtl().toNanos());
+        return count;
+    }
+
+    /**
+     * 목록 조회 1건에 사용하는 전체 수 조회 객체 : 실제 전체 수를 구한 방식(ESTIMATED 조회 실패 시 EXACT)을 기록한다.
+     *  - 첫 페이지 또는 마지막 페이지의 조회 건수가 페이지 크기보다 작은 경우 등 조회 결과로 전체 수를 알 수 있는 경우 호출되지 않으며, 이 경우 EXACT이다.
+     */
+    public class Total implements LongSupplier {
+
+        private final EventCountMode requestedCountMode;
+
+        // 전체 수를 구한 방식 (호출되지 않은 경우 null)
+        private EventCountMode countMode;
+
+        private Total(EventCountMode requestedCountMode) {
+            this.requestedCountMode = requestedCountMode;
+        }
+
+        @Override
+        public long getAsLong() {
+            this.countMode = this.requestedCountMode;
+            switch (this.requestedCountMode) {
+                case CACHED:
+                    return cachedCount();
+                case ESTIMATED:
+                    var estimated = eventRepository.estimateCount();
+                    if (estimated.isPresent()) {
+                        return estimated.getAsLong();
+                    }
+                    this.countMode = EventCountMode.EXACT;
+                    return eventRepository.count();
+                default:
+                    return eventRepository.count();
+            }
+        }
+
+        /**
+         * 설정한 전체 수 조회 방식
+         */
+        public EventCountMode getRequestedCountMode() {
+            return this.requestedCountMode;
+        }
+
+        /**
+         * 전체 수를 구한 방식 : 호출되지 않은 경우(조회 결과로 전체 수를 구한 경우) EXACT
+         */
+        public EventCountMode getCountMode() {
+            return this.countMode == null ? EventCountMode.EXACT : this.countMode;
+        }
+
+        /**
+         * 병합된 조회(다른 요청의 Total로 전체 수를 구한 경우)의 실제 조회 방식 반영
+         */
+        void resolvedAs(EventCountMode countMode) {
+            this.countMode = countMode;
+        }
+    }
+
+    private static class CachedCount {
+
+        private final long value;
+        private final long expiresAt;
+
+        private CachedCount(long value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - this.expiresAt > 0;
+        }
+    }
+}
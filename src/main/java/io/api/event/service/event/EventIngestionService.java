@@ -0,0 +1,186 @@
+package io.api.event.service.event;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.domain.dto.event.EventIngestionSummary;
+import io.api.event.domain.dto.event.EventIngestionSummary.ChunkResult;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.audit.AuditAction;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.shard.ShardedEventRepository;
+import io.api.event.service.audit.AuditLog;
+import io.api.event.service.geo.EventLocationService;
+import io.api.event.service.statistics.EventStatisticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량의 Event 생성 요청 저장(ingestion) Service
+ *  - 요청 본문(JSON 배열)을 Jackson JsonParser로 한 건씩 읽어 chunk 단위로 유효성 검사 후 저장한다.
+ *  - chunk 하나만 메모리에 유지하며, 저장한 chunk는 영속성 컨텍스트에서 제거한다.
+ *  - Event sharding 사용 시 manager의 shard에 저장한다. ({@link ShardedEventRepository})
+ *  - 배열의 요소는 JSON 객체만 허용하며, 객체가 아닌 요소, 닫히지 않은 배열 또는 배열 이후의 내용은 잘못된 JSON 형식으로 처리한다.
+ *  - 유효하지 못한 요청이 포함된 chunk 또는 저장에 실패한 chunk에서 처리를 멈추고,
+ *    저장 완료된 offset(nextOffset)을 반환하여 다음 요청에서 해당 offset 부터 이어서 처리할 수 있도록 한다.
+ */
+@Service
+@Slf4j
+@Lazy
+public class EventIngestionService {
+
+    private final ObjectMapper objectMapper;
+    private final ModelMapper modelMapper;
+    private final EventRepository eventRepository;
+    private final ShardedEventRepository shardedEventRepository;
+    private final EventBatchValidationService eventBatchValidationService;
+    private final TransactionTemplate transactionTemplate;
+    private final EventCountService eventCountService;
+    private final AuditLog auditLog;
+    private final EventStatisticsService eventStatisticsService;
+    private final EventWindowService eventWindowService;
+    private final EventLocationService eventLocationService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EventIngestionService(ObjectMapper objectMapper,
+                                 ModelMapper modelMapper,
+                                 EventRepository eventRepository,
+                                 ObjectProvider<ShardedEventRepository> shardedEventRepository,
+                                 EventBatchValidationService eventBatchValidationService,
+                                 TransactionTemplate transactionTemplate,
+                                 EventCountService eventCountService,
+                                 AuditLog auditLog,
+                                 EventStatisticsService eventStatisticsService,
+                                 EventWindowService eventWindowService,
+                                 EventLocationService eventLocationService) {
+        this.objectMapper = objectMapper;
+        this.modelMapper = modelMapper;
+        this.eventRepository = eventRepository;
+        this.shardedEventRepository = shardedEventRepository.getIfAvailable();
+        this.eventBatchValidationService = eventBatchValidationService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventCountService = eventCountService;
+        this.auditLog = auditLog;
+        this.eventStatisticsService = eventStatisticsService;
+        this.eventWindowService = eventWindowService;
+        this.eventLocationService = eventLocationService;
+    }
+
+    /**
+     * @param inputStream Event 생성 요청 목록(JSON 배열) 본문
+     * @param manager 저장할 Event의 manager
+     * @param resumeFrom 이전 요청에서 저장 완료된 offset : 해당 offset 이전의 요청은 객체로 변환하지 않고 건너 뛴다.
+     * @param chunkSize 한번에 저장할 요청 수
+     */
+    public EventIngestionSummary ingest(InputStream inputStream, Account manager, int resumeFrom, int chunkSize) throws IOException {
+        EventIngestionSummary summary = new EventIngestionSummary(resumeFrom);
+        List<EventDto> chunk = new ArrayList<>(chunkSize);
+        int offset = 0;
+        int chunkIndex = 0;
+
+        try (JsonParser jsonParser = objectMapper.getFactory().createParser(inputStream)) {
+            if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+                summary.stop("request body must be a JSON array");
+                return summary;
+            }
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+                // 객체가 아닌 요소 또는 배열이 끝나기 전에 본문이 끝난 경우 해당 위치에서 중단 (읽은 chunk는 저장하지 않음)
+                if (token != JsonToken.START_OBJECT) {
+                    summary.stop(token == null
+                            ? "request body ended before the end of the JSON array at offset " + offset
+                            : "element at offset " + offset + " must be a JSON object : " + token);
+                    return summary;
+                }
+                if (offset++ < resumeFrom) {
+                    jsonParser.skipChildren();
+                    continue;
+                }
+                chunk.add(jsonParser.readValueAs(EventDto.class));
+                if (chunk.size() == chunkSize) {
+                    if (!saveChunk(chunkIndex++, offset - chunk.size(), chunk, manager, summary)) {
+                        return summary;
+                    }
+                    chunk.clear();
+                }
+            }
+            if (jsonParser.nextToken() != null) {
+                summary.stop("unexpected content after the JSON array");
+                return summary;
+            }
+        } catch (JsonProcessingException e) {
+            summary.stop("malformed JSON after offset " + summary.getNextOffset() + " : " + e.getOriginalMessage());
+            return summary;
+        }
+
+        if (!chunk.isEmpty() && !saveChunk(chunkIndex, offset - chunk.size(), chunk, manager, summary)) {
+            return summary;
+        }
+        summary.complete();
+        return summary;
+    }
+
+    private boolean saveChunk(int chunkIndex, int fromOffset, List<EventDto> chunk, Account manager, EventIngestionSummary summary) throws IOException {
+        int toOffset = fromOffset + chunk.size();
+
+        List<Integer> invalidIndexes = new ArrayList<>();
+        eventBatchValidationService.validate(chunk, (index, errors) -> invalidIndexes.add(fromOffset + index));
+        if (!invalidIndexes.isEmpty()) {
+            summary.addChunk(ChunkResult.rejected(chunkIndex, fromOffset, toOffset, invalidIndexes));
+            summary.stop("invalid events in chunk " + chunkIndex);
+            return false;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Event> events = new ArrayList<>(chunk.size());
+                for (EventDto eventDto : chunk) {
+                    Event event = modelMapper.map(eventDto, Event.class);
+                    event.update();
+                    eventLocationService.locate(event);
+                    event.setManager(manager);
+                    events.add(event);
+                }
+                // shard 저장은 transaction에 포함되지 않으므로 rollback 시 저장한 Event를 삭제 ({@link ShardedEventRepository#save})
+                if (shardedEventRepository != null) {
+                    events.forEach(shardedEventRepository::save);
+                } else {
+                    eventRepository.saveAll(events);
+                }
+                eventCountService.refreshAfterCommit();
+                events.forEach(event -> {
+                    auditLog.recordAfterCommit(AuditAction.CREATE_EVENT, event.getId(), manager);
+                    eventStatisticsService.recordAfterCommit(null, EventStatisticsService.Snapshot.of(event));
+                });
+                eventWindowService.markChangedAfterCommit();
+                // 저장한 chunk를 영속성 컨텍스트에서 제거하여 요청 처리 중 메모리 사용량을 chunk 크기로 제한
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            log.warn("event ingestion chunk {} [{}, {}) failed", chunkIndex, fromOffset, toOffset, e);
+            summary.addChunk(ChunkResult.failed(chunkIndex, fromOffset, toOffset));
+            summary.stop("failed to save chunk " + chunkIndex);
+            return false;
+        }
+
+        summary.addChunk(ChunkResult.committed(chunkIndex, fromOffset, toOffset));
+        return true;
+    }
+}
@@ -0,0 +1,514 @@
+package io.api.event.service.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.api.event.config.EventProperties;
+import io.api.event.domain.dto.event.EventCursor;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.domain.dto.event.EventSummary;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.audit.AuditAction;
+import io.api.event.domain.entity.audit.AuditOutcome;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventWindowBasis;
+import io.api.event.domain.entity.idempotency.IdempotencyKey;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.shard.ShardedEventRepository;
+import io.api.event.service.audit.AuditLog;
+import io.api.event.service.geo.EventLocationService;
+import io.api.event.service.idempotency.IdempotencyKeyService;
+import io.api.event.service.statistics.EventStatisticsService;
+import io.api.event.util.common.SingleFlight;
+import io.api.event.util.event.EventValidator;
+import io.api.event.util.event.exception.EventAccessDeniedException;
+import io.api.event.util.event.exception.EventNotFoundException;
+import io.api.event.util.event.exception.EventValidationException;
+import io.api.event.util.event.exception.IdempotencyKeyConflictException;
+import io.api.event.util.event.exception.IdempotencyKeyMismatchException;
+import io.api.event.util.jfr.EventApiPhase;
+import io.api.event.util.jfr.EventApiRecording;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Event 처리 Service
+ *  - 조회 요청은 read-only transaction으로 처리하여 Hibernate flush mode를 MANUAL로, Session을 read-only로 설정하고,
+ *    Replica DataSource 사용 시 Replica로 라우팅 되도록 한다. ({@link io.api.event.config.datasource.ReplicaRoutingDataSource})
+ *  - Event 조회/목록 조회는 같은 요청이 동시에 들어온 경우 하나의 조회만 실행하고 결과를 함께 사용한다. ({@link SingleFlight})
+ *    병합된 요청은 대기하는 동안 DB connection을 점유하지 않도록 transaction 밖에서 병합한다.
+ *  - 생성/수정 요청 및 거부된 수정 요청은 이력을 비동기로 기록한다. ({@link AuditLog})
+ *  - 생성/수정 요청은 변경 전후 값의 차이만큼 Event 통계에 반영하고, 기간 겹침 조회 index를 사용하지 않도록 표시한다. ({@link EventWindowService})
+ *  - 좌표 없이 생성/수정하는 오프라인 Event는 location을 변환한 좌표를 저장한다. ({@link EventLocationService})
+ *  - 수정 요청은 하나의 transaction 안에서 Event를 한번만 조회한 뒤 조회한 Entity에 변경 내용을 반영하고,
+ *    transaction 종료 시 Hibernate의 dirty checking을 통해 변경된 경우에만 하나의 UPDATE 쿼리를 실행한다.
+ *  - Event sharding 사용 시 생성/수정/조회/목록/다건/부분 조회는 manager별 shard에 저장된 Event를 대상으로 한다. ({@link ShardedEventRepository})
+ *  - 생성/수정/조회/목록 조회의 변환(MAPPING) 및 Repository 호출, commit(REPOSITORY) 구간을 JFR event로 기록한다. ({@link EventApiRecording})
+ */
+@Service
+public class EventService {
+
+    private static final String ID = "id";
+    private static final String FIELDS = "fields";
+    private static final String IDS = "ids";
+    private static final String LOCATION = "location";
+    private static final String LATITUDE = "latitude";
+    private static final String LONGITUDE = "longitude";
+    private static final String CURSOR = "cursor";
+    private static final String SIZE = "size";
+
+    private final EventRepository eventRepository;
+    @Nullable
+    private final ShardedEventRepository shardedEventRepository;
+    private final ModelMapper modelMapper;
+    private final EventValidator eventValidator;
+    private final SpringValidatorAdapter validator;
+    private final ObjectMapper objectMapper;
+    private final EventProperties eventProperties;
+    private final EventCountService eventCountService;
+    private final IdempotencyKeyService idempotencyKeyService;
+    private final AuditLog auditLog;
+    private final EventStatisticsService eventStatisticsService;
+    private final EventWindowService eventWindowService;
+    private final EventLocationService eventLocationService;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<Integer, Optional<Event>> eventReads;
+    private final SingleFlight<List<Object>, CountedSlice> eventListReads;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EventService(EventRepository eventRepository,
+                        ObjectProvider<ShardedEventRepository> shardedEventRepository,
+                        ModelMapper modelMapper,
+                        EventValidator eventValidator,
+                        Validator validator,
+                        ObjectMapper objectMapper,
+                        EventProperties eventProperties,
+                        EventCountService eventCountService,
+                        IdempotencyKeyService idempotencyKeyService,
+                        AuditLog auditLog,
+                        EventStatisticsService eventStatisticsService,
+                        EventWindowService eventWindowService,
+                        EventLocationService eventLocationService,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.shardedEventRepository = shardedEventRepository.getIfAvailable();
+        this.modelMapper = modelMapper;
+        this.eventValidator = eventValidator;
+        this.validator = new SpringValidatorAdapter(validator);
+        this.objectMapper = objectMapper;
+        this.eventProperties = eventProperties;
+        this.eventCountService = eventCountService;
+        this.idempotencyKeyService = idempotencyKeyService;
+        this.auditLog = auditLog;
+        this.eventStatisticsService = eventStatisticsService;
+        this.eventWindowService = eventWindowService;
+        this.eventLocationService = eventLocationService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.eventReads = new SingleFlight<>("event.get", eventProperties.getCoalescingTimeout(), meterRegistry);
+        this.eventListReads = new SingleFlight<>("event.list", eventProperties.getCoalescingTimeout(), meterRegistry);
+    }
+
+    /**
+     * Event 생성
+     */
+    @Transactional
+    public Event createEvent(EventDto eventDto, Account currentUser) {
+        Event event = EventApiRecording.record(EventApiPhase.MAPPING, "EventDto -> Event", () -> {
+            Event mappedEvent = this.modelMapper.map(eventDto, Event.class);
+            mappedEvent.update();
+            return mappedEvent;
+        });
+        this.eventLocationService.locate(event);
+        event.setManager(currentUser);
+        Event savedEvent = this.saveEvent(event);
+        EventApiRecording.recordCommit();
+        this.eventCountService.refreshAfterCommit();
+        this.auditLog.recordAfterCommit(AuditAction.CREATE_EVENT, savedEvent.getId(), currentUser);
+        this.eventStatisticsService.recordAfterCommit(null, EventStatisticsService.Snapshot.of(savedEvent));
+        this.eventWindowService.markChangedAfterCommit();
+        return savedEvent;
+    }
+
+    /**
+     * Idempotency-Key Event 생성 : 같은 key로 생성한 Event가 있는 경우 생성하지 않고 해당 Event를 반환
+     *  - key는 Event와 같은 transaction에서 저장하므로, 같은 key의 동시 요청은 먼저 저장한 요청만 commit 되고
+     *    나머지 요청은 key 저장 시 primary key 제약 조건 위반으로 rollback 된 뒤 먼저 생성된 Event를 반환한다.
+     * @throws IdempotencyKeyMismatchException 같은 key로 다른 내용의 요청을 처리한 경우
+     * @throws IdempotencyKeyConflictException 같은 key의 요청이 아직 처리 중인 경우
+     */
+    public CreatedEvent createEvent(EventDto eventDto, Account currentUser, IdempotencyKey idempotencyKey) {
+        Optional<Event> storedEvent = this.findIdempotentEvent(idempotencyKey);
+        if (storedEvent.isPresent()) {
+            return CreatedEvent.replayed(storedEvent.get());
+        }
+
+        try {
+            return CreatedEvent.created(this.transaction.execute(status -> {
+                Event createdEvent = this.createEvent(eventDto, currentUser);
+                this.idempotencyKeyService.save(idempotencyKey.completedWith(createdEvent.getId()));
+                return createdEvent;
+            }));
+        } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+            return CreatedEvent.replayed(this.findIdempotentEvent(idempotencyKey)
+                    .orElseThrow(() -> new IdempotencyKeyConflictException(idempotencyKey.getRequestedKey())));
+        }
+    }
+
+    private Optional<Event> findIdempotentEvent(IdempotencyKey idempotencyKey) {
+        return this.readOnlyTransaction.execute(status -> this.idempotencyKeyService.findStored(idempotencyKey)
+                .flatMap(stored -> this.findEvent(stored.getEventId())));
+    }
+
+    /**
+     * Event 조회 : 같은 ID의 동시 조회 병합
+     */
+    public Optional<Event> getEvent(Integer id) {
+        return this.coalesce(this.eventReads, id, () -> this.findEvent(id), event -> event.map(List::of).orElse(List.of()));
+    }
+
+    /**
+     * Event 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<Event> getEventList(Pageable pageable) {
+        if (this.shardedEventRepository != null) {
+            return this.shardedEventRepository.findAll(pageable);
+        }
+        return this.eventRepository.findAll(pageable);
+    }
+
+    /**
+     * Event 목록 조회 : 전체 수는 전달받은 total을 통해 구하며, 같은 페이지 요청 및 전체 수 조회 방식의 동시 조회를 병합한다.
+     * @param total 전체 수 조회 객체 ({@link EventCountService#newTotal()}, null인 경우 전체 수를 구하지 않은 Slice 반환)
+     */
+    public Slice<Event> getEventList(Pageable pageable, @Nullable EventCountService.Total total) {
+        EventCountMode countMode = total == null ? EventCountMode.NONE : total.getRequestedCountMode();
+        CountedSlice countedSlice = this.coalesce(this.eventListReads, List.of(pageable, countMode), () -> {
+            // shard별 전체 수의 합계는 목록 조회와 함께 구하므로 EXACT 방식으로 처리
+            if (this.shardedEventRepository != null) {
+                return new CountedSlice(EventApiRecording.record(EventApiPhase.REPOSITORY, "findPage",
+                        () -> this.shardedEventRepository.findPage(pageable, total != null)),
+                        total == null ? EventCountMode.NONE : EventCountMode.EXACT);
+            }
+            Slice<Event> slice = EventApiRecording.record(EventApiPhase.REPOSITORY, "findPage",
+                    () -> this.eventRepository.findPage(pageable, total));
+            return new CountedSlice(slice, total == null ? EventCountMode.NONE : total.getCountMode());
+        }, read -> read.slice.getContent());
+        if (total != null) {
+            total.resolvedAs(countedSlice.countMode);
+        }
+        return countedSlice.slice;
+    }
+
+    /**
+     * Event 다건 조회 : 요청한 ID의 Event를 하나의 IN 쿼리로 조회 (sharding 사용 시 shard별 IN 쿼리)
+     * @param ids 중복을 제거한 조회 요청 ID 목록 ({@link #parseIds(List)})
+     * @return 요청한 ID 순서와 같은 순서의 목록 (존재하지 않는 ID의 위치는 null)
+     */
+    @Transactional(readOnly = true)
+    public List<Event> getEventsByIds(List<Integer> ids) {
+        return this.shardedEventRepository != null
+                ? this.shardedEventRepository.findAllByIdInOrder(ids) : this.eventRepository.findAllByIdInOrder(ids);
+    }
+
+    /**
+     * ids 요청 파라미터 변환 : 요청 순서를 유지하며 중복 ID를 제거
+     * @throws EventValidationException ID가 없거나(null) 최대 요청 수({@link EventProperties#getMultiGetMaxIds()})를 넘는 경우
+     */
+    public List<Integer> parseIds(List<Integer> ids) {
+        Errors errors = new MapBindingResult(Map.of(IDS, ids), IDS);
+        Set<Integer> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.contains(null)) {
+            errors.rejectValue(IDS, "wrongValue", "ids must not contain empty value");
+        }
+        int maxIds = this.eventProperties.getMultiGetMaxIds();
+        if (distinctIds.size() > maxIds) {
+            errors.rejectValue(IDS, "wrongValue", "ids must be less than or equal to " + maxIds);
+        }
+        if (errors.hasErrors()) {
+            throw new EventValidationException(errors);
+        }
+        return new ArrayList<>(distinctIds);
+    }
+
+    /**
+     * manager의 Event 목록 조회 : 진행 시작 일시(같은 경우 ID) 순서로 cursor 이후의 Event를 size건 조회 (keyset pagination)
+     * @param after 이전 페이지 마지막 Event의 위치 (null인 경우 첫 페이지, {@link #parseCursor(String)})
+     * @param size 조회 수 ({@link #parseSize(Integer)})
+     * @return 다음 페이지 존재 여부를 포함한 목록 (size + 1건을 조회하여 확인)
+     */
+    @Transactional(readOnly = true)
+    public Slice<EventSummary> getManagedEvents(Account manager, @Nullable EventCursor after, int size) {
+        List<EventSummary> summaries = this.shardedEventRepository != null
+                ? this.shardedEventRepository.findSummariesByManager(manager.getId(), after, size + 1)
+                : this.eventRepository.findSummariesByManager(manager.getId(), after, size + 1);
+        boolean hasNext = summaries.size() > size;
+        return new SliceImpl<>(hasNext ? summaries.subList(0, size) : summaries, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * cursor 요청 파라미터 변환
+     * @return cursor가 없는 경우 null
+     * @throws EventValidationException cursor 형식이 잘못된 경우
+     */
+    @Nullable
+    public EventCursor parseCursor(@Nullable String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        Errors errors = new MapBindingResult(Map.of(CURSOR, cursor), CURSOR);
+        return EventCursor.parse(cursor).orElseThrow(() -> {
+            errors.rejectValue(CURSOR, "wrongValue", "cursor is wrong");
+            return new EventValidationException(errors);
+        });
+    }
+
+    /**
+     * size 요청 파라미터 변환 : 없는 경우 기본 조회 수({@link EventProperties#getMineDefaultSize()})
+     * @throws EventValidationException 1 미만이거나 최대 조회 수({@link EventProperties#getMineMaxSize()})를 넘는 경우
+     */
+    public int parseSize(@Nullable Integer size) {
+        if (size == null) {
+            return this.eventProperties.getMineDefaultSize();
+        }
+        int maxSize = this.eventProperties.getMineMaxSize();
+        if (size < 1 || size > maxSize) {
+            Errors errors = new MapBindingResult(Map.of(SIZE, size), SIZE);
+            errors.rejectValue(SIZE, "wrongValue", "size must be between 1 and " + maxSize);
+            throw new EventValidationException(errors);
+        }
+        return size;
+    }
+
+    /**
+     * Event 기간 겹침 조회 ({@link EventWindowService#getEvents})
+     */
+    public List<Event> getEventsInWindow(EventWindowBasis basis, LocalDateTime from, LocalDateTime to) {
+        return this.eventWindowService.getEvents(basis, from, to);
+    }
+
+    /**
+     * Event 부분 조회 : 요청 항목의 column만 조회
+     */
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getEventFields(Integer id, Set<String> fields) {
+        return this.shardedEventRepository != null
+                ? this.shardedEventRepository.findFieldsById(id, fields) : this.eventRepository.findFieldsById(id, fields);
+    }
+
+    /**
+     * Event 목록 부분 조회 : 요청 항목의 column만 조회
+     * @param total 전체 수 조회 객체 (null인 경우 전체 수를 구하지 않은 Slice 반환)
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> getEventFieldsList(Set<String> fields, Pageable pageable, @Nullable LongSupplier total) {
+        // shard별 전체 수의 합계는 목록 조회와 함께 구하므로 total을 호출하지 않음 (호출되지 않은 total은 EXACT)
+        return this.shardedEventRepository != null
+                ? this.shardedEventRepository.findAllFields(fields, pageable, total != null)
+                : this.eventRepository.findAllFields(fields, pageable, total);
+    }
+
+    /**
+     * fields 요청 파라미터 변환 : 쉼표로 구분한 항목명을 요청 순서대로 반환하며, 응답 link 생성에 필요한 id는 항상 포함한다.
+     * @throws EventValidationException 조회 할 수 없는 항목명이 포함된 경우
+     */
+    public Set<String> parseFields(String fields) {
+        Set<String> selectableFields = this.eventRepository.getSelectableFields();
+        Errors errors = new MapBindingResult(Map.of(FIELDS, fields), FIELDS);
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add(ID);
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!selectableFields.contains(name)) {
+                errors.rejectValue(FIELDS, "wrongValue", "unknown field : " + name);
+            }
+            selected.add(name);
+        }
+        if (errors.hasErrors()) {
+            throw new EventValidationException(errors);
+        }
+        return selected;
+    }
+
+    /**
+     * Event 전체 수정 : 유효성 검사를 마친 eventDto의 내용으로 Event를 수정
+     */
+    @Transactional
+    public Event updateEvent(Integer id, EventDto eventDto, Account currentUser) {
+        Event event = getManagedEvent(id, currentUser, AuditAction.UPDATE_EVENT);
+        EventStatisticsService.Snapshot before = EventStatisticsService.Snapshot.of(event);
+        EventApiRecording.record(EventApiPhase.MAPPING, "EventDto -> Event", () -> {
+            this.modelMapper.map(eventDto, event);
+            event.update();
+        });
+        this.eventLocationService.locate(event);
+        this.saveShardedEvent(event);
+        EventApiRecording.recordCommit();
+        this.auditLog.recordAfterCommit(AuditAction.UPDATE_EVENT, id, currentUser);
+        this.eventStatisticsService.recordAfterCommit(before, EventStatisticsService.Snapshot.of(event));
+        this.eventWindowService.markChangedAfterCommit();
+        return event;
+    }
+
+    /**
+     * Event 부분 수정 : 기존 Event의 내용에 요청 항목(JSON Merge Patch)만 덮어쓴 뒤 전체 수정과 같은 유효성 검사를 수행
+     * @param patch 수정할 항목만 담은 요청 본문
+     * @throws EventValidationException 수정 후의 Event가 유효하지 못한 경우
+     */
+    @Transactional
+    public Event patchEvent(Integer id, JsonNode patch, Account currentUser) {
+        Event event = getManagedEvent(id, currentUser, AuditAction.PATCH_EVENT);
+        EventDto eventDto = this.modelMapper.map(event, EventDto.class);
+        Errors errors = new BeanPropertyBindingResult(eventDto, EventBatchValidationService.OBJECT_NAME);
+
+        try {
+            this.objectMapper.readerForUpdating(eventDto).readValue(patch);
+        } catch (IOException e) {
+            errors.reject("wrongValue", "patch values are wrong");
+            throw new EventValidationException(errors);
+        }
+
+        // 좌표 없이 location만 변경한 경우 기존 좌표를 사용하지 않고 변경된 location으로 변환
+        if (patch.has(LOCATION) && !patch.has(LATITUDE) && !patch.has(LONGITUDE)) {
+            eventDto.setLatitude(null);
+            eventDto.setLongitude(null);
+        }
+
+        this.validator.validate(eventDto, errors);
+        if (!errors.hasErrors()) {
+            this.eventValidator.validate(eventDto, errors);
+        }
+        if (errors.hasErrors()) {
+            throw new EventValidationException(errors);
+        }
+
+        EventStatisticsService.Snapshot before = EventStatisticsService.Snapshot.of(event);
+        EventApiRecording.record(EventApiPhase.MAPPING, "EventDto -> Event", () -> {
+            this.modelMapper.map(eventDto, event);
+            event.update();
+        });
+        this.eventLocationService.locate(event);
+        this.saveShardedEvent(event);
+        EventApiRecording.recordCommit();
+        this.auditLog.recordAfterCommit(AuditAction.PATCH_EVENT, id, currentUser);
+        this.eventStatisticsService.recordAfterCommit(before, EventStatisticsService.Snapshot.of(event));
+        this.eventWindowService.markChangedAfterCommit();
+        return event;
+    }
+
+    private Optional<Event> findEvent(Integer id) {
+        return EventApiRecording.record(EventApiPhase.REPOSITORY, "findById", () -> this.shardedEventRepository != null
+                ? this.shardedEventRepository.findById(id) : this.eventRepository.findById(id));
+    }
+
+    private Event saveEvent(Event event) {
+        return EventApiRecording.record(EventApiPhase.REPOSITORY, "save", () -> this.shardedEventRepository != null
+                ? this.shardedEventRepository.save(event) : this.eventRepository.save(event));
+    }
+
+    /**
+     * shard에 저장된 Event는 dirty checking 대상이 아니므로 수정 내용을 직접 저장
+     */
+    private void saveShardedEvent(Event event) {
+        if (this.shardedEventRepository != null) {
+            EventApiRecording.record(EventApiPhase.REPOSITORY, "save", () -> this.shardedEventRepository.save(event));
+        }
+    }
+
+    /**
+     * read-only transaction 조회 병합 : 이미 transaction 안에서 호출된 경우 다른 transaction의 조회 결과를 사용하지 않도록 병합하지 않음
+     *  - 병합된 요청은 leader가 조회한 Event를 함께 사용하므로, 조회한 Event는 transaction 안에서 영속성 context에서 분리(detach)한 뒤 전달한다.
+     *    (OSIV 사용 시 leader 요청의 EntityManager를 다른 요청 thread에서 사용하지 않도록 함)
+     * @param entities 조회 결과에 포함된 Event 목록
+     */
+    private <K, V> V coalesce(SingleFlight<K, V> singleFlight, K key, Supplier<V> read, Function<V, List<Event>> entities) {
+        if (!this.eventProperties.isCoalescingEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return this.readOnlyTransaction.execute(status -> read.get());
+        }
+        return singleFlight.execute(key, () -> this.readOnlyTransaction.execute(status -> {
+            V value = read.get();
+            entities.apply(value).forEach(this::detach);
+            return value;
+        }));
+    }
+
+    /**
+     * Event 및 manager(Account)를 영속성 context에서 분리 : manager, roles는 즉시 로딩(EAGER)되므로 분리 후에도 조회할 수 있다.
+     */
+    private void detach(Event event) {
+        if (this.entityManager.contains(event)) {
+            this.entityManager.detach(event);
+        }
+        if (event.getManager() != null && this.entityManager.contains(event.getManager())) {
+            this.entityManager.detach(event.getManager());
+        }
+    }
+
+    /**
+     * 목록 조회 결과 및 전체 수를 구한 방식 : 병합된 요청에 leader의 전체 수 조회 방식을 전달
+     */
+    private static class CountedSlice {
+
+        private final Slice<Event> slice;
+        private final EventCountMode countMode;
+
+        private CountedSlice(Slice<Event> slice, EventCountMode countMode) {
+            this.slice = slice;
+            this.countMode = countMode;
+        }
+    }
+
+    /**
+     * 수정 요청 대상 Event 조회 및 manager 확인 : manager가 아닌 Account의 요청은 거부 이력을 기록
+     */
+    private Event getManagedEvent(Integer id, Account currentUser, AuditAction action) {
+        Event event = this.findEvent(id)
+                .orElseThrow(() -> new EventNotFoundException(id));
+        if (event.getManager() == null || !event.getManager().equals(currentUser)) {
+            this.auditLog.record(action, AuditOutcome.DENIED, id, currentUser);
+            throw new EventAccessDeniedException(id);
+        }
+        return event;
+    }
+}
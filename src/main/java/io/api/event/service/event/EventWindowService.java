@@ -0,0 +1,185 @@
+package io.api.event.service.event;
+
+import io.api.event.config.EventProperties;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventWindowBasis;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.EventRepositoryImpl;
+import io.api.event.repository.shard.ShardedEventRepository;
+import io.api.event.util.common.IntervalIndex;
+import io.api.event.util.event.exception.EventValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Event 기간 겹침 조회 Service (달력 조회 등 : 지정한 기간과 진행/등록 기간이 겹치는 Event 조회)
+ *  - 오늘부터 my-app.event.window-index-range 이후까지의 기간과 겹치는 Event는 기준 기간별 메모리 {@link IntervalIndex}로 조회하고,
+ *    조회한 ID의 Event를 하나의 IN 쿼리로 조회한다.
+ *  - index 범위를 벗어난 기간의 조회 및 index 생성 이후 Event가 생성/수정된 경우에는 DB에서 조회한다. ({@link EventRepository#findOverlapping})
+ *  - index는 주기적으로 확인하여 Event가 생성/수정된 경우 또는 생성 후 MAX_INDEX_AGE가 지난 경우에만 다시 생성한다.
+ *  - Event sharding 사용 시 index 생성 및 조회는 모든 shard를 대상으로 한다. ({@link ShardedEventRepository})
+ */
+@Service
+@Slf4j
+public class EventWindowService {
+
+    private static final String FROM = "from";
+    private static final String TO = "to";
+
+    // Service를 거치지 않은 변경(삭제 등)을 반영하기 위해 변경이 없어도 index를 다시 생성하는 주기
+    private static final Duration MAX_INDEX_AGE = Duration.ofHours(1);
+
+    private final EventRepository eventRepository;
+    private final ShardedEventRepository shardedEventRepository;
+    private final EventProperties eventProperties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Event 생성/수정 commit 시 증가 : index 생성 시점의 값과 다른 경우 index를 사용하지 않음
+    private final AtomicLong writeVersion = new AtomicLong();
+
+    private volatile Map<EventWindowBasis, IndexedWindow> indexes = Map.of();
+
+    public EventWindowService(EventRepository eventRepository,
+                              ObjectProvider<ShardedEventRepository> shardedEventRepository,
+                              EventProperties eventProperties,
+                              PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.shardedEventRepository = shardedEventRepository.getIfAvailable();
+        this.eventProperties = eventProperties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 기간 겹침 조회 : 기준 기간(basis)이 from ~ to(양 끝 포함)와 겹치는 Event를 기간 시작 순서(같은 경우 ID 순서)로 최대 조회 수만큼 조회
+     * @throws EventValidationException from이 to보다 늦은 경우
+     */
+    public List<Event> getEvents(EventWindowBasis basis, LocalDateTime from, LocalDateTime to) {
+        validateWindow(from, to);
+        int limit = this.eventProperties.getWindowMaxResults();
+        IndexedWindow indexed = this.indexes.get(basis);
+        if (indexed == null || !indexed.covers(from, to) || indexed.version != this.writeVersion.get()) {
+            if (this.shardedEventRepository != null) {
+                return this.shardedEventRepository.findOverlapping(basis, from, to, limit);
+            }
+            return this.readOnlyTransaction.execute(status -> this.eventRepository.findOverlapping(basis, from, to, limit));
+        }
+
+        int[] ids = indexed.index.query(EventRepositoryImpl.toEpochSecond(from), EventRepositoryImpl.toEpochSecond(to), limit);
+        List<Integer> idList = Arrays.stream(ids).boxed().collect(Collectors.toList());
+        List<Event> events = this.shardedEventRepository != null
+                ? this.shardedEventRepository.findAllByIdInOrder(idList)
+                : this.readOnlyTransaction.execute(status -> this.eventRepository.findAllByIdInOrder(idList));
+        // index 생성 이후 삭제된 Event 제외
+        return events.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * 조회 기간이 메모리 index로 조회 가능한 범위인지 확인
+     */
+    public boolean isIndexed(EventWindowBasis basis, LocalDateTime from, LocalDateTime to) {
+        IndexedWindow indexed = this.indexes.get(basis);
+        return indexed != null && indexed.covers(from, to) && indexed.version == this.writeVersion.get();
+    }
+
+    private void validateWindow(LocalDateTime from, LocalDateTime to) {
+        Map<String, LocalDateTime> window = new HashMap<>();
+        window.put(FROM, from);
+        window.put(TO, to);
+        Errors errors = new MapBindingResult(window, "window");
+        if (from.isAfter(to)) {
+            errors.rejectValue(TO, "wrongValue", "to must be equal to or after from");
+            throw new EventValidationException(errors);
+        }
+    }
+
+    /**
+     * Event 생성/수정 반영 : transaction commit 이후 현재 index를 사용하지 않도록 표시 (다음 재생성 시 반영)
+     */
+    public void markChangedAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.writeVersion.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writeVersion.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 기준 기간별 index 재생성 : 변경된 Event가 없고 MAX_INDEX_AGE가 지나지 않은 경우 재생성하지 않음
+     */
+    @Scheduled(fixedDelayString = "${my-app.event.window-index-refresh-interval:PT10S}")
+    public void refresh() {
+        if (!this.eventProperties.isWindowIndexEnabled()) {
+            this.indexes = Map.of();
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = LocalDate.now().atStartOfDay();
+        LocalDateTime to = from.plus(this.eventProperties.getWindowIndexRange());
+        long version = this.writeVersion.get();
+
+        Map<EventWindowBasis, IndexedWindow> current = this.indexes;
+        Map<EventWindowBasis, IndexedWindow> refreshed = new EnumMap<>(EventWindowBasis.class);
+        for (EventWindowBasis basis : EventWindowBasis.values()) {
+            IndexedWindow indexed = current.get(basis);
+            if (indexed != null && indexed.version == version && indexed.from.equals(from) && indexed.to.equals(to)
+                    && indexed.builtAt.plus(MAX_INDEX_AGE).isAfter(now)) {
+                refreshed.put(basis, indexed);
+                continue;
+            }
+            // 조회 전의 version을 저장 : 조회 중에 commit 된 변경이 있는 경우 다음 재생성 전까지 사용하지 않음
+            IntervalIndex index = this.shardedEventRepository != null
+                    ? this.shardedEventRepository.findIntervalIndex(basis, from, to)
+                    : this.readOnlyTransaction.execute(status -> this.eventRepository.findIntervalIndex(basis, from, to));
+            refreshed.put(basis, new IndexedWindow(index, from, to, version, now));
+            log.debug("event window index refreshed : {} {} events ({} ~ {})", basis, index.size(), from, to);
+        }
+        this.indexes = refreshed;
+    }
+
+    private static final class IndexedWindow {
+
+        private final IntervalIndex index;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final long version;
+        private final LocalDateTime builtAt;
+
+        private IndexedWindow(IntervalIndex index, LocalDateTime from, LocalDateTime to, long version, LocalDateTime builtAt) {
+            this.index = index;
+            this.from = from;
+            this.to = to;
+            this.version = version;
+            this.builtAt = builtAt;
+        }
+
+        private boolean covers(LocalDateTime windowFrom, LocalDateTime windowTo) {
+            return !windowFrom.isBefore(this.from) && !windowTo.isAfter(this.to);
+        }
+    }
+}
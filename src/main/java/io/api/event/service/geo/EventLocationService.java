@@ -0,0 +1,132 @@
+package io.api.event.service.geo;
+
+import io.api.event.config.EventProperties;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.shard.ShardedEventRepository;
+import io.api.event.util.event.exception.EventValidationException;
+import io.api.event.util.geo.GeoBoundingBox;
+import io.api.event.util.geo.GeoHash;
+import io.api.event.util.geo.GeoPoint;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Event 좌표 설정 및 위치 검색 Service
+ *  - 좌표 없이 저장하는 오프라인 Event는 location을 {@link Geocoder}로 변환한 좌표를 사용한다.
+ *  - 위치 검색은 검색 영역을 덮는 geohash cell로 후보 Event를 조회한 뒤(최대 my-app.event.nearby-max-candidates),
+ *    검색 위치로부터의 거리를 계산하여 가까운 순서(같은 경우 ID 순서)로 정렬한 페이지를 반환한다.
+ *  - 후보가 최대 조회 수를 넘는 경우 일부만으로는 가까운 순서 및 전체 수가 정확하지 않으므로 검색 범위를 줄이도록 거부한다.
+ *  - Event sharding 사용 시 후보는 모든 shard에서 조회한다. ({@link ShardedEventRepository})
+ */
+@Service
+public class EventLocationService {
+
+    private static final String LAT = "lat";
+    private static final String RADIUS = "radius";
+    private static final String BBOX = "bbox";
+
+    private final Geocoder geocoder;
+    private final EventRepository eventRepository;
+    private final ShardedEventRepository shardedEventRepository;
+    private final EventProperties eventProperties;
+
+    public EventLocationService(Geocoder geocoder, EventRepository eventRepository,
+                                ObjectProvider<ShardedEventRepository> shardedEventRepository, EventProperties eventProperties) {
+        this.geocoder = geocoder;
+        this.eventRepository = eventRepository;
+        this.shardedEventRepository = shardedEventRepository.getIfAvailable();
+        this.eventProperties = eventProperties;
+    }
+
+    /**
+     * 좌표 설정 : 좌표가 없는 오프라인 Event의 location을 좌표로 변환 (변환할 수 없는 경우 좌표 없이 저장)
+     */
+    public void locate(Event event) {
+        if (event.isOffline() && !event.isLocated()) {
+            this.geocoder.geocode(event.getLocation()).ifPresent(event::locate);
+        }
+    }
+
+    /**
+     * 위치 검색 : 반경(radius) 또는 영역(bbox) 안에 좌표가 있는 오프라인 Event를 검색 위치로부터 가까운 순서로 조회
+     * @param radius 검색 반경(미터, 생략 시 기본 반경) : bbox를 요청한 경우 사용하지 않음
+     * @param bbox 검색 영역 (minLongitude,minLatitude,maxLongitude,maxLatitude)
+     * @throws EventValidationException 좌표, 반경 또는 영역이 유효하지 못하거나 최대 반경을 넘는 경우, 검색 범위 안의 Event가 최대 조회 수를 넘는 경우
+     */
+    @Transactional(readOnly = true)
+    public Page<NearbyEvent> searchNearby(double latitude, double longitude, @Nullable Integer radius, @Nullable String bbox,
+                                          Pageable pageable) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(LAT, latitude);
+        parameters.put(RADIUS, radius);
+        parameters.put(BBOX, bbox);
+        Errors errors = new MapBindingResult(parameters, "nearby");
+        int maxRadius = this.eventProperties.getNearbyMaxRadius();
+
+        if (!GeoPoint.isValid(latitude, longitude)) {
+            errors.rejectValue(LAT, "wrongValue", "lat/lon values are out of range");
+            throw new EventValidationException(errors);
+        }
+        GeoPoint origin = new GeoPoint(latitude, longitude);
+        GeoBoundingBox area;
+        double searchRadius;
+        if (bbox != null) {
+            try {
+                area = GeoBoundingBox.parse(bbox);
+            } catch (IllegalArgumentException e) {
+                errors.rejectValue(BBOX, "wrongValue", e.getMessage());
+                throw new EventValidationException(errors);
+            }
+            // 영역의 대각선 길이가 최대 반경의 두 배를 넘는 경우 거부
+            if (new GeoPoint(area.getMinLatitude(), area.getMinLongitude()).distanceTo(area.getMaxLatitude(), area.getMaxLongitude()) > 2.0 * maxRadius) {
+                errors.rejectValue(BBOX, "wrongValue", "bbox must be smaller than " + (2 * maxRadius) + " meters diagonal");
+                throw new EventValidationException(errors);
+            }
+            searchRadius = Double.POSITIVE_INFINITY;
+        } else {
+            searchRadius = radius == null ? this.eventProperties.getNearbyDefaultRadius() : radius;
+            if (searchRadius <= 0 || searchRadius > maxRadius) {
+                errors.rejectValue(RADIUS, "wrongValue", "radius must be between 1 and " + maxRadius);
+                throw new EventValidationException(errors);
+            }
+            area = origin.boundingBox(searchRadius);
+        }
+
+        List<String> cells = GeoHash.covering(area, this.eventProperties.getNearbyMaxCells());
+        int maxCandidates = this.eventProperties.getNearbyMaxCandidates();
+        List<Event> candidates = this.shardedEventRepository != null
+                ? this.shardedEventRepository.findLocatedIn(area, cells, maxCandidates)
+                : this.eventRepository.findLocatedIn(area, cells, maxCandidates);
+        if (candidates.size() > maxCandidates) {
+            errors.rejectValue(bbox != null ? BBOX : RADIUS, "tooManyResults",
+                    "search area has more than " + maxCandidates + " events : narrow the " + (bbox != null ? BBOX : RADIUS));
+            throw new EventValidationException(errors);
+        }
+        List<NearbyEvent> nearbyEvents = candidates.stream()
+                .map(event -> new NearbyEvent(event, origin.distanceTo(event.getLatitude(), event.getLongitude())))
+                .filter(nearbyEvent -> nearbyEvent.getDistance() <= searchRadius)
+                .sorted(Comparator.comparingDouble(NearbyEvent::getDistance).thenComparing(nearbyEvent -> nearbyEvent.getEvent().getId()))
+                .collect(Collectors.toList());
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(nearbyEvents, pageable, nearbyEvents.size());
+        }
+        int fromIndex = (int) Math.min(pageable.getOffset(), nearbyEvents.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), nearbyEvents.size());
+        return new PageImpl<>(nearbyEvents.subList(fromIndex, toIndex), pageable, nearbyEvents.size());
+    }
+}
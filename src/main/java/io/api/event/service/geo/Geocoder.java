@@ -0,0 +1,17 @@
+package io.api.event.service.geo;
+
+import io.api.event.util.geo.GeoPoint;
+
+import java.util.Optional;
+
+/**
+ * Event 장소(location) 문자열의 좌표 변환
+ *  - 기본 구현체는 장소명/좌표 목록을 사용하는 {@link TableGeocoder}이며, 외부 geocoding API 등 다른 구현체를 Bean으로 등록하여 대체할 수 있다.
+ */
+public interface Geocoder {
+
+    /**
+     * @return 좌표를 찾을 수 없는 경우 empty
+     */
+    Optional<GeoPoint> geocode(String location);
+}
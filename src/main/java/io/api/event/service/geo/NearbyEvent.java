@@ -0,0 +1,19 @@
+package io.api.event.service.geo;
+
+import io.api.event.domain.entity.event.Event;
+import lombok.Getter;
+
+/**
+ * 위치 검색 결과 : Event 및 검색 위치로부터의 거리(미터)
+ */
+@Getter
+public class NearbyEvent {
+
+    private final Event event;
+    private final double distance;
+
+    public NearbyEvent(Event event, double distance) {
+        this.event = event;
+        this.distance = distance;
+    }
+}
@@ -0,0 +1,68 @@
+package io.api.event.service.geo;
+
+import io.api.event.util.geo.GeoPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 장소명/좌표 목록(CSV : 장소명,위도,경도)을 사용하는 {@link Geocoder} (외부 API를 사용하지 않는 offline 구현체)
+ *  - location 문자열에 포함된 장소명 중 가장 긴 장소명의 좌표를 사용한다. (공백 및 대소문자 구분 없음)
+ */
+@Slf4j
+public class TableGeocoder implements Geocoder {
+
+    // 긴 장소명부터 비교
+    private final Map<String, GeoPoint> places = new TreeMap<>(Comparator.comparingInt(String::length).reversed()
+            .thenComparing(Comparator.naturalOrder()));
+
+    public TableGeocoder(Map<String, GeoPoint> places) {
+        places.forEach((name, point) -> this.places.put(normalize(name), point));
+    }
+
+    public static TableGeocoder load(Resource resource) {
+        Map<String, GeoPoint> places = new LinkedHashMap<>();
+        if (!resource.exists()) {
+            log.warn("geocoding table not found : {}", resource);
+            return new TableGeocoder(places);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] values = line.split(",");
+                places.put(values[0], new GeoPoint(Double.parseDouble(values[1].trim()), Double.parseDouble(values[2].trim())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new TableGeocoder(places);
+    }
+
+    @Override
+    public Optional<GeoPoint> geocode(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = normalize(location);
+        for (Map.Entry<String, GeoPoint> place : places.entrySet()) {
+            if (normalized.contains(place.getKey())) {
+                return Optional.of(place.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String normalize(String value) {
+        return value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+}
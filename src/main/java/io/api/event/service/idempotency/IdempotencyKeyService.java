@@ -0,0 +1,126 @@
+package io.api.event.service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.api.event.config.EventProperties;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.idempotency.IdempotencyKey;
+import io.api.event.repository.idempotency.IdempotencyKeyRepository;
+import io.api.event.util.event.exception.EventValidationException;
+import io.api.event.util.event.exception.IdempotencyKeyMismatchException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 저장소 관리 Service
+ *  - key는 생성 요청과 같은 transaction에서 저장하고(EventService), 만료된 key는 주기적으로 한번에 삭제한다.
+ */
+@Service
+@Slf4j
+public class IdempotencyKeyService {
+
+    private static final String IDEMPOTENCY_KEY = "idempotencyKey";
+    private static final int MAX_KEY_LENGTH = 200;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final EventProperties eventProperties;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyKeyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                                 EventProperties eventProperties,
+                                 ObjectMapper objectMapper) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.eventProperties = eventProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 요청한 key의 저장 정보 생성 (저장하지 않음)
+     * @param idempotencyKey Idempotency-Key 요청 헤더 값
+     * @param request 요청 본문 : 같은 key로 다른 내용을 요청했는지 확인하기 위한 hash 생성에 사용
+     * @throws EventValidationException key가 비어 있거나 최대 길이를 넘는 경우
+     */
+    public IdempotencyKey newKey(String idempotencyKey, Account account, Object request) {
+        if (!StringUtils.hasText(idempotencyKey) || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            HashMap<String, Object> target = new HashMap<>();
+            target.put(IDEMPOTENCY_KEY, idempotencyKey);
+            Errors errors = new MapBindingResult(target, IDEMPOTENCY_KEY);
+            errors.rejectValue(IDEMPOTENCY_KEY, "wrongValue", "Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+            throw new EventValidationException(errors);
+        }
+        String scope = account == null ? "" : String.valueOf(account.getId());
+        LocalDateTime expiresAt = LocalDateTime.now().plus(eventProperties.getIdempotencyKeyTtl());
+        return new IdempotencyKey(scope + ":" + idempotencyKey, requestHash(request), expiresAt);
+    }
+
+    /**
+     * 만료되지 않은 저장 정보 조회
+     * @throws IdempotencyKeyMismatchException 같은 key로 다른 내용의 요청을 처리한 경우
+     */
+    @Transactional(readOnly = true)
+    public Optional<IdempotencyKey> findStored(IdempotencyKey key) {
+        return idempotencyKeyRepository.findById(key.getId())
+                .filter(stored -> !stored.isExpired(LocalDateTime.now()))
+                .map(stored -> {
+                    if (!stored.getRequestHash().equals(key.getRequestHash())) {
+                        throw new IdempotencyKeyMismatchException(key.getRequestedKey());
+                    }
+                    return stored;
+                });
+    }
+
+    /**
+     * key 저장 : 생성 요청 transaction 안에서 호출하며, 같은 key가 이미 저장된 경우 flush 시점에 DataIntegrityViolationException 발생
+     *  - 만료되었지만 아직 삭제되지 않은 같은 key는 먼저 삭제한다.
+     */
+    @Transactional
+    public void save(IdempotencyKey key) {
+        idempotencyKeyRepository.findById(key.getId())
+                .filter(stored -> stored.isExpired(LocalDateTime.now()))
+                .ifPresent(expired -> {
+                    idempotencyKeyRepository.delete(expired);
+                    idempotencyKeyRepository.flush();
+                });
+        idempotencyKeyRepository.saveAndFlush(key);
+    }
+
+    /**
+     * 만료된 key 일괄 삭제
+     */
+    @Scheduled(initialDelayString = "${my-app.event.idempotency-key-sweep-interval:PT10M}",
+            fixedDelayString = "${my-app.event.idempotency-key-sweep-interval:PT10M}")
+    @Transactional
+    public int deleteExpiredKeys() {
+        int deleted = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("deleted {} expired idempotency keys", deleted);
+        }
+        return deleted;
+    }
+
+    private String requestHash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("failed to hash request", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.api.event.service.jfr;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * JFR recording 정보 (recording 시작/종료/조회 API 응답)
+ */
+@Getter
+@Builder
+public class JfrRecordingInfo {
+
+    private final long id;
+
+    private final String name;
+
+    // JFR 설정 template
+    private final String template;
+
+    // NEW, DELAYED, RUNNING, STOPPED, CLOSED
+    private final String state;
+
+    private final Instant startTime;
+
+    private final Instant stopTime;
+
+    // recording 시간 (지정한 시간이 지나면 종료 후 파일로 저장)
+    private final Duration duration;
+
+    private final long maxSize;
+
+    // recording 파일 경로 : 종료 후 저장
+    private final String destination;
+
+    // 저장한 recording 파일 크기 (저장 전인 경우 0)
+    private final long fileSize;
+}
@@ -0,0 +1,229 @@
+package io.api.event.service.jfr;
+
+import io.api.event.config.JfrProperties;
+import io.api.event.util.jfr.exception.JfrRecordingLimitException;
+import io.api.event.util.jfr.exception.JfrRecordingNotFoundException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * JFR(Java Flight Recorder) recording 시작/종료 Service
+ *  - recording은 설정한 template(default, profile)으로 시작하며, 지정한 시간이 지나거나 종료 요청 시 directory(my-app.jfr.directory)에 파일로 저장한다.
+ *  - recording 1건의 크기/기간(max-size, max-age) 및 directory의 전체 파일 크기(max-total-size)를 제한하고,
+ *    전체 파일 크기는 recording 시작 시 오래된 파일부터 삭제하여 유지한다.
+ *  - 동시에 실행할 수 있는 recording 수(max-active)를 제한한다.
+ *  - 종료된 recording은 다음 recording 시작 시 정리(close)하며, 저장한 파일은 삭제하지 않는다.
+ */
+@Service
+@Slf4j
+public class JfrRecordingService {
+
+    private static final String FILE_EXTENSION = ".jfr";
+    private static final String NAME_PREFIX = "event-api-";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final JfrProperties jfrProperties;
+    private final Map<Long, StartedRecording> recordings = new LinkedHashMap<>();
+
+    public JfrRecordingService(JfrProperties jfrProperties) {
+        this.jfrProperties = jfrProperties;
+    }
+
+    /**
+     * recording 시작
+     * @param template JFR 설정 template ({@link JfrProperties#getTemplates()} 중 하나)
+     * @param duration recording 시간 (null인 경우 {@link JfrProperties#getDefaultDuration()}, 최대 {@link JfrProperties#getMaxDuration()})
+     * @throws JfrRecordingLimitException 실행 중인 recording 수가 최대 recording 수에 도달한 경우
+     */
+    public synchronized JfrRecordingInfo start(String template, Duration duration) {
+        this.closeStoppedRecordings();
+        int maxActive = this.jfrProperties.getMaxActive();
+        if (this.recordings.size() >= maxActive) {
+            throw new JfrRecordingLimitException(maxActive);
+        }
+
+        Path directory = Paths.get(this.jfrProperties.getDirectory());
+        String name = NAME_PREFIX + template + "-" + LocalDateTime.now().format(FILE_TIMESTAMP);
+        Recording recording;
+        try {
+            Files.createDirectories(directory);
+            this.deleteOldFiles(directory);
+            recording = new Recording(Configuration.getConfiguration(template));
+            recording.setName(name);
+            recording.setToDisk(true);
+            recording.setMaxSize(this.jfrProperties.getMaxSize());
+            recording.setMaxAge(this.jfrProperties.getMaxAge());
+            recording.setDuration(duration == null ? this.jfrProperties.getDefaultDuration() : duration);
+            recording.setDestination(directory.resolve(name + FILE_EXTENSION));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("jfr configuration is wrong : " + template, e);
+        }
+        recording.start();
+        this.recordings.put(recording.getId(), new StartedRecording(recording, template));
+        log.info("jfr recording started : {} ({}, {})", name, template, recording.getDuration());
+        return this.toInfo(this.recordings.get(recording.getId()));
+    }
+
+    /**
+     * recording 종료 후 파일로 저장 : 이미 종료된 경우 현재 상태 반환
+     *  - 저장 경로(destination)를 지정한 recording은 파일 저장 후 JFR이 정리하므로 종료 후 상태는 CLOSED이다.
+     * @throws JfrRecordingNotFoundException 요청한 ID의 recording이 없는 경우
+     */
+    public synchronized JfrRecordingInfo stop(long id) {
+        StartedRecording startedRecording = this.getStartedRecording(id);
+        Recording recording = startedRecording.recording;
+        if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+            recording.stop();
+            log.info("jfr recording stopped : {} -> {}", recording.getName(), recording.getDestination());
+        }
+        return this.toInfo(startedRecording);
+    }
+
+    /**
+     * recording 목록 조회 : 시작 순서
+     */
+    public synchronized List<JfrRecordingInfo> getRecordings() {
+        return this.recordings.values().stream()
+                .map(this::toInfo)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * recording 조회
+     * @throws JfrRecordingNotFoundException 요청한 ID의 recording이 없는 경우
+     */
+    public synchronized JfrRecordingInfo getRecording(long id) {
+        return this.toInfo(this.getStartedRecording(id));
+    }
+
+    /**
+     * Application 종료 시 실행 중인 recording 종료 후 파일로 저장
+     */
+    @PreDestroy
+    public synchronized void close() {
+        for (StartedRecording startedRecording : this.recordings.values()) {
+            Recording recording = startedRecording.recording;
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            recording.close();
+        }
+        this.recordings.clear();
+    }
+
+    private StartedRecording getStartedRecording(long id) {
+        return Optional.ofNullable(this.recordings.get(id))
+                .orElseThrow(() -> new JfrRecordingNotFoundException(id));
+    }
+
+    /**
+     * 종료(파일 저장)된 recording의 JFR repository 기록 정리
+     */
+    private void closeStoppedRecordings() {
+        this.recordings.values().removeIf(startedRecording -> {
+            RecordingState state = startedRecording.recording.getState();
+            if (state == RecordingState.STOPPED || state == RecordingState.CLOSED) {
+                startedRecording.recording.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 새 recording의 최대 크기를 더해도 전체 최대 크기를 넘지 않도록 오래된 recording 파일부터 삭제
+     */
+    private void deleteOldFiles(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION))
+                    .sorted(Comparator.comparing(this::lastModified))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        long totalSize = 0;
+        for (Path file : files) {
+            totalSize += Files.size(file);
+        }
+        long maxTotalSize = this.jfrProperties.getMaxTotalSize() - this.jfrProperties.getMaxSize();
+        for (Path file : files) {
+            if (totalSize <= maxTotalSize) {
+                break;
+            }
+            long size = Files.size(file);
+            Files.deleteIfExists(file);
+            totalSize -= size;
+            log.info("jfr recording file deleted : {}", file);
+        }
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JfrRecordingInfo toInfo(StartedRecording startedRecording) {
+        Recording recording = startedRecording.recording;
+        Path destination = recording.getDestination();
+        long fileSize = 0;
+        try {
+            if (destination != null && Files.exists(destination)) {
+                fileSize = Files.size(destination);
+            }
+        } catch (IOException e) {
+            log.warn("jfr recording file size check failed : {}", destination, e);
+        }
+        return JfrRecordingInfo.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .template(startedRecording.template)
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime())
+                .stopTime(recording.getStopTime())
+                .duration(recording.getDuration())
+                .maxSize(recording.getMaxSize())
+                .destination(destination == null ? null : destination.toString())
+                .fileSize(fileSize)
+                .build();
+    }
+
+    /**
+     * 시작한 recording 및 사용한 template
+     */
+    private static class StartedRecording {
+
+        private final Recording recording;
+        private final String template;
+
+        private StartedRecording(Recording recording, String template) {
+            this.recording = recording;
+            this.template = template;
+        }
+    }
+}
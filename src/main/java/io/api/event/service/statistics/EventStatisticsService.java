@@ -0,0 +1,393 @@
+package io.api.event.service.statistics;
+
+import io.api.event.config.EventProperties;
+import io.api.event.domain.dto.event.EventStatisticsModel;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventStatus;
+import io.api.event.domain.entity.statistics.EventStatisticsCheckpoint;
+import io.api.event.repository.shard.ShardedEventRepository;
+import io.api.event.repository.statistics.EventStatisticsCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Event 통계 (상태별, 무료/유료, 오프라인/온라인, basePrice 구간별 Event 수)
+ *  - 조회 시 집계 쿼리를 실행하지 않고, Event 생성/수정 시 변경 전후 값의 차이만큼 항목별 counter를 증감한다. (transaction commit 이후)
+ *  - counter는 {@link LongAdder}로 thread별로 분산(striped)하여 증감하므로 동시 요청 간 경합이 없다.
+ *  - counter는 마지막 저장 이후의 증감 값이며, 주기적으로 DB에 저장된 값에 더하고(checkpoint) 조회 시 저장된 값과 합산한다.
+ *    여러 instance가 같은 항목을 저장하므로 값을 덮어쓰지 않고 증감 값만 더하며, 다른 instance의 저장하지 않은 증감 값은 해당 instance가 저장한 이후에 조회된다.
+ *  - Application 구동 시 저장된 값을 조회하여 복원한다. (저장된 값이 없는 경우 전체 재집계)
+ *  - API를 거치지 않은 변경(삭제 등)으로 생긴 차이는 주기적인 전체 재집계(reconcile)로 보정한다.
+ *  - Event sharding 사용 시 전체 재집계는 모든 shard에서 같은 집계 쿼리를 실행하여 합산한다. ({@link ShardedEventRepository})
+ */
+@Service
+@Slf4j
+public class EventStatisticsService {
+
+    public static final String TOTAL = "total";
+    public static final String STATUS_PREFIX = "status.";
+    public static final String FREE = "free";
+    public static final String OFFLINE = "offline";
+    public static final String PRICE_PREFIX = "price.le.";
+    public static final String PRICE_OVERFLOW_PREFIX = "price.gt.";
+
+    private final EventStatisticsCheckpointRepository checkpointRepository;
+    private final ShardedEventRepository shardedEventRepository;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int[] priceBounds;
+    // 마지막 저장 이후의 항목별 증감 값
+    private final Map<String, LongAdder> counters;
+    // DB에 저장된 항목별 값 (마지막 저장/복원 시 조회)
+    private volatile Map<String, Long> stored = Map.of();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile LocalDateTime checkpointedAt;
+    private volatile LocalDateTime reconciledAt;
+
+    public EventStatisticsService(EventStatisticsCheckpointRepository checkpointRepository,
+                                  ObjectProvider<ShardedEventRepository> shardedEventRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  EventProperties eventProperties) {
+        this.checkpointRepository = checkpointRepository;
+        this.shardedEventRepository = shardedEventRepository.getIfAvailable();
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.priceBounds = eventProperties.getStatisticsPriceBounds().stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+
+        // 항목은 구동 시 모두 생성하고 변경하지 않으므로 증감 시 Map 변경이 없다.
+        Map<String, LongAdder> counters = new LinkedHashMap<>();
+        counters.put(TOTAL, new LongAdder());
+        for (EventStatus status : EventStatus.values()) {
+            counters.put(STATUS_PREFIX + status.name(), new LongAdder());
+        }
+        counters.put(FREE, new LongAdder());
+        counters.put(OFFLINE, new LongAdder());
+        for (String priceBucket : priceBuckets()) {
+            counters.put(priceBucket, new LongAdder());
+        }
+        this.counters = Collections.unmodifiableMap(counters);
+    }
+
+    /**
+     * 통계 반영 : transaction 안에서 호출된 경우 commit 이후에 반영 (rollback 된 경우 반영하지 않음)
+     * @param before 변경 전 Event 값 (생성인 경우 null)
+     * @param after 변경 후 Event 값 (삭제인 경우 null)
+     */
+    public void recordAfterCommit(@Nullable Snapshot before, @Nullable Snapshot after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(before, after);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(before, after);
+            }
+        });
+    }
+
+    private void record(@Nullable Snapshot before, @Nullable Snapshot after) {
+        if (before != null) {
+            keys(before).forEach(key -> counters.get(key).decrement());
+        }
+        if (after != null) {
+            keys(after).forEach(key -> counters.get(key).increment());
+        }
+    }
+
+    private List<String> keys(Snapshot snapshot) {
+        List<String> keys = new ArrayList<>(5);
+        keys.add(TOTAL);
+        keys.add(STATUS_PREFIX + snapshot.eventStatus.name());
+        if (snapshot.free) {
+            keys.add(FREE);
+        }
+        if (snapshot.offline) {
+            keys.add(OFFLINE);
+        }
+        keys.add(priceBucket(snapshot.basePrice));
+        return keys;
+    }
+
+    /**
+     * 통계 조회 : 항목별 counter 값으로 응답 Model 생성 (집계 쿼리를 실행하지 않음)
+     */
+    public EventStatisticsModel getStatistics() {
+        Map<String, Long> values = getCounters();
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (EventStatus status : EventStatus.values()) {
+            byStatus.put(status.name(), values.get(STATUS_PREFIX + status.name()));
+        }
+        List<String> priceBuckets = priceBuckets();
+        List<EventStatisticsModel.PriceRange> priceHistogram = new ArrayList<>(priceBuckets.size());
+        for (int i = 0; i < priceBuckets.size(); i++) {
+            Integer minExclusive = i == 0 ? null : priceBounds[i - 1];
+            Integer maxInclusive = i == priceBounds.length ? null : priceBounds[i];
+            priceHistogram.add(new EventStatisticsModel.PriceRange(minExclusive, maxInclusive, values.get(priceBuckets.get(i))));
+        }
+        return new EventStatisticsModel(values.get(TOTAL), byStatus, values.get(FREE), values.get(OFFLINE), priceHistogram,
+                checkpointedAt, reconciledAt);
+    }
+
+    /**
+     * 항목별 현재 값
+     */
+    public Map<String, Long> getCounters() {
+        Map<String, Long> stored = this.stored;
+        Map<String, Long> values = new LinkedHashMap<>();
+        counters.forEach((key, counter) -> values.put(key, stored.getOrDefault(key, 0L) + counter.sum()));
+        return values;
+    }
+
+    /**
+     * 구동 시 저장된 값으로 통계 복원 : 저장된 값이 없거나 항목이 변경된 경우(basePrice 구간 설정 변경 등) 전체 재집계
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<EventStatisticsCheckpoint> checkpoints = readOnlyTransaction.execute(status -> checkpointRepository.findAll());
+        Set<String> names = checkpoints.stream().map(EventStatisticsCheckpoint::getName).collect(Collectors.toSet());
+        if (!names.equals(counters.keySet())) {
+            reconcile();
+            return;
+        }
+        // 구동 이후 반영된 증감 값은 유지 (다음 저장 시 반영)
+        load(checkpoints);
+    }
+
+    /**
+     * 마지막 저장 이후의 증감 값 저장 : 저장된 값에 더한 뒤 다른 instance가 저장한 값을 포함하여 다시 조회
+     *  - 저장된 항목이 없는 경우 현재 값으로 저장하며, 저장하지 못한 증감 값은 다음 저장 시 반영한다.
+     */
+    @Scheduled(initialDelayString = "${my-app.event.statistics-checkpoint-interval:PT1M}",
+            fixedDelayString = "${my-app.event.statistics-checkpoint-interval:PT1M}")
+    public void checkpoint() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> previous = this.stored;
+        Map<String, Long> deltas = takeDeltas();
+        try {
+            load(transaction.execute(status -> {
+                deleteObsolete();
+                deltas.forEach((key, delta) -> {
+                    if (checkpointRepository.addCounterValue(key, delta, now) == 0) {
+                        checkpointRepository.save(new EventStatisticsCheckpoint(key, previous.getOrDefault(key, 0L) + delta, now));
+                    }
+                });
+                return checkpointRepository.findAll();
+            }));
+        } catch (RuntimeException e) {
+            restoreDeltas(previous, deltas);
+            throw e;
+        }
+    }
+
+    /**
+     * 전체 재집계 : 집계 쿼리 결과를 저장된 값으로 저장 (집계 결과에 포함된 증감 값은 저장하지 않음)
+     *  - 집계 중에 반영된 증감 값은 유지되며, 집계 결과와 중복 반영된 값(다른 instance의 저장하지 않은 증감 값 포함)은 다음 재집계 시 보정된다.
+     */
+    @Scheduled(initialDelayString = "${my-app.event.statistics-reconcile-interval:PT1H}",
+            fixedDelayString = "${my-app.event.statistics-reconcile-interval:PT1H}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> previous = this.stored;
+        // commit 이후에 반영되므로 집계 이전의 증감 값은 집계 결과에 포함됨
+        Map<String, Long> deltas = takeDeltas();
+        Map<String, Long> recounted;
+        try {
+            recounted = readOnlyTransaction.execute(status -> recount());
+            load(transaction.execute(status -> {
+                deleteObsolete();
+                return checkpointRepository.saveAll(recounted.entrySet().stream()
+                        .map(entry -> new EventStatisticsCheckpoint(entry.getKey(), entry.getValue(), now))
+                        .collect(Collectors.toList()));
+            }));
+        } catch (RuntimeException e) {
+            restoreDeltas(previous, deltas);
+            throw e;
+        }
+        reconciledAt = now;
+        log.info("event statistics reconciled : {}", recounted);
+    }
+
+    /**
+     * 저장할 증감 값 : counter를 초기화하고, 저장하는 동안 조회 값이 줄지 않도록 저장된 값에 미리 더함
+     */
+    private Map<String, Long> takeDeltas() {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        counters.forEach((key, counter) -> deltas.put(key, counter.sumThenReset()));
+        Map<String, Long> stored = new HashMap<>(this.stored);
+        deltas.forEach((key, delta) -> stored.merge(key, delta, Long::sum));
+        this.stored = stored;
+        return deltas;
+    }
+
+    private void restoreDeltas(Map<String, Long> previous, Map<String, Long> deltas) {
+        this.stored = previous;
+        deltas.forEach((key, delta) -> counters.get(key).add(delta));
+    }
+
+    /**
+     * 항목이 변경된 경우(basePrice 구간 설정 변경 등) 이전 항목 삭제
+     */
+    private void deleteObsolete() {
+        checkpointRepository.findAll().stream()
+                .filter(stored -> !counters.containsKey(stored.getName()))
+                .forEach(checkpointRepository::delete);
+    }
+
+    private void load(List<EventStatisticsCheckpoint> checkpoints) {
+        this.stored = checkpoints.stream()
+                .collect(Collectors.toMap(EventStatisticsCheckpoint::getName, EventStatisticsCheckpoint::getCounterValue));
+        checkpointedAt = checkpoints.stream().map(EventStatisticsCheckpoint::getCheckpointedAt)
+                .filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null);
+    }
+
+    private Map<String, Long> recount() {
+        Map<String, Long> recounted = new LinkedHashMap<>();
+        counters.keySet().forEach(key -> recounted.put(key, 0L));
+
+        // 상태별 Event 수 : 상태가 없는(null) Event는 증감 시와 같이 DRAFT로 집계 ({@link Snapshot})
+        List<Object[]> statusCounts = this.shardedEventRepository != null
+                ? this.shardedEventRepository.queryAll("select event_status, count(*) from event group by event_status",
+                        (resultSet, rowNum) -> {
+                            String eventStatus = resultSet.getString(1);
+                            return new Object[]{eventStatus == null ? null : EventStatus.valueOf(eventStatus), resultSet.getLong(2)};
+                        })
+                : entityManager.createQuery("select e.eventStatus, count(e) from Event e group by e.eventStatus", Object[].class)
+                        .getResultList();
+        for (Object[] statusCount : statusCounts) {
+            EventStatus eventStatus = statusCount[0] == null ? EventStatus.DRAFT : (EventStatus) statusCount[0];
+            recounted.merge(STATUS_PREFIX + eventStatus.name(), toLong(statusCount[1]), Long::sum);
+        }
+
+        // 전체/무료/오프라인 및 basePrice 구간별 누적(상한 값 이하) Event 수를 하나의 쿼리로 집계 (shard별 결과는 항목별로 합산)
+        long[] counts = new long[3 + priceBounds.length];
+        if (this.shardedEventRepository != null) {
+            List<long[]> shardCounts = this.shardedEventRepository.queryAll(countQuery("free", "offline", "base_price") + " from event",
+                    (resultSet, rowNum) -> {
+                        long[] row = new long[counts.length];
+                        for (int i = 0; i < row.length; i++) {
+                            row[i] = resultSet.getLong(i + 1);
+                        }
+                        return row;
+                    });
+            for (long[] row : shardCounts) {
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += row[i];
+                }
+            }
+        } else {
+            Object[] row = entityManager.createQuery(countQuery("e.free", "e.offline", "e.basePrice") + " from Event e", Object[].class)
+                    .getSingleResult();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = toLong(row[i]);
+            }
+        }
+        long total = counts[0];
+        recounted.put(TOTAL, total);
+        recounted.put(FREE, counts[1]);
+        recounted.put(OFFLINE, counts[2]);
+        long previous = 0;
+        List<String> priceBuckets = priceBuckets();
+        for (int i = 0; i < priceBounds.length; i++) {
+            long cumulative = counts[3 + i];
+            recounted.put(priceBuckets.get(i), cumulative - previous);
+            previous = cumulative;
+        }
+        recounted.put(priceBuckets.get(priceBounds.length), total - previous);
+        return recounted;
+    }
+
+    /**
+     * 전체/무료/오프라인 및 basePrice 구간별 누적 Event 수 집계 항목 (JPQL은 Entity 속성명, SQL은 column명)
+     */
+    private String countQuery(String free, String offline, String basePrice) {
+        StringBuilder query = new StringBuilder("select count(*)")
+                .append(", sum(case when ").append(free).append(" = true then 1 else 0 end)")
+                .append(", sum(case when ").append(offline).append(" = true then 1 else 0 end)");
+        for (int bound : priceBounds) {
+            query.append(", sum(case when ").append(basePrice).append(" <= ").append(bound).append(" then 1 else 0 end)");
+        }
+        return query.toString();
+    }
+
+    private List<String> priceBuckets() {
+        List<String> priceBuckets = new ArrayList<>(priceBounds.length + 1);
+        for (int bound : priceBounds) {
+            priceBuckets.add(PRICE_PREFIX + bound);
+        }
+        priceBuckets.add(PRICE_OVERFLOW_PREFIX + (priceBounds.length == 0 ? Integer.MIN_VALUE : priceBounds[priceBounds.length - 1]));
+        return priceBuckets;
+    }
+
+    private String priceBucket(int basePrice) {
+        for (int bound : priceBounds) {
+            if (basePrice <= bound) {
+                return PRICE_PREFIX + bound;
+            }
+        }
+        return PRICE_OVERFLOW_PREFIX + (priceBounds.length == 0 ? Integer.MIN_VALUE : priceBounds[priceBounds.length - 1]);
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    /**
+     * 통계 항목에 해당하는 Event 값 (변경 전 값은 Event 수정 전에 생성해야 한다.)
+     */
+    public static final class Snapshot {
+
+        private final EventStatus eventStatus;
+        private final boolean free;
+        private final boolean offline;
+        private final int basePrice;
+
+        private Snapshot(EventStatus eventStatus, boolean free, boolean offline, int basePrice) {
+            this.eventStatus = eventStatus == null ? EventStatus.DRAFT : eventStatus;
+            this.free = free;
+            this.offline = offline;
+            this.basePrice = basePrice;
+        }
+
+        public static Snapshot of(Event event) {
+            return new Snapshot(event.getEventStatus(), event.isFree(), event.isOffline(), event.getBasePrice());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Snapshot)) return false;
+            Snapshot snapshot = (Snapshot) o;
+            return free == snapshot.free && offline == snapshot.offline && basePrice == snapshot.basePrice
+                    && eventStatus == snapshot.eventStatus;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(eventStatus, free, offline, basePrice);
+        }
+    }
+}
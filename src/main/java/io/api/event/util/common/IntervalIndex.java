@@ -0,0 +1,214 @@
+package io.api.event.util.common;
+
+import java.util.Arrays;
+
+/**
+ * 구간(begin ~ end, 양 끝 포함) 겹침 조회용 정적 interval tree
+ *  - 구간을 (begin, id) 순으로 정렬한 primitive 배열에 저장하고, 배열의 가운데 위치를 root로 하는 암시적(implicit) 이진 트리로 사용한다.
+ *  - 각 노드에 하위 트리의 최대 end(maxEnds)를 저장하여, 조회 구간의 시작보다 maxEnd가 작은 하위 트리는 탐색하지 않는다. (O(log n + k))
+ *  - 생성 후 변경하지 않으므로 여러 thread에서 동시에 조회할 수 있다.
+ */
+public final class IntervalIndex {
+
+    private static final IntervalIndex EMPTY = new IntervalIndex(new int[0], new long[0], new long[0]);
+
+    private final int[] ids;
+    private final long[] begins;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private IntervalIndex(int[] ids, long[] begins, long[] ends) {
+        this.ids = ids;
+        this.begins = begins;
+        this.ends = ends;
+        this.maxEnds = new long[ids.length];
+        computeMaxEnd(0, ids.length - 1);
+    }
+
+    public static IntervalIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 조회 구간과 겹치는(begin <= to, end >= from) 구간의 ID 조회
+     * @param limit 최대 조회 수
+     * @return (begin, id) 순서로 정렬된 ID 목록
+     */
+    public int[] query(long from, long to, int limit) {
+        Collector collector = new Collector(Math.min(limit, 64), limit);
+        if (from <= to && limit > 0) {
+            query(0, ids.length - 1, from, to, collector);
+        }
+        return collector.toArray();
+    }
+
+    /**
+     * 중위 순회 : 왼쪽 하위 트리, 현재 노드, 오른쪽 하위 트리 순서로 방문하여 begin 순서대로 수집
+     * @return 최대 조회 수에 도달한 경우 false
+     */
+    private boolean query(int low, int high, long from, long to, Collector collector) {
+        if (low > high) {
+            return true;
+        }
+        int mid = (low + high) >>> 1;
+        if (maxEnds[mid] < from) {
+            return true; // 하위 트리의 모든 구간이 조회 구간 이전에 끝남
+        }
+        if (!query(low, mid - 1, from, to, collector)) {
+            return false;
+        }
+        if (begins[mid] > to) {
+            return true; // 현재 노드 및 오른쪽 하위 트리의 모든 구간이 조회 구간 이후에 시작
+        }
+        if (ends[mid] >= from && !collector.add(ids[mid])) {
+            return false;
+        }
+        return query(mid + 1, high, from, to, collector);
+    }
+
+    private long computeMaxEnd(int low, int high) {
+        if (low > high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        long maxEnd = Math.max(ends[mid], Math.max(computeMaxEnd(low, mid - 1), computeMaxEnd(mid + 1, high)));
+        maxEnds[mid] = maxEnd;
+        return maxEnd;
+    }
+
+    /**
+     * 구간 추가 후 (begin, id) 순으로 정렬하여 IntervalIndex 생성 (begin > end 인 구간은 제외)
+     */
+    public static final class Builder {
+
+        private int[] ids;
+        private long[] begins;
+        private long[] ends;
+        private int size;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            this.ids = new int[capacity];
+            this.begins = new long[capacity];
+            this.ends = new long[capacity];
+        }
+
+        public Builder add(int id, long begin, long end) {
+            if (begin > end) {
+                return this;
+            }
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                begins = Arrays.copyOf(begins, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+            }
+            ids[size] = id;
+            begins[size] = begin;
+            ends[size] = end;
+            size++;
+            return this;
+        }
+
+        public IntervalIndex build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            int[] sortedIds = Arrays.copyOf(ids, size);
+            long[] sortedBegins = Arrays.copyOf(begins, size);
+            long[] sortedEnds = Arrays.copyOf(ends, size);
+            sort(sortedIds, sortedBegins, sortedEnds, 0, size - 1);
+            return new IntervalIndex(sortedIds, sortedBegins, sortedEnds);
+        }
+    }
+
+    /**
+     * 세 배열을 함께 (begin, id) 순으로 정렬 (quicksort) : 객체 생성 없이 primitive 배열 안에서 교환
+     */
+    private static void sort(int[] ids, long[] begins, long[] ends, int low, int high) {
+        while (high - low > 16) {
+            int mid = (low + high) >>> 1;
+            // 처음, 가운데, 마지막 값의 중간 값을 pivot으로 사용
+            if (compare(ids, begins, mid, low) < 0) swap(ids, begins, ends, mid, low);
+            if (compare(ids, begins, high, low) < 0) swap(ids, begins, ends, high, low);
+            if (compare(ids, begins, high, mid) < 0) swap(ids, begins, ends, high, mid);
+            long pivotBegin = begins[mid];
+            int pivotId = ids[mid];
+            int left = low;
+            int right = high;
+            while (left <= right) {
+                while (compare(ids[left], begins[left], pivotId, pivotBegin) < 0) left++;
+                while (compare(ids[right], begins[right], pivotId, pivotBegin) > 0) right--;
+                if (left <= right) {
+                    swap(ids, begins, ends, left++, right--);
+                }
+            }
+            // 작은 쪽만 재귀 호출하여 호출 깊이를 O(log n)으로 제한
+            if (right - low < high - left) {
+                sort(ids, begins, ends, low, right);
+                low = left;
+            } else {
+                sort(ids, begins, ends, left, high);
+                high = right;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && compare(ids, begins, j, j - 1) < 0; j--) {
+                swap(ids, begins, ends, j, j - 1);
+            }
+        }
+    }
+
+    private static int compare(int[] ids, long[] begins, int left, int right) {
+        return compare(ids[left], begins[left], ids[right], begins[right]);
+    }
+
+    private static int compare(int leftId, long leftBegin, int rightId, long rightBegin) {
+        int compare = Long.compare(leftBegin, rightBegin);
+        return compare != 0 ? compare : Integer.compare(leftId, rightId);
+    }
+
+    private static void swap(int[] ids, long[] begins, long[] ends, int left, int right) {
+        int id = ids[left];
+        ids[left] = ids[right];
+        ids[right] = id;
+        long begin = begins[left];
+        begins[left] = begins[right];
+        begins[right] = begin;
+        long end = ends[left];
+        ends[left] = ends[right];
+        ends[right] = end;
+    }
+
+    private static final class Collector {
+
+        private int[] values;
+        private int size;
+        private final int limit;
+
+        private Collector(int capacity, int limit) {
+            this.values = new int[Math.max(capacity, 1)];
+            this.limit = limit;
+        }
+
+        private boolean add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(limit, size * 2));
+            }
+            values[size++] = value;
+            return size < limit;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
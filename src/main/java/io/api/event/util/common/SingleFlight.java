@@ -0,0 +1,92 @@
+package io.api.event.util.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 key의 동시 조회 요청 병합(single-flight)
+ *  - key별로 먼저 요청한 호출(leader)만 조회를 실행하고, 조회가 끝나기 전에 같은 key로 요청한 호출은 leader의 조회 결과(또는 예외)를 함께 사용한다.
+ *  - leader의 조회가 timeout 안에 끝나지 않은 경우 대기를 멈추고 직접 조회한다.
+ *  - 조회 결과는 캐시하지 않으며, leader의 조회가 끝난 이후의 요청은 새로 조회한다.
+ *
+ * 지표 (name tag : 병합 대상 조회 이름)
+ *  - single-flight.calls{result=leader} : 조회를 실행한 호출 수
+ *  - single-flight.calls{result=collapsed} : 진행 중인 조회에 병합된 호출 수 (timeout 포함)
+ *  - single-flight.calls{result=timeout} : 병합 후 timeout으로 직접 조회한 호출 수
+ *  - single-flight.in-flight : 진행 중인 조회 수
+ */
+public class SingleFlight<K, V> {
+
+    private static final String CALLS = "single-flight.calls";
+    private static final String IN_FLIGHT = "single-flight.in-flight";
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final Counter leaderCalls;
+    private final Counter collapsedCalls;
+    private final Counter timedOutCalls;
+
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.leaderCalls = calls(name, "leader", meterRegistry);
+        this.collapsedCalls = calls(name, "collapsed", meterRegistry);
+        this.timedOutCalls = calls(name, "timeout", meterRegistry);
+        Gauge.builder(IN_FLIGHT, inFlight, Map::size).tag("name", name).register(meterRegistry);
+    }
+
+    /**
+     * @param key 병합 기준 key (equals/hashCode 구현 필요)
+     * @param loader 조회 : leader 또는 timeout 발생 시에만 실행
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(existing, loader);
+        }
+
+        leaderCalls.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private V await(CompletableFuture<V> call, Supplier<V> loader) {
+        collapsedCalls.increment();
+        try {
+            return call.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timedOutCalls.increment();
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for in-flight call", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static Counter calls(String name, String result, MeterRegistry meterRegistry) {
+        return Counter.builder(CALLS).tag("name", name).tag("result", result).register(meterRegistry);
+    }
+}
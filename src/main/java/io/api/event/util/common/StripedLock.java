@@ -0,0 +1,50 @@
+package io.api.event.util.common;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * key별 lock을 고정된 수의 lock(stripe)에 나누어 할당한 lock
+ *  - 같은 key는 항상 같은 stripe를 사용하므로 같은 key의 처리는 순서대로 실행되고,
+ *    다른 key는 다른 stripe에 할당된 경우 동시에 실행된다. (key별 lock 객체를 생성/삭제하지 않음)
+ *  - 공정(fair) lock을 사용하여 먼저 대기한 thread가 먼저 lock을 획득한다.
+ */
+public class StripedLock {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes stripe 수 (2의 제곱수로 올림)
+     */
+    public StripedLock(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int index = 0; index < size; index++) {
+            this.locks[index] = new ReentrantLock(true);
+        }
+        this.mask = size - 1;
+    }
+
+    public int stripes() {
+        return this.locks.length;
+    }
+
+    public <T> T execute(Object key, Supplier<T> action) {
+        ReentrantLock lock = this.locks[index(key)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int index(Object key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return hash & this.mask;
+    }
+}
@@ -0,0 +1,11 @@
+package io.api.event.util.common.constant;
+
+public class CustomHttpHeaders {
+
+    // 재시도 시 같은 요청임을 식별하는 요청 헤더 (같은 key의 요청은 처음 처리한 결과를 응답)
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    // 저장된 처리 결과를 다시 응답한 경우 true
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+}
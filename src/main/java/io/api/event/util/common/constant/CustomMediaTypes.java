@@ -4,4 +4,6 @@ public class CustomMediaTypes {
 
     public static final String HAL_JSON_UTF8_VALUE = "application/hal+json;charset=UTF-8";
 
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
 }
\ No newline at end of file
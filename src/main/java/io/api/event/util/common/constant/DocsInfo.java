@@ -14,6 +14,16 @@ public class DocsInfo {
     public static final String GET_AN_EVENT = "get-an-event";
     public static final String GET_EVENT_LIST = "get-event-list";
     public static final String UPDATE_EVENT = "update-event";
+    public static final String PATCH_EVENT = "patch-event";
+    public static final String GET_EVENTS_BY_IDS = "get-events-by-ids";
+    public static final String GET_EVENTS_IN_WINDOW = "get-events-in-window";
+    public static final String GET_NEARBY_EVENTS = "get-nearby-events";
+    public static final String GET_MY_EVENTS = "get-my-events";
+    public static final String GET_EVENT_STATISTICS = "get-event-statistics";
+    public static final String ENROLL_EVENT = "enroll-event";
+    public static final String GET_ENROLLMENT = "get-enrollment";
+    public static final String CANCEL_ENROLLMENT = "cancel-enrollment";
+    public static final String GET_AUDIT_ENTRIES = "get-audit-entries";
 
 
 
@@ -25,5 +35,15 @@ public class DocsInfo {
     public static final String GET_EVENT_DOCS_PATH = DOCS_PATH_PREFIX + GET_AN_EVENT;
     public static final String GET_EVENT_LIST_DOCS_PATH = DOCS_PATH_PREFIX + GET_EVENT_LIST;
     public static final String UPDATE_EVENT_DOCS_PATH = DOCS_PATH_PREFIX + UPDATE_EVENT;
+    public static final String PATCH_EVENT_DOCS_PATH = DOCS_PATH_PREFIX + PATCH_EVENT;
+    public static final String GET_EVENTS_BY_IDS_DOCS_PATH = DOCS_PATH_PREFIX + GET_EVENTS_BY_IDS;
+    public static final String GET_EVENTS_IN_WINDOW_DOCS_PATH = DOCS_PATH_PREFIX + GET_EVENTS_IN_WINDOW;
+    public static final String GET_NEARBY_EVENTS_DOCS_PATH = DOCS_PATH_PREFIX + GET_NEARBY_EVENTS;
+    public static final String GET_MY_EVENTS_DOCS_PATH = DOCS_PATH_PREFIX + GET_MY_EVENTS;
+    public static final String GET_EVENT_STATISTICS_DOCS_PATH = DOCS_PATH_PREFIX + GET_EVENT_STATISTICS;
+    public static final String ENROLL_EVENT_DOCS_PATH = DOCS_PATH_PREFIX + ENROLL_EVENT;
+    public static final String GET_ENROLLMENT_DOCS_PATH = DOCS_PATH_PREFIX + GET_ENROLLMENT;
+    public static final String CANCEL_ENROLLMENT_DOCS_PATH = DOCS_PATH_PREFIX + CANCEL_ENROLLMENT;
+    public static final String GET_AUDIT_ENTRIES_DOCS_PATH = DOCS_PATH_PREFIX + GET_AUDIT_ENTRIES;
 
 }
\ No newline at end of file
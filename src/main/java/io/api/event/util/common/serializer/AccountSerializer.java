@@ -0,0 +1,22 @@
+package io.api.event.util.common.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import io.api.event.domain.entity.account.Account;
+
+import java.io.IOException;
+
+/**
+ * Event 응답 시 manager(Account)의 email, password, roles 정보가 노출되지 않도록 id만 JSON으로 변환하는 Serializer
+ *  - 모든 Account 변환에 적용되지 않도록 @JsonComponent로 등록하지 않고, Event.manager에 @JsonSerialize로 지정한다.
+ * */
+public class AccountSerializer extends JsonSerializer<Account> {
+
+    @Override
+    public void serialize(Account account, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeNumberField("id", account.getId());
+        jsonGenerator.writeEndObject();
+    }
+}
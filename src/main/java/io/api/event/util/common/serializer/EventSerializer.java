@@ -0,0 +1,193 @@
+package io.api.event.util.common.serializer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventStatus;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Event를 BeanSerializer(reflection, getter 호출) 없이 항목 순서대로 직접 JSON으로 변환하는 Serializer
+ *  - BeanSerializer와 같은 항목명, 순서, 값 형식으로 변환한다. (geohash, located 제외, manager는 {@link AccountSerializer})
+ *  - 날짜(LocalDateTime) 및 eventStatus는 ObjectMapper에 설정된 Serializer를 사용하므로 날짜 형식 등의 설정이 그대로 적용된다.
+ *  - EntityModel(EventEntityModel, PagedModel의 content)은 Event를 @JsonUnwrapped로 변환하므로, 시작/종료 괄호 없이 항목만 출력하는 unwrapping 변환을 지원한다.
+ *  - Event 항목 추가/변경 시 이 Serializer도 함께 변경해야 하며, EventSerializerTest의 golden file로 BeanSerializer와 같은 결과인지 확인한다.
+ */
+public class EventSerializer extends StdSerializer<Event> implements ContextualSerializer {
+
+    private static final String[] FIELD_NAMES = {
+            "id", "name", "description",
+            "beginEnrollmentDateTime", "closeEnrollmentDateTime", "beginEventDateTime", "endEventDateTime",
+            "location", "basePrice", "maxPrice", "limitOfEnrollment", "offline", "free",
+            "latitude", "longitude", "eventStatus", "manager"
+    };
+
+    private static final AccountSerializer ACCOUNT_SERIALIZER = new AccountSerializer();
+
+    private final SerializableString[] names;
+    private final boolean unwrapping;
+    private final boolean skipNulls;
+    private final JsonSerializer<Object> dateTimeSerializer;
+    private final JsonSerializer<Object> eventStatusSerializer;
+
+    // NameTransformer.NOP로 unwrapping 하는 경우(EntityModel) 매번 생성하지 않도록 보관
+    private EventSerializer nopUnwrappingSerializer;
+
+    public EventSerializer() {
+        this(names(NameTransformer.NOP), false, false, null, null);
+    }
+
+    private EventSerializer(SerializableString[] names, boolean unwrapping, boolean skipNulls,
+                            JsonSerializer<Object> dateTimeSerializer, JsonSerializer<Object> eventStatusSerializer) {
+        super(Event.class);
+        this.names = names;
+        this.unwrapping = unwrapping;
+        this.skipNulls = skipNulls;
+        this.dateTimeSerializer = dateTimeSerializer;
+        this.eventStatusSerializer = eventStatusSerializer;
+    }
+
+    /**
+     * EventSerializer를 등록하는 Jackson Module
+     */
+    public static SimpleModule module() {
+        return new SimpleModule("EventSerializer").addSerializer(Event.class, new EventSerializer());
+    }
+
+    /**
+     * ObjectMapper의 설정(날짜 형식, null 항목 포함 여부)에 맞는 Serializer를 조회하여 변환 시 조회하지 않도록 보관
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(Event.class).getValueInclusion();
+        boolean skipNulls = inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS;
+        return new EventSerializer(this.names, this.unwrapping, skipNulls,
+                provider.findValueSerializer(LocalDateTime.class, property),
+                provider.findValueSerializer(EventStatus.class, property));
+    }
+
+    @Override
+    public JsonSerializer<Event> unwrappingSerializer(NameTransformer unwrapper) {
+        if (unwrapper == NameTransformer.NOP) {
+            if (this.nopUnwrappingSerializer == null) {
+                this.nopUnwrappingSerializer = new EventSerializer(this.names, true, this.skipNulls, this.dateTimeSerializer, this.eventStatusSerializer);
+            }
+            return this.nopUnwrappingSerializer;
+        }
+        return new EventSerializer(names(unwrapper), true, this.skipNulls, this.dateTimeSerializer, this.eventStatusSerializer);
+    }
+
+    @Override
+    public boolean isUnwrappingSerializer() {
+        return this.unwrapping;
+    }
+
+    @Override
+    public void serialize(Event event, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (!this.unwrapping) {
+            generator.writeStartObject(event);
+        }
+        SerializableString[] names = this.names;
+
+        if (event.getId() != null) {
+            generator.writeFieldName(names[0]);
+            generator.writeNumber(event.getId());
+        } else {
+            this.writeNull(generator, names[0]);
+        }
+        this.writeString(generator, names[1], event.getName());
+        this.writeString(generator, names[2], event.getDescription());
+        this.writeDateTime(generator, provider, names[3], event.getBeginEnrollmentDateTime());
+        this.writeDateTime(generator, provider, names[4], event.getCloseEnrollmentDateTime());
+        this.writeDateTime(generator, provider, names[5], event.getBeginEventDateTime());
+        this.writeDateTime(generator, provider, names[6], event.getEndEventDateTime());
+        this.writeString(generator, names[7], event.getLocation());
+        generator.writeFieldName(names[8]);
+        generator.writeNumber(event.getBasePrice());
+        generator.writeFieldName(names[9]);
+        generator.writeNumber(event.getMaxPrice());
+        generator.writeFieldName(names[10]);
+        generator.writeNumber(event.getLimitOfEnrollment());
+        generator.writeFieldName(names[11]);
+        generator.writeBoolean(event.isOffline());
+        generator.writeFieldName(names[12]);
+        generator.writeBoolean(event.isFree());
+        this.writeDouble(generator, names[13], event.getLatitude());
+        this.writeDouble(generator, names[14], event.getLongitude());
+
+        if (event.getEventStatus() != null) {
+            generator.writeFieldName(names[15]);
+            JsonSerializer<Object> eventStatusSerializer = this.eventStatusSerializer != null
+                    ? this.eventStatusSerializer : provider.findValueSerializer(EventStatus.class);
+            eventStatusSerializer.serialize(event.getEventStatus(), generator, provider);
+        } else {
+            this.writeNull(generator, names[15]);
+        }
+        if (event.getManager() != null) {
+            generator.writeFieldName(names[16]);
+            ACCOUNT_SERIALIZER.serialize(event.getManager(), generator, provider);
+        } else {
+            this.writeNull(generator, names[16]);
+        }
+
+        if (!this.unwrapping) {
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeString(JsonGenerator generator, SerializableString name, String value) throws IOException {
+        if (value == null) {
+            this.writeNull(generator, name);
+            return;
+        }
+        generator.writeFieldName(name);
+        generator.writeString(value);
+    }
+
+    private void writeDouble(JsonGenerator generator, SerializableString name, Double value) throws IOException {
+        if (value == null) {
+            this.writeNull(generator, name);
+            return;
+        }
+        generator.writeFieldName(name);
+        generator.writeNumber(value);
+    }
+
+    private void writeDateTime(JsonGenerator generator, SerializerProvider provider, SerializableString name, LocalDateTime value) throws IOException {
+        if (value == null) {
+            this.writeNull(generator, name);
+            return;
+        }
+        generator.writeFieldName(name);
+        JsonSerializer<Object> dateTimeSerializer = this.dateTimeSerializer != null
+                ? this.dateTimeSerializer : provider.findValueSerializer(LocalDateTime.class);
+        dateTimeSerializer.serialize(value, generator, provider);
+    }
+
+    private void writeNull(JsonGenerator generator, SerializableString name) throws IOException {
+        if (!this.skipNulls) {
+            generator.writeFieldName(name);
+            generator.writeNull();
+        }
+    }
+
+    private static SerializableString[] names(NameTransformer transformer) {
+        SerializableString[] names = new SerializableString[FIELD_NAMES.length];
+        for (int index = 0; index < FIELD_NAMES.length; index++) {
+            names[index] = new SerializedString(transformer.transform(FIELD_NAMES[index]));
+        }
+        return names;
+    }
+}
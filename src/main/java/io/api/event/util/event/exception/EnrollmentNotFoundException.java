@@ -0,0 +1,11 @@
+package io.api.event.util.event.exception;
+
+/**
+ * 요청한 Account의 참가 신청(취소하지 않은)이 없는 경우 발생 (404 Not Found)
+ */
+public class EnrollmentNotFoundException extends RuntimeException {
+
+    public EnrollmentNotFoundException(Integer eventId) {
+        super("enrollment not found : event " + eventId);
+    }
+}
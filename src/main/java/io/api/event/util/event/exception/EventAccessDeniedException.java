@@ -0,0 +1,11 @@
+package io.api.event.util.event.exception;
+
+/**
+ * 요청한 Account가 Event의 manager가 아닌 경우 발생 (401 Unauthorized)
+ */
+public class EventAccessDeniedException extends RuntimeException {
+
+    public EventAccessDeniedException(Integer id) {
+        super("current user is not the manager of event : " + id);
+    }
+}
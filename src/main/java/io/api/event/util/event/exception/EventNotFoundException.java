@@ -0,0 +1,11 @@
+package io.api.event.util.event.exception;
+
+/**
+ * 요청 정보에 해당하는 Event가 없는 경우 발생 (404 Not Found)
+ */
+public class EventNotFoundException extends RuntimeException {
+
+    public EventNotFoundException(Integer id) {
+        super("event not found : " + id);
+    }
+}
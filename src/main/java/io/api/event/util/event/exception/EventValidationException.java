@@ -0,0 +1,20 @@
+package io.api.event.util.event.exception;
+
+import org.springframework.validation.Errors;
+
+/**
+ * Service 처리 중 유효성 검사에 실패한 경우 발생 (400 Bad Request)
+ */
+public class EventValidationException extends RuntimeException {
+
+    private final Errors errors;
+
+    public EventValidationException(Errors errors) {
+        super("event validation failed : " + errors.getErrorCount() + " errors");
+        this.errors = errors;
+    }
+
+    public Errors getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,11 @@
+package io.api.event.util.event.exception;
+
+/**
+ * 같은 Idempotency-Key의 요청이 처리 중인 경우 발생 (409 Conflict)
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String idempotencyKey) {
+        super("request with the same idempotency key is in progress : " + idempotencyKey);
+    }
+}
@@ -0,0 +1,11 @@
+package io.api.event.util.event.exception;
+
+/**
+ * 이미 처리한 Idempotency-Key로 다른 내용을 요청한 경우 발생 (422 Unprocessable Entity)
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String idempotencyKey) {
+        super("idempotency key is already used for a different request : " + idempotencyKey);
+    }
+}
@@ -0,0 +1,55 @@
+package io.api.event.util.event.rule;
+
+import io.api.event.domain.dto.event.EventDto;
+import org.springframework.validation.Errors;
+
+import java.util.function.Predicate;
+
+/**
+ * 하위 규칙 목록을 순서대로 평가하는 조합 규칙
+ *  - 하위 규칙은 배열로 보관하여 평가 시 Iterator 등의 객체를 생성하지 않는다.
+ *  - fastPath를 만족하면 하위 규칙의 평가를 생략한다.
+ */
+final class CompositeEventRule implements EventRule {
+
+    private final Predicate<EventDto> fastPath;
+    private final EventRule[] rules;
+
+    CompositeEventRule(Predicate<EventDto> fastPath, EventRule... rules) {
+        this.fastPath = fastPath;
+        this.rules = rules.clone();
+    }
+
+    @Override
+    public boolean isSatisfiedBy(EventDto eventDto) {
+        if (fastPath != null && fastPath.test(eventDto)) {
+            return true;
+        }
+        // 하나의 규칙이라도 위반한 경우 즉시 반환 (fail-fast)
+        for (EventRule rule : rules) {
+            if (!rule.isSatisfiedBy(eventDto)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void reject(EventDto eventDto, Errors errors) {
+        for (EventRule rule : rules) {
+            rule.check(eventDto, errors);
+        }
+    }
+
+    @Override
+    public boolean check(EventDto eventDto, Errors errors) {
+        if (fastPath != null && fastPath.test(eventDto)) {
+            return true;
+        }
+        boolean satisfied = true;
+        for (EventRule rule : rules) {
+            satisfied &= rule.check(eventDto, errors);
+        }
+        return satisfied;
+    }
+}
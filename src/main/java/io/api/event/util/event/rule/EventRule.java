@@ -0,0 +1,60 @@
+package io.api.event.util.event.rule;
+
+import io.api.event.domain.dto.event.EventDto;
+import org.springframework.validation.Errors;
+
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * EventDto 유효성 검사 규칙
+ *  - isSatisfiedBy() : 규칙 만족 여부만 판단 (Errors 객체 생성 없이 Bulk 검증에서 재사용)
+ *  - reject() : 규칙 위반 시 Errors 객체에 오류 내용을 담는다. (실패한 경우에만 호출)
+ *
+ * 규칙은 상태를 가지지 않으므로 static 상수로 한번만 생성하여 재사용 한다.
+ */
+public interface EventRule {
+
+    boolean isSatisfiedBy(EventDto eventDto);
+
+    void reject(EventDto eventDto, Errors errors);
+
+    /**
+     * 규칙 만족 여부를 확인 하고, 위반한 경우에만 오류 내용을 담는다.
+     * @return 규칙 만족 여부
+     */
+    default boolean check(EventDto eventDto, Errors errors) {
+        if (isSatisfiedBy(eventDto)) {
+            return true;
+        }
+        reject(eventDto, errors);
+        return false;
+    }
+
+    static EventRule of(Predicate<EventDto> condition, BiConsumer<EventDto, Errors> rejection) {
+        return new EventRule() {
+            @Override
+            public boolean isSatisfiedBy(EventDto eventDto) {
+                return condition.test(eventDto);
+            }
+
+            @Override
+            public void reject(EventDto eventDto, Errors errors) {
+                rejection.accept(eventDto, errors);
+            }
+        };
+    }
+
+    /**
+     * 여러 규칙을 하나의 규칙으로 조합
+     * @param fastPath 만족 시 하위 규칙을 모두 만족함이 보장되는 사전 조건 (만족 시 하위 규칙 평가 생략)
+     * @param rules 하위 규칙 목록 (fastPath 실패 시 위반한 규칙만 오류 처리)
+     */
+    static EventRule guardedBy(Predicate<EventDto> fastPath, EventRule... rules) {
+        return new CompositeEventRule(fastPath, rules);
+    }
+
+    static EventRule allOf(EventRule... rules) {
+        return new CompositeEventRule(null, rules);
+    }
+}
@@ -0,0 +1,93 @@
+package io.api.event.util.event.rule;
+
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.util.geo.GeoPoint;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * EventDto 유효성 검사 규칙 목록
+ *  - 날짜 항목은 등록 시작일 <= 등록 마감일 <= 이벤트 시작일 <= 이벤트 종료일 순서를 만족해야 한다.
+ *  - 날짜 항목이 null인 경우는 JSR303(@NotNull) 검사 대상이므로 날짜 규칙에서는 만족으로 판단한다.
+ */
+public final class EventRules {
+
+    /* 금액 유효성 검사 : 기본금액이 최대금액보다 크고, 최대 금액이 0이 아닌 경우 */
+    public static final EventRule PRICE = EventRule.of(
+            eventDto -> eventDto.getBasePrice() <= eventDto.getMaxPrice() || eventDto.getMaxPrice() == 0,
+            (eventDto, errors) -> {
+                Map<String, Object> rejectInfoMap = new HashMap<>();
+                rejectInfoMap.put("basePrice", eventDto.getBasePrice());
+                rejectInfoMap.put("maxPrice", eventDto.getMaxPrice());
+
+                Object[] wrongValueObjectArray = {rejectInfoMap};
+                errors.reject("wrongValue", wrongValueObjectArray, "price values are wrong");
+            });
+
+    /* 등록 시작일 유효성 검사 : 등록 시작 일자가 등록 마감일, 시작일, 종료일 보다 늦은 경우 */
+    public static final EventRule BEGIN_ENROLLMENT_DATE_TIME = EventRule.of(
+            eventDto -> hasNullDateTime(eventDto)
+                    || !(eventDto.getBeginEnrollmentDateTime().isAfter(eventDto.getCloseEnrollmentDateTime())
+                    || eventDto.getBeginEnrollmentDateTime().isAfter(eventDto.getBeginEventDateTime())
+                    || eventDto.getBeginEnrollmentDateTime().isAfter(eventDto.getEndEventDateTime())),
+            (eventDto, errors) -> errors.rejectValue("beginEnrollmentDateTime", "wrongValue", "beginEnrollmentDateTime is wrong"));
+
+    /* 등록 마감일 날짜 유효성 검사 : 등록 마감 일자가 시작일, 종료일 보다 늦은 경우 */
+    public static final EventRule CLOSE_ENROLLMENT_DATE_TIME = EventRule.of(
+            eventDto -> hasNullDateTime(eventDto)
+                    || !(eventDto.getCloseEnrollmentDateTime().isAfter(eventDto.getBeginEventDateTime())
+                    || eventDto.getCloseEnrollmentDateTime().isAfter(eventDto.getEndEventDateTime())),
+            (eventDto, errors) -> errors.rejectValue("closeEnrollmentDateTime", "wrongValue", "closeEnrollmentDateTime is wrong"));
+
+    /* 이벤트 시작일 날짜 유효성 검사 : 시작 일자가 등록 시작일 보다 빠르거나, 종료 일자가 등록 마감일 보다 빠르거나, 시작 일자가 종료일 보다 늦은 경우 */
+    public static final EventRule BEGIN_EVENT_DATE_TIME = EventRule.of(
+            eventDto -> hasNullDateTime(eventDto)
+                    || !(eventDto.getBeginEventDateTime().isBefore(eventDto.getBeginEnrollmentDateTime())
+                    || eventDto.getEndEventDateTime().isBefore(eventDto.getCloseEnrollmentDateTime())
+                    || eventDto.getBeginEventDateTime().isAfter(eventDto.getEndEventDateTime())),
+            (eventDto, errors) -> errors.rejectValue("beginEventDateTime", "wrongValue", "beginEventDateTime is wrong"));
+
+    /* 좌표 유효성 검사 : 위도/경도 중 하나만 입력했거나, 위도(-90 ~ 90), 경도(-180 ~ 180) 범위를 벗어난 경우 */
+    public static final EventRule COORDINATES = EventRule.of(
+            eventDto -> (eventDto.getLatitude() == null && eventDto.getLongitude() == null)
+                    || (eventDto.getLatitude() != null && eventDto.getLongitude() != null
+                    && GeoPoint.isValid(eventDto.getLatitude(), eventDto.getLongitude())),
+            (eventDto, errors) -> errors.rejectValue("latitude", "wrongValue", "latitude/longitude values are wrong"));
+
+    /**
+     * 날짜 항목 규칙 : 날짜 순서를 만족하는 경우(3번의 비교) 개별 날짜 규칙의 평가를 생략한다.
+     * 날짜 순서를 만족하면 개별 날짜 규칙도 모두 만족하므로, 개별 규칙은 실패한 항목을 찾는 경우에만 평가한다.
+     */
+    public static final EventRule DATE_TIME_ORDER = EventRule.guardedBy(EventRules::isDateTimeOrdered,
+            BEGIN_ENROLLMENT_DATE_TIME,
+            CLOSE_ENROLLMENT_DATE_TIME,
+            BEGIN_EVENT_DATE_TIME);
+
+    public static final EventRule ALL = EventRule.allOf(PRICE, DATE_TIME_ORDER, COORDINATES);
+
+    private EventRules() {
+    }
+
+    static boolean isDateTimeOrdered(EventDto eventDto) {
+        LocalDateTime beginEnrollmentDateTime = eventDto.getBeginEnrollmentDateTime();
+        LocalDateTime closeEnrollmentDateTime = eventDto.getCloseEnrollmentDateTime();
+        LocalDateTime beginEventDateTime = eventDto.getBeginEventDateTime();
+        LocalDateTime endEventDateTime = eventDto.getEndEventDateTime();
+        if (beginEnrollmentDateTime == null || closeEnrollmentDateTime == null
+                || beginEventDateTime == null || endEventDateTime == null) {
+            return false;
+        }
+        return !beginEnrollmentDateTime.isAfter(closeEnrollmentDateTime)
+                && !closeEnrollmentDateTime.isAfter(beginEventDateTime)
+                && !beginEventDateTime.isAfter(endEventDateTime);
+    }
+
+    private static boolean hasNullDateTime(EventDto eventDto) {
+        return eventDto.getBeginEnrollmentDateTime() == null
+                || eventDto.getCloseEnrollmentDateTime() == null
+                || eventDto.getBeginEventDateTime() == null
+                || eventDto.getEndEventDateTime() == null;
+    }
+}
@@ -0,0 +1,50 @@
+package io.api.event.util.geo;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 위도/경도 사각 영역 (경계 포함, 날짜 변경선을 넘는 영역은 지원하지 않음)
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class GeoBoundingBox {
+
+    private final double minLatitude;
+    private final double minLongitude;
+    private final double maxLatitude;
+    private final double maxLongitude;
+
+    public GeoBoundingBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        this.minLatitude = minLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLatitude = maxLatitude;
+        this.maxLongitude = maxLongitude;
+    }
+
+    /**
+     * 영역 형식 변환 : minLongitude,minLatitude,maxLongitude,maxLatitude (GeoJSON bbox 순서)
+     * @throws IllegalArgumentException 형식이 다르거나 범위를 벗어난 경우, 최소 값이 최대 값보다 큰 경우
+     */
+    public static GeoBoundingBox parse(String bbox) {
+        String[] values = bbox.split(",");
+        if (values.length != 4) {
+            throw new IllegalArgumentException("bbox must be minLongitude,minLatitude,maxLongitude,maxLatitude");
+        }
+        double minLongitude = Double.parseDouble(values[0].trim());
+        double minLatitude = Double.parseDouble(values[1].trim());
+        double maxLongitude = Double.parseDouble(values[2].trim());
+        double maxLatitude = Double.parseDouble(values[3].trim());
+        if (!GeoPoint.isValid(minLatitude, minLongitude) || !GeoPoint.isValid(maxLatitude, maxLongitude)
+                || minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new IllegalArgumentException("bbox values are out of range");
+        }
+        return new GeoBoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLatitude && latitude <= maxLatitude && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+}
@@ -0,0 +1,119 @@
+package io.api.event.util.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Geohash 변환 및 영역 검색용 cell 목록 생성
+ *  - geohash는 경도/위도 bit를 번갈아 배치한 base32 문자열로, 같은 prefix를 가진 좌표는 같은 cell 안에 있다.
+ *  - 저장한 geohash column의 B-tree index에서 prefix 범위 조회(geohash >= prefix and geohash < 다음 prefix)로 cell 안의 좌표를 찾는다.
+ *    상한은 base32 문자만으로 만든 다음 prefix({@link #nextPrefix})를 사용하여, 기호 문자의 순서가 다른 DB collation(ex: en_US.UTF-8)에서도 같은 범위를 조회한다.
+ */
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final String BASE32_CHARACTERS = new String(BASE32);
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLatitude = -90, maxLatitude = 90;
+        double minLongitude = -180, maxLongitude = 180;
+        StringBuilder geohash = new StringBuilder(precision);
+        boolean longitudeBit = true;
+        int bits = 0;
+        int value = 0;
+        while (geohash.length() < precision) {
+            if (longitudeBit) {
+                double mid = (minLongitude + maxLongitude) / 2;
+                if (longitude >= mid) {
+                    value = (value << 1) | 1;
+                    minLongitude = mid;
+                } else {
+                    value <<= 1;
+                    maxLongitude = mid;
+                }
+            } else {
+                double mid = (minLatitude + maxLatitude) / 2;
+                if (latitude >= mid) {
+                    value = (value << 1) | 1;
+                    minLatitude = mid;
+                } else {
+                    value <<= 1;
+                    maxLatitude = mid;
+                }
+            }
+            longitudeBit = !longitudeBit;
+            if (++bits == 5) {
+                geohash.append(BASE32[value]);
+                bits = 0;
+                value = 0;
+            }
+        }
+        return geohash.toString();
+    }
+
+    /**
+     * 영역을 덮는 cell 목록 : cell 수가 maxCells 이하인 가장 작은 cell(긴 geohash)로 영역을 덮는다.
+     * @return 정렬된 geohash prefix 목록
+     */
+    public static List<String> covering(GeoBoundingBox box, int maxCells) {
+        int precision = 1;
+        while (precision < MAX_PRECISION && cellCount(box, precision + 1) <= maxCells) {
+            precision++;
+        }
+        double cellWidth = cellWidth(precision);
+        double cellHeight = cellHeight(precision);
+        TreeSet<String> cells = new TreeSet<>();
+        for (long latitudeIndex = index(box.getMinLatitude(), -90, cellHeight); latitudeIndex <= index(box.getMaxLatitude(), -90, cellHeight); latitudeIndex++) {
+            double latitude = Math.min(90, -90 + (latitudeIndex + 0.5) * cellHeight);
+            for (long longitudeIndex = index(box.getMinLongitude(), -180, cellWidth); longitudeIndex <= index(box.getMaxLongitude(), -180, cellWidth); longitudeIndex++) {
+                double longitude = Math.min(180, -180 + (longitudeIndex + 0.5) * cellWidth);
+                cells.add(encode(latitude, longitude, precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    /**
+     * prefix 범위 조회의 상한 : prefix로 시작하는 모든 geohash보다 크고, 그 외의 더 큰 geohash보다 작거나 같은 가장 작은 base32 문자열
+     *  - 마지막 문자를 다음 base32 문자로 바꾸며, 마지막 문자가 'z'인 경우 제외하고 앞 문자를 바꾼다. (ex: u4pz -> u4q)
+     * @return 모든 문자가 'z'인 경우 상한이 없으므로 null
+     */
+    public static String nextPrefix(String prefix) {
+        for (int index = prefix.length() - 1; index >= 0; index--) {
+            int position = BASE32_CHARACTERS.indexOf(prefix.charAt(index));
+            if (position < 0) {
+                throw new IllegalArgumentException("not a geohash : " + prefix);
+            }
+            if (position < BASE32.length - 1) {
+                return prefix.substring(0, index) + BASE32[position + 1];
+            }
+        }
+        return null;
+    }
+
+    static long cellCount(GeoBoundingBox box, int precision) {
+        double cellWidth = cellWidth(precision);
+        double cellHeight = cellHeight(precision);
+        long columns = index(box.getMaxLongitude(), -180, cellWidth) - index(box.getMinLongitude(), -180, cellWidth) + 1;
+        long rows = index(box.getMaxLatitude(), -90, cellHeight) - index(box.getMinLatitude(), -90, cellHeight) + 1;
+        return columns * rows;
+    }
+
+    private static long index(double value, double origin, double cellSize) {
+        return (long) Math.floor((value - origin) / cellSize);
+    }
+
+    private static double cellWidth(int precision) {
+        return 360 / Math.pow(2, (5 * precision + 1) / 2);
+    }
+
+    private static double cellHeight(int precision) {
+        return 180 / Math.pow(2, (5 * precision) / 2);
+    }
+}
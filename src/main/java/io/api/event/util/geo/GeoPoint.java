@@ -0,0 +1,56 @@
+package io.api.event.util.geo;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 위도/경도 좌표 (WGS84, 도 단위)
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class GeoPoint {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private final double latitude;
+    private final double longitude;
+
+    public GeoPoint(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static boolean isValid(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
+    /**
+     * 두 좌표 사이의 대원 거리 (haversine, 미터)
+     */
+    public double distanceTo(double latitude, double longitude) {
+        double latitudeDelta = Math.toRadians(latitude - this.latitude);
+        double longitudeDelta = Math.toRadians(longitude - this.longitude);
+        double a = Math.sin(latitudeDelta / 2) * Math.sin(latitudeDelta / 2)
+                + Math.cos(Math.toRadians(this.latitude)) * Math.cos(Math.toRadians(latitude))
+                * Math.sin(longitudeDelta / 2) * Math.sin(longitudeDelta / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public double distanceTo(GeoPoint point) {
+        return distanceTo(point.latitude, point.longitude);
+    }
+
+    /**
+     * 좌표를 중심으로 반경(미터)을 포함하는 영역 : 극 지방 및 날짜 변경선을 넘는 영역은 위도/경도 범위 안으로 제한
+     */
+    public GeoBoundingBox boundingBox(double radiusMeters) {
+        double latitudeDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double cos = Math.cos(Math.toRadians(latitude));
+        double longitudeDelta = cos <= 1e-9 ? 180 : Math.min(180, latitudeDelta / cos);
+        return new GeoBoundingBox(
+                Math.max(-90, latitude - latitudeDelta), Math.max(-180, longitude - longitudeDelta),
+                Math.min(90, latitude + latitudeDelta), Math.min(180, longitude + longitudeDelta));
+    }
+}
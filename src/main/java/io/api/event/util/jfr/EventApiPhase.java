@@ -0,0 +1,22 @@
+package io.api.event.util.jfr;
+
+/**
+ * Event API 요청 처리 구간 ({@link EventApiPhaseEvent}의 phase 항목)
+ */
+public enum EventApiPhase {
+
+    // EventValidator 유효성 검사 (Bean Validation(@Valid)은 Controller 호출 전에 실행되므로 제외)
+    VALIDATION,
+
+    // 요청 객체(EventDto) -> Entity(Event) 변환 및 항목 계산
+    MAPPING,
+
+    // Repository 조회/저장 및 transaction commit(flush)
+    REPOSITORY,
+
+    // 응답 Model(EventEntityModel, PagedModel) 생성 및 link 생성
+    LINK_BUILDING,
+
+    // 응답 본문 변환(HAL JSON, CBOR) 및 출력
+    SERIALIZATION
+}
@@ -0,0 +1,30 @@
+package io.api.event.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event API 요청의 처리 구간({@link EventApiPhase})별 시간
+ */
+@Name("io.api.event.EventApiPhase")
+@Label("Event API Phase")
+@Category({"Event API"})
+@Description("Phase of an Event API request : validation, mapping, repository call, link building, serialization")
+@StackTrace(false)
+public class EventApiPhaseEvent extends Event {
+
+    @Label("Operation")
+    @Description("EventController method name")
+    String operation;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Detail")
+    @Description("Repository call or response type")
+    String detail;
+}
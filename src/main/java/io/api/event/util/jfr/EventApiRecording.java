@@ -0,0 +1,134 @@
+package io.api.event.util.jfr;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.function.Supplier;
+
+/**
+ * Event API 요청의 JFR event 기록
+ *  - 요청 처리 thread에 Controller method명(operation)을 보관하여, Service에서 기록하는 구간에도 같은 operation을 기록한다.
+ *  - JFR recording이 없는 경우 event는 기록되지 않으며(isEnabled), 구간 기록 비용은 event 객체 생성 정도이다.
+ */
+public final class EventApiRecording {
+
+    private static final ThreadLocal<String> OPERATION = new ThreadLocal<>();
+    private static final String REQUEST_EVENT_ATTRIBUTE = EventApiRecording.class.getName() + ".REQUEST";
+    private static final String SERIALIZATION_EVENT_ATTRIBUTE = EventApiRecording.class.getName() + ".SERIALIZATION";
+    private static final String COMMIT = "commit";
+
+    private EventApiRecording() {
+    }
+
+    /**
+     * 처리 구간 기록 : 예외가 발생한 경우에도 기록
+     * @param detail 구간 상세 (ex: Repository method명)
+     */
+    public static <T> T record(EventApiPhase phase, String detail, Supplier<T> work) {
+        EventApiPhaseEvent event = begin(phase, detail);
+        try {
+            return work.get();
+        } finally {
+            event.commit();
+        }
+    }
+
+    public static void record(EventApiPhase phase, String detail, Runnable work) {
+        EventApiPhaseEvent event = begin(phase, detail);
+        try {
+            work.run();
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * 현재 transaction의 commit(flush 포함)을 REPOSITORY 구간으로 기록
+     *  - 변경 감지(dirty checking)로 실행하는 UPDATE 등은 Service method 종료 후 commit 시점에 실행되므로 별도로 기록한다.
+     */
+    public static void recordCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || !new EventApiPhaseEvent().isEnabled()) {
+            return;
+        }
+        String operation = OPERATION.get();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private EventApiPhaseEvent event;
+
+            // JPA flush 및 commit은 beforeCommit 처리 이후 실행되므로 beforeCommit ~ afterCompletion 구간에 포함된다.
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                this.event = newPhaseEvent(EventApiPhase.REPOSITORY, COMMIT, operation);
+                this.event.begin();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (this.event != null) {
+                    this.event.commit();
+                }
+            }
+        });
+    }
+
+    /**
+     * 요청 시작 : Controller 호출 전
+     */
+    static void beginRequest(HttpServletRequest request, String operation) {
+        OPERATION.set(operation);
+        EventApiRequestEvent event = new EventApiRequestEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.method = request.getMethod();
+            event.uri = request.getRequestURI();
+            event.begin();
+            request.setAttribute(REQUEST_EVENT_ATTRIBUTE, event);
+        }
+    }
+
+    /**
+     * 응답 본문 변환 시작 : 응답 출력을 마친 뒤 {@link #endRequest}에서 기록
+     */
+    static void beginSerialization(HttpServletRequest request, String detail) {
+        EventApiPhaseEvent event = begin(EventApiPhase.SERIALIZATION, detail);
+        if (event.isEnabled()) {
+            request.setAttribute(SERIALIZATION_EVENT_ATTRIBUTE, event);
+        }
+    }
+
+    /**
+     * 요청 종료 : 응답 출력 후
+     */
+    static void endRequest(HttpServletRequest request, HttpServletResponse response) {
+        OPERATION.remove();
+        Object serialization = request.getAttribute(SERIALIZATION_EVENT_ATTRIBUTE);
+        if (serialization != null) {
+            ((EventApiPhaseEvent) serialization).commit();
+            request.removeAttribute(SERIALIZATION_EVENT_ATTRIBUTE);
+        }
+        Object requestEvent = request.getAttribute(REQUEST_EVENT_ATTRIBUTE);
+        if (requestEvent != null) {
+            EventApiRequestEvent event = (EventApiRequestEvent) requestEvent;
+            event.status = response.getStatus();
+            event.commit();
+            request.removeAttribute(REQUEST_EVENT_ATTRIBUTE);
+        }
+    }
+
+    private static EventApiPhaseEvent begin(EventApiPhase phase, String detail) {
+        EventApiPhaseEvent event = newPhaseEvent(phase, detail, OPERATION.get());
+        event.begin();
+        return event;
+    }
+
+    private static EventApiPhaseEvent newPhaseEvent(EventApiPhase phase, String detail, String operation) {
+        EventApiPhaseEvent event = new EventApiPhaseEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.phase = phase.name();
+            event.detail = detail;
+        }
+        return event;
+    }
+}
@@ -0,0 +1,30 @@
+package io.api.event.util.jfr;
+
+import io.api.event.controller.EventController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * EventController 요청 1건의 JFR event({@link EventApiRequestEvent}) 기록 및 요청 처리 thread의 operation 설정
+ *  - afterCompletion은 응답 본문 출력 후 호출되므로 응답 변환 구간(SERIALIZATION)도 여기서 기록을 마친다.
+ */
+public class EventApiRecordingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && ((HandlerMethod) handler).getBeanType() == EventController.class) {
+            EventApiRecording.beginRequest(request, ((HandlerMethod) handler).getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (handler instanceof HandlerMethod && ((HandlerMethod) handler).getBeanType() == EventController.class) {
+            EventApiRecording.endRequest(request, response);
+        }
+    }
+}
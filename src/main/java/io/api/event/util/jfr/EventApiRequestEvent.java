@@ -0,0 +1,33 @@
+package io.api.event.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event API 요청 1건의 처리 시간 (Controller 호출 전 ~ 응답 출력 후)
+ *  - 같은 thread의 {@link EventApiPhaseEvent}가 이 구간 안에 기록된다.
+ */
+@Name("io.api.event.EventApiRequest")
+@Label("Event API Request")
+@Category({"Event API"})
+@Description("Event API request handled by EventController")
+@StackTrace(false)
+public class EventApiRequestEvent extends Event {
+
+    @Label("Operation")
+    @Description("EventController method name")
+    String operation;
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+}
@@ -0,0 +1,35 @@
+package io.api.event.util.jfr;
+
+import io.api.event.controller.EventController;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * EventController 응답 본문 변환 시작 시점 기록 : 변환 직전에 SERIALIZATION 구간을 시작하고, 출력 후 {@link EventApiRecordingInterceptor}에서 기록
+ *  - detail 항목에 응답 본문 type 및 MediaType을 기록한다.
+ */
+@ControllerAdvice(assignableTypes = EventController.class)
+public class EventApiSerializationAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body != null && request instanceof ServletServerHttpRequest) {
+            EventApiRecording.beginSerialization(((ServletServerHttpRequest) request).getServletRequest(),
+                    body.getClass().getSimpleName() + " " + selectedContentType);
+        }
+        return body;
+    }
+}
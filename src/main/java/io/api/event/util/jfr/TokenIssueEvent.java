@@ -0,0 +1,28 @@
+package io.api.event.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * OAuth access token 발급 시간 (password grant의 경우 Account 조회 및 password 확인(bcrypt) 포함)
+ */
+@Name("io.api.event.TokenIssue")
+@Label("Token Issue")
+@Category({"Event API"})
+@Description("OAuth2 access token grant")
+@StackTrace(false)
+public class TokenIssueEvent extends Event {
+
+    @Label("Grant Type")
+    String grantType;
+
+    @Label("Client Id")
+    String clientId;
+
+    @Label("Success")
+    boolean success;
+}
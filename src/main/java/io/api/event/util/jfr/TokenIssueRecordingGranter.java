@@ -0,0 +1,36 @@
+package io.api.event.util.jfr;
+
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.TokenGranter;
+import org.springframework.security.oauth2.provider.TokenRequest;
+
+/**
+ * access token 발급 시간을 JFR event({@link TokenIssueEvent})로 기록하는 TokenGranter
+ *  - 기본 TokenGranter(password, refresh_token 등)를 감싸서 사용한다.
+ */
+public class TokenIssueRecordingGranter implements TokenGranter {
+
+    private final TokenGranter delegate;
+
+    public TokenIssueRecordingGranter(TokenGranter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public OAuth2AccessToken grant(String grantType, TokenRequest tokenRequest) {
+        TokenIssueEvent event = new TokenIssueEvent();
+        if (!event.isEnabled()) {
+            return this.delegate.grant(grantType, tokenRequest);
+        }
+        event.grantType = grantType;
+        event.clientId = tokenRequest.getClientId();
+        event.begin();
+        try {
+            OAuth2AccessToken accessToken = this.delegate.grant(grantType, tokenRequest);
+            event.success = accessToken != null;
+            return accessToken;
+        } finally {
+            event.commit();
+        }
+    }
+}
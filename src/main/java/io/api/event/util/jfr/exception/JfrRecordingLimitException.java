@@ -0,0 +1,11 @@
+package io.api.event.util.jfr.exception;
+
+/**
+ * 실행 중인 JFR recording 수가 최대 recording 수(my-app.jfr.max-active)에 도달한 경우 발생 (409 Conflict)
+ */
+public class JfrRecordingLimitException extends RuntimeException {
+
+    public JfrRecordingLimitException(int maxActive) {
+        super("jfr recordings are already running : max " + maxActive);
+    }
+}
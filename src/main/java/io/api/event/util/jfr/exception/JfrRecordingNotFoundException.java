@@ -0,0 +1,11 @@
+package io.api.event.util.jfr.exception;
+
+/**
+ * 요청한 ID의 JFR recording이 없는 경우 발생 (404 Not Found)
+ */
+public class JfrRecordingNotFoundException extends RuntimeException {
+
+    public JfrRecordingNotFoundException(long id) {
+        super("jfr recording not found : " + id);
+    }
+}
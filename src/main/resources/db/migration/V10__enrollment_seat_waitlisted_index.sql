@@ -0,0 +1,2 @@
+-- 승격 대상 Event 조회(waitlisted > 0 and confirmed < seat_limit) : 대부분의 Event는 대기자가 없으므로 대기자가 있는 row만 조회
+create index ix_enrollment_seat_waitlisted on enrollment_seat (waitlisted);
@@ -0,0 +1,43 @@
+-- Account / Event 초기 Schema
+--  - Entity mapping과 동일한 구조로 작성하며, prod profile에서 spring.jpa.hibernate.ddl-auto=validate로 검증한다.
+--  - H2(MODE=PostgreSQL)와 PostgreSQL에서 공통으로 사용할 수 있는 type만 사용한다.
+
+create sequence hibernate_sequence start with 1 increment by 1;
+
+create table account (
+    id integer not null,
+    email varchar(255),
+    password varchar(255),
+    constraint pk_account primary key (id),
+    constraint uk_account_email unique (email)
+);
+
+create table account_roles (
+    account_id integer not null,
+    roles varchar(255),
+    constraint fk_account_roles_account foreign key (account_id) references account (id)
+);
+
+create table event (
+    id integer not null,
+    name varchar(255),
+    description varchar(255),
+    begin_enrollment_date_time timestamp,
+    close_enrollment_date_time timestamp,
+    begin_event_date_time timestamp,
+    end_event_date_time timestamp,
+    location varchar(255),
+    base_price integer not null,
+    max_price integer not null,
+    limit_of_enrollment integer not null,
+    offline boolean not null,
+    free boolean not null,
+    event_status varchar(255),
+    manager_id integer,
+    constraint pk_event primary key (id),
+    constraint fk_event_manager foreign key (manager_id) references account (id)
+);
+
+-- Account 조회 시 roles 조회(account_roles.account_id), manager별 Event 조회(event.manager_id)
+create index ix_account_roles_account_id on account_roles (account_id);
+create index ix_event_manager_id on event (manager_id);
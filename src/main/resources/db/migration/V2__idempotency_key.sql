@@ -0,0 +1,13 @@
+-- Event 생성 요청 Idempotency-Key 저장소
+--  - id : "{account id}:{Idempotency-Key}", 응답 본문 대신 생성한 Event의 ID만 보관한다.
+--  - 만료된 key는 expires_at 기준으로 한번에 삭제한다.
+
+create table idempotency_key (
+    id varchar(255) not null,
+    request_hash varchar(64) not null,
+    event_id integer not null,
+    expires_at timestamp not null,
+    constraint pk_idempotency_key primary key (id)
+);
+
+create index ix_idempotency_key_expires_at on idempotency_key (expires_at);
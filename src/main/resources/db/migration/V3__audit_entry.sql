@@ -0,0 +1,15 @@
+-- Event 생성/수정 이력 (추가만 하며 수정하지 않음)
+--  - id는 JDBC batch INSERT 시 DB에서 생성한다. (identity)
+
+create table audit_entry (
+    id bigint generated by default as identity,
+    action varchar(255),
+    outcome varchar(255),
+    event_id integer,
+    account_id integer,
+    occurred_at timestamp,
+    constraint pk_audit_entry primary key (id)
+);
+
+-- Event별 이력 조회
+create index ix_audit_entry_event_id on audit_entry (event_id);
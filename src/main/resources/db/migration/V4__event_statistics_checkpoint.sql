@@ -0,0 +1,8 @@
+-- Event 통계 항목별 값 저장(checkpoint) : 항목명(status.DRAFT, free, price.le.10000 등)별 한 row
+
+create table event_statistics_checkpoint (
+    name varchar(255) not null,
+    counter_value bigint not null,
+    checkpointed_at timestamp,
+    constraint pk_event_statistics_checkpoint primary key (name)
+);
@@ -0,0 +1,8 @@
+-- Event 좌표 및 위치 검색
+--  - geohash column의 B-tree index로 검색 영역을 덮는 cell(prefix)의 범위 조회를 처리한다.
+
+alter table event add column latitude double precision;
+alter table event add column longitude double precision;
+alter table event add column geohash varchar(12);
+
+create index ix_event_geohash on event (geohash);
@@ -0,0 +1,29 @@
+-- Event 참가 신청 및 대기자
+--  - enrollment.id는 신청 순서(대기 순서)로 사용하므로 전용 sequence를 1씩 증가하여 사용한다.
+--  - Event는 shard에 저장될 수 있으므로 event_id는 foreign key를 두지 않는다.
+
+create sequence enrollment_seq start with 1 increment by 1;
+
+create table enrollment (
+    id bigint not null,
+    event_id integer not null,
+    account_id integer not null,
+    status varchar(255),
+    enrolled_at timestamp,
+    promoted_at timestamp,
+    cancelled_at timestamp,
+    constraint pk_enrollment primary key (id),
+    constraint uk_enrollment_event_account unique (event_id, account_id),
+    constraint fk_enrollment_account foreign key (account_id) references account (id)
+);
+
+create table enrollment_seat (
+    event_id integer not null,
+    seat_limit integer not null,
+    confirmed integer not null,
+    waitlisted integer not null,
+    constraint pk_enrollment_seat primary key (event_id)
+);
+
+-- 대기 순서 조회(event_id, status = 'WAITLISTED' order by id) 및 대기 순번 계산
+create index ix_enrollment_event_status on enrollment (event_id, status, id);
@@ -0,0 +1,12 @@
+-- Event, Account ID block 할당 (BlockIdGenerator)
+--  - POOLED_LO : hibernate_sequence 조회 한번으로 increment(= my-app.id.block-size) 만큼의 ID를 예약한다.
+--    기존 sequence의 다음 값부터 block을 시작하므로 이미 할당한 ID와 겹치지 않는다.
+--  - NODE : node별 block 예약 row (segment = 대상 table@node 번호, next_val = 다음 block의 첫 값)
+
+alter sequence hibernate_sequence increment by 50;
+
+create table id_block (
+    segment varchar(255) not null,
+    next_val bigint not null,
+    constraint pk_id_block primary key (segment)
+);
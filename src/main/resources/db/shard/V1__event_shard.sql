@@ -0,0 +1,29 @@
+-- Event shard Schema (my-app.datasource.sharding.enabled=true 인 경우 각 shard DB에 적용)
+--  - shard에는 Event만 저장하며, manager(Account)는 Primary DataSource에서 조회하므로 foreign key를 두지 않는다.
+--  - id는 shard 번호를 포함하여 Application에서 생성한다. (event_shard_seq + PartitionedId)
+
+create sequence event_shard_seq start with 1 increment by 1;
+
+create table event (
+    id integer not null,
+    name varchar(255),
+    description varchar(255),
+    begin_enrollment_date_time timestamp,
+    close_enrollment_date_time timestamp,
+    begin_event_date_time timestamp,
+    end_event_date_time timestamp,
+    location varchar(255),
+    base_price integer not null,
+    max_price integer not null,
+    limit_of_enrollment integer not null,
+    offline boolean not null,
+    free boolean not null,
+    event_status varchar(255),
+    manager_id integer,
+    latitude double precision,
+    longitude double precision,
+    geohash varchar(12),
+    constraint pk_event primary key (id)
+);
+
+create index ix_event_manager_id on event (manager_id);
@@ -0,0 +1,3 @@
+-- manager의 Event 목록 keyset 조회 (/api/events/mine) : Primary Schema의 V7과 같은 index
+create index ix_event_manager_begin_event on event (manager_id, begin_event_date_time, id);
+drop index ix_event_manager_id;
@@ -0,0 +1,103 @@
+package io.api.event.benchmark;
+
+import io.api.event.EventApplication;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 별도 JVM으로 Application을 구동하고 첫 요청 성공 시점까지의 시간을 측정하는 Benchmark용 Helper
+ *  - classpath를 지정하지 않은 경우 startup.classpath system property 또는 현재 JVM의 classpath를 사용한다.
+ */
+public class ApplicationProcess implements AutoCloseable {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final Process process;
+    private final int port;
+    private final long startedAt;
+
+    private ApplicationProcess(Process process, int port, long startedAt) {
+        this.process = process;
+        this.port = port;
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * @param jvmArgs 추가 JVM 옵션 (ex: -Xshare:on, -XX:TieredStopAtLevel=1)
+     * @param applicationArgs 추가 Application 인자 (ex: --spring.profiles.active=prod)
+     */
+    public static ApplicationProcess start(List<String> jvmArgs, List<String> applicationArgs) throws IOException {
+        return start(System.getProperty("startup.classpath", System.getProperty("java.class.path")), jvmArgs, applicationArgs);
+    }
+
+    /**
+     * @param classpath Application 구동 classpath (AppCDS archive 사용 시 archive 생성 시와 같은 classpath)
+     */
+    public static ApplicationProcess start(String classpath, List<String> jvmArgs, List<String> applicationArgs) throws IOException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(classpath);
+        command.add(EventApplication.class.getName());
+        command.add("--server.port=" + port);
+        command.addAll(applicationArgs);
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        return new ApplicationProcess(process, port, startedAt);
+    }
+
+    /**
+     * GET {path} 요청이 200 Ok를 응답할 때까지 대기
+     * @return 프로세스 시작 후 첫 성공 응답까지 걸린 시간
+     */
+    public Duration awaitFirstSuccess(String path, Duration timeout) throws IOException, InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        long deadline = startedAt + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("application exited with code " + process.exitValue());
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - startedAt);
+                }
+            } catch (IOException e) {
+                // 아직 port가 열리지 않은 경우
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("no successful response within " + timeout);
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.api.event.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Cold start 측정 : AppCDS archive, JIT warm-up 사용 여부에 따른 readiness 전환 시간과 구동 직후 처리량 비교
+ *  - 준비 : mvn -Pcds -DskipTests package (target/cds 이하에 archive, jar, classpath 생성)
+ *  - 실행 : mvn test-compile 후 ColdStartBenchmark.main() 실행
+ *  - 인자 : [측정 시간(초, 기본 60)] [요청 thread 수(기본 4)] [Application 인자...]
+ *    (ex: 60 4 --spring.profiles.active=prod --spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL --spring.datasource.driver-class-name=org.h2.Driver)
+ *  - 모든 실행은 archive 생성 시와 같은 classpath를 사용하며, 실행 방식별로 새로운 JVM을 구동한다.
+ *  - readiness : 프로세스 시작부터 /actuator/health/readiness 200 Ok 응답까지의 시간
+ *  - 처리량 : readiness 전환 후 측정 시간 동안 GET /api/events 요청을 반복하여 5초 단위 초당 처리 수(rps)를 기록
+ */
+public class ColdStartBenchmark {
+
+    private static final Path CDS_DIRECTORY = Path.of("target", "cds");
+    private static final String READINESS_PATH = "/actuator/health/readiness";
+    private static final String REQUEST_PATH = "/api/events?page=0&size=10";
+    private static final int BUCKET_SECONDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int measureSeconds = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        List<String> applicationArgs = args.length > 2 ? Arrays.asList(args).subList(2, args.length) : List.of();
+
+        String classpath = cdsClasspath();
+        String archive = "-XX:SharedArchiveFile=" + CDS_DIRECTORY.resolve("event.jsa");
+        List<Mode> modes = List.of(
+                new Mode("baseline", List.of("-Xshare:off"), false),
+                new Mode("cds", List.of(archive), false),
+                new Mode("warm-up", List.of("-Xshare:off"), true),
+                new Mode("cds+warm-up", List.of(archive), true));
+
+        List<String> reports = new ArrayList<>();
+        for (Mode mode : modes) {
+            List<String> modeArgs = new ArrayList<>(applicationArgs);
+            modeArgs.add("--my-app.startup.warm-up-enabled=" + mode.warmUp);
+            try (ApplicationProcess application = ApplicationProcess.start(classpath, mode.jvmArgs, modeArgs)) {
+                long readyMillis = application.awaitFirstSuccess(READINESS_PATH, Duration.ofMinutes(2)).toMillis();
+                long[] buckets = measureThroughput(application.getPort(), measureSeconds, threads);
+                String report = String.format("%-12s ready %6d ms | rps per %ds : %s", mode.name, readyMillis, BUCKET_SECONDS,
+                        Arrays.stream(buckets).mapToObj(count -> String.valueOf(count / BUCKET_SECONDS)).collect(Collectors.joining(" ")));
+                System.out.println(report);
+                reports.add(report);
+            }
+        }
+
+        System.out.println();
+        reports.forEach(System.out::println);
+    }
+
+    private static long[] measureThroughput(int port, int measureSeconds, int threads) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + REQUEST_PATH))
+                .header("Accept", "application/hal+json")
+                .header("Content-Type", "application/json")
+                .GET()
+                .build();
+
+        LongAdder[] buckets = new LongAdder[(measureSeconds + BUCKET_SECONDS - 1) / BUCKET_SECONDS];
+        Arrays.setAll(buckets, index -> new LongAdder());
+        long startedAt = System.nanoTime();
+        long endAt = startedAt + TimeUnit.SECONDS.toNanos(measureSeconds);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            executorService.execute(() -> {
+                while (System.nanoTime() < endAt) {
+                    try {
+                        if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                            int bucket = (int) (TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt) / BUCKET_SECONDS);
+                            buckets[Math.min(bucket, buckets.length - 1)].increment();
+                        }
+                    } catch (IOException e) {
+                        // 실패한 요청은 처리량에 포함하지 않음
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(measureSeconds + 30L, TimeUnit.SECONDS);
+        return Arrays.stream(buckets).mapToLong(LongAdder::sum).toArray();
+    }
+
+    private static String cdsClasspath() throws IOException {
+        Path jar;
+        try (var files = Files.list(CDS_DIRECTORY)) {
+            jar = files.filter(path -> path.toString().endsWith("-cds.jar")).findFirst()
+                    .orElseThrow(() -> new IllegalStateException("run 'mvn -Pcds -DskipTests package' first"));
+        }
+        return jar + java.io.File.pathSeparator + Files.readString(CDS_DIRECTORY.resolve("classpath.txt")).trim();
+    }
+
+    private static class Mode {
+        private final String name;
+        private final List<String> jvmArgs;
+        private final boolean warmUp;
+
+        private Mode(String name, List<String> jvmArgs, boolean warmUp) {
+            this.name = name;
+            this.jvmArgs = jvmArgs;
+            this.warmUp = warmUp;
+        }
+    }
+}
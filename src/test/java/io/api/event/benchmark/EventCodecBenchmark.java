@@ -0,0 +1,136 @@
+package io.api.event.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.api.event.domain.dto.event.EventEntityModel;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventEntityModel 목록(PagedModel) HAL JSON / CBOR 변환 성능 측정
+ *  - 실행 : mvn test-compile 후 EventCodecBenchmark.main() 실행 (응답 크기는 측정 전에 출력)
+ *  - encode : PagedModel -> byte[], decode : byte[] -> PagedModel<EntityModel<Event>>
+ *  - Application과 같은 설정(날짜 형식, HAL module)을 적용한 ObjectMapper를 사용한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventCodecBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper jsonObjectMapper;
+    private ObjectMapper cborObjectMapper;
+    private ObjectReader jsonReader;
+    private ObjectReader cborReader;
+    private PagedModel<EventEntityModel> page;
+    private byte[] jsonPage;
+    private byte[] cborPage;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonObjectMapper = halObjectMapper(Jackson2ObjectMapperBuilder.json());
+        cborObjectMapper = halObjectMapper(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()));
+        JavaType pageType = jsonObjectMapper.getTypeFactory().constructParametricType(PagedModel.class,
+                jsonObjectMapper.getTypeFactory().constructParametricType(EntityModel.class, Event.class));
+        jsonReader = jsonObjectMapper.readerFor(pageType);
+        cborReader = cborObjectMapper.readerFor(pageType);
+
+        page = givenPage(pageSize);
+        jsonPage = jsonObjectMapper.writeValueAsBytes(page);
+        cborPage = cborObjectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encode_json() throws IOException {
+        return jsonObjectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encode_cbor() throws IOException {
+        return cborObjectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Object decode_json() throws IOException {
+        return jsonReader.readValue(jsonPage);
+    }
+
+    @Benchmark
+    public Object decode_cbor() throws IOException {
+        return cborReader.readValue(cborPage);
+    }
+
+    static ObjectMapper halObjectMapper(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper objectMapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        return objectMapper;
+    }
+
+    static PagedModel<EventEntityModel> givenPage(int size) {
+        LocalDateTime base = LocalDateTime.of(2020, 10, 19, 9, 0);
+        List<EventEntityModel> events = new ArrayList<>();
+        for (int index = 0; index < size; index++) {
+            events.add(new EventEntityModel(Event.builder()
+                    .id(index + 1)
+                    .name("event " + index)
+                    .description("Spring REST API 학습 이벤트 " + index + " : HATEOAS, REST Docs, OAuth2 인증을 이용한 API 개발")
+                    .beginEnrollmentDateTime(base)
+                    .closeEnrollmentDateTime(base.plusDays(1))
+                    .beginEventDateTime(base.plusDays(7))
+                    .endEventDateTime(base.plusDays(7).plusHours(3))
+                    .location("강남역 D2 스타텁 팩토리")
+                    .basePrice(100)
+                    .maxPrice(200)
+                    .limitOfEnrollment(100)
+                    .offline(true)
+                    .eventStatus(EventStatus.DRAFT)
+                    .build()));
+        }
+        PagedModel<EventEntityModel> page = PagedModel.of(events, new PagedModel.PageMetadata(size, 0, size * 10L, 10));
+        page.add(new Link("/api/events?page=0&size=" + size).withSelfRel());
+        page.add(new Link("/docs/index.html#resources-events-list").withRel("profile"));
+        return page;
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        for (int size : new int[]{20, 100}) {
+            PagedModel<EventEntityModel> page = givenPage(size);
+            int json = halObjectMapper(Jackson2ObjectMapperBuilder.json()).writeValueAsBytes(page).length;
+            int cbor = halObjectMapper(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory())).writeValueAsBytes(page).length;
+            System.out.printf("page size %d : json %d bytes, cbor %d bytes (%.1f%%)%n", size, json, cbor, cbor * 100.0 / json);
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(EventCodecBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,84 @@
+package io.api.event.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import io.api.event.domain.dto.event.EventEntityModel;
+import io.api.event.util.common.serializer.EventSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event 목록(PagedModel) HAL JSON 변환 성능 비교 : Jackson 기본 BeanSerializer vs EventSerializer + Afterburner (JacksonConfig)
+ *  - 실행 : mvn test-compile 후 EventSerializationBenchmark.main() 실행
+ *  - bytes : byte[] 생성(writeValueAsBytes), stream : 응답 OutputStream에 직접 출력하는 HTTP Converter와 같은 방식
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventSerializationBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int pageSize;
+
+    private ObjectMapper reflectiveObjectMapper;
+    private ObjectMapper optimizedObjectMapper;
+    private PagedModel<EventEntityModel> page;
+    private OutputStream outputStream;
+
+    @Setup
+    public void setUp() {
+        reflectiveObjectMapper = EventCodecBenchmark.halObjectMapper(Jackson2ObjectMapperBuilder.json());
+        optimizedObjectMapper = EventCodecBenchmark.halObjectMapper(Jackson2ObjectMapperBuilder.json());
+        optimizedObjectMapper.registerModule(EventSerializer.module());
+        optimizedObjectMapper.registerModule(new AfterburnerModule());
+        page = EventCodecBenchmark.givenPage(pageSize);
+        // writeValue()가 출력 후 stream을 닫으므로 닫은 뒤에도 출력을 버리는 stream 사용
+        outputStream = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+    }
+
+    @Benchmark
+    public byte[] bytes_reflective() throws IOException {
+        return reflectiveObjectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] bytes_optimized() throws IOException {
+        return optimizedObjectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public void stream_reflective() throws IOException {
+        reflectiveObjectMapper.writeValue(outputStream, page);
+    }
+
+    @Benchmark
+    public void stream_optimized() throws IOException {
+        optimizedObjectMapper.writeValue(outputStream, page);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventSerializationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
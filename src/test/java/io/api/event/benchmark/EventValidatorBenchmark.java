@@ -0,0 +1,79 @@
+package io.api.event.benchmark;
+
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.util.event.EventValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventValidator 성능 측정
+ *  - 실행 : mvn test-compile 후 EventValidatorBenchmark.main() 실행
+ *  - 유효한 요청(success path)과 유효하지 못한 요청(failure path)의 검증 비용 및 메모리 할당량(-prof gc) 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventValidatorBenchmark {
+
+    private final EventValidator eventValidator = new EventValidator();
+
+    private EventDto validEventDto;
+    private EventDto invalidEventDto;
+    private Errors validErrors;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime base = LocalDateTime.of(2020, 8, 6, 9, 30);
+        validEventDto = EventDto.builder()
+                .beginEnrollmentDateTime(base)
+                .closeEnrollmentDateTime(base.plusDays(1))
+                .beginEventDateTime(base.plusDays(7))
+                .endEventDateTime(base.plusDays(7).plusHours(3))
+                .basePrice(100)
+                .maxPrice(200)
+                .build();
+        invalidEventDto = EventDto.builder()
+                .beginEnrollmentDateTime(base.plusDays(8))
+                .closeEnrollmentDateTime(base.plusDays(1))
+                .beginEventDateTime(base)
+                .endEventDateTime(base.plusDays(7))
+                .basePrice(300)
+                .maxPrice(200)
+                .build();
+        validErrors = new BeanPropertyBindingResult(validEventDto, "eventDto");
+    }
+
+    @Benchmark
+    public Errors validate_success() {
+        eventValidator.validate(validEventDto, validErrors);
+        return validErrors;
+    }
+
+    @Benchmark
+    public Errors validate_failure() {
+        Errors errors = new BeanPropertyBindingResult(invalidEventDto, "eventDto");
+        eventValidator.validate(invalidEventDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public boolean isValid_failure() {
+        return eventValidator.isValid(invalidEventDto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventValidatorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,128 @@
+package io.api.event.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * PostgreSQL Event 기간 겹침 조회 측정 : 시작/종료 column 복합 B-tree index 조회와 range column(tsrange) GiST index 조회 비교
+ *  - 실행 : mvn test-compile 후 EventWindowQueryBenchmark.main() 실행 (PostgreSQL 12 이상)
+ *  - 인자 : [JDBC URL(기본 jdbc:postgresql://localhost:5432/postgres)] [user(기본 postgres)] [password(기본 password)] [Event 수...(기본 1000000 10000000)]
+ *  - Event 수별로 측정용 table(event_window_benchmark)을 다시 생성하여 db/vendor/postgresql/V5 migration과 같은 구조의 column, index를 만든 뒤
+ *    임의의 7일 조회 기간으로 두 조회를 반복 실행하여 평균 응답 시간을 비교하고, 실행 계획(EXPLAIN ANALYZE)을 출력한다.
+ *  - Event 기간 분포는 IntervalIndexBenchmark와 같다. (1년 안의 임의 시작 일시, 대부분 3일 이내이며 1%는 최대 90일)
+ */
+public class EventWindowQueryBenchmark {
+
+    private static final int WARM_UP_QUERIES = 200;
+    private static final int MEASURE_QUERIES = 1000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private static final String[] SCHEMA = {
+            "DROP TABLE IF EXISTS event_window_benchmark",
+            "CREATE TABLE event_window_benchmark (id integer PRIMARY KEY, begin_event_date_time timestamp, end_event_date_time timestamp)",
+            "INSERT INTO event_window_benchmark "
+                    + "SELECT id, begin_at, begin_at + CASE WHEN random() < 0.01 THEN random() * interval '90 days' ELSE random() * interval '3 days' END "
+                    + "FROM (SELECT id, timestamp '2020-01-01' + random() * interval '365 days' AS begin_at FROM generate_series(1, ?) AS id) AS generated",
+            "ALTER TABLE event_window_benchmark ADD COLUMN event_period tsrange GENERATED ALWAYS AS ("
+                    + "CASE WHEN begin_event_date_time <= end_event_date_time THEN tsrange(begin_event_date_time, end_event_date_time, '[]') END) STORED",
+            "CREATE INDEX ix_event_window_benchmark_columns ON event_window_benchmark (begin_event_date_time, end_event_date_time)",
+            "CREATE INDEX ix_event_window_benchmark_period ON event_window_benchmark USING gist (event_period)",
+            "ANALYZE event_window_benchmark"
+    };
+
+    private static final String COLUMNS_QUERY = "SELECT id FROM event_window_benchmark "
+            + "WHERE begin_event_date_time <= ? AND end_event_date_time >= ? ORDER BY begin_event_date_time, id LIMIT 500";
+    private static final String RANGE_QUERY = "SELECT id FROM event_window_benchmark "
+            + "WHERE event_period && tsrange(?, ?, '[]') ORDER BY begin_event_date_time, id LIMIT 500";
+
+    public static void main(String[] args) throws SQLException {
+        String url = args.length > 0 ? args[0] : "jdbc:postgresql://localhost:5432/postgres";
+        String user = args.length > 1 ? args[1] : "postgres";
+        String password = args.length > 2 ? args[2] : "password";
+        int[] sizes = args.length > 3
+                ? Arrays.stream(args, 3, args.length).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1_000_000, 10_000_000};
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            for (int size : sizes) {
+                long seedStart = System.nanoTime();
+                createTable(connection, size);
+                System.out.printf("%,d events : table created in %d s%n", size, (System.nanoTime() - seedStart) / 1_000_000_000);
+
+                // 조회 기간 순서(조회 대상)가 같도록 같은 seed 사용
+                System.out.printf("  columns (b-tree) : %8.1f us/query%n", measure(connection, COLUMNS_QUERY, true));
+                System.out.printf("  range (gist)     : %8.1f us/query%n", measure(connection, RANGE_QUERY, false));
+                explain(connection, COLUMNS_QUERY, true);
+                explain(connection, RANGE_QUERY, false);
+            }
+        }
+    }
+
+    private static void createTable(Connection connection, int size) throws SQLException {
+        for (String sql : SCHEMA) {
+            if (sql.contains("?")) {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.setInt(1, size);
+                    statement.executeUpdate();
+                }
+            } else {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    private static double measure(Connection connection, String sql, boolean toFirst) throws SQLException {
+        SplittableRandom random = new SplittableRandom(7);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < WARM_UP_QUERIES; i++) {
+                execute(statement, random, toFirst);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURE_QUERIES; i++) {
+                execute(statement, random, toFirst);
+            }
+            return (System.nanoTime() - start) / 1_000.0 / MEASURE_QUERIES;
+        }
+    }
+
+    private static void explain(Connection connection, String sql, boolean toFirst) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + sql)) {
+            bind(statement, new SplittableRandom(7), toFirst);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                System.out.println("  " + sql);
+                while (resultSet.next()) {
+                    System.out.println("    " + resultSet.getString(1));
+                }
+            }
+        }
+    }
+
+    private static void execute(PreparedStatement statement, SplittableRandom random, boolean toFirst) throws SQLException {
+        bind(statement, random, toFirst);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                resultSet.getInt(1);
+            }
+        }
+    }
+
+    /**
+     * 임의의 7일 조회 기간 : columns 조회는 (to, from), range 조회는 (from, to) 순서로 binding
+     */
+    private static void bind(PreparedStatement statement, SplittableRandom random, boolean toFirst) throws SQLException {
+        LocalDateTime from = BASE.plusSeconds(random.nextLong(IntervalIndexBenchmark.YEAR_SECONDS));
+        LocalDateTime to = from.plusDays(7);
+        statement.setTimestamp(1, Timestamp.valueOf(toFirst ? to : from));
+        statement.setTimestamp(2, Timestamp.valueOf(toFirst ? from : to));
+    }
+}
@@ -0,0 +1,90 @@
+package io.api.event.benchmark;
+
+import io.api.event.EventApplication;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event 저장 처리량 측정 : INSERT 마다 sequence를 조회하는 기존 방식과 block 단위 ID 할당(BlockIdGenerator) + JDBC batch 비교
+ *  - 실행 : mvn test-compile 후 IdGenerationBenchmark.main() 실행
+ *  - 인자 : [JDBC URL(기본 jdbc:h2:mem:id_benchmark)] [user(기본 sa)] [password(기본 빈 값)] [Event 수(기본 50000)] [transaction 당 Event 수(기본 500)]
+ *    (ex: jdbc:postgresql://localhost:5432/postgres?reWriteBatchedInserts=true postgres password)
+ *  - 방식별로 Application context를 새로 구동하고 Schema를 다시 생성(create-drop)하므로 운영 DB에서 실행하지 않는다.
+ *  - 같은 수의 Event를 한번 저장하여 warm-up 한 뒤 측정하며, 초당 저장 수와 Event 당 JDBC statement 준비 수를 출력한다.
+ */
+public class IdGenerationBenchmark {
+
+    private static final String[][] MODES = {
+            // 기존 방식 : INSERT 마다 sequence 조회, batch 미사용
+            {"sequence per insert", "--my-app.id.mode=POOLED_LO", "--my-app.id.block-size=1", "--spring.jpa.properties.hibernate.jdbc.batch_size=0"},
+            {"pooled-lo block 50 + batch", "--my-app.id.mode=POOLED_LO", "--my-app.id.block-size=50"},
+            {"node block 50 + batch", "--my-app.id.mode=NODE", "--my-app.id.block-size=50", "--my-app.id.node-id=1"}
+    };
+
+    public static void main(String[] args) {
+        String url = args.length > 0 ? args[0] : "jdbc:h2:mem:id_benchmark";
+        String user = args.length > 1 ? args[1] : "sa";
+        String password = args.length > 2 ? args[2] : "";
+        int events = args.length > 3 ? Integer.parseInt(args[3]) : 50_000;
+        int chunk = args.length > 4 ? Integer.parseInt(args[4]) : 500;
+
+        for (String[] mode : MODES) {
+            List<String> applicationArgs = new ArrayList<>(List.of(
+                    "--server.port=0",
+                    "--spring.flyway.enabled=false",
+                    "--spring.jpa.hibernate.ddl-auto=create-drop",
+                    "--spring.datasource.url=" + url,
+                    "--spring.datasource.hikari.jdbc-url=" + url,
+                    "--spring.datasource.username=" + user,
+                    "--spring.datasource.password=" + password,
+                    "--spring.datasource.driver-class-name=" + (url.startsWith("jdbc:h2") ? "org.h2.Driver" : "org.postgresql.Driver"),
+                    "--logging.level.root=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+            applicationArgs.addAll(List.of(mode).subList(1, mode.length));
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EventApplication.class)
+                    .run(applicationArgs.toArray(String[]::new))) {
+                EventRepository eventRepository = context.getBean(EventRepository.class);
+                TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+                Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+                insert(eventRepository, transaction, events, chunk);
+                eventRepository.deleteAllInBatch();
+
+                statistics.clear();
+                long start = System.nanoTime();
+                insert(eventRepository, transaction, events, chunk);
+                double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+                System.out.printf("%-28s : %,10.0f events/s, %.3f statements/event%n",
+                        mode[0], events / seconds, (double) statistics.getPrepareStatementCount() / events);
+            }
+        }
+    }
+
+    private static void insert(EventRepository eventRepository, TransactionTemplate transaction, int events, int chunk) {
+        LocalDateTime begin = LocalDateTime.of(2020, 11, 20, 19, 0);
+        for (int offset = 0; offset < events; offset += chunk) {
+            List<Event> batch = new ArrayList<>(chunk);
+            for (int index = offset; index < Math.min(events, offset + chunk); index++) {
+                batch.add(Event.builder()
+                        .name("benchmark event " + index)
+                        .beginEventDateTime(begin.plusMinutes(index))
+                        .endEventDateTime(begin.plusMinutes(index + 60))
+                        .build());
+            }
+            transaction.executeWithoutResult(status -> eventRepository.saveAll(batch));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.api.event.benchmark;
+
+import io.api.event.util.common.IntervalIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event 기간 겹침 조회 : 메모리 IntervalIndex 조회와 시작/종료 배열 전체 탐색(두 column 조건의 full scan) 비교
+ *  - 실행 : mvn test-compile 후 IntervalIndexBenchmark.main() 실행 (10M 건은 약 300MB heap 사용)
+ *  - Event 기간 : 1년 안의 임의 시작 일시, 대부분 수 시간 ~ 3일이며 1%는 최대 90일
+ *  - 조회 기간 : 1년 안의 임의 7일 (달력 주간 조회), 최대 500건
+ *  - PostgreSQL range column(GiST) 조회 비교 : EventWindowQueryBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class IntervalIndexBenchmark {
+
+    static final long YEAR_SECONDS = 365L * 24 * 60 * 60;
+    static final long DAY_SECONDS = 24L * 60 * 60;
+    private static final int LIMIT = 500;
+
+    @Param({"1000000", "10000000"})
+    private int events;
+
+    private long[] begins;
+    private long[] ends;
+    private IntervalIndex index;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        begins = new long[events];
+        ends = new long[events];
+        IntervalIndex.Builder builder = IntervalIndex.builder(events);
+        for (int id = 0; id < events; id++) {
+            long begin = random.nextLong(YEAR_SECONDS);
+            long length = random.nextInt(100) == 0 ? random.nextLong(90 * DAY_SECONDS) : random.nextLong(3 * DAY_SECONDS);
+            begins[id] = begin;
+            ends[id] = begin + length;
+            builder.add(id, begin, begin + length);
+        }
+        index = builder.build();
+        this.random = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    public int[] intervalIndex() {
+        long from = random.nextLong(YEAR_SECONDS);
+        return index.query(from, from + 7 * DAY_SECONDS, LIMIT);
+    }
+
+    /**
+     * 시작 <= to and 종료 >= from 조건의 전체 탐색 : 시작 순서로 최대 조회 수만큼 응답하려면 조건에 맞는 구간을 모두 찾아야 한다. (정렬 비용 제외)
+     */
+    @Benchmark
+    public int linearScan() {
+        long from = random.nextLong(YEAR_SECONDS);
+        long to = from + 7 * DAY_SECONDS;
+        int found = 0;
+        for (int i = 0; i < begins.length; i++) {
+            if (begins[i] <= to && ends[i] >= from) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IntervalIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
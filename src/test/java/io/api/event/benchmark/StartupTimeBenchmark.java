@@ -0,0 +1,41 @@
+package io.api.event.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Application 구동 시간 측정 : 프로세스 시작부터 첫 GET /api 성공 응답까지의 시간
+ *  - 실행 : mvn test-compile 후 StartupTimeBenchmark.main() 실행
+ *  - 인자 : [반복 횟수(기본 5)] [Application 인자...] (ex: 5 --spring.profiles.active=prod)
+ *  - JVM 옵션은 startup.jvmArgs system property로 전달 (공백 구분)
+ *  - 매 회 새로운 JVM을 구동하므로 JIT, Class loading 등 cold start 비용이 모두 포함된다.
+ */
+public class StartupTimeBenchmark {
+
+    private static final String FIRST_REQUEST_PATH = "/api";
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        List<String> applicationArgs = args.length > 1 ? Arrays.asList(args).subList(1, args.length) : List.of();
+        String jvmArgs = System.getProperty("startup.jvmArgs", "").trim();
+        List<String> jvmArgList = jvmArgs.isEmpty() ? List.of() : Arrays.asList(jvmArgs.split("\\s+"));
+
+        List<Long> elapsedMillis = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            try (ApplicationProcess application = ApplicationProcess.start(jvmArgList, applicationArgs)) {
+                long elapsed = application.awaitFirstSuccess(FIRST_REQUEST_PATH, TIMEOUT).toMillis();
+                elapsedMillis.add(elapsed);
+                System.out.printf("run %d : %d ms%n", run, elapsed);
+            }
+        }
+
+        Collections.sort(elapsedMillis);
+        System.out.printf("time to first GET %s (%d runs) : min %d ms, median %d ms, max %d ms%n",
+                FIRST_REQUEST_PATH, runs,
+                elapsedMillis.get(0), elapsedMillis.get(elapsedMillis.size() / 2), elapsedMillis.get(elapsedMillis.size() - 1));
+    }
+}
@@ -0,0 +1,72 @@
+package io.api.event.config;
+
+import io.api.event.config.test.TestConstants;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.util.common.TestDescription;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * POOLED_LO 방식 ID 할당 확인 : block 크기(50)만큼 sequence 조회 없이 ID를 할당하고 INSERT를 JDBC batch로 실행
+ *  - 다른 Test context의 Schema 재생성으로 sequence가 초기화되지 않도록 별도의 DB 사용
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pooled_id_db",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:pooled_id_db",
+        "my-app.id.block-size=50"
+})
+@ActiveProfiles(TestConstants.TEST)
+class IdGenerationTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("Event 120건 저장 시 sequence 조회는 block 수만큼만 실행되고, INSERT는 batch로 실행되는지 확인")
+    @DisplayName("Id Generation : POOLED_LO block 할당 및 batch INSERT")
+    public void pooledLo_BatchInsert_Test() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Event> events = IntStream.range(0, 120)
+                .mapToObj(index -> Event.builder().name("event " + index).build())
+                .collect(Collectors.toList());
+
+        // When
+        statistics.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventRepository.saveAll(events));
+
+        // Then : 최대 block 4개(sequence 조회 4번) 및 batch 3번
+        List<Integer> ids = events.stream().map(Event::getId).sorted().collect(Collectors.toList());
+        assertThat(ids).doesNotHaveDuplicates().hasSize(120);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+        assertThat(eventRepository.count()).isEqualTo(120);
+    }
+}
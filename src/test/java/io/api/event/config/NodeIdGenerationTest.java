@@ -0,0 +1,81 @@
+package io.api.event.config;
+
+import io.api.event.config.test.TestConstants;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NODE 방식 ID 할당 확인 : ID 하위 bit의 node 번호, 기존 ID 이후의 값 할당 및 동시 저장 시 중복 여부
+ *  - NODE 방식으로 저장한 ID가 다른 Test의 POOLED_LO 방식 ID와 겹치지 않도록 별도의 DB 사용
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:node_id_db",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:node_id_db",
+        "my-app.id.mode=NODE",
+        "my-app.id.node-id=3",
+        "my-app.id.block-size=10"
+})
+@ActiveProfiles(TestConstants.TEST)
+class NodeIdGenerationTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("NODE 방식 ID는 하위 bit에 node 번호를 포함하고, 기존 ID 이후의 값으로 중복 없이 할당되는지 확인")
+    @DisplayName("Id Generation : NODE 방식 동시 저장")
+    public void nodeMode_ConcurrentInsert_Test() throws Exception {
+        // Given : 다른 방식으로 생성한 기존 Event
+        jdbcTemplate.execute("delete from id_block where segment = 'event@3'");
+        jdbcTemplate.update("insert into event (id, name, base_price, max_price, limit_of_enrollment, offline, free) values (1000, 'existing', 0, 0, 0, false, true)");
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<Integer>>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            futures.add(executor.submit((Callable<List<Integer>>) () -> IntStream.range(0, 25)
+                    .mapToObj(index -> eventRepository.save(Event.builder().name("node event").build()).getId())
+                    .collect(Collectors.toList())));
+        }
+        List<Integer> ids = new ArrayList<>();
+        for (Future<List<Integer>> future : futures) {
+            ids.addAll(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(ids).hasSize(200).doesNotHaveDuplicates();
+        assertThat(ids).allMatch(id -> (id & 31) == 3);
+        assertThat(ids).allMatch(id -> id > 1000);
+        assertThat(jdbcTemplate.queryForObject("select next_val from id_block where segment = 'event@3'", Long.class))
+                .isEqualTo((1000 >>> 5) + 1 + 200);
+    }
+}
@@ -0,0 +1,77 @@
+package io.api.event.config;
+
+import io.api.event.config.test.TestConstants;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.util.common.TestDescription;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * prod profile 구동 확인
+ *  - Flyway migration으로 생성한 Schema가 Entity mapping과 일치하는지(ddl-auto=validate) 확인
+ *  - 구동 시 실행되는 Account 생성이 반복 실행되어도 중복 저장 및 password 재암호화를 하지 않는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:prod_db;MODE=PostgreSQL",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:prod_db;MODE=PostgreSQL",
+        // V9 migration의 hibernate_sequence increment
+        "my-app.id.block-size=50"
+})
+@ActiveProfiles({TestConstants.TEST, "prod"})
+class ProductionProfileTest {
+
+    @Autowired
+    Flyway flyway;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    ApplicationProperties applicationProperties;
+
+    @Autowired
+    ApplicationRunner applicationRunner;
+
+    @Test
+    @TestDescription("prod profile 구동 시 migration으로 생성한 Schema 및 index 확인")
+    @DisplayName("prod profile : Schema migration")
+    public void migratedSchema_Test() {
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("10");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT index_name FROM information_schema.indexes WHERE table_name = 'EVENT'", String.class))
+                .contains("IX_EVENT_MANAGER_ID", "IX_EVENT_MANAGER_BEGIN_EVENT", "IX_EVENT_EVENT_PERIOD", "IX_EVENT_ENROLLMENT_PERIOD", "IX_EVENT_GEOHASH");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT index_name FROM information_schema.indexes WHERE table_name = 'IDEMPOTENCY_KEY'", String.class))
+                .contains("IX_IDEMPOTENCY_KEY_EXPIRES_AT");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT index_name FROM information_schema.indexes WHERE table_name = 'ENROLLMENT_SEAT'", String.class))
+                .contains("IX_ENROLLMENT_SEAT_WAITLISTED");
+    }
+
+    @Test
+    @TestDescription("Account 생성 ApplicationRunner 재실행 시 이미 존재하는 Account를 다시 저장하지 않는지 확인")
+    @DisplayName("prod profile : Account 생성 반복 실행")
+    public void idempotentSeeding_Test() throws Exception {
+        Account seededUser = accountRepository.findByEmail(applicationProperties.getUserUserName()).orElseThrow();
+        long accountCount = accountRepository.count();
+
+        applicationRunner.run(new DefaultApplicationArguments());
+
+        assertThat(accountRepository.count()).isEqualTo(accountCount);
+        assertThat(accountRepository.findByEmail(applicationProperties.getUserUserName()).orElseThrow().getPassword())
+                .isEqualTo(seededUser.getPassword());
+    }
+}
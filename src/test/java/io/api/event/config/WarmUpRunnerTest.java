@@ -0,0 +1,38 @@
+package io.api.event.config;
+
+import io.api.event.config.test.TestConstants;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "my-app.startup.warm-up-enabled=true",
+        "my-app.startup.warm-up-iterations=3"
+})
+@ActiveProfiles(TestConstants.TEST)
+class WarmUpRunnerTest {
+
+    @Autowired
+    ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    TestRestTemplate testRestTemplate;
+
+    @Test
+    @TestDescription("warm-up 실행 후 readiness 상태가 ACCEPTING_TRAFFIC으로 전환되고 readiness probe가 200 Ok를 응답하는지 확인")
+    @DisplayName("JIT warm-up : readiness 전환")
+    public void readyAfterWarmUp_Test() {
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(testRestTemplate.getForEntity("/actuator/health/readiness", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+}
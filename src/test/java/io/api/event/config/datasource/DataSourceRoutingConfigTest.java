@@ -0,0 +1,60 @@
+package io.api.event.config.datasource;
+
+import io.api.event.config.test.TestConstants;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.service.event.EventService;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replica 라우팅 설정 적용 시 Application 구동 및 조회 확인
+ *  - 같은 in-memory H2 DB를 Replica로 등록하여 복제 없이 Replica에서 조회 결과를 확인한다.
+ */
+@SpringBootTest(properties = {
+        "my-app.datasource.routing.enabled=true",
+        "my-app.datasource.routing.replicas[0].url=jdbc:h2:mem:test_db",
+        "my-app.datasource.routing.replicas[0].username=test_user",
+        "my-app.datasource.routing.replicas[0].password=test_pw",
+        "my-app.datasource.routing.lag-query=SELECT 0"
+})
+@ActiveProfiles(TestConstants.TEST)
+class DataSourceRoutingConfigTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Test
+    @TestDescription("Replica 라우팅 사용 시 DataSource 구성 및 read-only transaction을 이용한 Event 조회 확인")
+    @DisplayName("Replica 라우팅 : Event 조회")
+    public void readEventsThroughReplica_Test() {
+        Event event = eventRepository.save(Event.builder()
+                .name("routing event")
+                .beginEventDateTime(LocalDateTime.now())
+                .build());
+
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        ReplicaRoutingDataSource replicaRoutingDataSource =
+                (ReplicaRoutingDataSource) ((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource();
+        assertThat(replicaRoutingDataSource.getAvailableReplicas()).containsExactly("replica-0");
+        assertThat(eventService.getEvent(event.getId())).get().extracting(Event::getName).isEqualTo("routing event");
+        assertThat(eventService.getEventList(PageRequest.of(0, 10)).getContent()).contains(event);
+    }
+}
@@ -0,0 +1,324 @@
+package io.api.event.config.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.api.event.config.test.TestConstants;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.domain.dto.event.EventSummary;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.account.AccountRole;
+import io.api.event.domain.dto.event.EventIngestionSummary;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventWindowBasis;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.EventRepositoryImpl;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.repository.shard.PartitionedId;
+import io.api.event.repository.shard.ShardedEventRepository;
+import io.api.event.service.event.EventIngestionService;
+import io.api.event.service.event.EventService;
+import io.api.event.service.geo.EventLocationService;
+import io.api.event.service.geo.NearbyEvent;
+import io.api.event.service.statistics.EventStatisticsService;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Event sharding 설정 적용 시 manager별 shard 저장 및 조회 확인
+ *  - 각 shard는 별도의 in-memory H2 DB를 사용한다.
+ */
+@SpringBootTest(properties = {
+        "my-app.datasource.sharding.enabled=true",
+        "my-app.datasource.sharding.shards[0].url=jdbc:h2:mem:event_shard_0;DB_CLOSE_DELAY=-1",
+        "my-app.datasource.sharding.shards[1].url=jdbc:h2:mem:event_shard_1;DB_CLOSE_DELAY=-1",
+        "my-app.datasource.sharding.shards[2].url=jdbc:h2:mem:event_shard_2;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles(TestConstants.TEST)
+class EventShardingConfigTest {
+
+    @Autowired
+    ShardedEventRepository shardedEventRepository;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventStatisticsService eventStatisticsService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EventLocationService eventLocationService;
+
+    @Autowired
+    EventIngestionService eventIngestionService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @TestDescription("Event가 manager의 shard에 저장되고, ID에 포함된 shard에서 조회/수정 되는지 확인")
+    @DisplayName("Event sharding : manager별 shard 저장 및 단건 조회")
+    public void routeEventsByManager_Test() {
+        long primaryEventCount = eventRepository.count();
+        List<Event> events = createEvents("route", 8, 2);
+
+        for (Event event : events) {
+            int shard = PartitionedId.shardOf(event.getId());
+            assertThat(shard).isEqualTo(shardedEventRepository.shardOf(event.getManager()));
+            assertThat(new JdbcTemplate(shardedEventRepository.getDataSource(shard))
+                    .queryForObject("select count(*) from event where id = ?", Integer.class, event.getId())).isOne();
+            assertThat(eventService.getEvent(event.getId())).get()
+                    .satisfies(found -> {
+                        assertThat(found.getName()).isEqualTo(event.getName());
+                        assertThat(found.getManager().getEmail()).isEqualTo(event.getManager().getEmail());
+                    });
+        }
+        assertThat(events.stream().map(event -> PartitionedId.shardOf(event.getId())).distinct().count()).isGreaterThan(1);
+        assertThat(eventRepository.count()).isEqualTo(primaryEventCount);
+        assertThat(eventService.getManagedEvents(events.get(0).getManager(), null, 10).getContent())
+                .extracting(EventSummary::getId)
+                .containsExactlyInAnyOrder(events.get(0).getId(), events.get(1).getId());
+
+        Event event = events.get(0);
+        EventDto eventDto = EventDto.builder().name("updated shard event").basePrice(0).maxPrice(0).limitOfEnrollment(10).build();
+        eventService.updateEvent(event.getId(), eventDto, event.getManager());
+        assertThat(eventService.getEvent(event.getId())).get()
+                .satisfies(found -> {
+                    assertThat(found.getName()).isEqualTo("updated shard event");
+                    assertThat(found.isFree()).isTrue();
+                });
+        assertThat(eventService.getEvent(PartitionedId.of(0, PartitionedId.MAX_SEQUENCE))).isEmpty();
+    }
+
+    @Test
+    @TestDescription("모든 shard의 Event를 요청 정렬 순서로 병합한 페이지가 응답되는지 확인")
+    @DisplayName("Event sharding : 목록 조회 병합 정렬")
+    public void mergeEventListFromShards_Test() {
+        createEvents("list", 6, 4);
+        List<Event> stored = new ArrayList<>(shardedEventRepository.findAll(PageRequest.of(0, 1000)).getContent());
+        Comparator<Event> byBasePriceDesc = Comparator.comparing(Event::getBasePrice).reversed().thenComparing(Event::getId);
+        stored.sort(byBasePriceDesc);
+
+        PageRequest pageRequest = PageRequest.of(2, 5, Sort.by(Sort.Direction.DESC, "basePrice"));
+        Page<Event> page = eventService.getEventList(pageRequest);
+        Slice<Event> slice = eventService.getEventList(pageRequest, null);
+
+        assertThat(page.getTotalElements()).isEqualTo(shardedEventRepository.count());
+        assertThat(page.getContent()).extracting(Event::getId)
+                .containsExactlyElementsOf(stored.subList(10, 15).stream().map(Event::getId).collect(Collectors.toList()));
+        assertThat(slice.getContent()).isEqualTo(page.getContent());
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(page.getContent()).allSatisfy(event -> assertThat(event.getManager().getEmail()).isNotNull());
+    }
+
+    @Test
+    @TestDescription("여러 shard에 저장된 Event를 다건 조회 시 요청 순서로 응답하고, 존재하지 않는 ID의 위치는 null인지 확인")
+    @DisplayName("Event sharding : 다건 조회")
+    public void getEventsByIdsFromShards_Test() {
+        List<Event> events = createEvents("ids", 4, 1);
+        Integer missingId = PartitionedId.of(0, PartitionedId.MAX_SEQUENCE);
+
+        List<Event> found = eventService.getEventsByIds(Arrays.asList(
+                events.get(3).getId(), missingId, events.get(0).getId(), events.get(2).getId()));
+
+        assertThat(events.stream().map(event -> PartitionedId.shardOf(event.getId())).distinct().count()).isGreaterThan(1);
+        assertThat(found).extracting(event -> event == null ? null : event.getId())
+                .containsExactly(events.get(3).getId(), null, events.get(0).getId(), events.get(2).getId());
+        assertThat(found.get(0).getManager().getEmail()).isEqualTo(events.get(3).getManager().getEmail());
+    }
+
+    @Test
+    @TestDescription("통계 전체 재집계 시 Primary DB가 아닌 모든 shard의 Event 수를 합산하는지 확인")
+    @DisplayName("Event sharding : 통계 재집계")
+    public void reconcileStatisticsFromShards_Test() {
+        createEvents("statistics", 3, 2);
+
+        eventStatisticsService.reconcile();
+
+        assertThat(eventStatisticsService.getCounters().get(EventStatisticsService.TOTAL)).isEqualTo(shardedEventRepository.count());
+    }
+
+    @Test
+    @TestDescription("수정 요청의 transaction이 rollback 된 경우 shard의 Event가 수정 전 값으로 되돌려지는지 확인")
+    @DisplayName("Event sharding : 수정 rollback")
+    public void rollbackShardUpdate_Test() {
+        Event event = createEvents("rollback", 1, 1).get(0);
+        EventDto eventDto = EventDto.builder().name("rolled back shard event").basePrice(0).maxPrice(0).limitOfEnrollment(10).build();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventService.updateEvent(event.getId(), eventDto, event.getManager());
+            status.setRollbackOnly();
+        });
+
+        assertThat(eventService.getEvent(event.getId())).get()
+                .satisfies(found -> {
+                    assertThat(found.getName()).isEqualTo(event.getName());
+                    assertThat(found.getBasePrice()).isEqualTo(event.getBasePrice());
+                });
+    }
+
+    @Test
+    @TestDescription("부분 조회 및 목록 부분 조회 시 Primary DB가 아닌 shard에 저장된 Event의 요청 항목이 응답되는지 확인")
+    @DisplayName("Event sharding : 부분 조회")
+    public void getEventFieldsFromShards_Test() {
+        List<Event> events = createEvents("fields", 3, 1);
+        Event event = events.get(1);
+
+        assertThat(eventService.getEventFields(event.getId(), Set.of("id", "name", "manager"))).get()
+                .satisfies(fields -> {
+                    assertThat(fields).containsOnlyKeys("id", "name", "manager");
+                    assertThat(fields.get("name")).isEqualTo(event.getName());
+                    assertThat(fields.get("manager")).isEqualTo(Map.of("id", event.getManager().getId()));
+                });
+        Slice<Map<String, Object>> slice = eventService.getEventFieldsList(Set.of("id", "name"),
+                PageRequest.of(0, 1000, Sort.by(Sort.Direction.DESC, "id")), null);
+        assertThat(slice.getContent()).extracting(fields -> fields.get("id"))
+                .containsAll(events.stream().map(Event::getId).collect(Collectors.toList()));
+        assertThat(slice.getContent()).hasSize((int) shardedEventRepository.count());
+    }
+
+    @Test
+    @TestDescription("기간 겹침 조회 및 기간 index 생성 시 모든 shard의 Event를 대상으로 하는지 확인")
+    @DisplayName("Event sharding : 기간 겹침 조회")
+    public void getEventsInWindowFromShards_Test() {
+        List<Event> events = createEvents("window", 4, 1);
+        LocalDateTime from = LocalDateTime.of(2020, 11, 3, 10, 0);
+        LocalDateTime to = LocalDateTime.of(2020, 11, 3, 11, 0);
+        List<Integer> ids = events.stream().map(Event::getId).collect(Collectors.toList());
+
+        List<Event> found = eventService.getEventsInWindow(EventWindowBasis.EVENT, from, to);
+        int[] indexed = shardedEventRepository.findIntervalIndex(EventWindowBasis.EVENT, from, to)
+                .query(EventRepositoryImpl.toEpochSecond(from), EventRepositoryImpl.toEpochSecond(to), 1000);
+
+        assertThat(events.stream().map(event -> PartitionedId.shardOf(event.getId())).distinct().count()).isGreaterThan(1);
+        assertThat(found).extracting(Event::getId).containsAll(ids).doesNotHaveDuplicates();
+        assertThat(found).allSatisfy(event -> assertThat(event.getManager()).isNotNull());
+        assertThat(Arrays.stream(indexed).boxed().collect(Collectors.toList())).containsAll(ids);
+    }
+
+    @Test
+    @TestDescription("위치 검색 시 모든 shard에 저장된 오프라인 Event를 가까운 순서로 응답하는지 확인")
+    @DisplayName("Event sharding : 위치 검색")
+    public void searchNearbyFromShards_Test() {
+        List<Event> events = new ArrayList<>();
+        String[] locations = {"강남역", "역삼역", "선릉역"};
+        for (int index = 0; index < locations.length; index++) {
+            Account manager = accountRepository.save(Account.builder()
+                    .email("nearby" + index + "@shard.com")
+                    .password("password")
+                    .roles(Set.of(AccountRole.USER))
+                    .build());
+            events.add(eventService.createEvent(givenEventDto("nearby event " + index, locations[index]), manager));
+        }
+
+        List<NearbyEvent> found = eventLocationService.searchNearby(37.497942, 127.027621, 3000, null, PageRequest.of(0, 10))
+                .getContent();
+
+        assertThat(found).extracting(nearbyEvent -> nearbyEvent.getEvent().getId())
+                .containsExactly(events.get(0).getId(), events.get(1).getId(), events.get(2).getId());
+        assertThat(found.get(0).getEvent().getManager().getId()).isEqualTo(events.get(0).getManager().getId());
+    }
+
+    @Test
+    @TestDescription("목록 저장(ingestion) 시 Event가 manager의 shard에 shard ID로 저장되어 단건/부분 조회되는지 확인")
+    @DisplayName("Event sharding : 목록 저장")
+    public void ingestEventsToShard_Test() throws Exception {
+        long primaryEventCount = eventRepository.count();
+        Account manager = accountRepository.save(Account.builder()
+                .email("ingestion@shard.com")
+                .password("password")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        List<EventDto> eventDtos = new ArrayList<>();
+        for (int index = 0; index < 5; index++) {
+            eventDtos.add(givenEventDto("ingested event " + index, null));
+        }
+
+        EventIngestionSummary summary = eventIngestionService.ingest(
+                new ByteArrayInputStream(objectMapper.writeValueAsBytes(eventDtos)), manager, 0, 2);
+
+        assertThat(summary.isCompleted()).isTrue();
+        assertThat(summary.getNextOffset()).isEqualTo(5);
+        assertThat(eventRepository.count()).isEqualTo(primaryEventCount);
+        List<EventSummary> ingested = eventService.getManagedEvents(manager, null, 10).getContent();
+        assertThat(ingested).hasSize(5);
+        for (EventSummary eventSummary : ingested) {
+            assertThat(PartitionedId.shardOf(eventSummary.getId())).isEqualTo(shardedEventRepository.shardOf(manager));
+            assertThat(eventService.getEvent(eventSummary.getId())).get()
+                    .satisfies(found -> assertThat(found.getManager().getId()).isEqualTo(manager.getId()));
+            assertThat(eventService.getEventFields(eventSummary.getId(), Set.of("id", "name"))).get()
+                    .satisfies(fields -> assertThat(fields.get("name")).isEqualTo(eventSummary.getName()));
+        }
+    }
+
+    private List<Event> createEvents(String prefix, int managerCount, int eventsPerManager) {
+        List<Event> events = new ArrayList<>();
+        for (int managerIndex = 0; managerIndex < managerCount; managerIndex++) {
+            Account manager = accountRepository.save(Account.builder()
+                    .email(prefix + managerIndex + "@shard.com")
+                    .password("password")
+                    .roles(Set.of(AccountRole.USER))
+                    .build());
+            for (int eventIndex = 0; eventIndex < eventsPerManager; eventIndex++) {
+                EventDto eventDto = EventDto.builder()
+                        .name(prefix + " event " + managerIndex + "-" + eventIndex)
+                        .description("sharded event")
+                        .beginEnrollmentDateTime(LocalDateTime.of(2020, 11, 1, 9, 0))
+                        .closeEnrollmentDateTime(LocalDateTime.of(2020, 11, 2, 9, 0))
+                        .beginEventDateTime(LocalDateTime.of(2020, 11, 3, 9, 0))
+                        .endEventDateTime(LocalDateTime.of(2020, 11, 3, 18, 0))
+                        .basePrice((managerIndex * 7 + eventIndex * 3) % 5 * 1000)
+                        .maxPrice(10000)
+                        .limitOfEnrollment(100)
+                        .build();
+                events.add(eventService.createEvent(eventDto, manager));
+            }
+        }
+        return events;
+    }
+
+    private EventDto givenEventDto(String name, String location) {
+        return EventDto.builder()
+                .name(name)
+                .description("sharded event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 11, 1, 9, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 11, 2, 9, 0))
+                .beginEventDateTime(LocalDateTime.of(2020, 11, 3, 9, 0))
+                .endEventDateTime(LocalDateTime.of(2020, 11, 3, 18, 0))
+                .location(location)
+                .basePrice(0)
+                .maxPrice(0)
+                .limitOfEnrollment(100)
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package io.api.event.config.datasource;
+
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String DATABASE_NAME_QUERY = "SELECT name FROM database_info";
+    private static final String LAG_QUERY = "SELECT lag_seconds FROM database_info";
+
+    private DataSource primary;
+    private DataSource firstReplica;
+    private DataSource secondReplica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    public void setUp() {
+        primary = givenDatabase("primary_db");
+        firstReplica = givenDatabase("first_replica_db");
+        secondReplica = givenDatabase("second_replica_db");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(firstReplica, secondReplica));
+        replicaLagMonitor = new ReplicaLagMonitor(routingDataSource, LAG_QUERY, Duration.ofSeconds(10));
+        replicaLagMonitor.checkReplicas();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @TestDescription("read-only transaction은 Replica들로 번갈아 라우팅되고, 그 외 transaction은 Primary로 라우팅 되는지 확인")
+    @DisplayName("Replica 라우팅 : read-only 여부에 따른 라우팅")
+    public void routeByReadOnly_Test() {
+        List<String> readOnlyTargets = new ArrayList<>();
+        for (int count = 0; count < 4; count++) {
+            readOnlyTargets.add(databaseOf(readOnlyTransaction));
+        }
+
+        assertThat(readOnlyTargets).containsExactly("first_replica_db", "second_replica_db", "first_replica_db", "second_replica_db");
+        assertThat(databaseOf(readWriteTransaction)).isEqualTo("primary_db");
+        assertThat(currentDatabase()).isEqualTo("primary_db");
+    }
+
+    @Test
+    @TestDescription("복제 지연 시간을 초과하거나 장애가 발생한 Replica는 라우팅 대상에서 제외되고, 모두 제외된 경우 Primary로 라우팅 되는지 확인")
+    @DisplayName("Replica 라우팅 : 복제 지연 시 Primary로 대체")
+    public void fallbackToPrimaryOnLag_Test() {
+        // 첫번째 Replica 복제 지연
+        new JdbcTemplate(firstReplica).update("UPDATE database_info SET lag_seconds = 30");
+        replicaLagMonitor.checkReplicas();
+        assertThat(routingDataSource.getAvailableReplicas()).containsExactly("replica-1");
+        assertThat(databaseOf(readOnlyTransaction)).isEqualTo("second_replica_db");
+        assertThat(databaseOf(readOnlyTransaction)).isEqualTo("second_replica_db");
+
+        // 두번째 Replica 장애 (지연 확인 쿼리 실패)
+        new JdbcTemplate(secondReplica).execute("DROP TABLE database_info");
+        replicaLagMonitor.checkReplicas();
+        assertThat(routingDataSource.getAvailableReplicas()).isEmpty();
+        assertThat(databaseOf(readOnlyTransaction)).isEqualTo("primary_db");
+
+        // 첫번째 Replica 복구
+        new JdbcTemplate(firstReplica).update("UPDATE database_info SET lag_seconds = 0");
+        replicaLagMonitor.checkReplicas();
+        assertThat(databaseOf(readOnlyTransaction)).isEqualTo("first_replica_db");
+    }
+
+    private String databaseOf(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject(DATABASE_NAME_QUERY, String.class);
+    }
+
+    private DataSource givenDatabase(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS database_info");
+        template.execute("CREATE TABLE database_info (name VARCHAR(50), lag_seconds DOUBLE)");
+        template.update("INSERT INTO database_info VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
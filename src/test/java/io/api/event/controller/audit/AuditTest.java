@@ -0,0 +1,120 @@
+package io.api.event.controller.audit;
+
+import io.api.event.common.BaseTest;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.account.AccountRole;
+import io.api.event.domain.entity.audit.AuditAction;
+import io.api.event.domain.entity.audit.AuditOutcome;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.repository.audit.AuditEntryRepository;
+import io.api.event.service.account.AccountService;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Event 수정 요청 이력 비동기 기록 및 이력 조회 API 확인
+ */
+public class AuditTest extends BaseTest {
+
+    private static final String ADMIN_EMAIL = "audit-admin@naver.com";
+    private static final String ADMIN_PASSWORD = "audit-admin";
+    private static final String OTHER_EMAIL = "audit-other@naver.com";
+    private static final String OTHER_PASSWORD = "audit-other";
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AuditEntryRepository auditEntryRepository;
+
+    @BeforeEach
+    public void setUp() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+        auditEntryRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("manager의 수정 요청과 manager가 아닌 Account의 거부된 수정 요청이 이력으로 기록되고 ADMIN만 조회할 수 있는지 확인")
+    @DisplayName("Audit API : 수정/거부 이력 조회")
+    public void getAuditEntriesApi_Test() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        Account manager = authInfoGenerator.createUserAccount(userEmail, userPassword);
+        Account other = authInfoGenerator.createUserAccount(OTHER_EMAIL, OTHER_PASSWORD);
+        accountService.saveAccount(Account.builder()
+                .email(ADMIN_EMAIL)
+                .password(ADMIN_PASSWORD)
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+        Event event = eventDomainGenerator.generatedEventAndEventMangerByAccountInfo(1, manager);
+        EventDto eventDto = modelMapper.map(event, EventDto.class);
+
+        // When
+        updateEvent(event, eventDto, authInfoGenerator.getBearerToken(userEmail, userPassword)).andExpect(status().isOk());
+        updateEvent(event, eventDto, authInfoGenerator.getBearerToken(OTHER_EMAIL, OTHER_PASSWORD)).andExpect(status().isUnauthorized());
+
+        // Then : background thread의 저장 완료 대기
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (auditEntryRepository.count() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(auditEntryRepository.count()).isEqualTo(2);
+
+        mockMvc.perform(get("/api/audit")
+                .param("eventId", String.valueOf(event.getId()))
+                .header(HttpHeaders.AUTHORIZATION, authInfoGenerator.getBearerToken(ADMIN_EMAIL, ADMIN_PASSWORD))
+                .accept(MediaTypes.HAL_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.auditEntryList.length()").value(2))
+                .andExpect(jsonPath("_embedded.auditEntryList[0].action").value(AuditAction.UPDATE_EVENT.name()))
+                .andExpect(jsonPath("_embedded.auditEntryList[0].outcome").value(AuditOutcome.DENIED.name()))
+                .andExpect(jsonPath("_embedded.auditEntryList[0].accountId").value(other.getId()))
+                .andExpect(jsonPath("_embedded.auditEntryList[1].outcome").value(AuditOutcome.SUCCESS.name()))
+                .andExpect(jsonPath("_embedded.auditEntryList[1].accountId").value(manager.getId()))
+                .andExpect(jsonPath("_links.profile").exists());
+
+        mockMvc.perform(get("/api/audit")
+                .header(HttpHeaders.AUTHORIZATION, authInfoGenerator.getBearerToken(userEmail, userPassword))
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isForbidden());
+    }
+
+    private ResultActions updateEvent(Event event, EventDto eventDto, String bearerToken) throws Exception {
+        return mockMvc.perform(put("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .characterEncoding(StandardCharsets.UTF_8.name())
+                .content(objectMapper.writeValueAsString(eventDto)));
+    }
+}
@@ -0,0 +1,159 @@
+package io.api.event.controller.enrollment;
+
+import io.api.event.common.BaseTest;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.repository.enrollment.EnrollmentRepository;
+import io.api.event.repository.enrollment.EnrollmentSeatRepository;
+import io.api.event.service.enrollment.EnrollmentService;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class EnrollmentTest extends BaseTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EnrollmentSeatRepository enrollmentSeatRepository;
+
+    @Autowired
+    EnrollmentService enrollmentService;
+
+    @BeforeEach
+    public void setUp() {
+        enrollmentRepository.deleteAll();
+        enrollmentSeatRepository.deleteAll();
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        enrollmentRepository.deleteAll();
+        enrollmentSeatRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("정원이 찬 Event의 참가 신청은 대기 순번과 함께 대기로 저장되고, 참가 확정 신청 취소 시 대기 순서대로 승격되는지 확인")
+    @DisplayName("Enrollment API : 정원 초과 신청 대기 및 취소 시 승격")
+    public void enrollmentApi_Waitlist_Test() throws Exception {
+        // Given
+        Account manager = authInfoGenerator.createUserAccount("manager@naver.com", "manager");
+        Event event = eventDomainGenerator.generatedEventAndEventMangerByAccountInfo(1, manager);
+        event.setLimitOfEnrollment(1);
+        eventRepository.save(event);
+        String first = this.bearerTokenOf("first@naver.com");
+        String second = this.bearerTokenOf("second@naver.com");
+        String third = this.bearerTokenOf("third@naver.com");
+
+        // When & Then
+        this.enroll(event, first)
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(HttpHeaders.LOCATION))
+                .andExpect(jsonPath("status").value("CONFIRMED"))
+                .andExpect(jsonPath("position").doesNotExist())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.get-an-event").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+        this.enroll(event, second)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("status").value("WAITLISTED"))
+                .andExpect(jsonPath("position").value(1));
+        this.enroll(event, third)
+                .andExpect(jsonPath("status").value("WAITLISTED"))
+                .andExpect(jsonPath("position").value(2));
+        // 이미 신청한 경우 기존 신청 응답
+        this.enroll(event, third)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("position").value(2));
+
+        mockMvc.perform(delete("/api/events/{eventId}/enrollments", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, first))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+        enrollmentService.promoteReleased();
+
+        this.getEnrollment(event, first)
+                .andExpect(status().isNotFound());
+        this.getEnrollment(event, second)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status").value("CONFIRMED"))
+                .andExpect(jsonPath("promotedAt").exists());
+        this.getEnrollment(event, third)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status").value("WAITLISTED"))
+                .andExpect(jsonPath("position").value(1));
+    }
+
+    @Test
+    @TestDescription("인증하지 않은 조회 요청은 401, 없는 Event 신청 및 신청하지 않은 Event 취소는 404 응답하는지 확인")
+    @DisplayName("Enrollment API : 인증 및 대상이 없는 요청")
+    public void enrollmentApi_WrongRequest_Test() throws Exception {
+        // Given
+        Account manager = authInfoGenerator.createUserAccount("manager@naver.com", "manager");
+        Event event = eventDomainGenerator.generatedEventAndEventMangerByAccountInfo(2, manager);
+        String bearerToken = this.bearerTokenOf("user@naver.com");
+
+        // When & Then
+        mockMvc.perform(get("/api/events/{eventId}/enrollments", event.getId())
+                .accept(MediaTypes.HAL_JSON_VALUE))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId())
+                .accept(MediaTypes.HAL_JSON_VALUE))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId() + 1000)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .accept(MediaTypes.HAL_JSON_VALUE))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/events/{eventId}/enrollments", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    private String bearerTokenOf(String email) throws Exception {
+        authInfoGenerator.createUserAccount(email, "password");
+        return authInfoGenerator.getBearerToken(email, "password");
+    }
+
+    private ResultActions enroll(Event event, String bearerToken) throws Exception {
+        return mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .accept(MediaTypes.HAL_JSON_VALUE))
+                .andDo(print());
+    }
+
+    private ResultActions getEnrollment(Event event, String bearerToken) throws Exception {
+        return mockMvc.perform(get("/api/events/{eventId}/enrollments", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .accept(MediaTypes.HAL_JSON_VALUE))
+                .andDo(print());
+    }
+}
@@ -0,0 +1,205 @@
+package io.api.event.controller.event;
+
+import io.api.event.common.BaseTest;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class EventBatchTest extends BaseTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @BeforeEach
+    public void setUpRepository() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("다수의 Event 유효성 검사 요청 시 유효하지 못한 요청의 index별 오류 정보 응답 및 저장하지 않음 확인")
+    @DisplayName("Validate Events API : 이벤트 목록 유효성 검사 요청")
+    public void validateEventsApi() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        authInfoGenerator.createUserAccount(userEmail, userPassword);
+
+        List<EventDto> eventDtos = new ArrayList<>();
+        for (int index = 0; index < 3000; index++) {
+            eventDtos.add(givenEventDto(index));
+        }
+        eventDtos.get(7).setName(null);           // JSR303 오류
+        eventDtos.get(1500).setBasePrice(300);    // EventValidator 오류
+        eventDtos.get(1500).setMaxPrice(200);
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(post("/api/events/batch/validation")
+                .header(HttpHeaders.AUTHORIZATION, authInfoGenerator.getBearerToken(userEmail, userPassword))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON)
+                .characterEncoding(StandardCharsets.UTF_8.name())
+                .content(objectMapper.writeValueAsString(eventDtos))
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("total").value(3000))
+                .andExpect(jsonPath("invalid").value(2))
+                .andExpect(jsonPath("results[0].index").value(7))
+                .andExpect(jsonPath("results[0].errors[0].field").value("name"))
+                .andExpect(jsonPath("results[1].index").value(1500))
+                .andExpect(jsonPath("results[1].errors[0].code").value("wrongValue"))
+        ;
+        assertThat(eventRepository.count()).isZero();
+    }
+
+    @Test
+    @TestDescription("JSON 배열 요청을 chunk 단위로 저장하고, 유효하지 못한 요청이 포함된 chunk에서 중단 후 nextOffset 부터 이어서 저장 되는지 확인")
+    @DisplayName("Ingest Events API : 이벤트 목록 저장 및 재개 요청")
+    public void ingestEventsApi_Resume() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        authInfoGenerator.createUserAccount(userEmail, userPassword);
+        String bearerToken = authInfoGenerator.getBearerToken(userEmail, userPassword);
+
+        List<EventDto> eventDtos = new ArrayList<>();
+        for (int index = 0; index < 1200; index++) {
+            eventDtos.add(givenEventDto(index));
+        }
+        eventDtos.get(1100).setBasePrice(300);
+        eventDtos.get(1100).setMaxPrice(200);
+
+        // When #1 : 3번째 chunk에 유효하지 못한 요청 포함
+        mockMvc.perform(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .param("chunkSize", "500")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON)
+                .characterEncoding(StandardCharsets.UTF_8.name())
+                .content(objectMapper.writeValueAsString(eventDtos)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("completed").value(false))
+                .andExpect(jsonPath("nextOffset").value(1000))
+                .andExpect(jsonPath("chunks[0].status").value("COMMITTED"))
+                .andExpect(jsonPath("chunks[1].status").value("COMMITTED"))
+                .andExpect(jsonPath("chunks[2].status").value("REJECTED"))
+                .andExpect(jsonPath("chunks[2].invalidIndexes[0]").value(1100))
+        ;
+        assertThat(eventRepository.count()).isEqualTo(1000);
+
+        // When #2 : 유효하지 못한 요청 수정 후 nextOffset 부터 재개
+        eventDtos.get(1100).setMaxPrice(400);
+        mockMvc.perform(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .param("chunkSize", "500")
+                .param("resumeFrom", "1000")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON)
+                .characterEncoding(StandardCharsets.UTF_8.name())
+                .content(objectMapper.writeValueAsString(eventDtos)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("completed").value(true))
+                .andExpect(jsonPath("resumedFrom").value(1000))
+                .andExpect(jsonPath("nextOffset").value(1200))
+                .andExpect(jsonPath("chunks[0].fromOffset").value(1000))
+                .andExpect(jsonPath("chunks[0].saved").value(200))
+        ;
+
+        // Then
+        assertThat(eventRepository.count()).isEqualTo(1200);
+    }
+
+    @Test
+    @TestDescription("JSON 배열에 객체가 아닌 요소, 닫히지 않은 배열 또는 배열 이후의 내용이 있는 경우 완료로 응답하지 않고 해당 위치에서 중단 되는지 확인")
+    @DisplayName("Ingest Events API : 잘못된 형식의 배열 요소")
+    public void ingestEventsApi_MalformedElement() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        authInfoGenerator.createUserAccount(userEmail, userPassword);
+        String bearerToken = authInfoGenerator.getBearerToken(userEmail, userPassword);
+
+        List<String> elements = new ArrayList<>();
+        for (int index = 0; index < 5; index++) {
+            elements.add(objectMapper.writeValueAsString(givenEventDto(index)));
+        }
+        elements.add(3, "1");
+
+        // When & Then : 4번째 요소가 객체가 아닌 경우 첫번째 chunk만 저장하고 중단
+        mockMvc.perform(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .param("chunkSize", "2")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON)
+                .characterEncoding(StandardCharsets.UTF_8.name())
+                .content("[" + String.join(",", elements) + "]"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("completed").value(false))
+                .andExpect(jsonPath("nextOffset").value(2))
+                .andExpect(jsonPath("message").value(containsString("offset 3")))
+        ;
+        assertThat(eventRepository.count()).isEqualTo(2);
+
+        // When & Then : 배열이 닫히지 않은 경우 및 배열 이후에 내용이 있는 경우
+        elements.remove(3);
+        for (String body : List.of("[" + String.join(",", elements), "[" + String.join(",", elements) + "] {}")) {
+            mockMvc.perform(post("/api/events/batch")
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .param("chunkSize", "2")
+                    .param("resumeFrom", "2")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .characterEncoding(StandardCharsets.UTF_8.name())
+                    .content(body))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("completed").value(false))
+            ;
+        }
+    }
+
+    private EventDto givenEventDto(int index) {
+        return EventDto.builder()
+                .name("루나소프트 생활 체육회 : " + index)
+                .description("제 2회 루나 배 풋살 대회 : " + index)
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 8, 6, 9, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 8, 7, 9, 30))
+                .beginEventDateTime(LocalDateTime.of(2020, 8, 13, 19, 0))
+                .endEventDateTime(LocalDateTime.of(2020, 8, 13, 22, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(0)
+                .location("서울시 강남구 일원동 마루공원 풋살장 1면")
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package io.api.event.controller.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.api.event.common.BaseTest;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * CBOR(application/cbor) 요청/응답 확인
+ *  - 같은 요청의 JSON 응답과 CBOR 응답을 JsonNode로 변환하여 비교하면 같은 내용이어야 한다.
+ */
+public class EventCborTest extends BaseTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+    private ObjectMapper cborObjectMapper;
+
+    @BeforeEach
+    public void setUp() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+        cborObjectMapper = cborHttpMessageConverter.getObjectMapper();
+    }
+
+    @Test
+    @TestDescription("CBOR 형식의 Event 생성 요청 시 CBOR 형식으로 HAL 구조의 응답을 반환하는지 확인")
+    @DisplayName("Create Event API : CBOR 요청/응답")
+    public void createEventApi_Cbor_Test() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        authInfoGenerator.createUserAccount(userEmail, userPassword);
+        LocalDateTime base = LocalDateTime.of(2020, 10, 19, 9, 0);
+        EventDto eventDto = EventDto.builder()
+                .name("cbor event")
+                .description("event created by cbor request")
+                .beginEnrollmentDateTime(base)
+                .closeEnrollmentDateTime(base.plusDays(1))
+                .beginEventDateTime(base.plusDays(2))
+                .endEventDateTime(base.plusDays(3))
+                .location("Seoul")
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+
+        // When
+        byte[] response = mockMvc.perform(post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, authInfoGenerator.getBearerToken(userEmail, userPassword))
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborObjectMapper.writeValueAsBytes(eventDto)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode event = cborObjectMapper.readTree(response);
+        assertThat(event.get("name").asText()).isEqualTo("cbor event");
+        assertThat(event.get("beginEventDateTime").asText()).isEqualTo("2020-10-21T09:00:00");
+        assertThat(event.get("eventStatus").asText()).isEqualTo("DRAFT");
+        assertThat(event.at("/_links/self/href").asText()).endsWith("/api/events/" + event.get("id").asInt());
+        assertThat(event.at("/_links/profile/href").isMissingNode()).isFalse();
+    }
+
+    @Test
+    @TestDescription("Event 목록 조회 시 CBOR 응답이 JSON 응답과 같은 내용인지 확인")
+    @DisplayName("Get Event List API : CBOR 응답")
+    public void getEventListApi_Cbor_Test() throws Exception {
+        // Given
+        IntStream.range(0, 15).forEach(index -> eventDomainGenerator.generatedEvent(index));
+
+        // When
+        byte[] cborResponse = mockMvc.perform(get("/api/events").param("size", "10").param("sort", "id")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        String jsonResponse = mockMvc.perform(get("/api/events").param("size", "10").param("sort", "id")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        JsonNode cborEvents = cborObjectMapper.readTree(cborResponse);
+        assertThat(cborEvents).isEqualTo(objectMapper.readTree(jsonResponse));
+        assertThat(cborEvents.at("/_embedded/eventList").size()).isEqualTo(10);
+        assertThat(cborResponse.length).isLessThan(jsonResponse.length());
+    }
+
+    @Test
+    @TestDescription("유효하지 못한 CBOR 요청 시 JSON 요청과 같은 오류 정보를 CBOR 형식으로 응답하는지 확인")
+    @DisplayName("Create Event API : CBOR 유효하지 못한 요청")
+    public void createEventApi_CborBadRequest_Test() throws Exception {
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        authInfoGenerator.createUserAccount(userEmail, userPassword);
+
+        byte[] response = mockMvc.perform(post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, authInfoGenerator.getBearerToken(userEmail, userPassword))
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborObjectMapper.writeValueAsBytes(EventDto.builder().build())))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode errors = cborObjectMapper.readTree(response);
+        assertThat(errors.at("/content/0/objectName").asText()).isEqualTo("eventDto");
+        assertThat(errors.at("/_links/index/href").isMissingNode()).isFalse();
+    }
+}
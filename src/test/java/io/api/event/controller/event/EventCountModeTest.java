@@ -0,0 +1,148 @@
+package io.api.event.controller.event;
+
+import io.api.event.common.BaseTest;
+import io.api.event.config.EventProperties;
+import io.api.event.repository.EventRepository;
+import io.api.event.service.event.EventCountMode;
+import io.api.event.util.common.TestDescription;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Event 목록 조회 시 전체 수 조회 방식(my-app.event.count-mode)별 응답 및 실행 쿼리 확인
+ */
+public class EventCountModeTest extends BaseTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventProperties eventProperties;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        eventRepository.deleteAll();
+        IntStream.range(0, 30).forEach(index -> eventDomainGenerator.generatedEvent(index));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        eventProperties.setCountMode(EventCountMode.EXACT);
+    }
+
+    @Test
+    @TestDescription("NONE : count 쿼리 없이 목록만 조회하고 전체 수 대신 다음/이전 페이지 link를 응답하는지 확인")
+    @DisplayName("Get Event List API : 전체 수 조회 방식 NONE")
+    public void getEventListApi_CountModeNone_Test() throws Exception {
+        // Given
+        eventProperties.setCountMode(EventCountMode.NONE);
+
+        // When
+        statistics.clear();
+        getEventList()
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("page.countMode").value(EventCountMode.NONE.name()))
+                .andExpect(jsonPath("page.number").value(1))
+                .andExpect(jsonPath("page.totalElements").doesNotExist())
+                .andExpect(jsonPath("page.totalPages").doesNotExist())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.prev").exists())
+                .andExpect(jsonPath("_links.last").doesNotExist());
+
+        // Then : 목록 조회 쿼리 한번만 실행
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("CACHED : 캐시한 전체 수를 사용하여 이후 요청에서 count 쿼리를 실행하지 않는지 확인")
+    @DisplayName("Get Event List API : 전체 수 조회 방식 CACHED")
+    public void getEventListApi_CountModeCached_Test() throws Exception {
+        // Given
+        eventProperties.setCountMode(EventCountMode.CACHED);
+        getEventList()
+                .andExpect(jsonPath("page.countMode").value(EventCountMode.CACHED.name()))
+                .andExpect(jsonPath("page.totalElements").value(30));
+
+        // When
+        statistics.clear();
+        getEventList()
+                .andExpect(jsonPath("page.countMode").value(EventCountMode.CACHED.name()))
+                .andExpect(jsonPath("page.totalElements").value(30))
+                .andExpect(jsonPath("_links.last").exists());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("ESTIMATED : planner 통계를 사용할 수 없는 DB(H2)에서는 EXACT로 조회하고 조회 방식을 EXACT로 응답하는지 확인")
+    @DisplayName("Get Event List API : 전체 수 조회 방식 ESTIMATED")
+    public void getEventListApi_CountModeEstimatedFallback_Test() throws Exception {
+        // Given
+        eventProperties.setCountMode(EventCountMode.ESTIMATED);
+
+        // When & Then
+        getEventList()
+                .andExpect(jsonPath("page.countMode").value(EventCountMode.EXACT.name()))
+                .andExpect(jsonPath("page.totalElements").value(30))
+                .andExpect(jsonPath("page.totalPages").value(3));
+    }
+
+    @Test
+    @TestDescription("CACHED : 마지막 페이지의 조회 건수로 전체 수를 구한 경우 count 쿼리 및 캐시 값을 사용하지 않고 조회 방식을 EXACT로 응답하는지 확인")
+    @DisplayName("Get Event List API : 마지막 페이지의 전체 수 조회 방식")
+    public void getEventListApi_CountModeCachedLastPage_Test() throws Exception {
+        // Given
+        eventProperties.setCountMode(EventCountMode.CACHED);
+
+        // When
+        statistics.clear();
+        getEventList(2, 12)
+                .andExpect(jsonPath("_embedded.eventList.length()").value(6))
+                .andExpect(jsonPath("page.countMode").value(EventCountMode.EXACT.name()))
+                .andExpect(jsonPath("page.totalElements").value(30))
+                .andExpect(jsonPath("page.totalPages").value(3));
+
+        // Then : 목록 조회 쿼리 한번만 실행
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private ResultActions getEventList() throws Exception {
+        return getEventList(1, 10);
+    }
+
+    private ResultActions getEventList(int page, int size) throws Exception {
+        return mockMvc.perform(get("/api/events")
+                .param("page", String.valueOf(page))
+                .param("size", String.valueOf(size))
+                .param("sort", "name,DESC")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON))
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,141 @@
+package io.api.event.controller.event;
+
+import io.api.event.common.BaseTest;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.util.common.TestDescription;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Event 부분 조회(fields=) 및 link 제외(links=none) 요청 확인
+ *  - 부분 조회는 요청 항목의 column만 조회(projection)하므로 Event/Account Entity를 생성하지 않아야 한다.
+ */
+public class EventFieldsTest extends BaseTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @TestDescription("fields, links=none 요청 시 요청 항목만 link 없이 응답하고 Entity를 조회하지 않는지 확인")
+    @DisplayName("Get Event List API : 부분 조회 및 link 제외")
+    public void getEventListApi_FieldsAndNoLinks_Test() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(index -> eventDomainGenerator.generatedEvent(index));
+
+        // When
+        statistics.clear();
+        mockMvc.perform(get("/api/events")
+                .param("page", "1")
+                .param("size", "10")
+                .param("sort", "name,DESC")
+                .param("fields", "name,beginEventDateTime,eventStatus")
+                .param("links", "none")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[0].id").exists())
+                .andExpect(jsonPath("_embedded.eventList[0].name").exists())
+                .andExpect(jsonPath("_embedded.eventList[0].beginEventDateTime").exists())
+                .andExpect(jsonPath("_embedded.eventList[0].eventStatus").exists())
+                .andExpect(jsonPath("_embedded.eventList[0].description").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0].manager").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0]._links").doesNotExist())
+                .andExpect(jsonPath("_links").doesNotExist())
+                .andExpect(jsonPath("page.totalElements").value(30))
+                .andExpect(jsonPath("page.number").value(1));
+
+        // Then
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @TestDescription("Event 한건 부분 조회 시 요청 항목, manager id, self/profile link만 응답하는지 확인")
+    @DisplayName("Get Event API : 부분 조회")
+    public void getEventApi_Fields_Test() throws Exception {
+        // Given
+        Account account = authInfoGenerator.createUserAccount(applicationProperties.getUserUserName(), applicationProperties.getUserPassword());
+        Event event = eventDomainGenerator.generatedEventAndEventMangerByAccountInfo(1, account);
+
+        // When & Then
+        statistics.clear();
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                .param("fields", "name, manager")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(event.getId()))
+                .andExpect(jsonPath("name").value(event.getName()))
+                .andExpect(jsonPath("manager.id").value(account.getId()))
+                .andExpect(jsonPath("manager.email").doesNotExist())
+                .andExpect(jsonPath("description").doesNotExist())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @TestDescription("links=none 요청 시 전체 항목을 link 없이 응답하는지 확인")
+    @DisplayName("Get Event API : link 제외")
+    public void getEventApi_NoLinks_Test() throws Exception {
+        Event event = eventDomainGenerator.generatedEvent(1);
+
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                .param("links", "none")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("description").value(event.getDescription()))
+                .andExpect(jsonPath("_links").doesNotExist());
+    }
+
+    @Test
+    @TestDescription("조회 할 수 없는 항목 요청 시 400 Bad Request 응답 확인")
+    @DisplayName("Get Event List API : 잘못된 항목 요청")
+    public void getEventListApi_UnknownField_Test() throws Exception {
+        mockMvc.perform(get("/api/events")
+                .param("fields", "name,password")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].field").value("fields"))
+                .andExpect(jsonPath("content[0].code").value("wrongValue"));
+    }
+}
@@ -0,0 +1,195 @@
+package io.api.event.controller.event;
+
+import io.api.event.common.BaseTest;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.repository.idempotency.IdempotencyKeyRepository;
+import io.api.event.service.idempotency.IdempotencyKeyService;
+import io.api.event.util.common.TestDescription;
+import io.api.event.util.common.constant.CustomHttpHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key 요청 헤더를 이용한 Event 생성 요청 재시도 확인
+ */
+public class EventIdempotencyTest extends BaseTest {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    IdempotencyKeyService idempotencyKeyService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private String bearerToken;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        idempotencyKeyRepository.deleteAll();
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        authInfoGenerator.createUserAccount(userEmail, userPassword);
+        bearerToken = authInfoGenerator.getBearerToken(userEmail, userPassword);
+    }
+
+    @Test
+    @TestDescription("같은 Idempotency-Key로 재요청 시 Event를 생성하지 않고 처음 생성 시와 같은 응답을 반환하는지 확인")
+    @DisplayName("Create Event API : Idempotency-Key 재요청")
+    public void createEventApi_IdempotencyKeyReplay_Test() throws Exception {
+        // Given
+        EventDto eventDto = eventDto("retried event");
+        MockHttpServletResponse first = createEvent("key-1", eventDto)
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(CustomHttpHeaders.IDEMPOTENT_REPLAYED))
+                .andReturn().getResponse();
+
+        // When & Then
+        MockHttpServletResponse replayed = createEvent("key-1", eventDto)
+                .andExpect(status().isCreated())
+                .andExpect(header().string(CustomHttpHeaders.IDEMPOTENT_REPLAYED, "true"))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.update-event").exists())
+                .andReturn().getResponse();
+
+        assertThat(replayed.getHeader(HttpHeaders.LOCATION)).isEqualTo(first.getHeader(HttpHeaders.LOCATION));
+        assertThat(replayed.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(eventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("같은 Idempotency-Key로 다른 내용을 요청한 경우 422 Unprocessable Entity 응답")
+    @DisplayName("Create Event API : Idempotency-Key 재사용")
+    public void createEventApi_IdempotencyKeyMismatch_Test() throws Exception {
+        // Given
+        createEvent("key-2", eventDto("first event")).andExpect(status().isCreated());
+
+        // When & Then
+        createEvent("key-2", eventDto("second event")).andExpect(status().isUnprocessableEntity());
+        assertThat(eventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("같은 Idempotency-Key의 동시 요청 시 Event가 하나만 생성되고, 성공한 응답은 모두 같은 Event를 반환하는지 확인")
+    @DisplayName("Create Event API : Idempotency-Key 동시 요청")
+    public void createEventApi_ConcurrentIdempotencyKey_Test() throws Exception {
+        // Given
+        EventDto eventDto = eventDto("concurrent event");
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return createEvent("key-3", eventDto).andReturn().getResponse();
+                }));
+            }
+            start.countDown();
+
+            // Then : 처리 중인 요청과 겹친 경우 409 Conflict, 나머지는 모두 같은 Event의 201 Created
+            List<String> createdBodies = new ArrayList<>();
+            for (Future<MockHttpServletResponse> future : futures) {
+                MockHttpServletResponse response = future.get(30, TimeUnit.SECONDS);
+                assertThat(response.getStatus()).isIn(HttpStatus.CREATED.value(), HttpStatus.CONFLICT.value());
+                if (response.getStatus() == HttpStatus.CREATED.value()) {
+                    createdBodies.add(response.getContentAsString());
+                }
+            }
+            assertThat(createdBodies).isNotEmpty();
+            assertThat(createdBodies).containsOnly(createdBodies.get(0));
+            assertThat(eventRepository.count()).isEqualTo(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @TestDescription("만료된 Idempotency-Key가 일괄 삭제되고, 만료된 key로 요청 시 새로운 Event를 생성하는지 확인")
+    @DisplayName("Create Event API : 만료된 Idempotency-Key")
+    public void createEventApi_ExpiredIdempotencyKey_Test() throws Exception {
+        // Given
+        EventDto eventDto = eventDto("expired event");
+        createEvent("key-4", eventDto).andExpect(status().isCreated());
+        expireKeys();
+
+        // When
+        createEvent("key-4", eventDto)
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(CustomHttpHeaders.IDEMPOTENT_REPLAYED));
+        expireKeys();
+        int deleted = idempotencyKeyService.deleteExpiredKeys();
+
+        // Then
+        assertThat(eventRepository.count()).isEqualTo(2);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(idempotencyKeyRepository.count()).isZero();
+    }
+
+    private void expireKeys() {
+        jdbcTemplate.update("update idempotency_key set expires_at = ?", LocalDateTime.now().minusMinutes(1));
+    }
+
+    private ResultActions createEvent(String idempotencyKey, EventDto eventDto) throws Exception {
+        return mockMvc.perform(post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .header(CustomHttpHeaders.IDEMPOTENCY_KEY, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .characterEncoding(StandardCharsets.UTF_8.name())
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andDo(print());
+    }
+
+    private EventDto eventDto(String name) {
+        return EventDto.builder()
+                .name(name)
+                .description("Idempotency-Key 요청 확인")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 8, 6, 9, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 8, 7, 9, 30))
+                .beginEventDateTime(LocalDateTime.of(2020, 8, 13, 19, 0))
+                .endEventDateTime(LocalDateTime.of(2020, 8, 13, 22, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(0)
+                .location("서울시 강남구 일원동 마루공원 풋살장 1면")
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package io.api.event.controller.event;
+
+import com.jayway.jsonpath.JsonPath;
+import io.api.event.common.BaseTest;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.util.common.TestDescription;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * manager의 Event 목록 조회(/api/events/mine) 확인
+ *  - 요청한 Account가 manager인 Event만 진행 시작 순서(같은 경우 ID 순서)대로 cursor를 이용하여 페이지 단위로 조회되어야 한다.
+ */
+public class EventMineTest extends BaseTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    public void setUp() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("manager의 Event만 진행 시작 순서대로 cursor를 따라 중복/누락 없이 조회되고, 조회 시 Account를 조회하지 않는지 확인")
+    @DisplayName("Get My Events API : keyset 페이지 조회")
+    public void getMyEventsApi_Test() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        Account manager = authInfoGenerator.createUserAccount(userEmail, userPassword);
+        Account other = authInfoGenerator.createUserAccount("other@naver.com", "other_password");
+        List<Event> managed = new ArrayList<>();
+        for (int index = 0; index < 5; index++) {
+            managed.add(generateEvent(index, manager, LocalDateTime.of(2020, 11, 10, 9, 0).plusDays(index % 3)));
+        }
+        generateEvent(5, other, LocalDateTime.of(2020, 11, 1, 9, 0));
+        List<Integer> expectedIds = managed.stream()
+                .sorted(Comparator.comparing(Event::getBeginEventDateTime).thenComparing(Event::getId))
+                .map(Event::getId)
+                .collect(Collectors.toList());
+        String bearerToken = authInfoGenerator.getBearerToken(userEmail, userPassword);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When & Then
+        statistics.clear();
+        String firstPage = mockMvc.perform(get("/api/events/mine")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .param("size", "2")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventSummaryList[*].id").value(contains(expectedIds.get(0), expectedIds.get(1))))
+                .andExpect(jsonPath("_embedded.eventSummaryList[0].manager").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventSummaryList[0]._links.self.href").exists())
+                .andExpect(jsonPath("size").value(2))
+                .andExpect(jsonPath("nextCursor").exists())
+                .andExpect(jsonPath("_links.next.href").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(statistics.getEntityStatistics(Account.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Event.class.getName()).getLoadCount()).isZero();
+
+        String secondPage = mockMvc.perform(get("/api/events/mine")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .param("size", "2")
+                .param("cursor", JsonPath.<String>read(firstPage, "nextCursor"))
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventSummaryList[*].id").value(contains(expectedIds.get(2), expectedIds.get(3))))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/events/mine")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .param("size", "2")
+                .param("cursor", JsonPath.<String>read(secondPage, "nextCursor"))
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventSummaryList[*].id").value(contains(expectedIds.get(4))))
+                .andExpect(jsonPath("nextCursor").doesNotExist())
+                .andExpect(jsonPath("_links.next").doesNotExist());
+    }
+
+    @Test
+    @TestDescription("인증 없는 요청은 401 Unauthorized, 잘못된 cursor 및 최대 조회 수를 넘는 요청은 400 Bad Request 응답")
+    @DisplayName("Get My Events API : 인증 없는 요청 및 잘못된 요청")
+    public void getMyEventsApi_WrongRequest_Test() throws Exception {
+        mockMvc.perform(get("/api/events/mine")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        authInfoGenerator.createUserAccount(userEmail, userPassword);
+        String bearerToken = authInfoGenerator.getBearerToken(userEmail, userPassword);
+
+        mockMvc.perform(get("/api/events/mine")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .param("cursor", "not-a-cursor")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("wrongValue"));
+
+        mockMvc.perform(get("/api/events/mine")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .param("size", "1000")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("wrongValue"));
+    }
+
+    private Event generateEvent(int index, Account manager, LocalDateTime beginEventDateTime) {
+        Event event = eventDomainGenerator.generatedEventAndEventMangerByAccountInfo(index, manager);
+        event.setBeginEventDateTime(beginEventDateTime);
+        event.setEndEventDateTime(beginEventDateTime.plusHours(3));
+        return eventRepository.save(event);
+    }
+}
@@ -0,0 +1,97 @@
+package io.api.event.controller.event;
+
+import io.api.event.common.BaseTest;
+import io.api.event.config.EventProperties;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.util.common.TestDescription;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Event 다건 조회(ids= 요청 파라미터) 요청 시 응답 순서 및 실행 쿼리 확인
+ */
+public class EventMultiGetTest extends BaseTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventProperties eventProperties;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        eventRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @TestDescription("요청한 ID 순서대로 Event가 응답되고 존재하지 않는 ID가 missingIds로 응답되며, 하나의 쿼리만 실행되는지 확인")
+    @DisplayName("Get Events By Ids API : 요청 순서 유지 및 누락 ID 응답")
+    public void getEventsByIdsApi_OrderedWithMissingIds_Test() throws Exception {
+        // Given
+        Event first = eventDomainGenerator.generatedEvent(1);
+        Event second = eventDomainGenerator.generatedEvent(2);
+        Event third = eventDomainGenerator.generatedEvent(3);
+        int missingId = third.getId() + 100;
+        String ids = third.getId() + "," + missingId + "," + first.getId() + "," + third.getId() + "," + second.getId();
+
+        // When
+        statistics.clear();
+        mockMvc.perform(get("/api/events")
+                .param("ids", ids)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[*].id").value(contains(third.getId(), first.getId(), second.getId())))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self.href").exists())
+                .andExpect(jsonPath("missingIds").value(contains(missingId)))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("최대 요청 수를 넘는 ID를 요청한 경우 400 Bad Request 응답")
+    @DisplayName("Get Events By Ids API : 최대 요청 수 초과")
+    public void getEventsByIdsApi_TooManyIds_Test() throws Exception {
+        // Given
+        String ids = IntStream.rangeClosed(1, eventProperties.getMultiGetMaxIds() + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                .param("ids", ids)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("wrongValue"));
+    }
+}
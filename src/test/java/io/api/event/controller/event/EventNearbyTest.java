@@ -0,0 +1,230 @@
+package io.api.event.controller.event;
+
+import io.api.event.common.BaseTest;
+import io.api.event.config.EventProperties;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventStatus;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Event 위치 검색(lat=, lon= 요청 파라미터) 및 생성 시 location 좌표 변환 확인
+ */
+public class EventNearbyTest extends BaseTest {
+
+    private static final double GANGNAM_LATITUDE = 37.497942;
+    private static final double GANGNAM_LONGITUDE = 127.027621;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventProperties eventProperties;
+
+    @BeforeEach
+    public void setUp() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("반경 안의 오프라인 Event만 가까운 순서로 페이지 단위 응답되는지 확인")
+    @DisplayName("Get Nearby Events API : 반경 검색")
+    public void getNearbyEventsApi_Radius_Test() throws Exception {
+        // Given
+        Event seolleung = saveEvent("선릉역", 37.504503, 127.049008);
+        Event gangnam = saveEvent("강남역", GANGNAM_LATITUDE, GANGNAM_LONGITUDE);
+        Event yeoksam = saveEvent("역삼역", 37.500622, 127.036456);
+        saveEvent("판교역", 37.394761, 127.111217);
+        saveEvent(null, null, null); // 온라인 Event
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                .param("lat", String.valueOf(GANGNAM_LATITUDE))
+                .param("lon", String.valueOf(GANGNAM_LONGITUDE))
+                .param("radius", "3000")
+                .param("size", "2")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[*].id").value(contains(gangnam.getId(), yeoksam.getId())))
+                .andExpect(jsonPath("_embedded.eventList[0].distance").value(0))
+                .andExpect(jsonPath("_embedded.eventList[0].latitude").value(GANGNAM_LATITUDE))
+                .andExpect(jsonPath("_embedded.eventList[0].geohash").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self.href").exists())
+                .andExpect(jsonPath("page.totalElements").value(3))
+                .andExpect(jsonPath("_links.next.href").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+
+        mockMvc.perform(get("/api/events")
+                .param("lat", String.valueOf(GANGNAM_LATITUDE))
+                .param("lon", String.valueOf(GANGNAM_LONGITUDE))
+                .param("radius", "3000")
+                .param("size", "2")
+                .param("page", "1")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[*].id").value(contains(seolleung.getId())));
+    }
+
+    @Test
+    @TestDescription("영역(bbox) 안의 Event만 검색 위치로부터 가까운 순서로 응답되는지 확인")
+    @DisplayName("Get Nearby Events API : 영역 검색")
+    public void getNearbyEventsApi_BoundingBox_Test() throws Exception {
+        // Given
+        saveEvent("강남역", GANGNAM_LATITUDE, GANGNAM_LONGITUDE);
+        Event yeoksam = saveEvent("역삼역", 37.500622, 127.036456);
+        Event seolleung = saveEvent("선릉역", 37.504503, 127.049008);
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                .param("lat", "37.504503")
+                .param("lon", "127.049008")
+                .param("bbox", "127.03,37.49,127.06,37.51")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[*].id").value(contains(seolleung.getId(), yeoksam.getId())));
+    }
+
+    @Test
+    @TestDescription("좌표 없이 생성한 오프라인 Event는 location을 변환한 좌표로 검색되는지 확인")
+    @DisplayName("Get Nearby Events API : location 좌표 변환")
+    public void getNearbyEventsApi_Geocoded_Test() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        authInfoGenerator.createUserAccount(userEmail, userPassword);
+        EventDto eventDto = modelMapper.map(buildEvent("서울시 강남구 강남역 11번 출구", null, null), EventDto.class);
+
+        mockMvc.perform(post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, authInfoGenerator.getBearerToken(userEmail, userPassword))
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("latitude").value(GANGNAM_LATITUDE))
+                .andExpect(jsonPath("longitude").value(GANGNAM_LONGITUDE));
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                .param("lat", "37.5006")
+                .param("lon", "127.0364")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].location").value("서울시 강남구 강남역 11번 출구"))
+                .andExpect(jsonPath("page.totalElements").value(1));
+    }
+
+    @Test
+    @TestDescription("검색 범위 안의 Event가 거리 계산 대상 최대 수를 넘는 경우 일부만 응답하지 않고 400 Bad Request 응답")
+    @DisplayName("Get Nearby Events API : 최대 조회 수 초과")
+    public void getNearbyEventsApi_TooManyCandidates_Test() throws Exception {
+        // Given
+        saveEvent("강남역", GANGNAM_LATITUDE, GANGNAM_LONGITUDE);
+        saveEvent("역삼역", 37.500622, 127.036456);
+        saveEvent("선릉역", 37.504503, 127.049008);
+        int maxCandidates = eventProperties.getNearbyMaxCandidates();
+        eventProperties.setNearbyMaxCandidates(2);
+
+        // When & Then
+        try {
+            mockMvc.perform(get("/api/events")
+                    .param("lat", String.valueOf(GANGNAM_LATITUDE))
+                    .param("lon", String.valueOf(GANGNAM_LONGITUDE))
+                    .param("radius", "3000")
+                    .accept(MediaTypes.HAL_JSON_VALUE)
+                    .contentType(MediaType.APPLICATION_JSON))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("content[0].code").value("tooManyResults"));
+
+            mockMvc.perform(get("/api/events")
+                    .param("lat", String.valueOf(GANGNAM_LATITUDE))
+                    .param("lon", String.valueOf(GANGNAM_LONGITUDE))
+                    .param("radius", "500")
+                    .accept(MediaTypes.HAL_JSON_VALUE)
+                    .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("page.totalElements").value(1));
+        } finally {
+            eventProperties.setNearbyMaxCandidates(maxCandidates);
+        }
+    }
+
+    @Test
+    @TestDescription("최대 반경을 넘는 반경 또는 위도/경도 중 하나만 입력한 생성 요청은 400 Bad Request 응답")
+    @DisplayName("Get Nearby Events API : 잘못된 검색 반경 및 좌표")
+    public void getNearbyEventsApi_WrongParameter_Test() throws Exception {
+        mockMvc.perform(get("/api/events")
+                .param("lat", String.valueOf(GANGNAM_LATITUDE))
+                .param("lon", String.valueOf(GANGNAM_LONGITUDE))
+                .param("radius", "100000")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("wrongValue"));
+
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        authInfoGenerator.createUserAccount(userEmail, userPassword);
+        EventDto eventDto = modelMapper.map(buildEvent("강남역", GANGNAM_LATITUDE, null), EventDto.class);
+        mockMvc.perform(post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, authInfoGenerator.getBearerToken(userEmail, userPassword))
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Event saveEvent(String location, Double latitude, Double longitude) {
+        Event event = buildEvent(location, latitude, longitude);
+        event.update();
+        return eventRepository.save(event);
+    }
+
+    private Event buildEvent(String location, Double latitude, Double longitude) {
+        LocalDateTime base = LocalDateTime.of(2020, 11, 2, 9, 0);
+        return Event.builder()
+                .name("nearby event " + location)
+                .description("위치 검색 " + location)
+                .beginEnrollmentDateTime(base)
+                .closeEnrollmentDateTime(base.plusDays(1))
+                .beginEventDateTime(base.plusDays(7))
+                .endEventDateTime(base.plusDays(7).plusHours(3))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location(location)
+                .latitude(latitude)
+                .longitude(longitude)
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+    }
+}
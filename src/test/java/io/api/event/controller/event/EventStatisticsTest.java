@@ -0,0 +1,194 @@
+package io.api.event.controller.event;
+
+import io.api.event.common.BaseTest;
+import io.api.event.config.EventProperties;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.statistics.EventStatisticsCheckpoint;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.repository.shard.ShardedEventRepository;
+import io.api.event.repository.statistics.EventStatisticsCheckpointRepository;
+import io.api.event.service.statistics.EventStatisticsService;
+import io.api.event.util.common.TestDescription;
+import io.api.event.util.common.constant.CustomMediaTypes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Event 통계의 증분 반영, 저장(checkpoint) 및 전체 재집계 확인
+ */
+public class EventStatisticsTest extends BaseTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventStatisticsService eventStatisticsService;
+
+    @Autowired
+    EventStatisticsCheckpointRepository eventStatisticsCheckpointRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectProvider<ShardedEventRepository> shardedEventRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EventProperties eventProperties;
+
+    @BeforeEach
+    public void setUp() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+        eventStatisticsCheckpointRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("Event 수정 요청 시 변경된 항목만 통계에 반영되고 인증 없이 통계를 조회할 수 있는지 확인")
+    @DisplayName("Event Statistics API : 수정 요청 증분 반영")
+    public void getEventStatisticsApi_Test() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        Account account = authInfoGenerator.createUserAccount(userEmail, userPassword);
+        Event event = eventDomainGenerator.generatedEventAndEventMangerByAccountInfo(1, account);
+        eventDomainGenerator.generatedEventAndEventMangerByAccountInfo(2, account);
+        eventStatisticsService.reconcile();
+
+        // When
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, authInfoGenerator.getBearerToken(userEmail, userPassword))
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(CustomMediaTypes.MERGE_PATCH_JSON_VALUE)
+                .characterEncoding(StandardCharsets.UTF_8.name())
+                .content("{\"basePrice\":0,\"maxPrice\":0}"))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/api/events/statistics")
+                .accept(MediaTypes.HAL_JSON_VALUE))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("total").value(2))
+                .andExpect(jsonPath("byStatus.DRAFT").value(2))
+                .andExpect(jsonPath("byStatus.PUBLISHED").value(0))
+                .andExpect(jsonPath("free").value(1))
+                .andExpect(jsonPath("paid").value(1))
+                .andExpect(jsonPath("offline").value(2))
+                .andExpect(jsonPath("online").value(0))
+                .andExpect(jsonPath("priceHistogram[0].maxInclusive").value(0))
+                .andExpect(jsonPath("priceHistogram[0].count").value(1))
+                .andExpect(jsonPath("priceHistogram[1].minExclusive").value(0))
+                .andExpect(jsonPath("priceHistogram[1].maxInclusive").value(10000))
+                .andExpect(jsonPath("priceHistogram[1].count").value(1))
+                .andExpect(jsonPath("priceHistogram[4].minExclusive").value(100000))
+                .andExpect(jsonPath("priceHistogram[4].count").value(0))
+                .andExpect(jsonPath("reconciledAt").exists())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+    }
+
+    @Test
+    @TestDescription("API를 거치지 않은 삭제가 전체 재집계로 보정되고, 저장(checkpoint)한 값이 현재 통계 값과 같은지 확인")
+    @DisplayName("Event Statistics : 전체 재집계 및 저장")
+    public void reconcileAndCheckpoint_Test() {
+        // Given
+        Event event = eventDomainGenerator.generatedEvent(1);
+        eventDomainGenerator.generatedEvent(2);
+        eventStatisticsService.reconcile();
+        assertThat(eventStatisticsService.getCounters().get(EventStatisticsService.TOTAL)).isEqualTo(2);
+
+        // When
+        eventRepository.delete(event);
+        eventStatisticsService.reconcile();
+        eventStatisticsService.checkpoint();
+
+        // Then
+        Map<String, Long> counters = eventStatisticsService.getCounters();
+        assertThat(counters.get(EventStatisticsService.TOTAL)).isEqualTo(1);
+        assertThat(counters.get(EventStatisticsService.OFFLINE)).isEqualTo(1);
+        assertThat(counters.get(EventStatisticsService.PRICE_PREFIX + 10000)).isEqualTo(1);
+        Map<String, Long> checkpoints = eventStatisticsCheckpointRepository.findAll().stream()
+                .collect(Collectors.toMap(EventStatisticsCheckpoint::getName, EventStatisticsCheckpoint::getCounterValue));
+        assertThat(checkpoints).isEqualTo(counters);
+    }
+
+    @Test
+    @TestDescription("상태가 없는(null) Event를 전체 재집계 시 증감 반영과 같이 DRAFT로 집계하는지 확인")
+    @DisplayName("Event Statistics : 상태가 없는 Event 재집계")
+    public void reconcileNullStatus_Test() {
+        // Given
+        Event event = eventDomainGenerator.generatedEvent(1);
+        eventDomainGenerator.generatedEvent(2);
+        jdbcTemplate.update("update event set event_status = null where id = ?", event.getId());
+
+        // When
+        eventStatisticsService.reconcile();
+
+        // Then
+        Map<String, Long> counters = eventStatisticsService.getCounters();
+        assertThat(counters.get(EventStatisticsService.TOTAL)).isEqualTo(2);
+        assertThat(counters.get(EventStatisticsService.STATUS_PREFIX + "DRAFT")).isEqualTo(2);
+    }
+
+    @Test
+    @TestDescription("여러 instance가 같은 항목을 저장(checkpoint)해도 나중에 저장한 instance가 다른 instance의 증감 값을 덮어쓰지 않는지 확인")
+    @DisplayName("Event Statistics : 여러 instance의 저장")
+    public void checkpointFromInstances_Test() {
+        // Given : 같은 저장 값으로 복원한 두 instance
+        eventDomainGenerator.generatedEvent(1);
+        eventStatisticsService.reconcile();
+        EventStatisticsService first = newInstance();
+        EventStatisticsService second = newInstance();
+        first.restore();
+        second.restore();
+        EventStatisticsService.Snapshot created = EventStatisticsService.Snapshot.of(Event.builder().name("created").build());
+
+        // When : instance별로 생성을 반영한 뒤 차례로 저장
+        first.recordAfterCommit(null, created);
+        second.recordAfterCommit(null, created);
+        second.recordAfterCommit(null, created);
+        first.checkpoint();
+        second.checkpoint();
+
+        // Then : 저장된 값은 모든 instance의 증감 값을 포함하며, 저장 이후의 조회 값은 저장된 값과 같음
+        EventStatisticsCheckpoint total = eventStatisticsCheckpointRepository.findById(EventStatisticsService.TOTAL).orElseThrow();
+        assertThat(total.getCounterValue()).isEqualTo(4);
+        assertThat(second.getCounters().get(EventStatisticsService.TOTAL)).isEqualTo(4);
+        assertThat(first.getCounters().get(EventStatisticsService.TOTAL)).isEqualTo(2);
+        first.checkpoint();
+        assertThat(first.getCounters().get(EventStatisticsService.TOTAL)).isEqualTo(4);
+        assertThat(eventStatisticsCheckpointRepository.findById(EventStatisticsService.TOTAL).orElseThrow().getCounterValue())
+                .isEqualTo(4);
+    }
+
+    private EventStatisticsService newInstance() {
+        return new EventStatisticsService(eventStatisticsCheckpointRepository, shardedEventRepository, transactionManager, eventProperties);
+    }
+}
@@ -0,0 +1,149 @@
+package io.api.event.controller.event;
+
+import io.api.event.common.BaseTest;
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.util.common.TestDescription;
+import io.api.event.util.common.constant.CustomMediaTypes;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import javax.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Event 수정(PUT/PATCH) 요청 시 실행되는 쿼리 확인
+ *  - 기존 Event를 조회한 Entity에 변경 내용을 반영하여 UPDATE 한번만 실행되고, 새로운 Event가 INSERT 되지 않아야 한다.
+ */
+public class EventUpdateTest extends BaseTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @TestDescription("Event 전체 수정 요청 시 기존 Event에 대한 UPDATE 쿼리 한번만 실행되는지 확인")
+    @DisplayName("Update Event API : 전체 수정 시 실행 쿼리 확인")
+    public void updateEventApi_SingleUpdate_Test() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        Account account = authInfoGenerator.createUserAccount(userEmail, userPassword);
+        Event event = eventDomainGenerator.generatedEventAndEventMangerByAccountInfo(1, account);
+        EventDto eventDto = modelMapper.map(event, EventDto.class);
+        eventDto.setName("updated Event Name");
+        String bearerToken = authInfoGenerator.getBearerToken(userEmail, userPassword);
+
+        // When
+        statistics.clear();
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .characterEncoding(StandardCharsets.UTF_8.name())
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(event.getId()))
+                .andExpect(jsonPath("name").value("updated Event Name"));
+
+        // Then
+        EntityStatistics eventStatistics = statistics.getEntityStatistics(Event.class.getName());
+        assertThat(eventStatistics.getUpdateCount()).isEqualTo(1);
+        assertThat(eventStatistics.getInsertCount()).isZero();
+        assertThat(eventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("Event 부분 수정 요청 시 요청 항목만 변경되고 UPDATE 쿼리 한번만 실행되는지 확인")
+    @DisplayName("Patch Event API : 부분 수정 시 변경 항목 및 실행 쿼리 확인")
+    public void patchEventApi_SingleUpdate_Test() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        Account account = authInfoGenerator.createUserAccount(userEmail, userPassword);
+        Event event = eventDomainGenerator.generatedEventAndEventMangerByAccountInfo(2, account);
+        String bearerToken = authInfoGenerator.getBearerToken(userEmail, userPassword);
+
+        // When
+        statistics.clear();
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(CustomMediaTypes.MERGE_PATCH_JSON_VALUE)
+                .characterEncoding(StandardCharsets.UTF_8.name())
+                .content("{\"name\":\"patched Event Name\"}"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value("patched Event Name"))
+                .andExpect(jsonPath("description").value(event.getDescription()))
+                .andExpect(jsonPath("limitOfEnrollment").value(event.getLimitOfEnrollment()))
+                .andExpect(jsonPath("_links.get-an-event").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+
+        // Then
+        EntityStatistics eventStatistics = statistics.getEntityStatistics(Event.class.getName());
+        assertThat(eventStatistics.getUpdateCount()).isEqualTo(1);
+        assertThat(eventStatistics.getInsertCount()).isZero();
+    }
+
+    @Test
+    @TestDescription("부분 수정 결과가 유효하지 못한 경우 400 Bad Request 응답 및 Event가 수정되지 않는지 확인")
+    @DisplayName("Patch Event API : 수정 결과가 유효하지 못한 요청")
+    public void patchEventApi_WrongParameterRequest_Test() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        Account account = authInfoGenerator.createUserAccount(userEmail, userPassword);
+        Event event = eventDomainGenerator.generatedEventAndEventMangerByAccountInfo(3, account);
+        String bearerToken = authInfoGenerator.getBearerToken(userEmail, userPassword);
+
+        // When
+        statistics.clear();
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(CustomMediaTypes.MERGE_PATCH_JSON_VALUE)
+                .characterEncoding(StandardCharsets.UTF_8.name())
+                .content("{\"basePrice\":20000,\"maxPrice\":200}"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("wrongValue"));
+
+        // Then
+        assertThat(statistics.getEntityStatistics(Event.class.getName()).getUpdateCount()).isZero();
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getBasePrice()).isEqualTo(event.getBasePrice());
+    }
+}
@@ -0,0 +1,164 @@
+package io.api.event.controller.event;
+
+import io.api.event.common.BaseTest;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventStatus;
+import io.api.event.domain.entity.event.EventWindowBasis;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.service.event.EventWindowService;
+import io.api.event.util.common.TestDescription;
+import io.api.event.util.common.constant.CustomMediaTypes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Event 기간 겹침 조회(from=, to= 요청 파라미터) 확인
+ *  - 메모리 index 범위 안의 조회와 DB 조회의 결과가 같고, Event 수정 후에는 index를 사용하지 않는지 확인
+ */
+public class EventWindowTest extends BaseTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventWindowService eventWindowService;
+
+    private LocalDateTime today;
+
+    @BeforeEach
+    public void setUp() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+        today = LocalDate.now().atStartOfDay();
+    }
+
+    @Test
+    @TestDescription("진행 기간이 조회 기간과 겹치는 Event만 시작 순서대로 응답되고, 메모리 index 조회와 DB 조회 결과가 같은지 확인")
+    @DisplayName("Get Events In Window API : 진행 기간 겹침 조회")
+    public void getEventsInWindowApi_Test() throws Exception {
+        // Given
+        Event overlapsStart = saveEvent(1, today.plusDays(1), today.plusDays(3));
+        Event inside = saveEvent(2, today.plusDays(4), today.plusDays(4).plusHours(2));
+        Event overlapsEnd = saveEvent(3, today.plusDays(6), today.plusDays(9));
+        saveEvent(4, today.plusDays(10), today.plusDays(11));
+        saveEvent(5, today, today.plusDays(1).minusSeconds(1));
+        LocalDateTime from = today.plusDays(2);
+        LocalDateTime to = today.plusDays(7);
+
+        // When & Then : DB 조회
+        eventWindowService.markChangedAfterCommit();
+        assertThat(eventWindowService.isIndexed(EventWindowBasis.EVENT, from, to)).isFalse();
+        getEventsInWindow(from, to, EventWindowBasis.EVENT)
+                .andExpect(jsonPath("_embedded.eventList[*].id").value(contains(overlapsStart.getId(), inside.getId(), overlapsEnd.getId())));
+
+        // When & Then : 메모리 index 조회
+        eventWindowService.refresh();
+        assertThat(eventWindowService.isIndexed(EventWindowBasis.EVENT, from, to)).isTrue();
+        getEventsInWindow(from, to, EventWindowBasis.EVENT)
+                .andDo(print())
+                .andExpect(jsonPath("basis").value(EventWindowBasis.EVENT.name()))
+                .andExpect(jsonPath("_embedded.eventList[*].id").value(contains(overlapsStart.getId(), inside.getId(), overlapsEnd.getId())))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self.href").exists())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+
+        // 등록 기간 기준 조회 : 모든 Event의 등록 기간은 조회 기간 이전
+        getEventsInWindow(from, to, EventWindowBasis.ENROLLMENT)
+                .andExpect(jsonPath("_embedded.eventList").doesNotExist());
+    }
+
+    @Test
+    @TestDescription("Event 수정 후에는 메모리 index를 사용하지 않고 수정된 기간으로 조회되는지 확인")
+    @DisplayName("Get Events In Window API : 수정 후 조회")
+    public void getEventsInWindowApi_AfterPatch_Test() throws Exception {
+        // Given
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        Account account = authInfoGenerator.createUserAccount(userEmail, userPassword);
+        Event event = saveEvent(1, today.plusDays(1), today.plusDays(2));
+        event.setManager(account);
+        eventRepository.save(event);
+        LocalDateTime from = today.plusDays(5);
+        LocalDateTime to = today.plusDays(6);
+        eventWindowService.refresh();
+        assertThat(eventWindowService.isIndexed(EventWindowBasis.EVENT, from, to)).isTrue();
+
+        // When
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, authInfoGenerator.getBearerToken(userEmail, userPassword))
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(CustomMediaTypes.MERGE_PATCH_JSON_VALUE)
+                .characterEncoding(StandardCharsets.UTF_8.name())
+                .content("{\"beginEventDateTime\":\"" + today.plusDays(5) + "\",\"endEventDateTime\":\"" + today.plusDays(5).plusHours(3) + "\"}"))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(eventWindowService.isIndexed(EventWindowBasis.EVENT, from, to)).isFalse();
+        getEventsInWindow(from, to, EventWindowBasis.EVENT)
+                .andExpect(jsonPath("_embedded.eventList[*].id").value(contains(event.getId())));
+    }
+
+    @Test
+    @TestDescription("조회 기간의 from이 to보다 늦은 경우 400 Bad Request 응답")
+    @DisplayName("Get Events In Window API : 잘못된 조회 기간")
+    public void getEventsInWindowApi_WrongWindow_Test() throws Exception {
+        mockMvc.perform(get("/api/events")
+                .param("from", today.plusDays(2).toString())
+                .param("to", today.toString())
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].code").value("wrongValue"));
+    }
+
+    private ResultActions getEventsInWindow(LocalDateTime from, LocalDateTime to, EventWindowBasis basis) throws Exception {
+        return mockMvc.perform(get("/api/events")
+                .param("from", from.toString())
+                .param("to", to.toString())
+                .param("basis", basis.name())
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    private Event saveEvent(int index, LocalDateTime beginEventDateTime, LocalDateTime endEventDateTime) {
+        return eventRepository.save(Event.builder()
+                .name("event window " + index)
+                .description("기간 겹침 조회 " + index)
+                .beginEnrollmentDateTime(today.minusDays(10))
+                .closeEnrollmentDateTime(today.minusDays(9))
+                .beginEventDateTime(beginEventDateTime)
+                .endEventDateTime(endEventDateTime)
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .offline(true)
+                .eventStatus(EventStatus.DRAFT)
+                .build());
+    }
+}
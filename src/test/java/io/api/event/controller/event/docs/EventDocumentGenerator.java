@@ -36,6 +36,8 @@ public class EventDocumentGenerator {
                         fieldWithPath("beginEventDateTime").description("Date time of begin of new event").type(DATETIME_FORMAT).attributes(getDateTimeFormat()),
                         fieldWithPath("endEventDateTime").description("Date time of close of new event").type(DATETIME_FORMAT).attributes(getDateTimeFormat()),
                         fieldWithPath("location").description("Location of new event").optional(),
+                        fieldWithPath("latitude").description("Latitude of new event (offline event only)").optional(),
+                        fieldWithPath("longitude").description("Longitude of new event (offline event only)").optional(),
                         fieldWithPath("basePrice").description("Base Price of new event"),
                         fieldWithPath("maxPrice").description("MaxPrice of new event"),
                         fieldWithPath("limitOfEnrollment").description("Limit of enrollment of new event")
@@ -53,6 +55,8 @@ public class EventDocumentGenerator {
                         fieldWithPath("beginEventDateTime").description("Date time of begin of new event"),
                         fieldWithPath("endEventDateTime").description("Date time of close of new event"),
                         fieldWithPath("location").description("Location of new event"),
+                        fieldWithPath("latitude").description("Latitude of new event").optional(),
+                        fieldWithPath("longitude").description("Longitude of new event").optional(),
                         fieldWithPath("basePrice").description("Base Price of new event"),
                         fieldWithPath("maxPrice").description("MaxPrice of new event"),
                         fieldWithPath("limitOfEnrollment").description("Limit of enrollment of new event"),
@@ -98,6 +102,8 @@ public class EventDocumentGenerator {
                         fieldWithPath("beginEventDateTime").description("Date time of begin of new event"),
                         fieldWithPath("endEventDateTime").description("Date time of close of new event"),
                         fieldWithPath("location").description("Location of new event"),
+                        fieldWithPath("latitude").description("Latitude of new event").optional(),
+                        fieldWithPath("longitude").description("Longitude of new event").optional(),
                         fieldWithPath("basePrice").description("Base Price of new event"),
                         fieldWithPath("maxPrice").description("MaxPrice of new event"),
                         fieldWithPath("limitOfEnrollment").description("Limit of enrollment of new event"),
@@ -133,6 +139,8 @@ public class EventDocumentGenerator {
                         fieldWithPath("beginEventDateTime").description("Date time of begin of new event").type(DATETIME_FORMAT).attributes(getDateTimeFormat()),
                         fieldWithPath("endEventDateTime").description("Date time of close of new event").type(DATETIME_FORMAT).attributes(getDateTimeFormat()),
                         fieldWithPath("location").description("Location of new event").optional(),
+                        fieldWithPath("latitude").description("Latitude of new event (offline event only)").optional(),
+                        fieldWithPath("longitude").description("Longitude of new event (offline event only)").optional(),
                         fieldWithPath("basePrice").description("Base Price of new event"),
                         fieldWithPath("maxPrice").description("MaxPrice of new event"),
                         fieldWithPath("limitOfEnrollment").description("Limit of enrollment of new event")
@@ -149,6 +157,8 @@ public class EventDocumentGenerator {
                         fieldWithPath("beginEventDateTime").description("Date time of begin of new event"),
                         fieldWithPath("endEventDateTime").description("Date time of close of new event"),
                         fieldWithPath("location").description("Location of new event"),
+                        fieldWithPath("latitude").description("Latitude of new event").optional(),
+                        fieldWithPath("longitude").description("Longitude of new event").optional(),
                         fieldWithPath("basePrice").description("Base Price of new event"),
                         fieldWithPath("maxPrice").description("MaxPrice of new event"),
                         fieldWithPath("limitOfEnrollment").description("Limit of enrollment of new event"),
@@ -156,6 +166,7 @@ public class EventDocumentGenerator {
                         fieldWithPath("free").description("it tells if this event is offline"),
                         fieldWithPath("eventStatus").description("eventStatus of new event"),
                         fieldWithPath("manager").description("manager info of event"),
+                        fieldWithPath("manager.id").description("identifier of event manager"),
                         fieldWithPath("_links.self.href").description("link to self"),
                         fieldWithPath("_links.get-an-event.href").description("link to query an event"),
                         fieldWithPath("_links.profile.href").description("link to profile")
@@ -0,0 +1,129 @@
+package io.api.event.controller.jfr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.api.event.common.BaseTest;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.account.AccountRole;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.service.account.AccountService;
+import io.api.event.util.common.TestDescription;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JFR recording 시작/종료 API 및 Event API 요청 처리 구간 JFR event 기록 확인
+ */
+public class JfrRecordingTest extends BaseTest {
+
+    private static final String RECORDINGS_PATH = "/api/admin/jfr/recordings";
+    private static final String ADMIN_EMAIL = "jfr-admin@naver.com";
+    private static final String ADMIN_PASSWORD = "jfr-admin";
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AccountService accountService;
+
+    @BeforeEach
+    public void setUp() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+        accountService.saveAccount(Account.builder()
+                .email(ADMIN_EMAIL)
+                .password(ADMIN_PASSWORD)
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+    }
+
+    @Test
+    @TestDescription("ADMIN이 시작/종료한 recording 파일에 Event API 요청, 처리 구간 및 token 발급 event가 기록되는지 확인")
+    @DisplayName("JFR API : recording 시작/종료")
+    public void startAndStopRecording_Test() throws Exception {
+        // Given
+        String adminToken = authInfoGenerator.getBearerToken(ADMIN_EMAIL, ADMIN_PASSWORD);
+        String content = mockMvc.perform(post(RECORDINGS_PATH)
+                .param("template", "default")
+                .param("duration", "PT1M")
+                .header(HttpHeaders.AUTHORIZATION, adminToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("state").value("RUNNING"))
+                .andExpect(jsonPath("template").value("default"))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.stop").exists())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(content).get("id").asLong();
+
+        // When : token 발급 및 Event 목록 조회
+        String accessToken = authInfoGenerator.getBearerToken(ADMIN_EMAIL, ADMIN_PASSWORD);
+        mockMvc.perform(get("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk());
+
+        String stopped = mockMvc.perform(post(RECORDINGS_PATH + "/{id}/stop", id)
+                .header(HttpHeaders.AUTHORIZATION, adminToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("state").value("CLOSED"))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        JsonNode recording = objectMapper.readTree(stopped);
+        assertThat(recording.get("fileSize").asLong()).isPositive();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Path.of(recording.get("destination").asText()));
+        Set<String> eventNames = events.stream()
+                .map(event -> event.getEventType().getName())
+                .collect(Collectors.toSet());
+        assertThat(eventNames).contains("io.api.event.EventApiRequest", "io.api.event.EventApiPhase", "io.api.event.TokenIssue");
+        assertThat(events.stream()
+                .filter(event -> event.getEventType().getName().equals("io.api.event.EventApiPhase"))
+                .map(event -> event.getString("phase"))
+                .collect(Collectors.toSet()))
+                .contains("REPOSITORY", "LINK_BUILDING", "SERIALIZATION");
+    }
+
+    @Test
+    @TestDescription("ADMIN 권한이 없는 Account의 요청 및 잘못된 template 요청이 거부되는지 확인")
+    @DisplayName("JFR API : 권한 및 template 확인")
+    public void startRecording_Fail_Test() throws Exception {
+        String userEmail = applicationProperties.getUserUserName();
+        String userPassword = applicationProperties.getUserPassword();
+        authInfoGenerator.createUserAccount(userEmail, userPassword);
+
+        mockMvc.perform(post(RECORDINGS_PATH)
+                .header(HttpHeaders.AUTHORIZATION, authInfoGenerator.getBearerToken(userEmail, userPassword))
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post(RECORDINGS_PATH)
+                .param("template", "unknown")
+                .header(HttpHeaders.AUTHORIZATION, authInfoGenerator.getBearerToken(ADMIN_EMAIL, ADMIN_PASSWORD))
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,75 @@
+package io.api.event.domain.entity.account;
+
+import io.api.event.common.event.EventDomainGenerator;
+import io.api.event.config.test.TestConstants;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.service.account.AccountService;
+import io.api.event.util.common.TestDescription;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.annotation.Resource;
+import javax.persistence.EntityManagerFactory;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(EventDomainGenerator.class)
+@ActiveProfiles(TestConstants.TEST)
+class AccountCacheTest {
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Resource
+    EventDomainGenerator eventDomainGenerator;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @TestDescription("Event 반복 조회 시 manager(Account)와 roles를 2차 캐시에서 조회하여 Account 관련 테이블을 다시 조회하지 않는지 확인")
+    @DisplayName("Account 2차 캐시 : Event 반복 조회")
+    public void repeatedEventReads_DoNotQueryAccount_Test() {
+        // Given
+        Account account = accountService.saveAccount(Account.builder()
+                .email("cache_test@naver.com")
+                .password("cache_password")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        Event event = eventDomainGenerator.generatedEventAndEventMangerByAccountInfo(1, account);
+        eventRepository.findById(event.getId()); // 2차 캐시 적재
+
+        // When
+        statistics.clear();
+        Event firstRead = eventRepository.findById(event.getId()).orElseThrow();
+        Event secondRead = eventRepository.findById(event.getId()).orElseThrow();
+
+        // Then
+        assertThat(firstRead.getManager().getRoles()).containsExactly(AccountRole.USER);
+        assertThat(secondRead.getManager().getEmail()).isEqualTo("cache_test@naver.com");
+        assertThat(statistics.getEntityStatistics(Account.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getCollectionStatistics(Account.class.getName() + ".roles").getLoadCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // Event 조회 쿼리만 실행
+    }
+}
@@ -0,0 +1,166 @@
+package io.api.event.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.api.event.domain.dto.event.EventDto;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트 대상 API 요청 생성 및 응답 처리
+ *  - Event 생성/수정 요청 본문은 미리 변환하여 요청 시 JSON 변환 비용이 부하 발생에 영향을 주지 않도록 한다.
+ *  - getEvent, updateEvent는 미리 생성한 Event 및 측정 중 생성한 Event 중에서 대상을 선택한다.
+ *  - access token은 token 요청의 응답으로 갱신하며, token 요청 비율이 0인 경우를 위해 {@link #refreshToken()}을 주기적으로 호출한다.
+ */
+public class EventApiClient {
+
+    private static final int PAYLOAD_VARIANTS = 64;
+    private static final String EVENTS_PATH = "/api/events";
+    private static final String TOKEN_PATH = "/oauth/token";
+    private static final String LIST_QUERY = "?page=0&size=20";
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper;
+    private final String basicAuthorization;
+    private final String tokenRequestBody;
+    private final List<byte[]> eventPayloads = new ArrayList<>();
+    private final List<Integer> eventIds = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile String bearerAuthorization;
+
+    public EventApiClient(HttpClient httpClient, int port, LoadTestSettings settings) throws IOException {
+        this.httpClient = httpClient;
+        this.baseUri = URI.create("http://localhost:" + port);
+        this.requestTimeout = settings.getRequestTimeout();
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        this.basicAuthorization = "Basic " + Base64.getEncoder().encodeToString(
+                (settings.getClientId() + ":" + settings.getClientSecret()).getBytes(StandardCharsets.UTF_8));
+        this.tokenRequestBody = "username=" + URLEncoder.encode(settings.getUsername(), StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(settings.getPassword(), StandardCharsets.UTF_8)
+                + "&grant_type=password";
+
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 9, 0);
+        for (int index = 0; index < PAYLOAD_VARIANTS; index++) {
+            LocalDateTime beginEvent = base.plusDays(index);
+            this.eventPayloads.add(this.objectMapper.writeValueAsBytes(EventDto.builder()
+                    .name("load test event " + index)
+                    .description("REST API load test event " + index)
+                    .beginEnrollmentDateTime(beginEvent.minusDays(7))
+                    .closeEnrollmentDateTime(beginEvent.minusDays(1))
+                    .beginEventDateTime(beginEvent)
+                    .endEventDateTime(beginEvent.plusHours(3))
+                    .location(index % 2 == 0 ? "강남역 D2 스타텁 팩토리" : null)
+                    .basePrice(index % 3 == 0 ? 0 : 100)
+                    .maxPrice(index % 3 == 0 ? 0 : 200)
+                    .limitOfEnrollment(100)
+                    .build()));
+        }
+    }
+
+    /**
+     * access token 발급 후 이후 요청에 사용
+     */
+    public void refreshToken() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = this.httpClient.send(this.request(Operation.TOKEN, new Random()), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("token grant failed with status " + response.statusCode());
+        }
+        this.onResponse(Operation.TOKEN, response);
+    }
+
+    /**
+     * 측정 전 getEvent, updateEvent 대상 Event 생성
+     */
+    public void seedEvents(int count) throws IOException, InterruptedException {
+        Random random = new Random(0);
+        for (int index = 0; index < count; index++) {
+            HttpResponse<byte[]> response = this.httpClient.send(this.request(Operation.CREATE_EVENT, random), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("event seeding failed with status " + response.statusCode());
+            }
+            this.onResponse(Operation.CREATE_EVENT, response);
+        }
+    }
+
+    public HttpRequest request(Operation operation, Random random) {
+        switch (operation) {
+            case TOKEN:
+                return this.builder(TOKEN_PATH)
+                        .header(HttpHeaders.AUTHORIZATION, this.basicAuthorization)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                        .POST(HttpRequest.BodyPublishers.ofString(this.tokenRequestBody))
+                        .build();
+            case CREATE_EVENT:
+                return this.apiBuilder(EVENTS_PATH)
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(this.payload(random)))
+                        .build();
+            case GET_EVENT:
+                return this.apiBuilder(EVENTS_PATH + "/" + this.eventId(random)).GET().build();
+            case GET_EVENT_LIST:
+                return this.apiBuilder(EVENTS_PATH + LIST_QUERY).GET().build();
+            case UPDATE_EVENT:
+                return this.apiBuilder(EVENTS_PATH + "/" + this.eventId(random))
+                        .PUT(HttpRequest.BodyPublishers.ofByteArray(this.payload(random)))
+                        .build();
+            default:
+                throw new IllegalArgumentException("unsupported operation : " + operation);
+        }
+    }
+
+    /**
+     * 성공 응답 처리 : 발급한 token 및 생성한 Event ID 보관
+     */
+    public void onResponse(Operation operation, HttpResponse<byte[]> response) throws IOException {
+        if (operation == Operation.TOKEN && response.statusCode() == 200) {
+            this.bearerAuthorization = "Bearer " + this.objectMapper.readTree(response.body()).get("access_token").asText();
+        } else if (operation == Operation.CREATE_EVENT && response.statusCode() == 201) {
+            JsonNode id = this.objectMapper.readTree(response.body()).get("id");
+            this.eventIds.add(id.asInt());
+        }
+    }
+
+    private HttpRequest.Builder apiBuilder(String path) {
+        return this.builder(path)
+                .header(HttpHeaders.AUTHORIZATION, this.bearerAuthorization)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE);
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(this.baseUri.resolve(path)).timeout(this.requestTimeout);
+    }
+
+    private byte[] payload(Random random) {
+        return this.eventPayloads.get(random.nextInt(PAYLOAD_VARIANTS));
+    }
+
+    private int eventId(Random random) {
+        synchronized (this.eventIds) {
+            if (this.eventIds.isEmpty()) {
+                throw new IllegalStateException("no events to read or update : set seed-events above 0");
+            }
+            return this.eventIds.get(random.nextInt(this.eventIds.size()));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.api.event.loadtest;
+
+import io.api.event.benchmark.ApplicationProcess;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배포 전 API 부하 테스트 : OAuth token 발급, Event 생성/조회/목록 조회/수정 요청의 처리량(rps) 및 응답 시간 백분위 측정
+ *  - 실행 : mvn -Ploadtest -DskipTests verify (설정 재지정 : -Dloadtest.rate=500 등, {@link LoadTestSettings})
+ *    또는 mvn test-compile 후 LoadTest.main([설정 properties 파일]) 실행
+ *  - 비교 : LoadTest.main("compare", 기준 report-*.json, 비교 report-*.json)
+ *  - 순서 : 별도 JVM으로 Application 구동(기본 prod profile + PostgreSQL mode H2) -> readiness 대기 -> token 발급 및 Event 생성(seed)
+ *          -> warm-up 실행(결과 제외) -> 측정 실행 -> 보고서 저장(target/loadtest) 및 출력
+ *  - 요청은 open-loop로 보내고 응답 시간은 coordinated omission을 보정하여 기록한다. ({@link OpenLoopDriver})
+ *  - 부하 발생기와 Application이 같은 장비에서 실행되므로, 결과는 같은 장비/설정에서 실행한 보고서끼리 비교한다.
+ */
+public class LoadTest {
+
+    private static final String READINESS_PATH = "/actuator/health/readiness";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Duration TOKEN_REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 3 && "compare".equals(args[0])) {
+            LoadTestReport.compare(Path.of(args[1]), Path.of(args[2]), System.out);
+            return;
+        }
+
+        LoadTestSettings settings = LoadTestSettings.load(args.length > 0 ? args[0] : null);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.getRequestTimeout())
+                .build();
+
+        ScheduledExecutorService tokenRefresher = Executors.newSingleThreadScheduledExecutor();
+        try (ApplicationProcess application = ApplicationProcess.start(settings.getJvmArgs(), settings.getApplicationArgs())) {
+            Duration ready = application.awaitFirstSuccess(READINESS_PATH, STARTUP_TIMEOUT);
+            System.out.printf("application ready in %d ms on port %d%n", ready.toMillis(), application.getPort());
+
+            EventApiClient apiClient = new EventApiClient(httpClient, application.getPort(), settings);
+            apiClient.refreshToken();
+            apiClient.seedEvents(settings.getSeedEvents());
+            // token 요청 비율과 상관없이 access token(유효 시간 10분)이 만료되지 않도록 갱신
+            tokenRefresher.scheduleAtFixedRate(() -> {
+                try {
+                    apiClient.refreshToken();
+                } catch (Exception e) {
+                    System.err.println("token refresh failed : " + e);
+                }
+            }, TOKEN_REFRESH_INTERVAL.toSeconds(), TOKEN_REFRESH_INTERVAL.toSeconds(), TimeUnit.SECONDS);
+
+            OpenLoopDriver driver = new OpenLoopDriver(httpClient, apiClient, settings);
+            if (!settings.getWarmUp().isZero()) {
+                System.out.printf("warm-up %d s at %.0f rps%n", settings.getWarmUp().toSeconds(), settings.getRate());
+                driver.run(settings.getWarmUp());
+            }
+            System.out.printf("measuring %d s at %.0f rps%n", settings.getDuration().toSeconds(), settings.getRate());
+            OpenLoopDriver.Result result = driver.run(settings.getDuration());
+
+            Path reportFile = LoadTestReport.write(settings, result);
+            LoadTestReport.print(reportFile, System.out);
+            System.out.println("report : " + reportFile.toAbsolutePath());
+        } finally {
+            tokenRefresher.shutdownNow();
+        }
+    }
+}
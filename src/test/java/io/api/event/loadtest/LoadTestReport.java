@@ -0,0 +1,155 @@
+package io.api.event.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 보고서
+ *  - report-{시각}.json : 실행 설정, 요청 종류별 처리량(rps), 오류 수, 응답/처리 시간 백분위(ms)
+ *  - {시각}/{operation}-response.hlog, {시각}/{operation}-service.hlog : 전체 분포 비교용 HdrHistogram log (HistogramLogAnalyzer 등에서 사용)
+ *  - 두 보고서 비교 : LoadTest.main("compare", 기준 보고서, 비교 보고서)
+ */
+public class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadTestReport() {
+    }
+
+    /**
+     * 보고서 파일 저장
+     * @return 저장한 보고서(json) 경로
+     */
+    public static Path write(LoadTestSettings settings, OpenLoopDriver.Result result) throws IOException {
+        String timestamp = LocalDateTime.now().format(FILE_TIMESTAMP);
+        Path directory = settings.getReportDirectory();
+        Path histogramDirectory = directory.resolve(timestamp);
+        Files.createDirectories(histogramDirectory);
+
+        double elapsedSeconds = result.getElapsedNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", timestamp);
+        report.put("java", System.getProperty("java.version"));
+        report.put("processors", Runtime.getRuntime().availableProcessors());
+        report.put("settings", settings.describe());
+        report.put("elapsedSeconds", round(elapsedSeconds));
+        report.put("unfinished", result.getUnfinished());
+        report.put("maxInFlight", result.getMaxInFlight());
+        report.put("maxSchedulerLagMs", round(result.getMaxSchedulerLagNanos() / 1_000_000.0));
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Operation operation : result.getResponseTimes().keySet()) {
+            Histogram responseTime = result.getResponseTimes().get(operation);
+            Histogram serviceTime = result.getServiceTimes().get(operation);
+            Map<String, Object> operationReport = new LinkedHashMap<>();
+            operationReport.put("count", responseTime.getTotalCount());
+            operationReport.put("errors", result.getErrors().get(operation));
+            operationReport.put("rps", round(responseTime.getTotalCount() / elapsedSeconds));
+            operationReport.put("responseTimeMs", percentiles(responseTime));
+            operationReport.put("serviceTimeMs", percentiles(serviceTime));
+            operations.put(operation.getKey(), operationReport);
+
+            writeHistogram(histogramDirectory.resolve(operation.getKey() + "-response.hlog"), responseTime);
+            writeHistogram(histogramDirectory.resolve(operation.getKey() + "-service.hlog"), serviceTime);
+        }
+        report.put("operations", operations);
+
+        Path reportFile = directory.resolve("report-" + timestamp + ".json");
+        OBJECT_MAPPER.writeValue(reportFile.toFile(), report);
+        return reportFile;
+    }
+
+    /**
+     * 요청 종류별 결과 출력
+     */
+    public static void print(Path reportFile, PrintStream out) throws IOException {
+        JsonNode report = OBJECT_MAPPER.readTree(reportFile.toFile());
+        out.printf("%-14s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "rps", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (Iterator<Map.Entry<String, JsonNode>> fields = report.get("operations").fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode operation = field.getValue();
+            JsonNode responseTime = operation.get("responseTimeMs");
+            out.printf("%-14s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", field.getKey(),
+                    operation.get("count").asLong(), operation.get("errors").asLong(), operation.get("rps").asDouble(),
+                    responseTime.get("p50").asDouble(), responseTime.get("p90").asDouble(), responseTime.get("p99").asDouble(),
+                    responseTime.get("p99.9").asDouble(), responseTime.get("max").asDouble());
+        }
+        out.printf("max in-flight %d, max scheduler lag %.2f ms, unfinished %d%n",
+                report.get("maxInFlight").asInt(), report.get("maxSchedulerLagMs").asDouble(), report.get("unfinished").asInt());
+    }
+
+    /**
+     * 두 보고서의 요청 종류별 처리량 및 응답 시간 비교 출력 (변화율 : 비교 보고서 / 기준 보고서)
+     */
+    public static void compare(Path baselineFile, Path candidateFile, PrintStream out) throws IOException {
+        JsonNode baseline = OBJECT_MAPPER.readTree(baselineFile.toFile()).get("operations");
+        JsonNode candidate = OBJECT_MAPPER.readTree(candidateFile.toFile()).get("operations");
+        out.printf("%-14s %-8s %10s %10s %9s%n", "operation", "metric", "baseline", "candidate", "change");
+        for (Iterator<String> names = baseline.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!candidate.has(name)) {
+                continue;
+            }
+            JsonNode base = baseline.get(name);
+            JsonNode current = candidate.get(name);
+            compareLine(out, name, "rps", base.get("rps").asDouble(), current.get("rps").asDouble());
+            compareLine(out, name, "errors", base.get("errors").asDouble(), current.get("errors").asDouble());
+            for (String percentile : List.of("p50", "p99", "p99.9", "max")) {
+                compareLine(out, name, percentile, base.get("responseTimeMs").get(percentile).asDouble(),
+                        current.get("responseTimeMs").get(percentile).asDouble());
+            }
+        }
+    }
+
+    private static void compareLine(PrintStream out, String operation, String metric, double baseline, double candidate) {
+        String change = baseline == 0 ? "-" : String.format("%+.1f%%", (candidate - baseline) * 100 / baseline);
+        out.printf("%-14s %-8s %10.2f %10.2f %9s%n", operation, metric, baseline, candidate, change);
+    }
+
+    private static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            String name = "p" + (percentile == Math.floor(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile));
+            percentiles.put(name, millis(histogram.getValueAtPercentile(percentile)));
+        }
+        percentiles.put("max", millis(histogram.getMaxValue()));
+        percentiles.put("mean", round(histogram.getMean() / 1000.0));
+        return percentiles;
+    }
+
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            // 기록 단위가 microsecond이므로 max 항목은 millisecond로 출력
+            writer.outputIntervalHistogram(histogram.getStartTimeStamp() / 1000.0, histogram.getEndTimeStamp() / 1000.0, histogram, 1000.0);
+        }
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
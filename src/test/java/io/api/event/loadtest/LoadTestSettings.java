@@ -0,0 +1,178 @@
+package io.api.event.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 설정 : properties 파일(기본 classpath:loadtest/default.properties)의 값을 -Dloadtest.{key} system property로 재지정
+ *  - mix.{operation}=비율 : 요청 종류별 비율 (합이 100일 필요는 없음)
+ */
+public class LoadTestSettings {
+
+    private static final String DEFAULT_RESOURCE = "loadtest/default.properties";
+    private static final String SYSTEM_PROPERTY_PREFIX = "loadtest.";
+    private static final String MIX_PREFIX = "mix.";
+
+    private final String source;
+    private final Properties properties;
+    private final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+    private final Operation[] mixTable;
+
+    private LoadTestSettings(String source, Properties properties) {
+        this.source = source;
+        this.properties = properties;
+        for (Operation operation : Operation.values()) {
+            int weight = Integer.parseInt(properties.getProperty(MIX_PREFIX + operation.getKey(), "0").trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("mix weight must not be negative : " + operation.getKey());
+            }
+            if (weight > 0) {
+                mix.put(operation, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("at least one mix.{operation} weight is required");
+        }
+        List<Operation> table = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int index = 0; index < weight; index++) {
+                table.add(operation);
+            }
+        });
+        this.mixTable = table.toArray(Operation[]::new);
+    }
+
+    /**
+     * @param path properties 파일 경로 (null인 경우 기본 설정)
+     */
+    public static LoadTestSettings load(String path) {
+        Properties properties = new Properties();
+        try {
+            if (path == null) {
+                try (InputStream inputStream = LoadTestSettings.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE)) {
+                    properties.load(inputStream);
+                }
+            } else {
+                try (InputStream inputStream = Files.newInputStream(Path.of(path))) {
+                    properties.load(inputStream);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(SYSTEM_PROPERTY_PREFIX))
+                .forEach(name -> properties.setProperty(name.substring(SYSTEM_PROPERTY_PREFIX.length()), System.getProperty(name)));
+        return new LoadTestSettings(path == null ? "classpath:" + DEFAULT_RESOURCE : path, properties);
+    }
+
+    /**
+     * 비율에 따라 다음 요청 종류 선택
+     */
+    public Operation nextOperation(Random random) {
+        return mixTable[random.nextInt(mixTable.length)];
+    }
+
+    // 초당 요청 수 (응답 시간과 상관없이 일정한 간격으로 요청 : open-loop)
+    public double getRate() {
+        return Double.parseDouble(get("rate"));
+    }
+
+    public Duration getDuration() {
+        return Duration.parse(get("duration"));
+    }
+
+    public Duration getWarmUp() {
+        return Duration.parse(get("warm-up"));
+    }
+
+    public Duration getRequestTimeout() {
+        return Duration.parse(get("request-timeout"));
+    }
+
+    public int getSeedEvents() {
+        return Integer.parseInt(get("seed-events"));
+    }
+
+    public long getRandomSeed() {
+        return Long.parseLong(get("random-seed"));
+    }
+
+    public Path getReportDirectory() {
+        return Path.of(get("report-directory"));
+    }
+
+    public String getUsername() {
+        return get("username");
+    }
+
+    public String getPassword() {
+        return get("password");
+    }
+
+    public String getClientId() {
+        return get("client-id");
+    }
+
+    public String getClientSecret() {
+        return get("client-secret");
+    }
+
+    public List<String> getJvmArgs() {
+        return split(get("jvm-args"));
+    }
+
+    public List<String> getApplicationArgs() {
+        List<String> applicationArgs = new ArrayList<>();
+        applicationArgs.add("--spring.datasource.url=" + get("datasource.url"));
+        applicationArgs.add("--spring.datasource.driver-class-name=" + get("datasource.driver-class-name"));
+        applicationArgs.add("--spring.datasource.username=" + get("datasource.username"));
+        applicationArgs.add("--spring.datasource.password=" + get("datasource.password"));
+        applicationArgs.addAll(split(get("application-args")));
+        return applicationArgs;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    /**
+     * 보고서에 기록할 설정 값 (비밀번호 제외)
+     */
+    public Map<String, String> describe() {
+        Map<String, String> description = new LinkedHashMap<>();
+        description.put("source", source);
+        properties.stringPropertyNames().stream()
+                .filter(name -> !name.contains("password") && !name.contains("secret"))
+                .sorted()
+                .forEach(name -> description.put(name, properties.getProperty(name)));
+        return description;
+    }
+
+    private String get(String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("missing load test setting : " + key);
+        }
+        return value.trim();
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split("\\s+"))
+                .filter(arg -> !arg.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
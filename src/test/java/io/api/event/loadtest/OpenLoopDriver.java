@@ -0,0 +1,182 @@
+package io.api.event.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop 부하 발생기 : 응답 시간과 상관없이 설정한 초당 요청 수(rate)의 일정한 간격으로 요청을 보낸다.
+ *  - 응답 시간(response time)은 요청을 보내야 했던 시각(intended start)부터 응답 완료까지의 시간으로 기록하여,
+ *    서버 지연으로 요청이 밀린 시간도 포함한다. (coordinated omission 보정)
+ *  - 처리 시간(service time)은 실제 요청 전송부터 응답 완료까지의 시간으로, 응답 시간과의 차이가 대기 시간이다.
+ *  - 실패 응답(2xx 이외) 및 요청 오류(timeout 등)도 응답 시간에 기록하고 오류 수를 별도로 집계한다.
+ *  - 요청 종류별 시간은 HdrHistogram Recorder에 microsecond 단위로 기록한다.
+ */
+public class OpenLoopDriver {
+
+    private static final Duration COMPLETION_GRACE = Duration.ofSeconds(5);
+
+    private final HttpClient httpClient;
+    private final EventApiClient apiClient;
+    private final LoadTestSettings settings;
+    private final Random random;
+    private final Map<Operation, Recorder> responseTimeRecorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Recorder> serviceTimeRecorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicLong maxSchedulerLagNanos = new AtomicLong();
+
+    public OpenLoopDriver(HttpClient httpClient, EventApiClient apiClient, LoadTestSettings settings) {
+        this.httpClient = httpClient;
+        this.apiClient = apiClient;
+        this.settings = settings;
+        this.random = new Random(settings.getRandomSeed());
+        for (Operation operation : settings.getMix().keySet()) {
+            this.responseTimeRecorders.put(operation, new Recorder(3));
+            this.serviceTimeRecorders.put(operation, new Recorder(3));
+            this.errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * 설정한 rate로 duration 동안 요청을 보내고, 보낸 요청이 모두 완료될 때까지 대기
+     *  - 이전 실행(warm-up)의 기록은 결과에 포함하지 않는다.
+     */
+    public Result run(Duration duration) throws InterruptedException {
+        this.reset();
+        double rate = this.settings.getRate();
+        long requests = (long) (rate * duration.toNanos() / TimeUnit.SECONDS.toNanos(1));
+        long startedAt = System.nanoTime();
+
+        for (long index = 0; index < requests; index++) {
+            long intendedAt = startedAt + (long) (index * TimeUnit.SECONDS.toNanos(1) / rate);
+            long now;
+            while ((now = System.nanoTime()) < intendedAt) {
+                LockSupport.parkNanos(intendedAt - now);
+            }
+            // 부하 발생기가 일정을 따라가지 못한 시간 : 크면 결과를 신뢰할 수 없으므로 보고서에 기록
+            this.maxSchedulerLagNanos.accumulateAndGet(now - intendedAt, Math::max);
+            this.send(this.settings.nextOperation(this.random), intendedAt);
+        }
+
+        long deadline = System.nanoTime() + this.settings.getRequestTimeout().plus(COMPLETION_GRACE).toNanos();
+        while (this.inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Map<Operation, Histogram> responseTimes = new EnumMap<>(Operation.class);
+        Map<Operation, Histogram> serviceTimes = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+        for (Operation operation : this.responseTimeRecorders.keySet()) {
+            responseTimes.put(operation, this.responseTimeRecorders.get(operation).getIntervalHistogram());
+            serviceTimes.put(operation, this.serviceTimeRecorders.get(operation).getIntervalHistogram());
+            errorCounts.put(operation, this.errors.get(operation).sum());
+        }
+        return new Result(responseTimes, serviceTimes, errorCounts, elapsedNanos, this.inFlight.get(),
+                this.maxInFlight.get(), this.maxSchedulerLagNanos.get());
+    }
+
+    private void send(Operation operation, long intendedAt) {
+        HttpRequest request;
+        try {
+            request = this.apiClient.request(operation, this.random);
+        } catch (RuntimeException e) {
+            this.errors.get(operation).increment();
+            return;
+        }
+        this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+        long sentAt = System.nanoTime();
+        this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    long completedAt = System.nanoTime();
+                    this.responseTimeRecorders.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(completedAt - intendedAt));
+                    this.serviceTimeRecorders.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(completedAt - sentAt));
+                    if (error != null || response.statusCode() / 100 != 2) {
+                        this.errors.get(operation).increment();
+                    } else {
+                        try {
+                            this.apiClient.onResponse(operation, response);
+                        } catch (Exception e) {
+                            this.errors.get(operation).increment();
+                        }
+                    }
+                    this.inFlight.decrementAndGet();
+                });
+    }
+
+    private void reset() {
+        this.responseTimeRecorders.values().forEach(Recorder::reset);
+        this.serviceTimeRecorders.values().forEach(Recorder::reset);
+        this.errors.values().forEach(LongAdder::reset);
+        this.maxInFlight.set(0);
+        this.maxSchedulerLagNanos.set(0);
+    }
+
+    /**
+     * 한번의 실행 결과
+     */
+    public static class Result {
+
+        private final Map<Operation, Histogram> responseTimes;
+        private final Map<Operation, Histogram> serviceTimes;
+        private final Map<Operation, Long> errors;
+        private final long elapsedNanos;
+        private final int unfinished;
+        private final int maxInFlight;
+        private final long maxSchedulerLagNanos;
+
+        private Result(Map<Operation, Histogram> responseTimes, Map<Operation, Histogram> serviceTimes, Map<Operation, Long> errors,
+                       long elapsedNanos, int unfinished, int maxInFlight, long maxSchedulerLagNanos) {
+            this.responseTimes = responseTimes;
+            this.serviceTimes = serviceTimes;
+            this.errors = errors;
+            this.elapsedNanos = elapsedNanos;
+            this.unfinished = unfinished;
+            this.maxInFlight = maxInFlight;
+            this.maxSchedulerLagNanos = maxSchedulerLagNanos;
+        }
+
+        public Map<Operation, Histogram> getResponseTimes() {
+            return responseTimes;
+        }
+
+        public Map<Operation, Histogram> getServiceTimes() {
+            return serviceTimes;
+        }
+
+        public Map<Operation, Long> getErrors() {
+            return errors;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        // 완료 대기 시간 내에 응답이 오지 않은 요청 수
+        public int getUnfinished() {
+            return unfinished;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public long getMaxSchedulerLagNanos() {
+            return maxSchedulerLagNanos;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.api.event.loadtest;
+
+/**
+ * 부하 테스트 요청 종류 (mix.{key} 설정 및 보고서 항목명)
+ */
+public enum Operation {
+
+    // POST /oauth/token (password grant)
+    TOKEN("token"),
+    // POST /api/events
+    CREATE_EVENT("createEvent"),
+    // GET /api/events/{id}
+    GET_EVENT("getEvent"),
+    // GET /api/events?page=0&size=20
+    GET_EVENT_LIST("getEventList"),
+    // PUT /api/events/{id}
+    UPDATE_EVENT("updateEvent");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,76 @@
+package io.api.event.service.audit;
+
+import io.api.event.config.AuditProperties;
+import io.api.event.config.test.TestConstants;
+import io.api.event.domain.entity.audit.AuditAction;
+import io.api.event.domain.entity.audit.AuditEntry;
+import io.api.event.domain.entity.audit.AuditOutcome;
+import io.api.event.repository.audit.AuditEntryRepository;
+import io.api.event.util.common.TestDescription;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Application 종료 시 이력 기록 : 종료 순서 및 종료 중/종료 이후의 기록 저장 확인
+ */
+@SpringBootTest
+@ActiveProfiles(TestConstants.TEST)
+class AuditLogTest {
+
+    @Autowired
+    AuditProperties auditProperties;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    AuditEntryRepository auditEntryRepository;
+
+    @BeforeEach
+    public void setUp() {
+        auditEntryRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("종료 시 남은 이력을 저장하고, 종료 이후의 기록은 요청 thread에서 바로 저장하는지 확인")
+    @DisplayName("Audit Log : 종료 중/종료 이후 기록")
+    public void recordAfterStop_Test() {
+        // Given
+        AuditLog auditLog = new AuditLog(auditProperties, jdbcTemplate, new SimpleMeterRegistry());
+        auditLog.start();
+        for (int eventId = 1; eventId <= 100; eventId++) {
+            auditLog.record(AuditAction.PATCH_EVENT, AuditOutcome.SUCCESS, eventId, null);
+        }
+
+        // When
+        auditLog.stop();
+        auditLog.record(AuditAction.PATCH_EVENT, AuditOutcome.DENIED, 101, null);
+
+        // Then
+        assertThat(auditLog.isRunning()).isFalse();
+        assertThat(auditEntryRepository.findAll()).extracting(AuditEntry::getEventId).hasSize(101).contains(1, 100, 101);
+    }
+
+    @Test
+    @TestDescription("시작하지 않은 상태에서 종료해도 오류 없이 종료되고, web server보다 나중에 종료되는 phase인지 확인")
+    @DisplayName("Audit Log : 시작 전 종료 및 종료 순서")
+    public void stopWithoutStart_Test() {
+        // Given
+        AuditLog auditLog = new AuditLog(auditProperties, jdbcTemplate, new SimpleMeterRegistry());
+
+        // When
+        auditLog.stop();
+
+        // Then : phase가 낮을수록 나중에 종료 (web server : Integer.MAX_VALUE - 1)
+        assertThat(auditLog.isRunning()).isFalse();
+        assertThat(auditLog.getPhase()).isLessThan(Integer.MAX_VALUE - 1);
+    }
+}
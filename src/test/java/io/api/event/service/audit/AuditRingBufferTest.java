@@ -0,0 +1,91 @@
+package io.api.event.service.audit;
+
+import io.api.event.domain.entity.audit.AuditAction;
+import io.api.event.domain.entity.audit.AuditOutcome;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest {
+
+    @Test
+    @TestDescription("ring buffer가 가득 찬 경우 기록을 거부하고, 읽은 만큼 다시 기록할 수 있는지 확인")
+    @DisplayName("Audit RingBuffer : 용량 및 재사용")
+    public void offer_FullBuffer_Test() {
+        // Given : 요청 크기는 2의 제곱수로 올림
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(6);
+        assertThat(ringBuffer.capacity()).isEqualTo(8);
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            assertThat(offer(ringBuffer, i, 1)).isTrue();
+        }
+
+        // Then
+        assertThat(offer(ringBuffer, 8, 1)).isFalse();
+        List<AuditRingBuffer.Entry> drained = new ArrayList<>();
+        assertThat(ringBuffer.drain(drained, 3)).isEqualTo(3);
+        assertThat(drained).extracting(AuditRingBuffer.Entry::getEventId).containsExactly(0, 1, 2);
+        assertThat(offer(ringBuffer, 8, 1)).isTrue();
+        assertThat(ringBuffer.size()).isEqualTo(6);
+    }
+
+    @Test
+    @TestDescription("다수의 thread가 동시에 기록한 이력을 하나의 consumer가 누락/중복 없이 producer별 기록 순서대로 읽는지 확인")
+    @DisplayName("Audit RingBuffer : 다중 producer 동시 기록")
+    public void offer_MultipleProducers_Test() throws Exception {
+        // Given
+        int producers = 8;
+        int entriesPerProducer = 20_000;
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(1024);
+        ExecutorService executorService = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When : 가득 찬 경우 consumer가 읽을 때까지 재시도
+        for (int producer = 0; producer < producers; producer++) {
+            int accountId = producer;
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for (int sequence = 0; sequence < entriesPerProducer; sequence++) {
+                    while (!offer(ringBuffer, sequence, accountId)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        int[] nextSequence = new int[producers];
+        List<AuditRingBuffer.Entry> batch = new ArrayList<>();
+        int total = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (total < producers * entriesPerProducer && System.nanoTime() < deadline) {
+            batch.clear();
+            ringBuffer.drain(batch, 256);
+            for (AuditRingBuffer.Entry entry : batch) {
+                // Then : producer별 기록 순서 유지
+                assertThat(entry.getEventId()).isEqualTo(nextSequence[entry.getAccountId()]++);
+            }
+            total += batch.size();
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        assertThat(total).isEqualTo(producers * entriesPerProducer);
+        assertThat(nextSequence).containsOnly(entriesPerProducer);
+        assertThat(ringBuffer.size()).isZero();
+    }
+
+    private static boolean offer(AuditRingBuffer ringBuffer, int eventId, int accountId) {
+        return ringBuffer.offer(AuditAction.CREATE_EVENT, AuditOutcome.SUCCESS, eventId, accountId, System.currentTimeMillis());
+    }
+}
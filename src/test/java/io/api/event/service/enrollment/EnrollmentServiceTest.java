@@ -0,0 +1,216 @@
+package io.api.event.service.enrollment;
+
+import io.api.event.config.EventProperties;
+import io.api.event.config.test.TestConstants;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.account.AccountRole;
+import io.api.event.domain.entity.enrollment.Enrollment;
+import io.api.event.domain.entity.enrollment.EnrollmentSeat;
+import io.api.event.domain.entity.enrollment.EnrollmentStatus;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.repository.enrollment.EnrollmentRepository;
+import io.api.event.repository.enrollment.EnrollmentSeatRepository;
+import io.api.event.service.event.EventService;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 참가 신청/취소/승격 시 정원 및 대기 순서(FIFO) 확인
+ */
+@SpringBootTest
+@ActiveProfiles(TestConstants.TEST)
+class EnrollmentServiceTest {
+
+    private static final int LIMIT = 10;
+
+    @Autowired
+    EnrollmentService enrollmentService;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EnrollmentSeatRepository enrollmentSeatRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EventProperties eventProperties;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        enrollmentRepository.deleteAll();
+        enrollmentSeatRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("동시 신청 시 정원만큼만 참가 확정되고, 동시 취소/신청/승격 중에도 대기자가 대기 순서대로만 승격되는지 확인")
+    @DisplayName("Enrollment : 동시 신청/취소 시 정원 및 FIFO 승격")
+    public void concurrentEnrollment_FifoPromotion_Test() throws Exception {
+        // Given
+        Event event = eventRepository.save(Event.builder()
+                .name("waitlist event")
+                .beginEventDateTime(LocalDateTime.of(2020, 11, 20, 19, 0))
+                .limitOfEnrollment(LIMIT)
+                .build());
+        Integer eventId = event.getId();
+        List<Account> accounts = new ArrayList<>();
+        for (int index = 0; index < 60; index++) {
+            accounts.add(accountRepository.save(Account.builder()
+                    .email("waitlist" + index + "@naver.com")
+                    .password("password")
+                    .roles(Set.of(AccountRole.USER))
+                    .build()));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When : 40명 동시 신청
+        runConcurrently(executor, accounts.subList(0, 40).stream()
+                .map(account -> (Runnable) () -> enrollmentService.enroll(eventId, account))
+                .collect(Collectors.toList()));
+
+        // Then
+        List<Enrollment> firstConfirmed = enrollmentRepository.findAll().stream()
+                .filter(enrollment -> enrollment.getStatus() == EnrollmentStatus.CONFIRMED)
+                .collect(Collectors.toList());
+        assertThat(firstConfirmed).hasSize(LIMIT);
+        assertThat(enrollmentRepository.countByEventIdAndStatus(eventId, EnrollmentStatus.WAITLISTED)).isEqualTo(30);
+        assertSeatCounts(eventId);
+
+        // When : 참가 확정 10명 및 대기자 5명 취소, 20명 신규 신청, 승격 처리를 동시에 실행
+        List<Account> waitlistedAccounts = enrollmentRepository.findAll().stream()
+                .filter(enrollment -> enrollment.getStatus() == EnrollmentStatus.WAITLISTED)
+                .sorted(Comparator.comparing(Enrollment::getId).reversed())
+                .limit(5)
+                .map(enrollment -> accountRepository.findById(enrollment.getAccount().getId()).orElseThrow())
+                .collect(Collectors.toList());
+        List<Runnable> tasks = new ArrayList<>();
+        for (Enrollment confirmed : firstConfirmed) {
+            Account account = accountRepository.findById(confirmed.getAccount().getId()).orElseThrow();
+            tasks.add(() -> enrollmentService.cancel(eventId, account));
+        }
+        waitlistedAccounts.forEach(account -> tasks.add(() -> enrollmentService.cancel(eventId, account)));
+        accounts.subList(40, 60).forEach(account -> tasks.add(() -> enrollmentService.enroll(eventId, account)));
+        AtomicBoolean running = new AtomicBoolean(true);
+        Future<?> promoter = executor.submit(() -> {
+            while (running.get()) {
+                enrollmentService.promoteReleased();
+            }
+        });
+        runConcurrently(executor, tasks);
+        running.set(false);
+        promoter.get(10, TimeUnit.SECONDS);
+        enrollmentService.promote(eventId);
+
+        // Then : 취소된 자리는 모두 대기자로 채워지고, 승격된 신청은 대기 순서의 앞부분이어야 한다.
+        List<Enrollment> enrollments = enrollmentRepository.findAll();
+        assertThat(enrollments.stream().filter(enrollment -> enrollment.getStatus() == EnrollmentStatus.CONFIRMED)).hasSize(LIMIT);
+        assertSeatCounts(eventId);
+
+        Set<Long> firstConfirmedIds = firstConfirmed.stream().map(Enrollment::getId).collect(Collectors.toSet());
+        List<Enrollment> queue = enrollments.stream()
+                .filter(enrollment -> enrollment.getStatus() == EnrollmentStatus.WAITLISTED || enrollment.getPromotedAt() != null)
+                .sorted(Comparator.comparing(Enrollment::getId))
+                .collect(Collectors.toList());
+        List<EnrollmentStatus> queueStatuses = queue.stream().map(Enrollment::getStatus).collect(Collectors.toList());
+        assertThat(queueStatuses.subList(0, LIMIT)).containsOnly(EnrollmentStatus.CONFIRMED);
+        assertThat(queueStatuses.subList(LIMIT, queueStatuses.size())).containsOnly(EnrollmentStatus.WAITLISTED);
+        assertThat(enrollments.stream()
+                .filter(enrollment -> enrollment.getStatus() == EnrollmentStatus.CONFIRMED && enrollment.getPromotedAt() == null)
+                .map(Enrollment::getId))
+                .allMatch(firstConfirmedIds::contains);
+        executor.shutdown();
+    }
+
+    @Test
+    @TestDescription("다른 Application(또는 재시작 전)에서 처리한 취소로 생긴 자리도 승격 주기에 대기자를 승격하는지 확인")
+    @DisplayName("Enrollment : 다른 Application에서 취소한 자리 승격")
+    public void promoteReleased_CancelledByOtherInstance_Test() {
+        // Given
+        Event event = eventRepository.save(Event.builder()
+                .name("other instance event")
+                .beginEventDateTime(LocalDateTime.of(2020, 11, 20, 19, 0))
+                .limitOfEnrollment(1)
+                .build());
+        Integer eventId = event.getId();
+        Account confirmed = accountRepository.save(Account.builder()
+                .email("other-instance-confirmed@naver.com")
+                .password("password")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        Account waitlisted = accountRepository.save(Account.builder()
+                .email("other-instance-waitlisted@naver.com")
+                .password("password")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        enrollmentService.enroll(eventId, confirmed);
+        assertThat(enrollmentService.enroll(eventId, waitlisted).getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+
+        // When : 승격 주기를 실행하는 Application이 아닌 다른 Application에서 취소
+        EnrollmentService otherInstance = new EnrollmentService(enrollmentRepository, enrollmentSeatRepository,
+                eventService, eventProperties, transactionManager);
+        otherInstance.cancel(eventId, confirmed);
+        int promoted = enrollmentService.promoteReleased();
+
+        // Then
+        assertThat(promoted).isEqualTo(1);
+        assertThat(enrollmentService.getEnrollment(eventId, waitlisted).orElseThrow().getStatus()).isEqualTo(EnrollmentStatus.CONFIRMED);
+        assertSeatCounts(eventId);
+    }
+
+    private void assertSeatCounts(Integer eventId) {
+        EnrollmentSeat seat = enrollmentSeatRepository.findById(eventId).orElseThrow();
+        assertThat(seat.getConfirmed()).isEqualTo(enrollmentRepository.countByEventIdAndStatus(eventId, EnrollmentStatus.CONFIRMED));
+        assertThat(seat.getWaitlisted()).isEqualTo(enrollmentRepository.countByEventIdAndStatus(eventId, EnrollmentStatus.WAITLISTED));
+        assertThat(seat.getConfirmed()).isLessThanOrEqualTo(LIMIT);
+    }
+
+    private static void runConcurrently(ExecutorService executor, List<Runnable> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Runnable task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+    }
+}
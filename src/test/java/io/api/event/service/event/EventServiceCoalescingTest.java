@@ -0,0 +1,231 @@
+package io.api.event.service.event;
+
+import io.api.event.config.test.TestConstants;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.account.AccountRole;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.repository.EventRepository;
+import io.api.event.repository.account.AccountRepository;
+import io.api.event.util.common.TestDescription;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockReset;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 동시 조회 병합 확인
+ *  - 같은 요청이 동시에 들어온 경우 Repository 조회가 한 번만 실행되는지 확인 (병합 대기 중 timeout이 발생하지 않도록 timeout을 늘림)
+ *  - leader가 조회한 Event가 leader 요청의 영속성 context에 남지 않는지 확인
+ */
+@SpringBootTest(properties = "my-app.event.coalescing-timeout=PT30S")
+@ActiveProfiles(TestConstants.TEST)
+class EventServiceCoalescingTest {
+
+    private static final int BURST = 8;
+    private static final String CALLS = "single-flight.calls";
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EventCountService eventCountService;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @TestDescription("같은 Event의 동시 조회 요청 시 leader의 조회가 끝나기 전에 들어온 요청은 병합되어 findById가 한 번만 실행되는지 확인")
+    @DisplayName("Event Service : 단건 동시 조회 병합")
+    public void getEventBurst_Test() throws Exception {
+        // Given
+        Event saved = saveEvent("burst@naver.com");
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(holdUntil(release)).when(repositoryMock()).findById(saved.getId());
+        double leaders = calls("event.get", "leader");
+
+        // When
+        List<Optional<Event>> events = burst("event.get", release, () -> eventService.getEvent(saved.getId()));
+
+        // Then
+        verify(repositoryMock(), times(1)).findById(saved.getId());
+        assertThat(calls("event.get", "leader") - leaders).isEqualTo(1);
+        assertThat(events).hasSize(BURST)
+                .allSatisfy(event -> assertThat(event).get().extracting(Event::getId).isEqualTo(saved.getId()));
+    }
+
+    @Test
+    @TestDescription("같은 페이지 및 전체 수 조회 방식의 동시 목록 조회 요청 시 findPage가 한 번만 실행되고 같은 목록이 응답되는지 확인")
+    @DisplayName("Event Service : 목록 동시 조회 병합")
+    public void getEventListBurst_Test() throws Exception {
+        // Given
+        saveEvent("burst-list@naver.com");
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(holdUntil(release)).when(repositoryMock()).findPage(any(), any());
+        double leaders = calls("event.list", "leader");
+
+        // When
+        List<Slice<Event>> slices = burst("event.list", release,
+                () -> eventService.getEventList(pageable, eventCountService.newTotal()));
+
+        // Then
+        verify(repositoryMock(), times(1)).findPage(any(), any());
+        assertThat(calls("event.list", "leader") - leaders).isEqualTo(1);
+        List<Integer> ids = slices.get(0).getContent().stream().map(Event::getId).collect(Collectors.toList());
+        assertThat(ids).isNotEmpty();
+        assertThat(slices).hasSize(BURST)
+                .allSatisfy(slice -> assertThat(slice.getContent()).extracting(Event::getId).isEqualTo(ids));
+    }
+
+    @Test
+    @TestDescription("OSIV로 요청의 EntityManager가 열려 있는 경우에도 병합 대상 조회 결과는 영속성 context에서 분리되어 있는지 확인")
+    @DisplayName("Event Service : 병합 조회 결과 detach")
+    public void coalescedReadIsDetached_Test() {
+        // Given
+        Event saved = saveEvent("coalescing@naver.com");
+        Account manager = saved.getManager();
+
+        // When : OpenEntityManagerInViewInterceptor와 같이 요청 thread에 EntityManager를 연결한 상태에서 조회
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            Event event = eventService.getEvent(saved.getId()).orElseThrow();
+            Slice<Event> slice = eventService.getEventList(PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "id")), null);
+
+            // Then
+            assertThat(entityManager.contains(event)).isFalse();
+            assertThat(event.getManager().getId()).isEqualTo(manager.getId());
+            assertThat(slice.getContent()).isNotEmpty().noneMatch(entityManager::contains);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    /**
+     * 동시 조회 : leader의 조회를 붙잡아 둔 상태에서 나머지 요청이 모두 병합된 이후에 조회를 진행
+     */
+    private <T> List<T> burst(String name, CountDownLatch release, Supplier<T> read) throws Exception {
+        double collapsed = calls(name, "collapsed");
+        clearInvocations(repositoryMock());
+        ExecutorService executor = Executors.newFixedThreadPool(BURST);
+        try {
+            List<Future<T>> futures = new ArrayList<>(BURST);
+            for (int i = 0; i < BURST; i++) {
+                futures.add(executor.submit(read::get));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (calls(name, "collapsed") - collapsed < BURST - 1) {
+                assertThat(System.nanoTime()).as("collapsed calls of %s", name).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            List<T> results = new ArrayList<>(BURST);
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            assertThat(calls(name, "collapsed") - collapsed).isEqualTo(BURST - 1);
+            return results;
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * release 이후 실제 Repository 조회 (mock의 기본 응답은 실제 Repository로 위임)
+     */
+    private static Answer<Object> holdUntil(CountDownLatch release) {
+        return invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return mockingDetails(invocation.getMock()).getMockCreationSettings().getDefaultAnswer().answer(invocation);
+        };
+    }
+
+    /**
+     * AOP proxy가 적용된 Repository bean의 대상 mock
+     */
+    private EventRepository repositoryMock() {
+        return AopTestUtils.getUltimateTargetObject(eventRepository);
+    }
+
+    private double calls(String name, String result) {
+        return meterRegistry.get(CALLS).tag("name", name).tag("result", result).counter().count();
+    }
+
+    private Event saveEvent(String email) {
+        Account manager = accountRepository.save(Account.builder()
+                .email(email)
+                .password("password")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        return eventRepository.save(Event.builder()
+                .name("coalescing event")
+                .beginEventDateTime(LocalDateTime.of(2020, 11, 20, 19, 0))
+                .manager(manager)
+                .build());
+    }
+
+    /**
+     * Repository 호출 확인 및 조회 지연을 위해 실제 Repository로 위임하는 mock을 주입
+     *  - Spring Data Repository는 JDK proxy(final class)이므로 @SpyBean으로 spy를 생성할 수 없다.
+     */
+    @TestConfiguration
+    static class RepositoryConfig {
+
+        @Bean
+        @Primary
+        EventRepository delegatingEventRepository(EventRepository eventRepository) {
+            return mock(EventRepository.class, MockReset.withSettings(MockReset.AFTER).defaultAnswer(delegatesTo(eventRepository)));
+        }
+    }
+}
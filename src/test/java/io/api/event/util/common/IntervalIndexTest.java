@@ -0,0 +1,61 @@
+package io.api.event.util.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalIndexTest {
+
+    @Test
+    @DisplayName("IntervalIndex : 겹치는 구간을 (begin, id) 순서로 조회")
+    public void query_SameAsLinearScan_Test() {
+        Random random = new Random(42);
+        List<long[]> intervals = new ArrayList<>();
+        IntervalIndex.Builder builder = IntervalIndex.builder(4);
+        for (int id = 1; id <= 5000; id++) {
+            long begin = random.nextInt(100_000);
+            long end = begin + random.nextInt(random.nextInt(10) == 0 ? 20_000 : 500);
+            intervals.add(new long[]{id, begin, end});
+            builder.add(id, begin, end);
+        }
+        builder.add(9999, 10, 5); // begin > end 인 구간은 제외
+        IntervalIndex index = builder.build();
+        assertThat(index.size()).isEqualTo(5000);
+
+        intervals.sort(Comparator.<long[]>comparingLong(interval -> interval[1]).thenComparingLong(interval -> interval[0]));
+        for (int i = 0; i < 200; i++) {
+            long from = random.nextInt(110_000) - 5_000;
+            long to = from + random.nextInt(2_000);
+            int[] expected = intervals.stream()
+                    .filter(interval -> interval[1] <= to && interval[2] >= from)
+                    .mapToInt(interval -> (int) interval[0])
+                    .toArray();
+
+            assertThat(index.query(from, to, Integer.MAX_VALUE)).containsExactly(expected);
+            assertThat(index.query(from, to, 3)).containsExactly(Arrays.copyOf(expected, Math.min(3, expected.length)));
+        }
+    }
+
+    @Test
+    @DisplayName("IntervalIndex : 경계 값 포함 및 빈 index 조회")
+    public void query_Boundary_Test() {
+        IntervalIndex index = IntervalIndex.builder(0)
+                .add(3, 10, 20)
+                .add(1, 10, 10)
+                .add(2, 21, 30)
+                .build();
+
+        assertThat(index.query(20, 21, 10)).containsExactly(3, 2);
+        assertThat(index.query(10, 10, 10)).containsExactly(1, 3);
+        assertThat(index.query(31, 40, 10)).isEmpty();
+        assertThat(index.query(30, 10, 10)).isEmpty();
+        assertThat(IntervalIndex.empty().query(0, Long.MAX_VALUE, 10)).isEmpty();
+    }
+}
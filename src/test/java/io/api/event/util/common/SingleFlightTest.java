@@ -0,0 +1,169 @@
+package io.api.event.util.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int BURST = 16;
+    private static final String NAME = "test";
+
+    private MeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private ExecutorService executorService;
+    private AtomicInteger queryCount;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:single_flight_db;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS event_info (id INT PRIMARY KEY, name VARCHAR(255))");
+        jdbcTemplate.execute("MERGE INTO event_info KEY(id) VALUES (1, 'event')");
+        executorService = Executors.newFixedThreadPool(BURST);
+        queryCount = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @TestDescription("같은 key의 동시 요청 burst에서 DB 조회는 한번만 실행되고 모든 요청이 같은 결과를 받는지 확인")
+    @DisplayName("SingleFlight : 동시 요청 병합")
+    public void execute_CollapsesBurst_Test() throws Exception {
+        // Given : leader는 나머지 요청이 모두 병합된 뒤 조회를 마침
+        SingleFlight<Integer, String> singleFlight = new SingleFlight<>(NAME, Duration.ofSeconds(10), meterRegistry);
+
+        // When
+        List<String> results = burst(() -> singleFlight.execute(1, () -> {
+            awaitCollapsed(BURST - 1);
+            return queryName(1);
+        }));
+
+        // Then
+        assertThat(queryCount).hasValue(1);
+        assertThat(results).hasSize(BURST).containsOnly("event");
+        assertThat(calls("leader")).isEqualTo(1);
+        assertThat(calls("collapsed")).isEqualTo(BURST - 1);
+        assertThat(calls("timeout")).isZero();
+        assertThat(meterRegistry.get("single-flight.in-flight").gauge().value()).isZero();
+
+        // 조회가 끝난 이후의 요청은 새로 조회
+        assertThat(singleFlight.execute(1, () -> queryName(1))).isEqualTo("event");
+        assertThat(queryCount).hasValue(2);
+    }
+
+    @Test
+    @TestDescription("leader의 조회가 timeout 안에 끝나지 않은 경우 병합된 요청이 직접 조회하는지 확인")
+    @DisplayName("SingleFlight : 병합 대기 timeout")
+    public void execute_TimeoutFallsBackToOwnQuery_Test() throws Exception {
+        // Given
+        SingleFlight<Integer, String> singleFlight = new SingleFlight<>(NAME, Duration.ofMillis(50), meterRegistry);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        Future<String> leader = executorService.submit(() -> singleFlight.execute(1, () -> {
+            awaitQuietly(releaseLeader);
+            return queryName(1);
+        }));
+        awaitInFlight();
+
+        // When
+        String result = singleFlight.execute(1, () -> queryName(1));
+        releaseLeader.countDown();
+
+        // Then
+        assertThat(result).isEqualTo("event");
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("event");
+        assertThat(queryCount).hasValue(2);
+        assertThat(calls("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("leader의 조회에서 발생한 예외를 병합된 요청도 같이 받는지 확인")
+    @DisplayName("SingleFlight : 조회 예외 전달")
+    public void execute_PropagatesFailure_Test() {
+        // Given
+        SingleFlight<Integer, String> singleFlight = new SingleFlight<>(NAME, Duration.ofSeconds(10), meterRegistry);
+
+        // When
+        List<Future<String>> futures = submitBurst(() -> singleFlight.execute(2, () -> {
+            awaitCollapsed(BURST - 1);
+            throw new IllegalArgumentException("query failed");
+        }));
+
+        // Then
+        for (Future<String> future : futures) {
+            assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(calls("leader")).isEqualTo(1);
+    }
+
+    private String queryName(int id) {
+        queryCount.incrementAndGet();
+        return jdbcTemplate.queryForObject("SELECT name FROM event_info WHERE id = ?", String.class, id);
+    }
+
+    private List<String> burst(Callable<String> call) throws Exception {
+        List<String> results = new ArrayList<>();
+        for (Future<String> future : submitBurst(call)) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private List<Future<String>> submitBurst(Callable<String> call) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < BURST; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                return call.call();
+            }));
+        }
+        start.countDown();
+        return futures;
+    }
+
+    private double calls(String result) {
+        return meterRegistry.get("single-flight.calls").tag("name", NAME).tag("result", result).counter().count();
+    }
+
+    private void awaitCollapsed(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (calls("collapsed") < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitInFlight() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get("single-flight.in-flight").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
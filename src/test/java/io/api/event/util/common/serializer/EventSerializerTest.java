@@ -0,0 +1,164 @@
+package io.api.event.util.common.serializer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import io.api.event.domain.dto.event.EventEntityModel;
+import io.api.event.domain.entity.account.Account;
+import io.api.event.domain.entity.event.Event;
+import io.api.event.domain.entity.event.EventStatus;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EventSerializer + Afterburner 변환 결과가 Jackson 기본 BeanSerializer의 변환 결과 및 golden file(src/test/resources/golden)과 같은지 확인
+ *  - 두 변환 결과는 항목 순서까지 같아야 하므로 문자열(CBOR는 byte)로 비교하고, golden file은 JSON tree로 비교한다.
+ */
+class EventSerializerTest {
+
+    private ObjectMapper reflectiveObjectMapper;
+    private ObjectMapper optimizedObjectMapper;
+
+    @BeforeEach
+    public void setUp() {
+        // EventEntityModel의 self link가 http://localhost 기준으로 생성되도록 요청 정보 지정
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        reflectiveObjectMapper = halObjectMapper(Jackson2ObjectMapperBuilder.json(), false);
+        optimizedObjectMapper = halObjectMapper(Jackson2ObjectMapperBuilder.json(), true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @TestDescription("Event 단건(EventEntityModel) 변환 결과가 BeanSerializer 및 golden file과 같은지 확인")
+    @DisplayName("EventSerializer : EventEntityModel golden file")
+    public void eventEntityModel_Golden_Test() throws IOException {
+        // Given
+        EventEntityModel eventEntityModel = new EventEntityModel(givenOfflineEvent());
+
+        // When
+        String reflective = reflectiveObjectMapper.writeValueAsString(eventEntityModel);
+        String optimized = optimizedObjectMapper.writeValueAsString(eventEntityModel);
+
+        // Then
+        assertThat(optimized).isEqualTo(reflective);
+        assertThat(optimizedObjectMapper.readTree(optimized)).isEqualTo(golden("golden/event-entity-model.json"));
+    }
+
+    @Test
+    @TestDescription("Event 목록(PagedModel) 변환 결과가 null 항목을 포함하여 BeanSerializer 및 golden file과 같은지 확인")
+    @DisplayName("EventSerializer : PagedModel golden file")
+    public void pagedModel_Golden_Test() throws IOException {
+        // Given
+        PagedModel<EventEntityModel> page = givenPage();
+
+        // When
+        String reflective = reflectiveObjectMapper.writeValueAsString(page);
+        String optimized = optimizedObjectMapper.writeValueAsString(page);
+
+        // Then
+        assertThat(optimized).isEqualTo(reflective);
+        assertThat(optimizedObjectMapper.readTree(optimized)).isEqualTo(golden("golden/event-paged-model.json"));
+    }
+
+    @Test
+    @TestDescription("Event를 EntityModel 없이 변환하는 경우 및 CBOR 변환 결과가 BeanSerializer와 같은지 확인")
+    @DisplayName("EventSerializer : Event 단독 변환 및 CBOR")
+    public void plainEventAndCbor_Test() throws IOException {
+        // Given
+        Event event = givenOfflineEvent();
+        PagedModel<EventEntityModel> page = givenPage();
+        ObjectMapper reflectiveCborObjectMapper = halObjectMapper(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()), false);
+        ObjectMapper optimizedCborObjectMapper = halObjectMapper(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()), true);
+
+        // When & Then
+        assertThat(optimizedObjectMapper.writeValueAsString(event)).isEqualTo(reflectiveObjectMapper.writeValueAsString(event));
+        assertThat(optimizedObjectMapper.writeValueAsString(givenOnlineEvent()))
+                .isEqualTo(reflectiveObjectMapper.writeValueAsString(givenOnlineEvent()));
+        assertThat(optimizedCborObjectMapper.writeValueAsBytes(page)).isEqualTo(reflectiveCborObjectMapper.writeValueAsBytes(page));
+    }
+
+    private ObjectMapper halObjectMapper(Jackson2ObjectMapperBuilder builder, boolean optimized) {
+        ObjectMapper objectMapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        if (optimized) {
+            objectMapper.registerModule(EventSerializer.module());
+            objectMapper.registerModule(new AfterburnerModule());
+        }
+        return objectMapper;
+    }
+
+    private JsonNode golden(String path) throws IOException {
+        try (InputStream inputStream = new ClassPathResource(path).getInputStream()) {
+            return reflectiveObjectMapper.readTree(inputStream);
+        }
+    }
+
+    private PagedModel<EventEntityModel> givenPage() {
+        PagedModel<EventEntityModel> page = PagedModel.of(
+                List.of(new EventEntityModel(givenOfflineEvent()), new EventEntityModel(givenOnlineEvent())),
+                new PagedModel.PageMetadata(2, 0, 2, 1));
+        page.add(new Link("http://localhost/api/events?page=0&size=2").withSelfRel());
+        return page;
+    }
+
+    private Event givenOfflineEvent() {
+        return Event.builder()
+                .id(1)
+                .name("Spring REST API")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 8, 6, 9, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 8, 7, 9, 30))
+                .beginEventDateTime(LocalDateTime.of(2020, 8, 13, 19, 0))
+                .endEventDateTime(LocalDateTime.of(2020, 8, 13, 22, 0))
+                .location("강남역 D2 스타텁 팩토리")
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .offline(true)
+                .free(false)
+                .latitude(37.4979)
+                .longitude(127.0276)
+                .geohash("wydm6")
+                .eventStatus(EventStatus.PUBLISHED)
+                .manager(Account.builder().id(7).email("manager@email.com").password("password").build())
+                .build();
+    }
+
+    // 선택 항목, eventStatus, manager가 없는 Event
+    private Event givenOnlineEvent() {
+        return Event.builder()
+                .id(2)
+                .name("Online Meetup")
+                .free(true)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package io.api.event.util.event;
+
+import io.api.event.domain.dto.event.EventDto;
+import io.api.event.util.common.TestDescription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventValidatorTest {
+
+    private static final int TRIALS = 10_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2020, 8, 1, 0, 0);
+
+    private final EventValidator eventValidator = new EventValidator();
+
+    @Test
+    @TestDescription("임의의 날짜 조합에 대해 등록 시작일 <= 등록 마감일 <= 이벤트 시작일 <= 이벤트 종료일 순서를 만족하는 경우에만 유효한지 확인")
+    @DisplayName("Event Validator : 날짜 순서 속성 검사")
+    public void dateTimeOrder_Property_Test() {
+        Random random = new Random(20200801L);
+        for (int trial = 0; trial < TRIALS; trial++) {
+            // Given : 같은 날짜가 자주 생성되도록 좁은 범위에서 날짜 생성
+            EventDto eventDto = givenEventDto(randomDateTime(random), randomDateTime(random), randomDateTime(random), randomDateTime(random));
+            boolean ordered = !eventDto.getBeginEnrollmentDateTime().isAfter(eventDto.getCloseEnrollmentDateTime())
+                    && !eventDto.getCloseEnrollmentDateTime().isAfter(eventDto.getBeginEventDateTime())
+                    && !eventDto.getBeginEventDateTime().isAfter(eventDto.getEndEventDateTime());
+
+            // When
+            Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+            eventValidator.validate(eventDto, errors);
+
+            // Then
+            assertThat(errors.hasErrors()).as(eventDto.toString()).isEqualTo(!ordered);
+            assertThat(eventValidator.isValid(eventDto)).as(eventDto.toString()).isEqualTo(ordered);
+            assertThat(errors.getGlobalErrorCount()).isZero();
+        }
+    }
+
+    @Test
+    @TestDescription("등록 시작일이 이벤트 종료일 보다 늦은 경우 등록 시작일 오류 처리")
+    @DisplayName("Event Validator : 등록 시작일 > 이벤트 종료일")
+    public void beginEnrollmentAfterEndEvent_Test() {
+        // Given
+        EventDto eventDto = givenEventDto(BASE.plusDays(10), BASE.plusDays(1), BASE.plusDays(2), BASE.plusDays(3));
+
+        // When
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        eventValidator.validate(eventDto, errors);
+
+        // Then
+        assertThat(errors.getFieldError("beginEnrollmentDateTime")).isNotNull();
+    }
+
+    @Test
+    @TestDescription("기본 금액이 최대 금액보다 큰 경우 global 오류 처리")
+    @DisplayName("Event Validator : 금액 오류")
+    public void wrongPrice_Test() {
+        // Given
+        EventDto eventDto = givenEventDto(BASE, BASE.plusDays(1), BASE.plusDays(2), BASE.plusDays(3));
+        eventDto.setBasePrice(300);
+        eventDto.setMaxPrice(200);
+
+        // When
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        eventValidator.validate(eventDto, errors);
+
+        // Then
+        assertThat(errors.getGlobalErrorCount()).isEqualTo(1);
+        assertThat(errors.getFieldErrorCount()).isZero();
+        assertThat(eventValidator.isValid(eventDto)).isFalse();
+    }
+
+    private LocalDateTime randomDateTime(Random random) {
+        return BASE.plusHours(random.nextInt(6));
+    }
+
+    private EventDto givenEventDto(LocalDateTime beginEnrollmentDateTime, LocalDateTime closeEnrollmentDateTime,
+                                   LocalDateTime beginEventDateTime, LocalDateTime endEventDateTime) {
+        return EventDto.builder()
+                .name("Event")
+                .description("Event Validator")
+                .beginEnrollmentDateTime(beginEnrollmentDateTime)
+                .closeEnrollmentDateTime(closeEnrollmentDateTime)
+                .beginEventDateTime(beginEventDateTime)
+                .endEventDateTime(endEventDateTime)
+                .basePrice(100)
+                .maxPrice(200)
+                .build();
+    }
+}
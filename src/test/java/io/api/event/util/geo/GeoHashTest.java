@@ -0,0 +1,61 @@
+package io.api.event.util.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoHashTest {
+
+    @Test
+    @DisplayName("GeoHash : 좌표 변환")
+    public void encode_Test() {
+        assertThat(GeoHash.encode(42.6, -5.6, 5)).isEqualTo("ezs42");
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(37.497942, 127.027621, 12)).startsWith(GeoHash.encode(37.497942, 127.027621, 6));
+    }
+
+    @Test
+    @DisplayName("GeoHash : 영역 안의 모든 좌표가 영역을 덮는 cell 중 하나에 포함")
+    public void covering_Test() {
+        GeoPoint origin = new GeoPoint(37.497942, 127.027621);
+        GeoBoundingBox box = origin.boundingBox(3_000);
+        List<String> cells = GeoHash.covering(box, 16);
+
+        assertThat(cells).hasSizeLessThanOrEqualTo(16);
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            double latitude = box.getMinLatitude() + random.nextDouble() * (box.getMaxLatitude() - box.getMinLatitude());
+            double longitude = box.getMinLongitude() + random.nextDouble() * (box.getMaxLongitude() - box.getMinLongitude());
+            String geohash = GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION);
+            assertThat(cells).anyMatch(geohash::startsWith);
+            assertThat(cells).anyMatch(cell -> geohash.compareTo(cell) >= 0 && geohash.compareTo(GeoHash.nextPrefix(cell)) < 0);
+        }
+    }
+
+    @Test
+    @DisplayName("GeoHash : prefix 범위 조회 상한")
+    public void nextPrefix_Test() {
+        assertThat(GeoHash.nextPrefix("u4pr")).isEqualTo("u4ps");
+        assertThat(GeoHash.nextPrefix("u49")).isEqualTo("u4b");
+        assertThat(GeoHash.nextPrefix("u4pz")).isEqualTo("u4q");
+        assertThat(GeoHash.nextPrefix("u4zz")).isEqualTo("u5");
+        assertThat(GeoHash.nextPrefix("zz")).isNull();
+        assertThat("u4pzzzzzzzzz").isLessThan(GeoHash.nextPrefix("u4pz"));
+        assertThat("u4q000000000").isGreaterThanOrEqualTo(GeoHash.nextPrefix("u4pz"));
+    }
+
+    @Test
+    @DisplayName("GeoPoint : 두 좌표 사이의 거리 및 반경 영역")
+    public void distance_Test() {
+        GeoPoint gangnam = new GeoPoint(37.497942, 127.027621);
+        GeoPoint seoulStation = new GeoPoint(37.554648, 126.970702);
+
+        assertThat(gangnam.distanceTo(seoulStation)).isBetween(7_900.0, 8_200.0);
+        assertThat(gangnam.boundingBox(10_000).contains(seoulStation.getLatitude(), seoulStation.getLongitude())).isTrue();
+        assertThat(gangnam.boundingBox(5_000).contains(seoulStation.getLatitude(), seoulStation.getLongitude())).isFalse();
+    }
+}